@@ -0,0 +1,22 @@
+package com.sparta.config;
+
+import com.sparta.domain.review.service.ReviewRatingSummarizer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기존 리뷰의 별점 요약 생성 (요약 테이블이 비어 있을 때만)
+ */
+@Component
+@RequiredArgsConstructor
+public class ReviewRatingSummaryInitializer {
+
+    private final ReviewRatingSummarizer reviewRatingSummarizer;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reviewRatingSummarizer.rebuildIfEmpty();
+    }
+}
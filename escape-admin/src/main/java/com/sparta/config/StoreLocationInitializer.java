@@ -0,0 +1,35 @@
+package com.sparta.config;
+
+import com.sparta.domain.store.entity.Store;
+import com.sparta.domain.store.repository.StoreRepository;
+import com.sparta.domain.store.service.StoreGeocoder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 좌표가 없는 기존 스토어의 좌표 채우기 (위치 기반 검색 도입 전에 등록된 스토어)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreLocationInitializer {
+
+    private final StoreRepository storeRepository;
+    private final StoreGeocoder storeGeocoder;
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        List<Store> stores = storeRepository.findAllByLatitudeIsNull();
+        stores.forEach(storeGeocoder::locate);
+        if (!stores.isEmpty()) {
+            log.info("스토어 좌표 채우기 완료 : {}개 스토어", stores.size());
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.sparta.config;
+
+import com.sparta.domain.store.service.StoreNameIndexer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기존 스토어의 이름 색인 생성 (색인 테이블이 비어 있을 때만)
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreNameIndexInitializer {
+
+    private final StoreNameIndexer storeNameIndexer;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        storeNameIndexer.rebuildIfEmpty();
+    }
+}
@@ -3,8 +3,11 @@ package com.sparta.domain.reservation.service;
 import com.sparta.domain.reservation.dto.ReservationsGetResponseDto;
 import com.sparta.domain.reservation.entity.Reservation;
 import com.sparta.domain.reservation.repository.ReservationRepository;
+import com.sparta.domain.store.service.TopStoreRanking;
 import com.sparta.domain.theme.entity.Theme;
 import com.sparta.domain.theme.repository.ThemeRepository;
+import com.sparta.domain.theme.service.ThemeAvailabilityCache;
+import com.sparta.global.event.CatalogEventPublisher;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -17,6 +20,9 @@ public class ReservationAdminService {
 
   private final ReservationRepository reservationRepository;
   private final ThemeRepository themeRepository;
+  private final TopStoreRanking topStoreRanking;
+  private final ThemeAvailabilityCache themeAvailabilityCache;
+  private final CatalogEventPublisher catalogEventPublisher;
 
   /**
    * 해당 테마의 예약 내역 조회
@@ -40,5 +46,8 @@ public class ReservationAdminService {
   public void cancelReservation(Long reservationId) {
     Reservation reservation = reservationRepository.findActiveReservation(reservationId);
     reservation.cancelReservation();
+    topStoreRanking.decrement(reservation.getTheme().getStore().getId());
+    themeAvailabilityCache.evict(reservation.getThemeTime());
+    catalogEventPublisher.slotChanged(reservation.getThemeTime());
   }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.sparta.domain.review.service;
 
 import com.sparta.domain.review.entity.Review;
 import com.sparta.domain.review.repository.ReviewRepository;
+import com.sparta.global.cache.SearchCacheInvalidator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,6 +12,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class ReviewAdminService {
 
   public final ReviewRepository reviewRepository;
+  private final ReviewRatingSummarizer reviewRatingSummarizer;
+  private final SearchCacheInvalidator searchCacheInvalidator;
 
   /**
    * 리뷰 강제 삭제
@@ -20,6 +23,9 @@ public class ReviewAdminService {
   @Transactional
   public void deleteReview(Long reviewId) {
     Review review = reviewRepository.findByIdOrElse(reviewId);
+    reviewRatingSummarizer.remove(review);
+    searchCacheInvalidator.evictReviews(review.getTheme().getStore().getId(),
+        review.getTheme().getId());
     reviewRepository.delete(review);
   }
 
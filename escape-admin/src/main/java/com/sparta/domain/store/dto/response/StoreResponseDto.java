@@ -1,5 +1,6 @@
 package com.sparta.domain.store.dto.response;
 
+import com.sparta.domain.store.dto.StoreProjection;
 import com.sparta.domain.store.entity.StoreStatus;
 import lombok.Builder;
 import lombok.Getter;
@@ -24,5 +25,15 @@ public class StoreResponseDto {
         this.storeImage = store.getStoreImage();
         this.storeStatus = store.getStoreStatus();
     }
+
+    public StoreResponseDto(StoreProjection store) {
+        this.storeId = store.getStoreId();
+        this.name = store.getName();
+        this.address = store.getAddress();
+        this.phoneNumber = store.getPhoneNumber();
+        this.workHours = store.getWorkHours();
+        this.storeImage = store.getStoreImage();
+        this.storeStatus = store.getStoreStatus();
+    }
 }
 
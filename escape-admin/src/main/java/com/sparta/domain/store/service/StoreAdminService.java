@@ -1,6 +1,7 @@
 package com.sparta.domain.store.service;
 
 import com.sparta.domain.s3.S3Uploader;
+import com.sparta.domain.store.dto.StoreProjection;
 import com.sparta.domain.store.dto.request.StoreCreateRequestDto;
 import com.sparta.domain.store.dto.request.StoreModifyRequestDto;
 import com.sparta.domain.store.dto.response.StoreDetailResponseDto;
@@ -10,6 +11,8 @@ import com.sparta.domain.store.entity.StoreStatus;
 import com.sparta.domain.store.repository.StoreRepository;
 import com.sparta.domain.user.entity.User;
 import com.sparta.domain.user.repository.UserRepository;
+import com.sparta.global.cache.SearchCacheInvalidator;
+import com.sparta.global.event.CatalogEventPublisher;
 import com.sparta.global.exception.customException.StoreException;
 import com.sparta.global.exception.errorCode.StoreErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +30,10 @@ public class StoreAdminService {
   private final StoreRepository storeRepository;
   private final UserRepository userRepository;
   private final S3Uploader s3Uploader;
+  private final StoreNameIndexer storeNameIndexer;
+  private final SearchCacheInvalidator searchCacheInvalidator;
+  private final CatalogEventPublisher catalogEventPublisher;
+  private final StoreGeocoder storeGeocoder;
 
   /**
    * 방탈출 카페 강제 등록
@@ -49,10 +56,14 @@ public class StoreAdminService {
         .manager(manager)
         .storeStatus(StoreStatus.ACTIVE)
         .build();
+    storeGeocoder.locate(store);
 
     storeRepository.save(store);
     String storeImage = s3Uploader.uploadStoreImage(file, store.getId());
     store.updateStoreImage(storeImage);
+    storeNameIndexer.index(store);
+    searchCacheInvalidator.evictStore(store.getId());
+    catalogEventPublisher.storeChanged(store);
 
     return new StoreDetailResponseDto(store);
   }
@@ -64,7 +75,7 @@ public class StoreAdminService {
    */
   @Transactional(readOnly = true)
   public List<StoreResponseDto> getAllStore() {
-    List<Store> stores = storeRepository.findAll();
+    List<StoreProjection> stores = storeRepository.findAllProjections();
 
     return stores.stream()
         .map(StoreResponseDto::new)
@@ -82,6 +93,9 @@ public class StoreAdminService {
 
     if (store.getStoreStatus() == StoreStatus.PENDING) {
       store.setStoreStatus(StoreStatus.ACTIVE);
+      storeNameIndexer.index(store);
+      searchCacheInvalidator.evictStore(store.getId());
+      catalogEventPublisher.storeChanged(store);
     } else {
       throw new StoreException(StoreErrorCode.STORE_ALREADY_EXIST);
     }
@@ -105,8 +119,12 @@ public class StoreAdminService {
         requestDto.getWorkHours(),
         requestDto.getStoreRegion()
     );
+    storeGeocoder.locate(store);
 
     storeRepository.save(store);
+    storeNameIndexer.index(store);
+    searchCacheInvalidator.evictStore(store.getId());
+    catalogEventPublisher.storeChanged(store);
     return new StoreDetailResponseDto(store);
   }
 
@@ -123,6 +141,8 @@ public class StoreAdminService {
     s3Uploader.deleteFileFromS3(store.getStoreImage());
     String storeImage = s3Uploader.uploadStoreImage(file, store.getId());
     store.updateStoreImage(storeImage);
+    searchCacheInvalidator.evictStore(storeId);
+    catalogEventPublisher.storeChanged(store);
 
     return storeImage;
   }
@@ -137,6 +157,8 @@ public class StoreAdminService {
     Store store = storeRepository.findByActiveStore(storeId);
     s3Uploader.deleteFileFromS3(store.getStoreImage());
     store.deleteStoreImage();
+    searchCacheInvalidator.evictStore(storeId);
+    catalogEventPublisher.storeChanged(store);
   }
 
   /**
@@ -148,6 +170,9 @@ public class StoreAdminService {
   public void deactivateStore(Long storeId) {
     Store store = storeRepository.findByActiveStore(storeId);
     store.deactivateStore();
+    storeNameIndexer.remove(storeId);
+    searchCacheInvalidator.evictStore(storeId);
+    catalogEventPublisher.storeChanged(store);
   }
 
   /**
@@ -158,6 +183,9 @@ public class StoreAdminService {
   @Transactional
   public void deleteStore(Long storeId) {
     Store store = storeRepository.findByIdOrElseThrow(storeId);
+    storeNameIndexer.remove(storeId);
+    searchCacheInvalidator.evictStore(storeId);
+    catalogEventPublisher.storeDeleted(storeId);
     storeRepository.delete(store);
   }
 
@@ -170,6 +198,9 @@ public class StoreAdminService {
   public void activateStore(Long storeId) {
     Store store = storeRepository.findByIdOrElseThrow(storeId);
     store.activateStore();
+    storeNameIndexer.index(store);
+    searchCacheInvalidator.evictStore(store.getId());
+    catalogEventPublisher.storeChanged(store);
   }
 
 }
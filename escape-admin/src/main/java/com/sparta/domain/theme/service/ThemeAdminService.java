@@ -10,6 +10,9 @@ import com.sparta.domain.theme.dto.response.ThemeGetResponseDto;
 import com.sparta.domain.theme.entity.Theme;
 import com.sparta.domain.theme.entity.ThemeStatus;
 import com.sparta.domain.theme.repository.ThemeRepository;
+import com.sparta.global.cache.CountCache;
+import com.sparta.global.cache.SearchCacheInvalidator;
+import com.sparta.global.event.CatalogEventPublisher;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -24,6 +27,9 @@ public class ThemeAdminService {
   private final ThemeRepository themeRepository;
   private final StoreRepository storeRepository;
   private final S3Uploader s3Uploader;
+  private final CountCache countCache;
+  private final SearchCacheInvalidator searchCacheInvalidator;
+  private final CatalogEventPublisher catalogEventPublisher;
 
   /**
    * 방탈출 테마 등록
@@ -50,9 +56,12 @@ public class ThemeAdminService {
         .build();
 
     themeRepository.save(theme);
+    countCache.evict(CountCache.themeNamespace(store.getId()));
+    searchCacheInvalidator.evictTheme(store.getId(), theme.getId());
 
     String themeImage = s3Uploader.uploadThemeImage(file, store.getId(), theme.getId());
     theme.updateThemeImage(themeImage);
+    catalogEventPublisher.themeChanged(theme);
 
     return new ThemeDetailResponseDto(theme);
   }
@@ -93,6 +102,8 @@ public class ThemeAdminService {
     );
 
     themeRepository.save(theme);
+    searchCacheInvalidator.evictTheme(theme.getStore().getId(), themeId);
+    catalogEventPublisher.themeChanged(theme);
     return new ThemeDetailResponseDto(theme);
   }
 
@@ -110,6 +121,8 @@ public class ThemeAdminService {
     s3Uploader.deleteFileFromS3(theme.getThemeImage());
     String themeImage = s3Uploader.uploadThemeImage(file, theme.getStore().getId(), themeId);
     theme.updateThemeImage(themeImage);
+    searchCacheInvalidator.evictTheme(theme.getStore().getId(), themeId);
+    catalogEventPublisher.themeChanged(theme);
 
     return themeImage;
   }
@@ -125,6 +138,8 @@ public class ThemeAdminService {
 
     s3Uploader.deleteFileFromS3(theme.getThemeImage());
     theme.deleteThemeImage();
+    searchCacheInvalidator.evictTheme(theme.getStore().getId(), themeId);
+    catalogEventPublisher.themeChanged(theme);
   }
 
   /**
@@ -136,6 +151,9 @@ public class ThemeAdminService {
   public void changeThemeStatus(Long themeId) {
     Theme theme = themeRepository.findThemeOfActiveStore(themeId);
     theme.toggleThemeStatus();
+    countCache.evict(CountCache.themeNamespace(theme.getStore().getId()));
+    searchCacheInvalidator.evictTheme(theme.getStore().getId(), themeId);
+    catalogEventPublisher.themeChanged(theme);
   }
 
   /**
@@ -147,5 +165,8 @@ public class ThemeAdminService {
   public void deleteTheme(Long themeId) {
     Theme theme = themeRepository.findThemeOfActiveStore(themeId);
     themeRepository.delete(theme);
+    countCache.evict(CountCache.themeNamespace(theme.getStore().getId()));
+    searchCacheInvalidator.evictTheme(theme.getStore().getId(), themeId);
+    catalogEventPublisher.themeDeleted(themeId);
   }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import com.sparta.domain.theme.entity.Theme;
 import com.sparta.domain.theme.entity.ThemeTime;
 import com.sparta.domain.theme.repository.ThemeRepository;
 import com.sparta.domain.theme.repository.ThemeTimeRepository;
+import com.sparta.global.event.CatalogEventPublisher;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -23,6 +24,8 @@ public class ThemeTimeAdminService {
 
   private final ThemeTimeRepository themeTimeRepository;
   private final ThemeRepository themeRepository;
+  private final ThemeAvailabilityCache themeAvailabilityCache;
+  private final CatalogEventPublisher catalogEventPublisher;
 
   /**
    * 테마 예약 시간대 등록
@@ -46,6 +49,8 @@ public class ThemeTimeAdminService {
         .build();
 
     themeTimeRepository.save(themeTime);
+    themeAvailabilityCache.evict(themeTime);
+    catalogEventPublisher.slotChanged(themeTime);
     return new ThemeTimeDetailResponseDto(themeTime);
   }
 
@@ -84,9 +89,13 @@ public class ThemeTimeAdminService {
 
     LocalDateTime startTime = parseDateTimeStringToLocalDateTime(requestDto.getStartTime());
     LocalDateTime endTime = calculateEndTime(startTime, themeTime.getTheme().getDuration());
+    LocalDate previousDate = themeTime.getStartTime().toLocalDate();
 
     themeTime.updateThemeTime(startTime, endTime);
     themeTimeRepository.save(themeTime);
+    themeAvailabilityCache.evict(themeTime.getTheme().getId(), previousDate);
+    themeAvailabilityCache.evict(themeTime);
+    catalogEventPublisher.slotChanged(themeTime);
 
     return new ThemeTimeDetailResponseDto(themeTime);
   }
@@ -100,6 +109,8 @@ public class ThemeTimeAdminService {
   public void deleteThemeTime(Long themeTimeId) {
     ThemeTime themeTime = themeTimeRepository.findThemeTimeOfActiveStore(themeTimeId);
     themeTimeRepository.delete(themeTime);
+    themeAvailabilityCache.evict(themeTime);
+    catalogEventPublisher.slotDeleted(themeTimeId);
   }
 
 }
\ No newline at end of file
@@ -1,6 +1,6 @@
 package com.sparta.domain.follow.dto;
 
-import com.sparta.domain.store.entity.Store;
+import com.sparta.domain.store.dto.StoreProjection;
 import lombok.Getter;
 
 @Getter
@@ -12,8 +12,8 @@ public class FollowStoreResponseDto {
   private final String phoneNumber;
   private final String storeImage;
 
-  public FollowStoreResponseDto(Store store) {
-    this.storeId = store.getId();
+  public FollowStoreResponseDto(StoreProjection store) {
+    this.storeId = store.getStoreId();
     this.name = store.getName();
     this.address = store.getAddress();
     this.phoneNumber = store.getPhoneNumber();
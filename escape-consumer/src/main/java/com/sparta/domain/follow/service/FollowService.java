@@ -61,8 +61,8 @@ public class FollowService {
      */
     @Transactional(readOnly = true)
     public List<FollowStoreResponseDto> getFollowStores(User user) {
-        List<Follow> follow = followRepository.findByGetStores(user);
-
-        return follow.stream().map(f -> new FollowStoreResponseDto(f.getStore())).toList();
+        return followRepository.findStoreProjectionsByUser(user).stream()
+                .map(FollowStoreResponseDto::new)
+                .toList();
     }
 }
@@ -0,0 +1,27 @@
+package com.sparta.domain.recommendation.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좋아요 수를 theme 테이블에 주기적으로 반영 (write-behind)
+ */
+@Component
+@RequiredArgsConstructor
+public class RecommendationCountFlusher {
+
+    private final RecommendationCounter recommendationCounter;
+
+    @Value("${recommendation.flush.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${recommendation.flush.interval-ms:5000}")
+    public void flush() {
+        int flushed;
+        do {
+            flushed = recommendationCounter.flush(batchSize);
+        } while (flushed == batchSize); // 밀린 테마가 남아 있으면 이어서 반영
+    }
+}
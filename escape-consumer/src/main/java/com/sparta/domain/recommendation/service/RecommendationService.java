@@ -17,6 +17,7 @@ public class RecommendationService {
 
     private final RecommendationRepository recommendationRepository;
     private final ThemeRepository themeRepository;
+    private final RecommendationCounter recommendationCounter;
 
     /**
      * 좋아요 등록
@@ -35,6 +36,7 @@ public class RecommendationService {
                 .build();
 
         recommendationRepository.save(recommendation);
+        recommendationCounter.increment(theme.getId());
     }
 
     /**
@@ -47,5 +49,6 @@ public class RecommendationService {
     public void deleteRecommendation(User user, Long recommendationId) {
         Recommendation recommendation = recommendationRepository.findByIdAndUserOrElse(recommendationId, user);
         recommendationRepository.delete(recommendation);
+        recommendationCounter.decrement(recommendation.getTheme().getId());
     }
 }
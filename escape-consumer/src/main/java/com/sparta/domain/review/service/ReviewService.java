@@ -9,6 +9,7 @@ import com.sparta.domain.review.dto.*;
 import com.sparta.domain.review.entity.Review;
 import com.sparta.domain.review.repository.ReviewRepository;
 import com.sparta.domain.user.entity.User;
+import com.sparta.global.cache.SearchCacheInvalidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -24,6 +25,8 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final ReservationRepository reservationRepository;
     private final ReactionRepository reactionRepository;
+    private final ReviewRatingSummarizer reviewRatingSummarizer;
+    private final SearchCacheInvalidator searchCacheInvalidator;
 
 
     /**
@@ -50,7 +53,11 @@ public class ReviewService {
                 .reservation(reservation)
                 .build();
 
-        return new ReviewCreateResponseDto(reviewRepository.save(review));
+        Review savedReview = reviewRepository.save(review);
+        reviewRatingSummarizer.add(savedReview);
+        searchCacheInvalidator.evictReviews(reservation.getTheme().getStore().getId(),
+                reservation.getTheme().getId());
+        return new ReviewCreateResponseDto(savedReview);
 
     }
 
@@ -65,8 +72,12 @@ public class ReviewService {
     public ReviewUpdateResponseDto updateReview(Long reviewId,
                                                 ReviewUpdateRequestDto reviewUpdateRequestDto, User user) {
         Review review = reviewRepository.findByIdAndUserOrElse(reviewId, user);
+        Double previousRating = review.getRating();
         review.update(reviewUpdateRequestDto.getTitle(), reviewUpdateRequestDto.getContents(),
                 reviewUpdateRequestDto.getRating());
+        reviewRatingSummarizer.changeRating(review, previousRating);
+        searchCacheInvalidator.evictReviews(review.getTheme().getStore().getId(),
+                review.getTheme().getId());
         return new ReviewUpdateResponseDto(review);
     }
 
@@ -90,6 +101,9 @@ public class ReviewService {
     @Transactional
     public void deleteReview(Long reviewId, User user) {
         Review review = reviewRepository.findByIdAndUserOrElse(reviewId, user);
+        reviewRatingSummarizer.remove(review);
+        searchCacheInvalidator.evictReviews(review.getTheme().getStore().getId(),
+                review.getTheme().getId());
         reviewRepository.delete(review);
     }
 
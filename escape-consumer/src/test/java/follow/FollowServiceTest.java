@@ -4,6 +4,7 @@ import com.sparta.domain.follow.dto.FollowStoreResponseDto;
 import com.sparta.domain.follow.entity.Follow;
 import com.sparta.domain.follow.repository.FollowRepository;
 import com.sparta.domain.follow.service.FollowService;
+import com.sparta.domain.store.dto.StoreProjection;
 import com.sparta.domain.store.entity.Store;
 import com.sparta.domain.store.repository.StoreRepository;
 import com.sparta.domain.user.entity.User;
@@ -77,13 +78,13 @@ public class FollowServiceTest {
 
     @Test
     void 팔로우_카페_조회() {
-        List<Follow> follows = new ArrayList<>();
+        List<StoreProjection> follows = new ArrayList<>();
 
-        when(followRepository.findByGetStores(any())).thenReturn(follows);
+        when(followRepository.findStoreProjectionsByUser(any())).thenReturn(follows);
 
         List<FollowStoreResponseDto> result = followService.getFollowStores(user);
 
-        verify(followRepository, times(1)).findByGetStores(user);
+        verify(followRepository, times(1)).findStoreProjectionsByUser(user);
 
         assertThat(result.size()).isEqualTo(follows.size());
     }
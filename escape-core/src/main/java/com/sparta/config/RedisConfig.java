@@ -1,19 +1,37 @@
 package com.sparta.config;
 
 
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sparta.global.cache.CacheExpiry;
+import com.sparta.global.cache.CacheNames;
+import com.sparta.global.cache.TwoLevelCacheManager;
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Configuration
 @EnableCaching
@@ -25,6 +43,45 @@ public class RedisConfig {
   @Value("${spring.data.redis.port}")
   private int redisPort;
 
+  @Value("${cache.local.maximum-size:10000}")
+  private long localCacheMaximumSize;
+
+  @Value("${cache.local.ttl-seconds:30}")
+  private long localCacheTtlSeconds;
+
+  @Value("${cache.invalidation-channel:cache:invalidation}")
+  private String cacheInvalidationChannel;
+
+  @Value("${cache.redis.default-ttl-seconds:1800}")
+  private long redisDefaultTtlSeconds;
+
+  @Value("${cache.redis.ttl-seconds.store-detail:1800}")
+  private long storeDetailTtlSeconds;
+
+  @Value("${cache.redis.ttl-seconds.theme-list:600}")
+  private long themeListTtlSeconds;
+
+  @Value("${cache.redis.ttl-seconds.theme-info:1800}")
+  private long themeInfoTtlSeconds;
+
+  @Value("${cache.redis.jitter-ratio:0.1}")
+  private double redisTtlJitterRatio;
+
+  @Value("${cache.redis.refresh-ahead-ratio:0.8}")
+  private double refreshAheadRatio;
+
+  @Value("${cache.redis.xfetch-beta:1.0}")
+  private double xfetchBeta;
+
+  @Value("${cache.redis.stale-grace-seconds:60}")
+  private long staleGraceSeconds;
+
+  @Value("${cache.redis.lock-ttl-ms:10000}")
+  private long refreshLockTtlMillis;
+
+  @Value("${cache.redis.refresh-threads:2}")
+  private int refreshThreads;
+
   @Bean
   public RedisConnectionFactory redisConnectionFactory() {
     return new LettuceConnectionFactory(redisHost, redisPort);
@@ -39,19 +96,86 @@ public class RedisConfig {
     return template;
   }
 
+  /**
+   * 캐시별 TTL, jitter, 미리 갱신 설정
+   */
+  @Bean
+  public CacheExpiry cacheExpiry() {
+    Map<String, Duration> ttls = new HashMap<>();
+    ttls.put(CacheNames.STORE_DETAIL, Duration.ofSeconds(storeDetailTtlSeconds));
+    ttls.put(CacheNames.THEME_LIST, Duration.ofSeconds(themeListTtlSeconds));
+    ttls.put(CacheNames.THEME_INFO, Duration.ofSeconds(themeInfoTtlSeconds));
+    return new CacheExpiry(Duration.ofSeconds(redisDefaultTtlSeconds), ttls, redisTtlJitterRatio,
+        refreshAheadRatio, xfetchBeta, Duration.ofSeconds(staleGraceSeconds),
+        Duration.ofMillis(refreshLockTtlMillis));
+  }
+
+  /**
+   * Redis TTL 은 논리 TTL + 유예 시간 (논리 만료 후 다시 계산하는 동안 이전 값으로 응답)
+   */
   @Bean
   public RedisCacheManager redisCacheManager() {
+    CacheExpiry cacheExpiry = cacheExpiry();
 
     RedisCacheConfiguration redisCacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
         .serializeKeysWith(
             RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
         .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
-            new GenericJackson2JsonRedisSerializer()))
-        .entryTtl(Duration.ofMinutes(30));
+            new GenericJackson2JsonRedisSerializer(cacheObjectMapper())));
+
+    Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
+    cacheExpiry.getTtls().keySet().forEach(name -> cacheConfigurations.put(name,
+        redisCacheConfiguration.entryTtl(cacheExpiry.redisTtl(name))));
 
     return RedisCacheManager.RedisCacheManagerBuilder.fromConnectionFactory(
             redisConnectionFactory())
-        .cacheDefaults(redisCacheConfiguration).build();
+        .cacheDefaults(redisCacheConfiguration.entryTtl(
+            cacheExpiry.getDefaultTtl().plus(cacheExpiry.getStaleGrace())))
+        .withInitialCacheConfigurations(cacheConfigurations)
+        .build();
+  }
+
+  /**
+   * 검색 응답 캐시 (인스턴스 안의 Caffeine L1 + Redis L2, 무효화는 pub/sub 으로 전파)
+   */
+  @Bean
+  @Primary
+  public TwoLevelCacheManager cacheManager(StringRedisTemplate stringRedisTemplate,
+      PlatformTransactionManager transactionManager) {
+    TransactionTemplate refreshTransaction = new TransactionTemplate(transactionManager);
+    refreshTransaction.setReadOnly(true);
+    return new TwoLevelCacheManager(redisCacheManager(), stringRedisTemplate,
+        cacheInvalidationChannel, localCacheMaximumSize, Duration.ofSeconds(localCacheTtlSeconds),
+        cacheExpiry(), refreshTransaction, refreshThreads);
+  }
+
+  @Bean
+  public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+      TwoLevelCacheManager cacheManager) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(redisConnectionFactory());
+    container.addMessageListener(cacheManager, new ChannelTopic(cacheInvalidationChannel));
+    return container;
+  }
+
+  /**
+   * 캐시 값 직렬화 (응답 dto 의 LocalDateTime 을 위해 JavaTimeModule 등록, 타입 정보는 final 이 아닌 클래스에만 기록)
+   * <p>
+   * 역직렬화할 수 있는 타입은 우리 dto 와 컬렉션, 날짜 타입으로 제한 (임의 클래스 이름으로 객체를 만들 수 없도록)
+   */
+  private ObjectMapper cacheObjectMapper() {
+    ObjectMapper objectMapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    PolymorphicTypeValidator typeValidator = BasicPolymorphicTypeValidator.builder()
+        .allowIfSubType("com.sparta.")
+        .allowIfSubType("java.util.")
+        .allowIfSubType("java.time.")
+        .build();
+    objectMapper.activateDefaultTyping(typeValidator, ObjectMapper.DefaultTyping.NON_FINAL,
+        JsonTypeInfo.As.PROPERTY);
+    return objectMapper;
   }
 
 }
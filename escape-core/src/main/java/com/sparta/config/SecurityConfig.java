@@ -7,6 +7,7 @@ import com.sparta.global.security.filter.CustomAccessDeniedHandler;
 import com.sparta.global.security.filter.CustomAuthenticationEntryPoint;
 import com.sparta.global.security.filter.JwtAuthenticationFilter;
 import com.sparta.global.security.filter.JwtAuthorizationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
@@ -90,6 +91,8 @@ public class SecurityConfig {
         sessionManagement.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
 
     http.authorizeHttpRequests((requests) -> requests
+        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR)
+        .permitAll() // 비동기 응답 재디스패치는 최초 요청에서 이미 인가됨
         .requestMatchers(PathRequest.toStaticResources().atCommonLocations())
         .permitAll() //resource 접근 허용 설정
         .requestMatchers("/api/core/status").permitAll()
@@ -1,6 +1,6 @@
 package com.sparta.domain.follow.repository;
 
-import com.sparta.domain.follow.entity.Follow;
+import com.sparta.domain.store.dto.StoreProjection;
 import com.sparta.domain.user.entity.User;
 import org.springframework.stereotype.Repository;
 
@@ -8,5 +8,5 @@ import java.util.List;
 
 @Repository
 public interface FollowRepositoryCustom {
-    List<Follow> findByGetStores(User user);
+    List<StoreProjection> findStoreProjectionsByUser(User user);
 }
@@ -1,9 +1,10 @@
 package com.sparta.domain.follow.repository;
 
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.sparta.domain.follow.entity.Follow;
 import com.sparta.domain.follow.entity.QFollow;
+import com.sparta.domain.store.dto.StoreProjection;
 import com.sparta.domain.store.entity.QStore;
 import com.sparta.domain.store.entity.StoreStatus;
 import com.sparta.domain.user.entity.User;
@@ -20,13 +21,22 @@ public class FollowRepositoryImpl implements FollowRepositoryCustom{
 
     private final JPAQueryFactory jpaQueryFactory;
 
+    /**
+     * 유저가 팔로우한 활성화된 스토어를 프로젝션으로 조회합니다. (팔로우, 스토어 엔티티를 읽지 않음)
+     *
+     * @param user 로그인 유저
+     * @return 스토어 프로젝션 목록
+     */
     @Override
-    public List<Follow> findByGetStores(User user) {
+    public List<StoreProjection> findStoreProjectionsByUser(User user) {
         QFollow follow = QFollow.follow;
         QStore store = QStore.store;
 
-        JPAQuery<Follow> query = jpaQueryFactory.selectFrom(follow)
-                .leftJoin(follow.store, store).fetchJoin()
+        JPAQuery<StoreProjection> query = jpaQueryFactory.select(Projections.constructor(StoreProjection.class,
+                        store.id, store.name, store.address, store.phoneNumber, store.workHours,
+                        store.storeImage, store.storeStatus))
+                .from(follow)
+                .join(follow.store, store)
                 .where(follow.user.eq(user).and(store.storeStatus.eq(StoreStatus.ACTIVE)));
 
         return query.fetch();
@@ -3,7 +3,12 @@ package com.sparta.domain.recommendation.repository;
 import com.sparta.domain.theme.entity.Theme;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Map;
+
 @Repository
 public interface RecommendationCustom {
     Long findByThemeCount(Theme theme);
+
+    Map<Long, Long> countByThemeIds(Collection<Long> themeIds);
 }
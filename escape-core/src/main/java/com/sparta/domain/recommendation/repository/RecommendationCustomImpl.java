@@ -1,5 +1,6 @@
 package com.sparta.domain.recommendation.repository;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.sparta.domain.recommendation.entity.QRecommendation;
@@ -8,6 +9,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -27,4 +32,28 @@ public class RecommendationCustomImpl implements RecommendationCustom{
 
         return Optional.ofNullable(query.fetchOne()).orElse(0L);
     }
+
+    /**
+     * 여러 테마의 좋아요 수를 한 번에 조회 (GROUP BY)
+     *
+     * @param themeIds 조회할 테마 id
+     * @return 테마 id 별 좋아요 수 (좋아요가 없는 테마는 빠짐)
+     */
+    @Override
+    public Map<Long, Long> countByThemeIds(Collection<Long> themeIds) {
+
+        QRecommendation recommendation = QRecommendation.recommendation;
+
+        List<Tuple> rows = jpaQueryFactory.select(recommendation.theme.id, recommendation.count())
+                .from(recommendation)
+                .where(recommendation.theme.id.in(themeIds))
+                .groupBy(recommendation.theme.id)
+                .fetch();
+
+        Map<Long, Long> counts = new HashMap<>();
+        for (Tuple row : rows) {
+            counts.put(row.get(recommendation.theme.id), row.get(recommendation.count()));
+        }
+        return counts;
+    }
 }
@@ -0,0 +1,138 @@
+package com.sparta.domain.recommendation.service;
+
+import com.sparta.domain.recommendation.repository.RecommendationRepository;
+import com.sparta.domain.theme.entity.Theme;
+import com.sparta.domain.theme.repository.ThemeRepository;
+import com.sparta.global.util.TransactionUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 테마별 좋아요 수 카운터 (Redis hash)
+ * <p>
+ * 좋아요 등록/취소 시 커밋 후 HINCRBY 로 증감하고 변경된 테마를 dirty set 에 모아, 테마 조회 시 COUNT 쿼리 없이 읽고
+ * theme.recommendation_count 컬럼에는 주기적으로 모아서 반영 (write-behind)
+ * <p>
+ * 카운트를 채우는 중이나 커밋 후 증감이 늦게 도착하면 Redis 값이 틀릴 수 있으므로, 반영할 때는 dirty 테마의 좋아요 수를 DB 에서
+ * GROUP BY 로 다시 세어 컬럼에 쓰고 Redis 값도 맞춤. 모든 증감이 dirty set 에 남기므로 틀린 값은 다음 반영 때 바로잡힘
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendationCounter {
+
+  private static final String COUNT_KEY = "recommendation:count";
+  private static final String DIRTY_KEY = "recommendation:dirty";
+
+  // 카운트가 아직 없으면 증감하지 않음 (다음 조회 때 DB 기준으로 채움)
+  private static final DefaultRedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 1 then "
+          + "redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2]) end "
+          + "redis.call('SADD', KEYS[2], ARGV[1]) "
+          + "return 1", Long.class);
+
+  // 읽어 둔 값에서 바뀌지 않은 필드만 DB 기준 값으로 교체 (ARGV : 필드, 읽어 둔 값(없으면 빈 문자열), 새 값 반복)
+  private static final DefaultRedisScript<Long> RECONCILE_SCRIPT = new DefaultRedisScript<>(
+      "local replaced = 0 "
+          + "for i = 1, #ARGV, 3 do "
+          + "local current = redis.call('HGET', KEYS[1], ARGV[i]) "
+          + "if (current == false and ARGV[i + 1] == '') or current == ARGV[i + 1] then "
+          + "redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 2]) replaced = replaced + 1 end "
+          + "end "
+          + "return replaced", Long.class);
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final RecommendationRepository recommendationRepository;
+  private final ThemeRepository themeRepository;
+
+  /**
+   * 좋아요 수 증가 (트랜잭션 안이면 커밋 후)
+   *
+   * @param themeId 테마 id
+   */
+  public void increment(Long themeId) {
+    add(themeId, 1);
+  }
+
+  /**
+   * 좋아요 수 감소 (트랜잭션 안이면 커밋 후)
+   *
+   * @param themeId 테마 id
+   */
+  public void decrement(Long themeId) {
+    add(themeId, -1);
+  }
+
+  /**
+   * 좋아요 수 조회, 카운트가 없으면 DB 에서 한 번 세어 채움
+   *
+   * @param theme 테마
+   * @return 좋아요 수
+   */
+  public long getCount(Theme theme) {
+    String field = String.valueOf(theme.getId());
+    Object cached = stringRedisTemplate.opsForHash().get(COUNT_KEY, field);
+    if (cached != null) {
+      return Long.parseLong(cached.toString());
+    }
+
+    long count = recommendationRepository.findByThemeCount(theme);
+    stringRedisTemplate.opsForHash().putIfAbsent(COUNT_KEY, field, String.valueOf(count));
+    return count;
+  }
+
+  /**
+   * 좋아요 수 조회
+   *
+   * @param themeId 테마 id
+   * @return 좋아요 수
+   */
+  public long getCount(Long themeId) {
+    return getCount(themeRepository.getReferenceById(themeId));
+  }
+
+  /**
+   * 변경된 테마의 좋아요 수를 DB 에서 다시 세어 theme.recommendation_count 와 Redis 카운트에 반영
+   *
+   * @param batchSize 한 번에 꺼낼 테마 수
+   * @return 반영한 테마 수
+   */
+  @Transactional
+  public int flush(int batchSize) {
+    List<String> fields = stringRedisTemplate.opsForSet().pop(DIRTY_KEY, batchSize);
+    if (fields == null || fields.isEmpty()) {
+      return 0;
+    }
+
+    // DB 를 세기 전에 읽어 두어야, 세는 동안 도착한 증감이 있는 필드는 덮어쓰지 않음
+    List<Object> cached = stringRedisTemplate.opsForHash()
+        .multiGet(COUNT_KEY, List.copyOf(fields));
+    List<Long> themeIds = fields.stream().map(Long::valueOf).toList();
+    Map<Long, Long> counts = recommendationRepository.countByThemeIds(themeIds);
+
+    List<String> args = new ArrayList<>(fields.size() * 3);
+    for (int i = 0; i < fields.size(); i++) {
+      long count = counts.getOrDefault(themeIds.get(i), 0L);
+      themeRepository.updateRecommendationCount(themeIds.get(i), count);
+      args.add(fields.get(i));
+      args.add(cached.get(i) == null ? "" : cached.get(i).toString());
+      args.add(String.valueOf(count));
+    }
+    Long replaced = stringRedisTemplate.execute(RECONCILE_SCRIPT, List.of(COUNT_KEY),
+        args.toArray());
+    log.debug("좋아요 수 반영 : {}개 테마 (Redis 교체 {}개)", fields.size(), replaced);
+    return fields.size();
+  }
+
+  private void add(Long themeId, long delta) {
+    TransactionUtil.afterCommit(() -> stringRedisTemplate.execute(INCREMENT_SCRIPT,
+        List.of(COUNT_KEY, DIRTY_KEY), String.valueOf(themeId), String.valueOf(delta)));
+  }
+}
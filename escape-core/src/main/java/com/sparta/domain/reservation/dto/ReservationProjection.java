@@ -0,0 +1,24 @@
+package com.sparta.domain.reservation.dto;
+
+import com.sparta.domain.reservation.entity.ReservationStatus;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 예약 목록 조회용 프로젝션 (테마, 시간대, 스토어 컬럼을 조인 한 번으로 함께 읽음)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ReservationProjection {
+
+  private final Long reservationId;
+  private final String themeImage;
+  private final String themeTitle;
+  private final LocalDateTime createdAt;
+  private final LocalDateTime startTime;
+  private final String storeName;
+  private final Integer player;
+  private final Long price;
+  private final ReservationStatus reservationStatus;
+}
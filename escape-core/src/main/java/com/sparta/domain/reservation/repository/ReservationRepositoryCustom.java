@@ -1,5 +1,6 @@
 package com.sparta.domain.reservation.repository;
 
+import com.sparta.domain.reservation.dto.ReservationProjection;
 import com.sparta.domain.reservation.entity.Reservation;
 import com.sparta.domain.theme.entity.Theme;
 import com.sparta.domain.theme.entity.ThemeTime;
@@ -13,5 +14,6 @@ public interface ReservationRepositoryCustom {
    Reservation findByThemeTime(ThemeTime themeTime);
    Reservation findByIdAndActive(Long reservationId, User user);
    List<Reservation> findByUser(User user);
+   List<ReservationProjection> findProjectionsByUser(User user);
    List<Reservation> findByTheme(Theme theme);
 }
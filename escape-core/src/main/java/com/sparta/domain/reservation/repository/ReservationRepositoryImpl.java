@@ -1,12 +1,15 @@
 package com.sparta.domain.reservation.repository;
 
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.domain.reservation.dto.ReservationProjection;
 import com.sparta.domain.reservation.entity.QReservation;
 import com.sparta.domain.reservation.entity.Reservation;
 import com.sparta.domain.reservation.entity.ReservationStatus;
 import com.sparta.domain.store.entity.QStore;
 import com.sparta.domain.theme.entity.QTheme;
+import com.sparta.domain.theme.entity.QThemeTime;
 import com.sparta.domain.theme.entity.Theme;
 import com.sparta.domain.theme.entity.ThemeTime;
 import com.sparta.domain.user.entity.User;
@@ -82,6 +85,42 @@ public class ReservationRepositoryImpl implements ReservationRepositoryCustom {
     return query.fetch();
   }
 
+  /**
+   * 사용자 정보를 기반으로 예약 목록을 프로젝션으로 조회합니다. (테마, 스토어, 테마 시간 컬럼을 한 번의 조인으로 읽음)
+   *
+   * @param user 객체
+   * @return 조회된 예약 프로젝션 목록
+   */
+  @Override
+  public List<ReservationProjection> findProjectionsByUser(User user) {
+    QReservation reservation = QReservation.reservation;
+    QTheme theme = QTheme.theme;
+    QStore store = QStore.store;
+    QThemeTime themeTime = QThemeTime.themeTime;
+
+    JPAQuery<ReservationProjection> query = jpaQueryFactory.select(
+            Projections.constructor(ReservationProjection.class,
+                reservation.id,
+                theme.themeImage,
+                theme.title,
+                reservation.createdAt,
+                themeTime.startTime,
+                store.name,
+                reservation.player,
+                reservation.price,
+                reservation.reservationStatus))
+        .from(reservation)
+        .join(reservation.theme, theme)
+        .join(theme.store, store)
+        .join(reservation.themeTime, themeTime)
+        .where(reservation.user.eq(user)
+            .and(reservation.reservationStatus.eq(ReservationStatus.COMPLETE)
+                .or(reservation.reservationStatus.eq(ReservationStatus.CANCEL))))
+        .orderBy(reservation.createdAt.desc());
+
+    return query.fetch();
+  }
+
   /**
    * 테마 정보를 기반으로 예약 목록을 조회합니다.
    *
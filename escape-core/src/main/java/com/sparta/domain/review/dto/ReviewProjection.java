@@ -0,0 +1,23 @@
+package com.sparta.domain.review.dto;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 리뷰 목록 조회용 프로젝션 (작성자, 테마 컬럼을 조인 한 번으로 함께 읽음)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ReviewProjection {
+
+  private final Long reviewId;
+  private final Double rating;
+  private final String contents;
+  private final String email;
+  private final LocalDateTime createdAt;
+  private final LocalDateTime updatedAt;
+  private final String title;
+  private final String themeName;
+  private final String author;
+}
@@ -0,0 +1,5 @@
+package com.sparta.domain.review.entity;
+
+public enum RatingSummaryType {
+    THEME, STORE
+}
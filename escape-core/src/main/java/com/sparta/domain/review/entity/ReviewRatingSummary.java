@@ -0,0 +1,61 @@
+package com.sparta.domain.review.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 테마/스토어별 리뷰 별점 요약
+ * <p>
+ * 리뷰 작성, 수정, 삭제 트랜잭션 안에서 증감으로만 갱신하고, 조회 시에는 집계하지 않음
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_review_rating_summary_target",
+        columnNames = {"summary_type", "target_id"}))
+public class ReviewRatingSummary {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "summary_type", nullable = false, length = 10)
+    private RatingSummaryType summaryType;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Column(nullable = false)
+    private long reviewCount;
+
+    @Column(nullable = false)
+    private double ratingSum;
+
+    @Column(name = "rating1_count", nullable = false)
+    private long rating1Count;
+
+    @Column(name = "rating2_count", nullable = false)
+    private long rating2Count;
+
+    @Column(name = "rating3_count", nullable = false)
+    private long rating3Count;
+
+    @Column(name = "rating4_count", nullable = false)
+    private long rating4Count;
+
+    @Column(name = "rating5_count", nullable = false)
+    private long rating5Count;
+
+    public double averageRating() {
+        return reviewCount == 0 ? 0.0 : ratingSum / reviewCount;
+    }
+
+    /**
+     * @return 1점부터 5점까지의 리뷰 수
+     */
+    public long[] histogram() {
+        return new long[]{rating1Count, rating2Count, rating3Count, rating4Count, rating5Count};
+    }
+}
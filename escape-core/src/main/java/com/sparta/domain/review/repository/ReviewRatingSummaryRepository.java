@@ -0,0 +1,13 @@
+package com.sparta.domain.review.repository;
+
+import com.sparta.domain.review.entity.RatingSummaryType;
+import com.sparta.domain.review.entity.ReviewRatingSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface ReviewRatingSummaryRepository extends JpaRepository<ReviewRatingSummary, Long>,
+    ReviewRatingSummaryRepositoryCustom {
+
+    Optional<ReviewRatingSummary> findBySummaryTypeAndTargetId(RatingSummaryType summaryType, Long targetId);
+}
@@ -0,0 +1,11 @@
+package com.sparta.domain.review.repository;
+
+import com.sparta.domain.review.entity.RatingSummaryType;
+
+public interface ReviewRatingSummaryRepositoryCustom {
+
+    void applyDelta(RatingSummaryType summaryType, Long targetId, int countDelta, double ratingDelta,
+        int bucket, int bucketDelta);
+
+    void rebuild();
+}
@@ -0,0 +1,86 @@
+package com.sparta.domain.review.repository;
+
+import com.sparta.domain.review.entity.RatingSummaryType;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class ReviewRatingSummaryRepositoryImpl implements ReviewRatingSummaryRepositoryCustom {
+
+  private static final String BUCKET_COLUMNS =
+      "rating1_count, rating2_count, rating3_count, rating4_count, rating5_count";
+
+  // ReviewRatingSummarizer.bucketOf 와 같은 반올림 (0.5 는 올림)
+  private static final String BUCKET_EXPRESSION = "LEAST(GREATEST(FLOOR(r.rating + 0.5), 1), 5)";
+
+  private final EntityManager entityManager;
+
+  /**
+   * 별점 요약에 증감을 반영합니다. 요약 행이 없으면 만들고, 있으면 같은 문장 안에서 더합니다.
+   *
+   * @param summaryType  요약 대상 종류
+   * @param targetId     테마 또는 스토어 id
+   * @param countDelta   리뷰 수 증감
+   * @param ratingDelta  별점 합 증감
+   * @param bucket       증감할 별점 구간 (1~5)
+   * @param bucketDelta  별점 구간 리뷰 수 증감
+   */
+  @Override
+  public void applyDelta(RatingSummaryType summaryType, Long targetId, int countDelta,
+      double ratingDelta, int bucket, int bucketDelta) {
+    String bucketColumn = "rating" + bucket + "_count";
+
+    entityManager.createNativeQuery(
+            "INSERT INTO review_rating_summary (summary_type, target_id, review_count, rating_sum, "
+                + BUCKET_COLUMNS + ") VALUES (?1, ?2, ?3, ?4, "
+                + bucketValues(bucket) + ") "
+                + "ON DUPLICATE KEY UPDATE review_count = review_count + ?3, "
+                + "rating_sum = rating_sum + ?4, "
+                + bucketColumn + " = " + bucketColumn + " + ?5")
+        .setParameter(1, summaryType.name())
+        .setParameter(2, targetId)
+        .setParameter(3, countDelta)
+        .setParameter(4, ratingDelta)
+        .setParameter(5, bucketDelta)
+        .executeUpdate();
+  }
+
+  /**
+   * 리뷰 테이블 전체를 다시 집계해 별점 요약을 만듭니다.
+   */
+  @Override
+  public void rebuild() {
+    entityManager.createNativeQuery("DELETE FROM review_rating_summary").executeUpdate();
+    entityManager.createNativeQuery(
+            "INSERT INTO review_rating_summary (summary_type, target_id, review_count, rating_sum, "
+                + BUCKET_COLUMNS + ") "
+                + "SELECT 'THEME', r.theme_id, " + aggregateColumns() + " FROM review r "
+                + "GROUP BY r.theme_id")
+        .executeUpdate();
+    entityManager.createNativeQuery(
+            "INSERT INTO review_rating_summary (summary_type, target_id, review_count, rating_sum, "
+                + BUCKET_COLUMNS + ") "
+                + "SELECT 'STORE', t.store_id, " + aggregateColumns() + " FROM review r "
+                + "JOIN theme t ON t.id = r.theme_id GROUP BY t.store_id")
+        .executeUpdate();
+  }
+
+  private String bucketValues(int bucket) {
+    StringBuilder values = new StringBuilder();
+    for (int i = 1; i <= 5; i++) {
+      values.append(i == 1 ? "" : ", ").append(i == bucket ? "?5" : "0");
+    }
+    return values.toString();
+  }
+
+  private String aggregateColumns() {
+    StringBuilder columns = new StringBuilder("COUNT(*), SUM(r.rating)");
+    for (int i = 1; i <= 5; i++) {
+      columns.append(", SUM(CASE WHEN ").append(BUCKET_EXPRESSION).append(" = ").append(i)
+          .append(" THEN 1 ELSE 0 END)");
+    }
+    return columns.toString();
+  }
+}
@@ -1,5 +1,6 @@
 package com.sparta.domain.review.repository;
 
+import com.sparta.domain.review.dto.ReviewProjection;
 import com.sparta.domain.review.entity.Review;
 import com.sparta.domain.theme.entity.Theme;
 import com.sparta.domain.user.entity.User;
@@ -10,6 +11,8 @@ import java.util.List;
 @Repository
 public interface ReviewRepositoryCustom {
     List<Review> findByThemeReview(Theme theme);
+    List<Review> findByThemeAfterCursor(Theme theme, Long lastId, int limit);
+    List<ReviewProjection> findProjectionsByThemeAfterCursor(Theme theme, Long lastId, int limit);
     List<Review> findByMyReviews(User user);
     Review findByReview(Long reviewId);
 }
@@ -1,8 +1,11 @@
 package com.sparta.domain.review.repository;
 
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.sparta.domain.reservation.entity.QReservation;
+import com.sparta.domain.review.dto.ReviewProjection;
 import com.sparta.domain.review.entity.QReview;
 import com.sparta.domain.review.entity.Review;
 import com.sparta.domain.store.entity.QStore;
@@ -43,6 +46,57 @@ public class ReviewRepositoryImpl implements ReviewRepositoryCustom{
         return query.fetch();
     }
 
+    /**
+     * 테마 리뷰를 최신순으로 커서 조회합니다.
+     *
+     * @param theme  조회할 테마
+     * @param lastId 이전 페이지 마지막 리뷰 id, 첫 페이지는 null
+     * @param limit  조회할 최대 개수
+     * @return 리뷰 목록
+     */
+    @Override
+    public List<Review> findByThemeAfterCursor(Theme theme, Long lastId, int limit) {
+        QReview review = QReview.review;
+        QUser user = QUser.user;
+        QTheme qTheme = QTheme.theme;
+
+        JPAQuery<Review> query = jpaQueryFactory.selectFrom(review)
+                .leftJoin(review.user, user).fetchJoin()
+                .leftJoin(review.theme, qTheme).fetchJoin()
+                .where(review.theme.eq(theme),
+                        lastId == null ? null : review.id.lt(lastId))
+                .orderBy(review.id.desc())
+                .limit(limit);
+
+        return query.fetch();
+    }
+
+    /**
+     * 테마 리뷰를 최신순으로 커서 조회합니다. (프로젝션)
+     *
+     * @param theme  조회할 테마
+     * @param lastId 이전 페이지 마지막 리뷰 id, 첫 페이지는 null
+     * @param limit  조회할 최대 개수
+     * @return 리뷰 프로젝션 목록
+     */
+    @Override
+    public List<ReviewProjection> findProjectionsByThemeAfterCursor(Theme theme, Long lastId, int limit) {
+        QReview review = QReview.review;
+        QUser user = QUser.user;
+        QTheme qTheme = QTheme.theme;
+
+        JPAQuery<ReviewProjection> query = jpaQueryFactory.select(reviewProjection(review, user, qTheme))
+                .from(review)
+                .join(review.user, user)
+                .join(review.theme, qTheme)
+                .where(review.theme.eq(theme),
+                        lastId == null ? null : review.id.lt(lastId))
+                .orderBy(review.id.desc())
+                .limit(limit);
+
+        return query.fetch();
+    }
+
     @Override
     public List<Review> findByMyReviews(User user) {
         QReview review = QReview.review;
@@ -76,4 +130,17 @@ public class ReviewRepositoryImpl implements ReviewRepositoryCustom{
                 .orElseThrow(() -> new ReviewException(ReviewErrorCode.REVIEW_NOT_FOUND));
     }
 
+    private static ConstructorExpression<ReviewProjection> reviewProjection(QReview review, QUser user,
+            QTheme theme) {
+        return Projections.constructor(ReviewProjection.class,
+                review.id,
+                review.rating,
+                review.contents,
+                user.email,
+                review.createdAt,
+                review.updatedAt,
+                review.title,
+                theme.title,
+                user.name);
+    }
 }
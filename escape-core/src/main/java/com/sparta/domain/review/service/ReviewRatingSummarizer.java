@@ -0,0 +1,94 @@
+package com.sparta.domain.review.service;
+
+import com.sparta.domain.review.entity.RatingSummaryType;
+import com.sparta.domain.review.entity.Review;
+import com.sparta.domain.review.repository.ReviewRatingSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 테마/스토어별 리뷰 별점 요약 관리
+ * <p>
+ * 리뷰를 작성, 수정, 삭제하는 트랜잭션 안에서 호출해 요약을 리뷰와 함께 커밋 (요약 행은 증감 한 문장으로 갱신)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewRatingSummarizer {
+
+  private final ReviewRatingSummaryRepository reviewRatingSummaryRepository;
+
+  /**
+   * 작성된 리뷰 반영
+   *
+   * @param review 작성된 리뷰
+   */
+  @Transactional
+  public void add(Review review) {
+    apply(review, 1, review.getRating(), bucketOf(review.getRating()), 1);
+  }
+
+  /**
+   * 삭제된 리뷰 반영
+   *
+   * @param review 삭제된 리뷰
+   */
+  @Transactional
+  public void remove(Review review) {
+    apply(review, -1, -review.getRating(), bucketOf(review.getRating()), -1);
+  }
+
+  /**
+   * 수정된 리뷰의 별점 변경 반영
+   *
+   * @param review         수정된 리뷰
+   * @param previousRating 수정 전 별점
+   */
+  @Transactional
+  public void changeRating(Review review, Double previousRating) {
+    int previousBucket = bucketOf(previousRating);
+    int bucket = bucketOf(review.getRating());
+    if (previousBucket == bucket) {
+      apply(review, 0, review.getRating() - previousRating, bucket, 0);
+      return;
+    }
+
+    apply(review, 0, review.getRating() - previousRating, bucket, 1);
+    apply(review, 0, 0.0, previousBucket, -1);
+  }
+
+  /**
+   * 요약이 비어 있으면 전체 리뷰로 요약 생성
+   */
+  @Transactional
+  public void rebuildIfEmpty() {
+    if (reviewRatingSummaryRepository.count() > 0) {
+      return;
+    }
+
+    reviewRatingSummaryRepository.rebuild();
+    log.info("리뷰 별점 요약 생성 완료 : {}개", reviewRatingSummaryRepository.count());
+  }
+
+  /**
+   * 별점 구간 (반올림 후 1~5)
+   *
+   * @param rating 별점
+   * @return 별점 구간
+   */
+  public static int bucketOf(Double rating) {
+    return (int) Math.min(5, Math.max(1, Math.floor(rating + 0.5)));
+  }
+
+  private void apply(Review review, int countDelta, double ratingDelta, int bucket,
+      int bucketDelta) {
+    Long themeId = review.getTheme().getId();
+    Long storeId = review.getTheme().getStore().getId();
+    reviewRatingSummaryRepository.applyDelta(RatingSummaryType.THEME, themeId, countDelta,
+        ratingDelta, bucket, bucketDelta);
+    reviewRatingSummaryRepository.applyDelta(RatingSummaryType.STORE, storeId, countDelta,
+        ratingDelta, bucket, bucketDelta);
+  }
+}
@@ -0,0 +1,21 @@
+package com.sparta.domain.store.dto;
+
+import com.sparta.domain.store.entity.StoreStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 스토어 목록 조회용 프로젝션 (엔티티 대신 필요한 컬럼만 읽음, 영속성 컨텍스트에 올라가지 않음)
+ */
+@Getter
+@RequiredArgsConstructor
+public class StoreProjection {
+
+  private final Long storeId;
+  private final String name;
+  private final String address;
+  private final String phoneNumber;
+  private final String workHours;
+  private final String storeImage;
+  private final StoreStatus storeStatus;
+}
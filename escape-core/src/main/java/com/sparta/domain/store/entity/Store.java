@@ -12,6 +12,7 @@ import java.util.Objects;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_store_status_name", columnList = "store_status, name, id"))
 public class Store extends TimeStamped {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -44,6 +45,11 @@ public class Store extends TimeStamped {
     @Enumerated(EnumType.STRING)
     private StoreStatus storeStatus;
 
+    // 주소를 오프라인 좌표표로 변환한 위치 (찾지 못하면 null)
+    private Double latitude;
+
+    private Double longitude;
+
     @Builder
     public Store(String name, String address, String phoneNumber, String workHours, String storeImage, User manager, StoreRegion storeRegion, StoreStatus storeStatus) {
         this.name = name;
@@ -68,6 +74,11 @@ public class Store extends TimeStamped {
         this.storeImage = storeImage;
     }
 
+    public void updateLocation(Double latitude, Double longitude) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
     public void deleteStoreImage() {
         this.storeImage = null;
     }
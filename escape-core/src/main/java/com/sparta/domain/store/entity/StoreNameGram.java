@@ -0,0 +1,35 @@
+package com.sparta.domain.store.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스토어 이름 검색용 n-gram 색인
+ * <p>
+ * 활성화된 스토어 이름의 1-gram, 2-gram 을 스토어 id 와 함께 저장
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_store_name_gram_gram", columnList = "gram, store_id"),
+        @Index(name = "idx_store_name_gram_store", columnList = "store_id")
+})
+public class StoreNameGram {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 4)
+    private String gram;
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    public StoreNameGram(String gram, Long storeId) {
+        this.gram = gram;
+        this.storeId = storeId;
+    }
+}
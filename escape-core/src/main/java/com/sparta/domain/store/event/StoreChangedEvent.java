@@ -0,0 +1,41 @@
+package com.sparta.domain.store.event;
+
+import com.sparta.domain.store.entity.Store;
+import com.sparta.domain.store.entity.StoreRegion;
+import com.sparta.domain.store.entity.StoreStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스토어 변경 이벤트 (변경 후 스토어 전체 상태, 스토어 id 를 키로 compacted 토픽에 발행)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoreChangedEvent {
+    private Long storeId;
+    private String name;
+    private String address;
+    private String phoneNumber;
+    private String workHours;
+    private String storeImage;
+    private StoreRegion storeRegion;
+    private StoreStatus storeStatus;
+    // 변경이 DB 에 기록된 시각 (재생된 이전 이벤트가 더 새로운 상태를 덮어쓰지 않도록 비교)
+    private LocalDateTime updatedAt;
+
+    public StoreChangedEvent(Store store) {
+        this.storeId = store.getId();
+        this.name = store.getName();
+        this.address = store.getAddress();
+        this.phoneNumber = store.getPhoneNumber();
+        this.workHours = store.getWorkHours();
+        this.storeImage = store.getStoreImage();
+        this.storeRegion = store.getStoreRegion();
+        this.storeStatus = store.getStoreStatus();
+        this.updatedAt = store.getUpdatedAt();
+    }
+}
@@ -0,0 +1,34 @@
+package com.sparta.domain.store.repository;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 스토어 이름 검색 조건 (n-gram 색인으로 미리 구한 후보 스토어 id)
+ * <p>
+ * 페이지 조회와 개수 조회가 색인을 두 번 읽지 않도록 한 번 구해 두 쿼리에 함께 넘김
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class StoreNameFilter {
+
+  public static final StoreNameFilter NONE = new StoreNameFilter(null, null);
+
+  // 정규화한 검색어, 이름 조건이 없으면 null
+  private final String keyword;
+  // 검색어의 gram 을 모두 가진 스토어 id, 색인으로 좁히지 못했으면 null
+  private final List<Long> candidateIds;
+
+  static StoreNameFilter of(String keyword, List<Long> candidateIds) {
+    return new StoreNameFilter(keyword, candidateIds);
+  }
+
+  /**
+   * 후보가 하나도 없어 조회할 필요가 없는지
+   */
+  public boolean matchesNothing() {
+    return candidateIds != null && candidateIds.isEmpty();
+  }
+}
@@ -0,0 +1,8 @@
+package com.sparta.domain.store.repository;
+
+import com.sparta.domain.store.entity.StoreNameGram;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface StoreNameGramRepository extends JpaRepository<StoreNameGram, Long> {
+    void deleteAllByStoreId(Long storeId);
+}
@@ -1,15 +1,25 @@
 package com.sparta.domain.store.repository;
 
 import com.sparta.domain.store.entity.Store;
+import com.sparta.domain.store.entity.StoreStatus;
 import com.sparta.global.exception.customException.StoreException;
 import com.sparta.global.exception.errorCode.StoreErrorCode;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface StoreRepository extends JpaRepository<Store, Long>, StoreRepositoryCustom {
     List<Store> findAllByManagerId(Long managerId);
 
+    List<Store> findAllByStoreStatus(StoreStatus storeStatus);
+
+    List<Store> findAllByStoreStatusAndLatitudeIsNotNull(StoreStatus storeStatus);
+
+    List<Store> findAllByLatitudeIsNull();
+
+    List<Store> findAllByUpdatedAtGreaterThanEqual(LocalDateTime updatedAt);
+
     default Store findByIdOrElseThrow(Long storeId) {
         return findById(storeId).orElseThrow(() ->
                 new StoreException(StoreErrorCode.STORE_NOT_FOUND));
@@ -1,16 +1,29 @@
 package com.sparta.domain.store.repository;
 
+import com.sparta.domain.store.dto.StoreProjection;
 import com.sparta.domain.store.entity.Store;
 import com.sparta.domain.store.entity.StoreRegion;
+import com.sparta.global.util.Cursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Map;
 
 @Repository
 public interface StoreRepositoryCustom {
     Page<Store> findByName(String name, StoreRegion storeRegion, Pageable pageable);
+    List<Store> findContentByName(String name, StoreRegion storeRegion, Pageable pageable, long limit);
+    StoreNameFilter resolveNameFilter(String name);
+    List<StoreProjection> findProjectionsByName(StoreNameFilter nameFilter, StoreRegion storeRegion, Pageable pageable, long limit);
+    List<StoreProjection> findAllProjections();
+    long countActiveByName(StoreNameFilter nameFilter, StoreRegion storeRegion);
+    Map<StoreRegion, Long> countActiveByRegion(StoreNameFilter nameFilter);
+    long estimateStoreCount();
+    long countNotActive();
+    List<Store> findByNameAfterCursor(String name, StoreRegion storeRegion, StoreSortKey sortKey,
+            boolean isDesc, Cursor cursor, int limit);
     Store findByActiveStore(Long storeId);
-    List<Store> findTopStore();
+    Map<Long, Long> countCompletedReservationsByStore();
 }
@@ -1,23 +1,38 @@
 package com.sparta.domain.store.repository;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.sparta.domain.payment.entity.QPayment;
 import com.sparta.domain.reservation.entity.QReservation;
 import com.sparta.domain.reservation.entity.ReservationStatus;
+import com.sparta.domain.store.dto.StoreProjection;
 import com.sparta.domain.store.entity.QStore;
+import com.sparta.domain.store.entity.QStoreNameGram;
 import com.sparta.domain.store.entity.Store;
 import com.sparta.domain.store.entity.StoreRegion;
 import com.sparta.domain.store.entity.StoreStatus;
+import com.sparta.domain.store.service.StoreNameTokenizer;
 import com.sparta.domain.theme.entity.QTheme;
 import com.sparta.global.exception.customException.StoreException;
 import com.sparta.global.exception.errorCode.StoreErrorCode;
+import com.sparta.global.util.Cursor;
+import jakarta.persistence.EntityManager;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -31,10 +46,17 @@ import org.springframework.stereotype.Repository;
 @Slf4j
 public class StoreRepositoryImpl implements StoreRepositoryCustom {
 
+  // 가장 드문 gram 의 스토어가 이보다 많으면 색인으로 좁히는 의미가 없어 이름 포함 여부로만 조회
+  private static final long NAME_CANDIDATE_LIMIT = 10000;
+
   private final JPAQueryFactory jpaQueryFactory;
+  private final EntityManager entityManager;
 
   /**
    * 스토어 이름과 지역을 기반으로 페이지네이션된 스토어 목록을 조회합니다.
+   * <p>
+   * 이름 조건은 n-gram 색인(store_name_gram)으로 후보 id 를 먼저 구한 뒤 후보 안에서만 포함 여부를 확인하고, 같은 후보를 개수
+   * 조회에도 사용합니다.
    *
    * @param name        조회할 스터어 이름
    * @param storeRegion 조회할 스토어 지역
@@ -43,14 +65,75 @@ public class StoreRepositoryImpl implements StoreRepositoryCustom {
    */
   @Override
   public Page<Store> findByName(String name, StoreRegion storeRegion, Pageable pageable) {
+    StoreNameFilter nameFilter = resolveNameFilter(name);
+    List<Store> results = fetchContentByName(QStore.store, nameFilter, storeRegion, pageable,
+        pageable.getPageSize());
+
+    //total 계산 쿼리를 지연로딩한다.
+    return PageableExecutionUtils.getPage(results, pageable,
+        () -> countActiveByName(nameFilter, storeRegion));
+//        return new PageImpl<>(results, pageable, Optional.ofNullable(total.fetchOne()).orElse(0L));
+  }
+
+  /**
+   * 스토어 이름과 지역을 기반으로 페이지 내용만 조회합니다. (count 쿼리 없음)
+   *
+   * @param name        조회할 스토어 이름
+   * @param storeRegion 조회할 스토어 지역
+   * @param pageable    페이지네이션 정보
+   * @param limit       조회할 최대 개수 (다음 페이지 확인이 필요하면 pageSize + 1)
+   * @return 스토어 목록
+   */
+  @Override
+  public List<Store> findContentByName(String name, StoreRegion storeRegion, Pageable pageable,
+      long limit) {
+    return fetchContentByName(QStore.store, resolveNameFilter(name), storeRegion, pageable, limit);
+  }
+
+  /**
+   * 스토어 이름과 지역을 기반으로 페이지 내용을 프로젝션으로 조회합니다. (목록 응답에 필요한 컬럼만 읽음)
+   *
+   * @param nameFilter  조회할 스토어 이름 조건
+   * @param storeRegion 조회할 스토어 지역
+   * @param pageable    페이지네이션 정보
+   * @param limit       조회할 최대 개수 (다음 페이지 확인이 필요하면 pageSize + 1)
+   * @return 스토어 프로젝션 목록
+   */
+  @Override
+  public List<StoreProjection> findProjectionsByName(StoreNameFilter nameFilter,
+      StoreRegion storeRegion, Pageable pageable, long limit) {
+    return fetchContentByName(storeProjection(), nameFilter, storeRegion, pageable, limit);
+  }
+
+  /**
+   * 모든 상태의 스토어를 프로젝션으로 조회합니다.
+   *
+   * @return id 순으로 정렬된 스토어 프로젝션 목록
+   */
+  @Override
+  public List<StoreProjection> findAllProjections() {
     QStore store = QStore.store;
 
-    JPAQuery<Store> query = jpaQueryFactory.selectFrom(store)
-        .where(nameContains(name))
+    return jpaQueryFactory.select(storeProjection())
+        .from(store)
+        .orderBy(store.id.asc())
+        .fetch();
+  }
+
+  private <T> List<T> fetchContentByName(Expression<T> projection, StoreNameFilter nameFilter,
+      StoreRegion storeRegion, Pageable pageable, long limit) {
+    if (nameFilter.matchesNothing()) {
+      return List.of();
+    }
+    QStore store = QStore.store;
+
+    JPAQuery<T> query = jpaQueryFactory.select(projection)
+        .from(store)
+        .where(nameContains(nameFilter))
         .where(storeRegionContains(storeRegion))
         .where(store.storeStatus.eq(StoreStatus.ACTIVE))
         .offset(pageable.getOffset())
-        .limit(pageable.getPageSize());
+        .limit(limit);
 
     for (Sort.Order order : pageable.getSort()) {
       PathBuilder<Store> pathBuilder = new PathBuilder<>(store.getType(), store.getMetadata());
@@ -60,18 +143,127 @@ public class StoreRepositoryImpl implements StoreRepositoryCustom {
       ));
     }
 
-    JPAQuery<Long> total = jpaQueryFactory.select(store.count())
+    return query.fetch();
+  }
+
+  /**
+   * 스토어 이름과 지역 조건에 맞는 활성화된 스토어 수를 조회합니다.
+   *
+   * @param nameFilter  조회할 스토어 이름 조건
+   * @param storeRegion 조회할 스토어 지역
+   * @return 스토어 수
+   */
+  @Override
+  public long countActiveByName(StoreNameFilter nameFilter, StoreRegion storeRegion) {
+    if (nameFilter.matchesNothing()) {
+      return 0L;
+    }
+    QStore store = QStore.store;
+
+    Long total = jpaQueryFactory.select(store.count())
         .from(store)
-        .where(nameContains(name))
+        .where(nameContains(nameFilter))
         .where(storeRegionContains(storeRegion))
-        .where(store.storeStatus.eq(StoreStatus.ACTIVE));
+        .where(store.storeStatus.eq(StoreStatus.ACTIVE))
+        .fetchOne();
+    return Optional.ofNullable(total).orElse(0L);
+  }
 
-    List<Store> results = query.fetch();
+  /**
+   * 스토어 이름 조건에 맞는 활성화된 스토어 수를 지역별로 조회합니다. (GROUP BY 한 번으로 지역 패싯과 전체 개수 계산)
+   *
+   * @param nameFilter 조회할 스토어 이름 조건
+   * @return 지역별 스토어 수 (스토어가 없는 지역은 빠짐)
+   */
+  @Override
+  public Map<StoreRegion, Long> countActiveByRegion(StoreNameFilter nameFilter) {
+    Map<StoreRegion, Long> counts = new EnumMap<>(StoreRegion.class);
+    if (nameFilter.matchesNothing()) {
+      return counts;
+    }
+    QStore store = QStore.store;
 
-    //total 계산 쿼리를 지연로딩한다.
-    return PageableExecutionUtils.getPage(results, pageable,
-        () -> Optional.ofNullable(total.fetchOne()).orElse(0L));
-//        return new PageImpl<>(results, pageable, Optional.ofNullable(total.fetchOne()).orElse(0L));
+    List<Tuple> rows = jpaQueryFactory.select(store.storeRegion, store.count())
+        .from(store)
+        .where(nameContains(nameFilter))
+        .where(store.storeStatus.eq(StoreStatus.ACTIVE))
+        .groupBy(store.storeRegion)
+        .fetch();
+
+    for (Tuple row : rows) {
+      counts.put(row.get(store.storeRegion), row.get(store.count()));
+    }
+    return counts;
+  }
+
+  /**
+   * 테이블 통계로 추정한 스토어 수를 조회합니다. (count 쿼리보다 훨씬 가벼움)
+   * <p>
+   * InnoDB 가 표본으로 추정한 전체 행 수라 오차가 있고, 상태와 관계없이 모든 스토어를 셉니다. 검색 조건이 있는 목록에는 쓸 수 없습니다.
+   *
+   * @return 추정 스토어 수
+   */
+  @Override
+  public long estimateStoreCount() {
+    Object estimate = entityManager.createNativeQuery(
+            "SELECT TABLE_ROWS FROM information_schema.TABLES "
+                + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'store'")
+        .getResultStream()
+        .findFirst()
+        .orElse(null);
+    return estimate instanceof Number number ? number.longValue() : 0L;
+  }
+
+  /**
+   * 활성화되지 않은(대기, 비활성) 스토어 수를 조회합니다. (상태 인덱스로 대기, 비활성 범위만 읽음)
+   *
+   * @return 활성화되지 않은 스토어 수
+   */
+  @Override
+  public long countNotActive() {
+    QStore store = QStore.store;
+
+    Long total = jpaQueryFactory.select(store.count())
+        .from(store)
+        .where(store.storeStatus.in(StoreStatus.PENDING, StoreStatus.INACTIVE))
+        .fetchOne();
+    return Optional.ofNullable(total).orElse(0L);
+  }
+
+  /**
+   * 커서 이후의 스토어 목록을 조회합니다. (offset 없이 인덱스를 따라 바로 이어서 읽음)
+   *
+   * @param name        조회할 스토어 이름
+   * @param storeRegion 조회할 스토어 지역
+   * @param sortKey     정렬 기준
+   * @param isDesc      내림차순 여부
+   * @param cursor      마지막으로 조회한 위치, 첫 페이지는 null
+   * @param limit       조회할 최대 개수
+   * @return 정렬 기준, id 순으로 정렬된 스토어 목록
+   */
+  @Override
+  public List<Store> findByNameAfterCursor(String name, StoreRegion storeRegion,
+      StoreSortKey sortKey, boolean isDesc, Cursor cursor, int limit) {
+    StoreNameFilter nameFilter = resolveNameFilter(name);
+    if (nameFilter.matchesNothing()) {
+      return List.of();
+    }
+    QStore store = QStore.store;
+    Order order = isDesc ? Order.DESC : Order.ASC;
+
+    JPAQuery<Store> query = jpaQueryFactory.selectFrom(store)
+        .where(nameContains(nameFilter))
+        .where(storeRegionContains(storeRegion))
+        .where(store.storeStatus.eq(StoreStatus.ACTIVE))
+        .where(storeAfter(sortKey, isDesc, cursor))
+        .limit(limit);
+
+    if (sortKey == StoreSortKey.NAME) {
+      query.orderBy(new OrderSpecifier<>(order, store.name));
+    }
+    query.orderBy(new OrderSpecifier<>(order, store.id));
+
+    return query.fetch();
   }
 
   /**
@@ -93,9 +285,103 @@ public class StoreRepositoryImpl implements StoreRepositoryCustom {
         new StoreException(StoreErrorCode.STORE_NOT_FOUND));
   }
 
-  private BooleanExpression nameContains(String name) {
+  private static ConstructorExpression<StoreProjection> storeProjection() {
     QStore store = QStore.store;
-    return name != null ? store.name.containsIgnoreCase(name) : null;
+
+    return Projections.constructor(StoreProjection.class, store.id, store.name, store.address,
+        store.phoneNumber, store.workHours, store.storeImage, store.storeStatus);
+  }
+
+  /**
+   * 스토어 이름 검색 후보를 조회합니다.
+   * <p>
+   * 검색어 gram 별 스토어 수를 색인만으로 세고, 가장 드문 gram 의 스토어 id 를 읽은 뒤 나머지 gram 을 모두 가진 id 만 남깁니다.
+   * 이후 조회는 후보 id(기본 키)로만 스토어를 읽습니다.
+   *
+   * @param name 조회할 스토어 이름
+   * @return 이름 검색 조건
+   */
+  @Override
+  public StoreNameFilter resolveNameFilter(String name) {
+    if (name == null) {
+      return StoreNameFilter.NONE;
+    }
+
+    String keyword = StoreNameTokenizer.normalize(name);
+    Set<String> grams = StoreNameTokenizer.queryGrams(keyword);
+    if (grams.isEmpty()) {
+      return StoreNameFilter.of(keyword, null);
+    }
+
+    QStoreNameGram storeNameGram = QStoreNameGram.storeNameGram;
+    NumberExpression<Long> postings = storeNameGram.storeId.count();
+    List<Tuple> frequencies = jpaQueryFactory.select(storeNameGram.gram, postings)
+        .from(storeNameGram)
+        .where(storeNameGram.gram.in(grams))
+        .groupBy(storeNameGram.gram)
+        .fetch();
+    if (frequencies.size() < grams.size()) {
+      // 색인에 없는 gram 이 있으면 일치하는 스토어도 없음
+      return StoreNameFilter.of(keyword, List.of());
+    }
+
+    Tuple rarest = frequencies.stream()
+        .min(Comparator.comparing(tuple -> tuple.get(postings)))
+        .orElseThrow();
+    if (rarest.get(postings) > NAME_CANDIDATE_LIMIT) {
+      return StoreNameFilter.of(keyword, null);
+    }
+
+    String rarestGram = rarest.get(storeNameGram.gram);
+    List<Long> candidateIds = jpaQueryFactory.selectDistinct(storeNameGram.storeId)
+        .from(storeNameGram)
+        .where(storeNameGram.gram.eq(rarestGram))
+        .fetch();
+
+    Set<String> otherGrams = new LinkedHashSet<>(grams);
+    otherGrams.remove(rarestGram);
+    if (otherGrams.isEmpty() || candidateIds.isEmpty()) {
+      return StoreNameFilter.of(keyword, candidateIds);
+    }
+
+    // 나머지 gram 은 후보 안에서만 확인
+    candidateIds = jpaQueryFactory.select(storeNameGram.storeId)
+        .from(storeNameGram)
+        .where(storeNameGram.gram.in(otherGrams), storeNameGram.storeId.in(candidateIds))
+        .groupBy(storeNameGram.storeId)
+        .having(storeNameGram.gram.countDistinct().eq((long) otherGrams.size()))
+        .fetch();
+    return StoreNameFilter.of(keyword, candidateIds);
+  }
+
+  private BooleanExpression nameContains(StoreNameFilter nameFilter) {
+    if (nameFilter.getKeyword() == null) {
+      return null;
+    }
+
+    QStore store = QStore.store;
+    BooleanExpression contains = store.name.containsIgnoreCase(nameFilter.getKeyword());
+    if (nameFilter.getCandidateIds() == null) {
+      return contains;
+    }
+    return store.id.in(nameFilter.getCandidateIds()).and(contains);
+  }
+
+  private BooleanExpression storeAfter(StoreSortKey sortKey, boolean isDesc, Cursor cursor) {
+    if (cursor == null) {
+      return null;
+    }
+
+    QStore store = QStore.store;
+    Long lastId = cursor.getLastId();
+    BooleanExpression idAfter = isDesc ? store.id.lt(lastId) : store.id.gt(lastId);
+    if (sortKey == StoreSortKey.ID) {
+      return idAfter;
+    }
+
+    String lastName = cursor.getLastValue();
+    BooleanExpression nameAfter = isDesc ? store.name.lt(lastName) : store.name.gt(lastName);
+    return nameAfter.or(store.name.eq(lastName).and(idAfter));
   }
 
   private BooleanExpression storeRegionContains(StoreRegion storeRegion) {
@@ -104,27 +390,26 @@ public class StoreRepositoryImpl implements StoreRepositoryCustom {
   }
 
   /**
-   * 상위 10개의 스토어를 조회합니다.
+   * 스토어별 완료된 예약 수를 조회합니다. (인기 스토어 랭킹 재생성용)
    *
-   * @return 상위 10개의 스토어 목록
+   * @return 스토어 id 별 완료 예약 수
    */
   @Override
-  public List<Store> findTopStore() {
-    QStore store = QStore.store;
+  public Map<Long, Long> countCompletedReservationsByStore() {
     QTheme theme = QTheme.theme;
     QReservation reservation = QReservation.reservation;
-    QPayment payment = QPayment.payment;
+    NumberExpression<Long> reservationCount = reservation.count();
 
-    return jpaQueryFactory.select(store)
-        .from(store)
-        .leftJoin(theme).on(theme.store.eq(store)).fetchJoin()
-        .leftJoin(reservation).on(reservation.theme.eq(theme)).fetchJoin()
-        .leftJoin(payment).on(payment.reservation.eq(reservation))
-        .where(store.storeStatus.eq(StoreStatus.ACTIVE)
-            .and(reservation.reservationStatus.eq(ReservationStatus.COMPLETE)))
-        .groupBy(store.id)
-        .orderBy(reservation.count().desc())
-        .limit(10)
-        .fetch();
+    return jpaQueryFactory.select(theme.store.id, reservationCount)
+        .from(reservation)
+        .join(reservation.theme, theme)
+        .where(reservation.reservationStatus.eq(ReservationStatus.COMPLETE))
+        .groupBy(theme.store.id)
+        .fetch()
+        .stream()
+        .collect(Collectors.toMap(
+            tuple -> tuple.get(theme.store.id),
+            tuple -> tuple.get(reservationCount)
+        ));
   }
 }
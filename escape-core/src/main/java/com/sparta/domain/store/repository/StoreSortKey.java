@@ -0,0 +1,29 @@
+package com.sparta.domain.store.repository;
+
+import com.sparta.domain.store.entity.Store;
+import com.sparta.global.exception.customException.PageException;
+import com.sparta.global.exception.errorCode.PageErrorCode;
+import java.util.Arrays;
+import java.util.function.Function;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 커서 조회에서 허용하는 스토어 정렬 기준 (인덱스가 있는 컬럼만)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum StoreSortKey {
+  ID("id", store -> String.valueOf(store.getId())),
+  NAME("name", Store::getName);
+
+  private final String property;
+  private final Function<Store, String> valueExtractor;
+
+  public static StoreSortKey from(String property) {
+    return Arrays.stream(values())
+        .filter(sortKey -> sortKey.property.equals(property))
+        .findFirst()
+        .orElseThrow(() -> new PageException(PageErrorCode.INVALID_SORT_KEY));
+  }
+}
@@ -0,0 +1,135 @@
+package com.sparta.domain.store.service;
+
+import com.sparta.domain.store.entity.Store;
+import com.sparta.domain.store.entity.StoreRegion;
+import com.sparta.global.util.GeoPoint;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스토어 주소 -> 좌표 변환 (외부 API 없이 시도, 시군구 대표 좌표표로 조회)
+ * <p>
+ * "시도 시군구 ..." 순서의 주소에서 가장 구체적인 단위(시군구 구, 시군구, 시도) 좌표를 사용하고, 주소로 찾지 못하면 스토어 지역의
+ * 대표 좌표 사용. 좌표표는 geo/store-geocode.csv
+ * <p>
+ * 같은 시군구의 스토어는 모두 같은 좌표가 되므로 정밀도는 시군구 단위(수 km)이며, 위치 기반 조회도 이 단위로만 의미가 있음
+ */
+@Slf4j
+@Component
+public class StoreGeocoder {
+
+  private static final String TABLE_PATH = "geo/store-geocode.csv";
+
+  // 시도 정식 명칭, 줄임말 -> 좌표표의 시도 이름
+  private static final Map<String, String> SIDO_ALIASES = Map.ofEntries(
+      Map.entry("서울특별시", "서울"), Map.entry("서울시", "서울"),
+      Map.entry("부산광역시", "부산"), Map.entry("부산시", "부산"),
+      Map.entry("대구광역시", "대구"), Map.entry("대구시", "대구"),
+      Map.entry("인천광역시", "인천"), Map.entry("인천시", "인천"),
+      Map.entry("광주광역시", "광주"),
+      Map.entry("대전광역시", "대전"), Map.entry("대전시", "대전"),
+      Map.entry("울산광역시", "울산"), Map.entry("울산시", "울산"),
+      Map.entry("세종특별자치시", "세종"), Map.entry("세종시", "세종"),
+      Map.entry("경기도", "경기"),
+      Map.entry("강원도", "강원"), Map.entry("강원특별자치도", "강원"),
+      Map.entry("충청북도", "충북"), Map.entry("충청남도", "충남"),
+      Map.entry("전라북도", "전북"), Map.entry("전북특별자치도", "전북"),
+      Map.entry("전라남도", "전남"),
+      Map.entry("경상북도", "경북"), Map.entry("경상남도", "경남"),
+      Map.entry("제주도", "제주"), Map.entry("제주특별자치도", "제주"));
+
+  // "시도|시군구" -> 좌표 (시도 대표 좌표는 "시도|")
+  private final Map<String, GeoPoint> points = new HashMap<>();
+  private final Map<StoreRegion, String> regionSido = new EnumMap<>(StoreRegion.class);
+
+  public StoreGeocoder() {
+    try (InputStream in = StoreGeocoder.class.getClassLoader().getResourceAsStream(TABLE_PATH)) {
+      if (in == null) {
+        throw new IllegalStateException("좌표표를 찾을 수 없습니다 : " + TABLE_PATH);
+      }
+      BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.isBlank() || line.startsWith("#")) {
+          continue;
+        }
+        String[] columns = line.split(",", -1);
+        String sido = columns[1];
+        points.put(key(sido, columns[2]),
+            new GeoPoint(Double.parseDouble(columns[3]), Double.parseDouble(columns[4])));
+        regionSido.putIfAbsent(StoreRegion.valueOf(columns[0]), sido);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * 스토어 주소, 지역으로 좌표를 찾아 스토어에 반영 (찾지 못하면 좌표를 비움)
+   *
+   * @param store 등록, 수정한 스토어
+   */
+  public void locate(Store store) {
+    Optional<GeoPoint> point = geocode(store.getAddress(), store.getStoreRegion());
+    store.updateLocation(point.map(GeoPoint::getLatitude).orElse(null),
+        point.map(GeoPoint::getLongitude).orElse(null));
+    if (point.isEmpty()) {
+      log.warn("스토어 좌표를 찾을 수 없음 : storeId {}, address {}", store.getId(),
+          store.getAddress());
+    }
+  }
+
+  /**
+   * 주소 -> 좌표
+   *
+   * @param address 도로명, 지번 주소 ("서울특별시 강남구 ...")
+   * @param region  주소에 시도가 없을 때 사용할 지역
+   * @return 좌표표에서 찾은 가장 구체적인 좌표
+   */
+  public Optional<GeoPoint> geocode(String address, StoreRegion region) {
+    String[] tokens = address == null ? new String[0] : address.trim().split("\\s+");
+
+    int next = 1;
+    String sido = tokens.length == 0 ? null : normalizeSido(tokens[0]);
+    if (sido == null) {
+      sido = region == null ? null : regionSido.get(region);
+      next = 0;
+    }
+    if (sido == null) {
+      return Optional.empty();
+    }
+
+    if (next + 1 < tokens.length) {
+      GeoPoint district = points.get(key(sido, tokens[next] + " " + tokens[next + 1]));
+      if (district != null) {
+        return Optional.of(district);
+      }
+    }
+    if (next < tokens.length) {
+      GeoPoint sigungu = points.get(key(sido, tokens[next]));
+      if (sigungu != null) {
+        return Optional.of(sigungu);
+      }
+    }
+    return Optional.ofNullable(points.get(key(sido, "")));
+  }
+
+  private String normalizeSido(String token) {
+    String sido = SIDO_ALIASES.getOrDefault(token, token);
+    return points.containsKey(key(sido, "")) ? sido : null;
+  }
+
+  private static String key(String sido, String sigungu) {
+    return sido + "|" + sigungu;
+  }
+}
@@ -0,0 +1,73 @@
+package com.sparta.domain.store.service;
+
+import com.sparta.domain.store.entity.Store;
+import com.sparta.domain.store.entity.StoreNameGram;
+import com.sparta.domain.store.entity.StoreStatus;
+import com.sparta.domain.store.repository.StoreNameGramRepository;
+import com.sparta.domain.store.repository.StoreRepository;
+import com.sparta.global.cache.CountCache;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 스토어 이름 n-gram 색인 관리
+ * <p>
+ * 스토어를 생성, 수정, 활성화/비활성화, 삭제하는 트랜잭션 안에서 호출해 색인을 스토어와 함께 커밋하고, 커밋 후 검색 결과 수 캐시를
+ * 무효화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreNameIndexer {
+
+  private final StoreNameGramRepository storeNameGramRepository;
+  private final StoreRepository storeRepository;
+  private final CountCache countCache;
+
+  /**
+   * 스토어 이름 색인 갱신 (활성화된 스토어만 색인에 남김)
+   *
+   * @param store 변경된 스토어
+   */
+  @Transactional
+  public void index(Store store) {
+    storeNameGramRepository.deleteAllByStoreId(store.getId());
+    countCache.evict(CountCache.STORE_NAMESPACE);
+    if (store.getStoreStatus() != StoreStatus.ACTIVE) {
+      return;
+    }
+
+    List<StoreNameGram> grams = StoreNameTokenizer.indexGrams(store.getName()).stream()
+        .map(gram -> new StoreNameGram(gram, store.getId()))
+        .toList();
+    storeNameGramRepository.saveAll(grams);
+  }
+
+  /**
+   * 스토어 이름 색인 삭제
+   *
+   * @param storeId 스토어 id
+   */
+  @Transactional
+  public void remove(Long storeId) {
+    storeNameGramRepository.deleteAllByStoreId(storeId);
+    countCache.evict(CountCache.STORE_NAMESPACE);
+  }
+
+  /**
+   * 색인이 비어 있으면 전체 스토어로 색인 생성
+   */
+  @Transactional
+  public void rebuildIfEmpty() {
+    if (storeNameGramRepository.count() > 0) {
+      return;
+    }
+
+    List<Store> stores = storeRepository.findAll();
+    stores.forEach(this::index);
+    log.info("스토어 이름 색인 생성 완료 : {}개 스토어", stores.size());
+  }
+}
@@ -0,0 +1,77 @@
+package com.sparta.domain.store.service;
+
+import java.text.Normalizer;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 스토어 이름 n-gram 분리
+ * <p>
+ * 한글 자모가 분리된 입력(NFD)도 같은 음절로 비교되도록 NFC 로 정규화한 뒤, 소문자로 바꾸고 공백을 제거해 코드 포인트 단위로
+ * 자른다. 이름이 검색어를 포함하면 검색어의 gram 은 항상 이름의 gram 에 모두 포함된다.
+ */
+public final class StoreNameTokenizer {
+
+  private StoreNameTokenizer() {
+  }
+
+  /**
+   * 검색어 정규화 (NFC)
+   *
+   * @param keyword 검색어
+   * @return 정규화된 검색어
+   */
+  public static String normalize(String keyword) {
+    return Normalizer.normalize(keyword, Normalizer.Form.NFC);
+  }
+
+  /**
+   * 색인에 저장할 gram (1-gram + 2-gram)
+   *
+   * @param name 스토어 이름
+   * @return 중복 없는 gram 목록
+   */
+  public static Set<String> indexGrams(String name) {
+    int[] codePoints = codePoints(name);
+    Set<String> grams = new LinkedHashSet<>();
+    for (int i = 0; i < codePoints.length; i++) {
+      grams.add(new String(codePoints, i, 1));
+      if (i + 1 < codePoints.length) {
+        grams.add(new String(codePoints, i, 2));
+      }
+    }
+    return grams;
+  }
+
+  /**
+   * 검색에 사용할 gram
+   * <p>
+   * 한 글자 검색어는 1-gram, 그 외에는 2-gram 으로 조회
+   *
+   * @param keyword 검색어
+   * @return 중복 없는 gram 목록, 공백뿐인 검색어는 빈 목록
+   */
+  public static Set<String> queryGrams(String keyword) {
+    int[] codePoints = codePoints(keyword);
+    if (codePoints.length == 0) {
+      return Collections.emptySet();
+    }
+    if (codePoints.length == 1) {
+      return Set.of(new String(codePoints, 0, 1));
+    }
+    Set<String> grams = new LinkedHashSet<>();
+    for (int i = 0; i + 1 < codePoints.length; i++) {
+      grams.add(new String(codePoints, i, 2));
+    }
+    return grams;
+  }
+
+  private static int[] codePoints(String value) {
+    return normalize(value).toLowerCase(Locale.ROOT)
+        .codePoints()
+        .filter(codePoint -> !Character.isWhitespace(codePoint))
+        .toArray();
+  }
+}
@@ -0,0 +1,178 @@
+package com.sparta.domain.store.service;
+
+import com.sparta.domain.store.repository.StoreRepository;
+import com.sparta.global.util.TransactionUtil;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스토어별 완료 예약 수 랭킹 (Redis sorted set)
+ * <p>
+ * 결제 완료 시 +1, 완료된 예약 취소/환불 시 -1 을 커밋 후 반영해, 인기 스토어 조회를 집계 쿼리 없이 O(log n) 으로 처리
+ * <p>
+ * 재생성은 SET NX 락을 잡은 인스턴스 하나만 하고, 락이 있는 동안의 증감은 delta 에도 모아 두었다가 새 랭킹으로 교체할 때 더해 DB 를 세는
+ * 동안 들어온 증감을 잃지 않음. 재생성 시각 표시는 rebuild-interval-ms 뒤 만료되어 남은 오차도 주기적으로 DB 기준으로 맞춤
+ * <p>
+ * 재생성은 검색 서버의 시작 시점, 주기 작업에서만 하고 조회 요청 스레드는 지금 랭킹만 읽음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TopStoreRanking {
+
+  private static final String RANKING_KEY = "ranking:store:reservations";
+  private static final String RANKING_TEMP_KEY = "ranking:store:reservations:rebuild";
+  private static final String RANKING_DELTA_KEY = "ranking:store:reservations:delta";
+  private static final String INITIALIZED_KEY = "ranking:store:initialized";
+  private static final String REBUILD_LOCK_KEY = "ranking:store:rebuild-lock";
+
+  // 재생성 중(락이 있음)이면 delta 에도 기록
+  private static final RedisScript<Long> INCREMENT_SCRIPT = RedisScript.of(
+      "redis.call('ZINCRBY', KEYS[1], ARGV[2], ARGV[1]) "
+          + "if redis.call('EXISTS', KEYS[2]) == 1 then "
+          + "redis.call('ZINCRBY', KEYS[3], ARGV[2], ARGV[1]) end "
+          + "return 1", Long.class);
+
+  // 락을 아직 가지고 있으면 임시 랭킹에 delta 를 더해 교체
+  private static final RedisScript<Long> SWAP_SCRIPT = RedisScript.of(
+      "if redis.call('GET', KEYS[4]) ~= ARGV[1] then "
+          + "redis.call('DEL', KEYS[1]) return 0 end "
+          + "if redis.call('EXISTS', KEYS[2]) == 1 then "
+          + "redis.call('ZUNIONSTORE', KEYS[1], 2, KEYS[1], KEYS[2]) end "
+          + "if redis.call('EXISTS', KEYS[1]) == 1 then redis.call('RENAME', KEYS[1], KEYS[3]) "
+          + "else redis.call('DEL', KEYS[3]) end "
+          + "redis.call('DEL', KEYS[2]) "
+          + "return 1", Long.class);
+
+  // 자신이 잡은 락만 해제
+  private static final RedisScript<Long> UNLOCK_SCRIPT = RedisScript.of(
+      "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) "
+          + "else return 0 end", Long.class);
+
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final StoreRepository storeRepository;
+
+  @Value("${ranking.top-store.rebuild-interval-ms:3600000}")
+  private long rebuildIntervalMillis;
+
+  @Value("${ranking.top-store.rebuild-lock-ttl-ms:300000}")
+  private long rebuildLockTtlMillis;
+
+  /**
+   * 완료 예약 수 증가 (트랜잭션 안이면 커밋 후)
+   *
+   * @param storeId 스토어 id
+   */
+  public void increment(Long storeId) {
+    TransactionUtil.afterCommit(() -> add(storeId, 1));
+  }
+
+  /**
+   * 완료 예약 수 감소 (트랜잭션 안이면 커밋 후)
+   *
+   * @param storeId 스토어 id
+   */
+  public void decrement(Long storeId) {
+    TransactionUtil.afterCommit(() -> add(storeId, -1));
+  }
+
+  /**
+   * 완료 예약 수가 많은 순으로 스토어 id 조회
+   *
+   * @param limit 조회할 개수
+   * @return 스토어 id 목록 (완료 예약이 1건 이상인 스토어만, 랭킹이 아직 없으면 빈 목록)
+   */
+  public List<Long> getTopStoreIds(int limit) {
+    Set<TypedTuple<Object>> ranking = redisTemplate.opsForZSet()
+        .reverseRangeByScoreWithScores(RANKING_KEY, 1, Double.MAX_VALUE, 0, limit);
+    if (ranking == null) {
+      return Collections.emptyList();
+    }
+
+    return ranking.stream()
+        .map(TypedTuple::getValue)
+        .filter(Objects::nonNull)
+        .map(storeId -> Long.valueOf(storeId.toString()))
+        .toList();
+  }
+
+  /**
+   * 랭킹이 없거나 마지막 재생성 후 rebuild-interval-ms 가 지났으면 재생성
+   *
+   * @return 재생성했으면 true
+   */
+  public boolean rebuildIfExpired() {
+    if (Boolean.TRUE.equals(redisTemplate.hasKey(INITIALIZED_KEY))) {
+      return false;
+    }
+    // 락을 잡지 못하면 (다른 인스턴스가 재생성 중) 그 인스턴스의 결과를 사용
+    return rebuild();
+  }
+
+  /**
+   * DB 의 완료 예약 수로 랭킹 재생성 (임시 키에 만든 뒤 재생성 중 들어온 증감을 더해 교체)
+   *
+   * @return 락을 잡지 못했거나 재생성 중 락을 잃어 교체하지 않았으면 false
+   */
+  public boolean rebuild() {
+    String token = UUID.randomUUID().toString();
+    Boolean locked = stringRedisTemplate.opsForValue()
+        .setIfAbsent(REBUILD_LOCK_KEY, token, Duration.ofMillis(rebuildLockTtlMillis));
+    if (!Boolean.TRUE.equals(locked)) {
+      return false;
+    }
+
+    try {
+      // 락을 잡은 뒤에 DB 를 세야, 세는 동안 커밋된 증감이 delta 에 남음
+      stringRedisTemplate.delete(List.of(RANKING_DELTA_KEY, RANKING_TEMP_KEY));
+      Map<Long, Long> counts = storeRepository.countCompletedReservationsByStore();
+      counts.forEach((storeId, count) -> redisTemplate.opsForZSet()
+          .add(RANKING_TEMP_KEY, String.valueOf(storeId), count));
+
+      Long swapped = stringRedisTemplate.execute(SWAP_SCRIPT,
+          List.of(RANKING_TEMP_KEY, RANKING_DELTA_KEY, RANKING_KEY, REBUILD_LOCK_KEY), token);
+      if (!Long.valueOf(1).equals(swapped)) {
+        log.warn("인기 스토어 랭킹 재생성 중 락 만료, 교체하지 않음");
+        return false;
+      }
+      redisTemplate.opsForValue()
+          .set(INITIALIZED_KEY, true, Duration.ofMillis(rebuildIntervalMillis));
+      log.info("인기 스토어 랭킹 재생성 완료 : {}개 스토어", counts.size());
+      return true;
+    } finally {
+      stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(REBUILD_LOCK_KEY), token);
+    }
+  }
+
+  private void add(Long storeId, long delta) {
+    stringRedisTemplate.execute(INCREMENT_SCRIPT,
+        List.of(RANKING_KEY, REBUILD_LOCK_KEY, RANKING_DELTA_KEY), member(storeId),
+        String.valueOf(delta));
+  }
+
+  /**
+   * redisTemplate 으로 넣은 sorted set 멤버와 같은 바이트 (스크립트 인자는 문자열로 전달)
+   */
+  @SuppressWarnings("unchecked")
+  private String member(Long storeId) {
+    byte[] serialized = ((RedisSerializer<Object>) redisTemplate.getValueSerializer())
+        .serialize(String.valueOf(storeId));
+    return new String(serialized, StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,104 @@
+package com.sparta.domain.theme.dto;
+
+import com.sparta.domain.theme.entity.ThemeTime;
+import com.sparta.domain.theme.entity.ThemeTimeStatus;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 테마의 하루치 예약 시간대 스냅샷
+ * <p>
+ * 시작 시각 순으로 정렬한 시간대 id, 시작/종료 시각(그날 0시 기준 초)을 배열로 두고, 예약 가능 여부는 비트마스크 하나로 저장
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ThemeAvailability {
+
+  private Long themeId;
+  private String date;
+  private long[] themeTimeIds;
+  private int[] startSeconds;
+  private int[] endSeconds;
+  private long[] enabledMask;
+
+  /**
+   * 테마 시간대 목록으로 스냅샷 생성
+   *
+   * @param themeId    테마 id
+   * @param date       날짜
+   * @param themeTimes 해당 날짜의 테마 시간대
+   * @return 스냅샷
+   */
+  public static ThemeAvailability of(Long themeId, LocalDate date, List<ThemeTime> themeTimes) {
+    List<ThemeTime> sorted = themeTimes.stream()
+        .sorted(Comparator.comparing(ThemeTime::getStartTime))
+        .toList();
+    LocalDateTime startOfDay = date.atStartOfDay();
+
+    ThemeAvailability availability = new ThemeAvailability();
+    availability.themeId = themeId;
+    availability.date = date.toString();
+    availability.themeTimeIds = new long[sorted.size()];
+    availability.startSeconds = new int[sorted.size()];
+    availability.endSeconds = new int[sorted.size()];
+
+    BitSet enabled = new BitSet(sorted.size());
+    for (int i = 0; i < sorted.size(); i++) {
+      ThemeTime themeTime = sorted.get(i);
+      availability.themeTimeIds[i] = themeTime.getId();
+      availability.startSeconds[i] = (int) ChronoUnit.SECONDS.between(startOfDay,
+          themeTime.getStartTime());
+      availability.endSeconds[i] = (int) ChronoUnit.SECONDS.between(startOfDay,
+          themeTime.getEndTime());
+      enabled.set(i, themeTime.getThemeTimeStatus() == ThemeTimeStatus.ENABLE);
+    }
+    availability.enabledMask = enabled.toLongArray();
+    return availability;
+  }
+
+  public int slotCount() {
+    return themeTimeIds.length;
+  }
+
+  public boolean enabledAt(int index) {
+    int word = index >> 6;
+    return word < enabledMask.length && (enabledMask[word] & (1L << index)) != 0;
+  }
+
+  public int enabledCount() {
+    int count = 0;
+    for (long word : enabledMask) {
+      count += Long.bitCount(word);
+    }
+    return count;
+  }
+
+  /**
+   * @return 첫 예약 가능 시간대 위치, 없으면 -1
+   */
+  public int firstEnabledIndex() {
+    return BitSet.valueOf(enabledMask).nextSetBit(0);
+  }
+
+  /**
+   * @return 마지막 예약 가능 시간대 위치, 없으면 -1
+   */
+  public int lastEnabledIndex() {
+    return BitSet.valueOf(enabledMask).previousSetBit(slotCount() - 1);
+  }
+
+  public LocalDateTime startTimeAt(int index) {
+    return LocalDate.parse(date).atStartOfDay().plusSeconds(startSeconds[index]);
+  }
+
+  public LocalDateTime endTimeAt(int index) {
+    return LocalDate.parse(date).atStartOfDay().plusSeconds(endSeconds[index]);
+  }
+}
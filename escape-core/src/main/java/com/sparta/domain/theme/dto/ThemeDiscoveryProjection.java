@@ -0,0 +1,26 @@
+package com.sparta.domain.theme.dto;
+
+import com.sparta.domain.store.entity.StoreRegion;
+import com.sparta.domain.theme.entity.ThemeType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 스토어 구분 없는 테마 탐색 색인용 프로젝션 (테마 조건 컬럼 + 스토어 이름, 지역)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ThemeDiscoveryProjection {
+
+  private final Long themeId;
+  private final Long storeId;
+  private final String storeName;
+  private final StoreRegion storeRegion;
+  private final String title;
+  private final String themeImage;
+  private final ThemeType themeType;
+  private final Integer level;
+  private final Integer minPlayer;
+  private final Integer maxPlayer;
+  private final Long price;
+}
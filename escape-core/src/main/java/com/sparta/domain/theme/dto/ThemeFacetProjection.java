@@ -0,0 +1,18 @@
+package com.sparta.domain.theme.dto;
+
+import com.sparta.domain.theme.entity.ThemeType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 테마 패싯 집계 행 (테마 종류, 난이도, 가격 조합별 테마 수)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ThemeFacetProjection {
+
+  private final ThemeType themeType;
+  private final Integer level;
+  private final Long price;
+  private final Long count;
+}
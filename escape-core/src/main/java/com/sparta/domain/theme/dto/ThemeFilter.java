@@ -0,0 +1,31 @@
+package com.sparta.domain.theme.dto;
+
+import com.sparta.domain.theme.entity.ThemeType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 테마 목록 필터 (null 인 조건은 적용하지 않음, 가격은 이상/이하)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ThemeFilter {
+
+  private final ThemeType themeType;
+  private final Integer level;
+  private final Long minPrice;
+  private final Long maxPrice;
+
+  public boolean matchesThemeType(ThemeType value) {
+    return themeType == null || themeType == value;
+  }
+
+  public boolean matchesLevel(Integer value) {
+    return level == null || level.equals(value);
+  }
+
+  public boolean matchesPrice(Long value) {
+    return (minPrice == null || (value != null && value >= minPrice))
+        && (maxPrice == null || (value != null && value <= maxPrice));
+  }
+}
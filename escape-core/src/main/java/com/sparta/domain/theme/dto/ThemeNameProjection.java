@@ -0,0 +1,17 @@
+package com.sparta.domain.theme.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 테마 이름 자동완성 색인용 프로젝션 (인기도는 좋아요 수)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ThemeNameProjection {
+
+  private final Long themeId;
+  private final Long storeId;
+  private final String title;
+  private final long recommendationCount;
+}
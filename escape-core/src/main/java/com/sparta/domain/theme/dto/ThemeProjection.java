@@ -0,0 +1,16 @@
+package com.sparta.domain.theme.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 테마 목록 조회용 프로젝션 (엔티티 대신 필요한 컬럼만 읽음, 영속성 컨텍스트에 올라가지 않음)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ThemeProjection {
+
+  private final Long themeId;
+  private final String themeImage;
+  private final String title;
+}
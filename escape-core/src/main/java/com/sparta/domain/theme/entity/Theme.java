@@ -18,6 +18,7 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_theme_store_status_title", columnList = "store_id, theme_status, title, id"))
 public class Theme extends TimeStamped {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -58,6 +59,9 @@ public class Theme extends TimeStamped {
     @Enumerated(EnumType.STRING)
     private ThemeStatus themeStatus;
 
+    @Column(nullable = false)
+    private long recommendationCount; // 좋아요 수 (RecommendationCounter 가 주기적으로 반영)
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "store_id", nullable = false)
     private Store store;
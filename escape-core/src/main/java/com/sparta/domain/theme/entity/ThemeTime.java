@@ -1,6 +1,7 @@
 package com.sparta.domain.theme.entity;
 
 
+import com.sparta.global.entity.TimeStamped;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -13,7 +14,11 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class ThemeTime {
+@Table(indexes = {
+        @Index(name = "idx_theme_time_theme_start", columnList = "theme_id, start_time"),
+        @Index(name = "idx_theme_time_updated_at", columnList = "updated_at")
+})
+public class ThemeTime extends TimeStamped {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
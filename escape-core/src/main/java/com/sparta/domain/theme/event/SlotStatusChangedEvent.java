@@ -0,0 +1,33 @@
+package com.sparta.domain.theme.event;
+
+import com.sparta.domain.theme.entity.ThemeTime;
+import com.sparta.domain.theme.entity.ThemeTimeStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 테마 시간대 변경 이벤트 (시간, 예약 가능 여부 포함, 시간대 id 를 키로 compacted 토픽에 발행)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotStatusChangedEvent {
+    private Long themeTimeId;
+    private Long themeId;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private ThemeTimeStatus themeTimeStatus;
+    private LocalDateTime updatedAt;
+
+    public SlotStatusChangedEvent(ThemeTime themeTime) {
+        this.themeTimeId = themeTime.getId();
+        this.themeId = themeTime.getTheme().getId();
+        this.startTime = themeTime.getStartTime();
+        this.endTime = themeTime.getEndTime();
+        this.themeTimeStatus = themeTime.getThemeTimeStatus();
+        this.updatedAt = themeTime.getUpdatedAt();
+    }
+}
@@ -0,0 +1,48 @@
+package com.sparta.domain.theme.event;
+
+import com.sparta.domain.theme.entity.Theme;
+import com.sparta.domain.theme.entity.ThemeStatus;
+import com.sparta.domain.theme.entity.ThemeType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 테마 변경 이벤트 (변경 후 테마 전체 상태, 테마 id 를 키로 compacted 토픽에 발행)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ThemeChangedEvent {
+    private Long themeId;
+    private Long storeId;
+    private String title;
+    private String contents;
+    private Integer level;
+    private Integer duration;
+    private Integer minPlayer;
+    private Integer maxPlayer;
+    private ThemeType themeType;
+    private String themeImage;
+    private Long price;
+    private ThemeStatus themeStatus;
+    private LocalDateTime updatedAt;
+
+    public ThemeChangedEvent(Theme theme) {
+        this.themeId = theme.getId();
+        this.storeId = theme.getStore().getId();
+        this.title = theme.getTitle();
+        this.contents = theme.getContents();
+        this.level = theme.getLevel();
+        this.duration = theme.getDuration();
+        this.minPlayer = theme.getMinPlayer();
+        this.maxPlayer = theme.getMaxPlayer();
+        this.themeType = theme.getThemeType();
+        this.themeImage = theme.getThemeImage();
+        this.price = theme.getPrice();
+        this.themeStatus = theme.getThemeStatus();
+        this.updatedAt = theme.getUpdatedAt();
+    }
+}
@@ -1,16 +1,44 @@
 package com.sparta.domain.theme.repository;
 
 import com.sparta.domain.store.entity.Store;
+import com.sparta.domain.theme.dto.ThemeDiscoveryProjection;
+import com.sparta.domain.theme.dto.ThemeFacetProjection;
+import com.sparta.domain.theme.dto.ThemeFilter;
+import com.sparta.domain.theme.dto.ThemeNameProjection;
+import com.sparta.domain.theme.dto.ThemeProjection;
 import com.sparta.domain.theme.entity.Theme;
+import com.sparta.global.util.Cursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface ThemeRepositoryCustom {
     Page<Theme> findByStore(Store store, Pageable pageable);
 
+    List<Theme> findContentByStore(Store store, Pageable pageable, long limit);
+
+    List<ThemeProjection> findProjectionsByStore(Store store, Pageable pageable, long limit);
+
+    List<ThemeProjection> findProjectionsByStore(Store store, ThemeFilter filter, Pageable pageable,
+            long limit);
+
+    List<ThemeFacetProjection> countActiveFacetsByStore(Store store);
+
+    long countActiveByStore(Store store);
+
+    List<ThemeDiscoveryProjection> findAllActiveForDiscovery();
+
+    List<ThemeNameProjection> findAllActiveNames();
+
+    List<Theme> findByStoreAfterCursor(Store store, ThemeSortKey sortKey, boolean isDesc,
+            Cursor cursor, int limit);
+
     Theme findByActiveTheme(Long themeId);
 
     Theme findThemeOfActiveStore(Long themeId);
+
+    void updateRecommendationCount(Long themeId, long recommendationCount);
 }
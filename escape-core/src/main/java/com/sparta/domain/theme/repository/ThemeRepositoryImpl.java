@@ -1,18 +1,28 @@
 package com.sparta.domain.theme.repository;
 
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.sparta.domain.store.entity.QStore;
 import com.sparta.domain.store.entity.Store;
 import com.sparta.domain.store.entity.StoreStatus;
+import com.sparta.domain.theme.dto.ThemeDiscoveryProjection;
+import com.sparta.domain.theme.dto.ThemeFacetProjection;
+import com.sparta.domain.theme.dto.ThemeFilter;
+import com.sparta.domain.theme.dto.ThemeNameProjection;
+import com.sparta.domain.theme.dto.ThemeProjection;
 import com.sparta.domain.theme.entity.QTheme;
 import com.sparta.domain.theme.entity.Theme;
 import com.sparta.domain.theme.entity.ThemeStatus;
 import com.sparta.global.exception.customException.ThemeException;
 import com.sparta.global.exception.errorCode.ThemeErrorCode;
+import com.sparta.global.util.Cursor;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
@@ -39,13 +49,91 @@ public class ThemeRepositoryImpl implements ThemeRepositoryCustom {
    */
   @Override
   public Page<Theme> findByStore(Store store, Pageable pageable) {
+    List<Theme> results = findContentByStore(store, pageable, pageable.getPageSize());
+
+    return PageableExecutionUtils.getPage(results, pageable, () -> countActiveByStore(store));
+  }
+
+  /**
+   * 스토어의 테마 페이지 내용만 조회합니다. (count 쿼리 없음)
+   *
+   * @param store    조회할 스토어 객체
+   * @param pageable 페이지네이션 정보
+   * @param limit    조회할 최대 개수 (다음 페이지 확인이 필요하면 pageSize + 1)
+   * @return 테마 목록
+   */
+  @Override
+  public List<Theme> findContentByStore(Store store, Pageable pageable, long limit) {
+    return fetchContentByStore(QTheme.theme, store, pageable, limit);
+  }
+
+  /**
+   * 스토어의 테마 페이지 내용을 프로젝션으로 조회합니다. (목록 응답에 필요한 컬럼만 읽음)
+   *
+   * @param store    조회할 스토어 객체
+   * @param pageable 페이지네이션 정보
+   * @param limit    조회할 최대 개수 (다음 페이지 확인이 필요하면 pageSize + 1)
+   * @return 테마 프로젝션 목록
+   */
+  @Override
+  public List<ThemeProjection> findProjectionsByStore(Store store, Pageable pageable, long limit) {
+    return findProjectionsByStore(store, null, pageable, limit);
+  }
+
+  /**
+   * 필터 조건에 맞는 스토어의 테마 페이지 내용을 프로젝션으로 조회합니다.
+   *
+   * @param store    조회할 스토어 객체
+   * @param filter   테마 종류, 난이도, 가격 조건 (null 이면 조건 없음)
+   * @param pageable 페이지네이션 정보
+   * @param limit    조회할 최대 개수
+   * @return 테마 프로젝션 목록
+   */
+  @Override
+  public List<ThemeProjection> findProjectionsByStore(Store store, ThemeFilter filter,
+      Pageable pageable, long limit) {
     QTheme theme = QTheme.theme;
 
-    JPAQuery<Theme> query = jpaQueryFactory.selectFrom(theme)
+    return fetchContentByStore(
+        Projections.constructor(ThemeProjection.class, theme.id, theme.themeImage, theme.title),
+        store, filter, pageable, limit);
+  }
+
+  /**
+   * 스토어의 활성화된 테마 수를 테마 종류, 난이도, 가격 조합별로 조회합니다. (GROUP BY 한 번으로 모든 패싯 계산)
+   *
+   * @param store 조회할 스토어 객체
+   * @return 조합별 테마 수
+   */
+  @Override
+  public List<ThemeFacetProjection> countActiveFacetsByStore(Store store) {
+    QTheme theme = QTheme.theme;
+
+    return jpaQueryFactory.select(Projections.constructor(ThemeFacetProjection.class,
+            theme.themeType, theme.level, theme.price, theme.count()))
+        .from(theme)
         .where(theme.store.eq(store)
             .and(theme.themeStatus.eq(ThemeStatus.ACTIVE)))
+        .groupBy(theme.themeType, theme.level, theme.price)
+        .fetch();
+  }
+
+  private <T> List<T> fetchContentByStore(Expression<T> projection, Store store,
+      Pageable pageable, long limit) {
+    return fetchContentByStore(projection, store, null, pageable, limit);
+  }
+
+  private <T> List<T> fetchContentByStore(Expression<T> projection, Store store,
+      ThemeFilter filter, Pageable pageable, long limit) {
+    QTheme theme = QTheme.theme;
+
+    JPAQuery<T> query = jpaQueryFactory.select(projection)
+        .from(theme)
+        .where(theme.store.eq(store)
+            .and(theme.themeStatus.eq(ThemeStatus.ACTIVE)))
+        .where(themeFilter(filter))
         .offset(pageable.getOffset())
-        .limit(pageable.getPageSize());
+        .limit(limit);
 
     for (Sort.Order order : pageable.getSort()) {
       PathBuilder<Theme> pathBuilder = new PathBuilder<>(theme.getType(), theme.getMetadata());
@@ -55,15 +143,124 @@ public class ThemeRepositoryImpl implements ThemeRepositoryCustom {
       ));
     }
 
-    JPAQuery<Long> total = jpaQueryFactory.select(theme.count())
+    return query.fetch();
+  }
+
+  /**
+   * 스토어의 활성화된 테마 수를 조회합니다.
+   *
+   * @param store 조회할 스토어 객체
+   * @return 테마 수
+   */
+  @Override
+  public long countActiveByStore(Store store) {
+    QTheme theme = QTheme.theme;
+
+    Long total = jpaQueryFactory.select(theme.count())
         .from(theme)
         .where(theme.store.eq(store)
-            .and(theme.themeStatus.eq(ThemeStatus.ACTIVE)));
+            .and(theme.themeStatus.eq(ThemeStatus.ACTIVE)))
+        .fetchOne();
+    return Optional.ofNullable(total).orElse(0L);
+  }
 
-    List<Theme> results = query.fetch();
+  /**
+   * 활성화된 스토어의 활성화된 테마를 모두 조회합니다. (테마 탐색 색인 생성용, 필요한 컬럼만 읽음)
+   *
+   * @return 테마 탐색 프로젝션 목록
+   */
+  @Override
+  public List<ThemeDiscoveryProjection> findAllActiveForDiscovery() {
+    QTheme theme = QTheme.theme;
+    QStore store = QStore.store;
 
-    return PageableExecutionUtils.getPage(results, pageable,
-        () -> Optional.ofNullable(total.fetchOne()).orElse(0L));
+    return jpaQueryFactory.select(Projections.constructor(ThemeDiscoveryProjection.class,
+            theme.id, store.id, store.name, store.storeRegion, theme.title, theme.themeImage,
+            theme.themeType, theme.level, theme.minPlayer, theme.maxPlayer, theme.price))
+        .from(theme)
+        .innerJoin(theme.store, store)
+        .where(theme.themeStatus.eq(ThemeStatus.ACTIVE)
+            .and(store.storeStatus.eq(StoreStatus.ACTIVE)))
+        .fetch();
+  }
+
+  /**
+   * 활성화된 스토어의 활성화된 테마 이름과 좋아요 수를 모두 조회합니다. (자동완성 색인 생성용)
+   *
+   * @return 테마 이름 프로젝션 목록
+   */
+  @Override
+  public List<ThemeNameProjection> findAllActiveNames() {
+    QTheme theme = QTheme.theme;
+    QStore store = QStore.store;
+
+    return jpaQueryFactory.select(Projections.constructor(ThemeNameProjection.class,
+            theme.id, store.id, theme.title, theme.recommendationCount))
+        .from(theme)
+        .innerJoin(theme.store, store)
+        .where(theme.themeStatus.eq(ThemeStatus.ACTIVE)
+            .and(store.storeStatus.eq(StoreStatus.ACTIVE)))
+        .fetch();
+  }
+
+  /**
+   * 커서 이후의 테마 목록을 조회합니다. (offset 없이 인덱스를 따라 바로 이어서 읽음)
+   *
+   * @param store   조회할 스토어 객체
+   * @param sortKey 정렬 기준
+   * @param isDesc  내림차순 여부
+   * @param cursor  마지막으로 조회한 위치, 첫 페이지는 null
+   * @param limit   조회할 최대 개수
+   * @return 정렬 기준, id 순으로 정렬된 테마 목록
+   */
+  @Override
+  public List<Theme> findByStoreAfterCursor(Store store, ThemeSortKey sortKey, boolean isDesc,
+      Cursor cursor, int limit) {
+    QTheme theme = QTheme.theme;
+    Order order = isDesc ? Order.DESC : Order.ASC;
+
+    JPAQuery<Theme> query = jpaQueryFactory.selectFrom(theme)
+        .where(theme.store.eq(store)
+            .and(theme.themeStatus.eq(ThemeStatus.ACTIVE)))
+        .where(themeAfter(sortKey, isDesc, cursor))
+        .limit(limit);
+
+    if (sortKey == ThemeSortKey.TITLE) {
+      query.orderBy(new OrderSpecifier<>(order, theme.title));
+    }
+    query.orderBy(new OrderSpecifier<>(order, theme.id));
+
+    return query.fetch();
+  }
+
+  private BooleanExpression themeFilter(ThemeFilter filter) {
+    if (filter == null) {
+      return null;
+    }
+
+    QTheme theme = QTheme.theme;
+    return Expressions.allOf(
+        filter.getThemeType() == null ? null : theme.themeType.eq(filter.getThemeType()),
+        filter.getLevel() == null ? null : theme.level.eq(filter.getLevel()),
+        filter.getMinPrice() == null ? null : theme.price.goe(filter.getMinPrice()),
+        filter.getMaxPrice() == null ? null : theme.price.loe(filter.getMaxPrice()));
+  }
+
+  private BooleanExpression themeAfter(ThemeSortKey sortKey, boolean isDesc, Cursor cursor) {
+    if (cursor == null) {
+      return null;
+    }
+
+    QTheme theme = QTheme.theme;
+    Long lastId = cursor.getLastId();
+    BooleanExpression idAfter = isDesc ? theme.id.lt(lastId) : theme.id.gt(lastId);
+    if (sortKey == ThemeSortKey.ID) {
+      return idAfter;
+    }
+
+    String lastTitle = cursor.getLastValue();
+    BooleanExpression titleAfter = isDesc ? theme.title.lt(lastTitle) : theme.title.gt(lastTitle);
+    return titleAfter.or(theme.title.eq(lastTitle).and(idAfter));
   }
 
   /**
@@ -107,4 +304,20 @@ public class ThemeRepositoryImpl implements ThemeRepositoryCustom {
     return Optional.ofNullable(query.fetchFirst()).orElseThrow(() ->
         new ThemeException(ThemeErrorCode.THEME_NOT_FOUND));
   }
+
+  /**
+   * 테마의 좋아요 수 컬럼을 갱신합니다.
+   *
+   * @param themeId             테마 ID
+   * @param recommendationCount 좋아요 수
+   */
+  @Override
+  public void updateRecommendationCount(Long themeId, long recommendationCount) {
+    QTheme theme = QTheme.theme;
+
+    jpaQueryFactory.update(theme)
+        .set(theme.recommendationCount, recommendationCount)
+        .where(theme.id.eq(themeId))
+        .execute();
+  }
 }
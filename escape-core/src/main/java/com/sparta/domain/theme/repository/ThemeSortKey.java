@@ -0,0 +1,29 @@
+package com.sparta.domain.theme.repository;
+
+import com.sparta.domain.theme.entity.Theme;
+import com.sparta.global.exception.customException.PageException;
+import com.sparta.global.exception.errorCode.PageErrorCode;
+import java.util.Arrays;
+import java.util.function.Function;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 커서 조회에서 허용하는 테마 정렬 기준 (인덱스가 있는 컬럼만)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ThemeSortKey {
+  ID("id", theme -> String.valueOf(theme.getId())),
+  TITLE("title", Theme::getTitle);
+
+  private final String property;
+  private final Function<Theme, String> valueExtractor;
+
+  public static ThemeSortKey from(String property) {
+    return Arrays.stream(values())
+        .filter(sortKey -> sortKey.property.equals(property))
+        .findFirst()
+        .orElseThrow(() -> new PageException(PageErrorCode.INVALID_SORT_KEY));
+  }
+}
@@ -6,6 +6,7 @@ import com.sparta.global.exception.customException.ThemeTimeException;
 import com.sparta.global.exception.errorCode.ThemeTimeErrorCode;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ThemeTimeRepository extends JpaRepository<ThemeTime, Long>, ThemeTimeRepositoryCustom {
@@ -13,6 +14,8 @@ public interface ThemeTimeRepository extends JpaRepository<ThemeTime, Long>, The
 
     List<ThemeTime> findAllByThemeId(Long themeId);
 
+    List<ThemeTime> findAllByUpdatedAtGreaterThanEqual(LocalDateTime updatedAt);
+
     default ThemeTime findByIdOrElse(Long themeId){
         return findById(themeId).orElseThrow(() ->
                 new ThemeTimeException(ThemeTimeErrorCode.THEME_TIME_NOT_FOUND));
@@ -11,6 +11,12 @@ public interface ThemeTimeRepositoryCustom {
 
     List<ThemeTime> findThemeTimesByDate(Long themeId, LocalDate date);
 
+    List<ThemeTime> findThemeTimesBetween(Long themeId, LocalDate from, LocalDate to);
+
+    List<ThemeTime> findThemeTimesFrom(LocalDate from);
+
+    List<ThemeTime> findAllThemeTimesBetween(LocalDate from, LocalDate to);
+
     ThemeTime findThemeTimeOfActiveStore(Long themeTimeId);
 
     ThemeTime checkStoreAndThemeActive(Long themeTimeId);
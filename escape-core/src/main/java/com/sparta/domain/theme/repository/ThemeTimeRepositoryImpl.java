@@ -44,6 +44,56 @@ public class ThemeTimeRepositoryImpl implements ThemeTimeRepositoryCustom {
         .fetch();
   }
 
+  /**
+   * 기간과 테마 ID를 기반으로 테마 시간 목록을 조회합니다. (theme_id, start_time 인덱스 범위 조회 한 번)
+   *
+   * @param themeId 조회할 테마 ID
+   * @param from    조회 시작 날짜
+   * @param to      조회 종료 날짜 (포함)
+   * @return 시작 시각 순으로 정렬된 테마 시간 목록
+   */
+  @Override
+  public List<ThemeTime> findThemeTimesBetween(Long themeId, LocalDate from, LocalDate to) {
+    QThemeTime themeTime = QThemeTime.themeTime;
+
+    return jpaQueryFactory.selectFrom(themeTime)
+        .where(themeTime.theme.id.eq(themeId)
+            .and(themeTime.startTime.between(from.atStartOfDay(), to.atTime(LocalTime.MAX))))
+        .orderBy(themeTime.startTime.asc())
+        .fetch();
+  }
+
+  /**
+   * 해당 날짜 이후에 시작하는 모든 테마 시간 목록을 조회합니다. (검색 서버 읽기 모델 초기 적재용)
+   *
+   * @param from 조회 시작 날짜
+   * @return 조회된 테마 시간 목록
+   */
+  @Override
+  public List<ThemeTime> findThemeTimesFrom(LocalDate from) {
+    QThemeTime themeTime = QThemeTime.themeTime;
+
+    return jpaQueryFactory.selectFrom(themeTime)
+        .where(themeTime.startTime.goe(from.atStartOfDay()))
+        .fetch();
+  }
+
+  /**
+   * 기간 안에 시작하는 모든 테마의 테마 시간 목록을 조회합니다. (검색 서버 스냅샷 작성용)
+   *
+   * @param from 조회 시작 날짜
+   * @param to   조회 종료 날짜 (포함)
+   * @return 조회된 테마 시간 목록
+   */
+  @Override
+  public List<ThemeTime> findAllThemeTimesBetween(LocalDate from, LocalDate to) {
+    QThemeTime themeTime = QThemeTime.themeTime;
+
+    return jpaQueryFactory.selectFrom(themeTime)
+        .where(themeTime.startTime.between(from.atStartOfDay(), to.atTime(LocalTime.MAX)))
+        .fetch();
+  }
+
   /**
    * 활성화된 스토어의 테마 시간 ID를 기반으로 테마 시간 정보를 조회합니다.
    *
@@ -0,0 +1,168 @@
+package com.sparta.domain.theme.service;
+
+import com.sparta.domain.theme.dto.ThemeAvailability;
+import com.sparta.domain.theme.entity.ThemeTime;
+import com.sparta.domain.theme.repository.ThemeTimeRepository;
+import com.sparta.global.util.TransactionUtil;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 테마별, 날짜별 예약 시간대 스냅샷 캐시 (Redis)
+ * <p>
+ * 시간대 생성/수정/삭제와 예약, 결제, 취소로 상태가 바뀌면 커밋 후 해당 날짜 스냅샷을 지우고 버전을 올린다. 조회는 스냅샷을 읽고, 없으면
+ * DB 에서 새로 만들어 저장한다.
+ * <p>
+ * 조회 전에 읽은 버전이 저장 시점에도 같을 때만 저장 (그 사이에 무효화됐다면 이전 상태로 읽은 스냅샷이므로 버림)
+ */
+@Component
+@RequiredArgsConstructor
+public class ThemeAvailabilityCache {
+
+  private static final String AVAILABILITY_PREFIX = "availability:";
+  private static final String VERSION_PREFIX = "availability:version:";
+  private static final long AVAILABILITY_TTL_MILLIS = TimeUnit.DAYS.toMillis(7);
+  // 버전 키는 스냅샷보다 오래 남겨 만료된 뒤 다시 0 부터 세지 않도록 함
+  private static final long VERSION_TTL_MILLIS = TimeUnit.DAYS.toMillis(8);
+
+  private static final RedisScript<Long> EVICT_SCRIPT = RedisScript.of(
+      "redis.call('DEL', KEYS[1]) "
+          + "redis.call('INCR', KEYS[2]) "
+          + "redis.call('PEXPIRE', KEYS[2], ARGV[1]) "
+          + "return 1", Long.class);
+
+  // 읽은 버전이 그대로일 때만 저장
+  private static final RedisScript<Long> PUT_IF_VERSION_SCRIPT = RedisScript.of(
+      "if tonumber(redis.call('GET', KEYS[2]) or '0') ~= tonumber(ARGV[1]) then return 0 end "
+          + "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) "
+          + "return 1", Long.class);
+
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final ThemeTimeRepository themeTimeRepository;
+
+  /**
+   * 스냅샷 조회 (없으면 DB 에서 생성 후 저장)
+   *
+   * @param themeId 테마 id
+   * @param date    날짜
+   * @return 스냅샷
+   */
+  public ThemeAvailability get(Long themeId, LocalDate date) {
+    Object cached = redisTemplate.opsForValue().get(key(themeId, date));
+    if (cached instanceof ThemeAvailability availability) {
+      return availability;
+    }
+    return load(themeId, date);
+  }
+
+  /**
+   * 기간의 스냅샷 조회
+   * <p>
+   * 한 번에 모든 날짜를 읽고(MGET), 없는 날짜만 범위 쿼리 한 번으로 만들어 저장
+   *
+   * @param themeId 테마 id
+   * @param from    시작 날짜
+   * @param to      종료 날짜 (포함)
+   * @return 날짜순 스냅샷 목록
+   */
+  public List<ThemeAvailability> getRange(Long themeId, LocalDate from, LocalDate to) {
+    List<LocalDate> dates = from.datesUntil(to.plusDays(1)).toList();
+    List<Object> cached = redisTemplate.opsForValue()
+        .multiGet(dates.stream().map(date -> key(themeId, date)).toList());
+
+    List<LocalDate> missingDates = new ArrayList<>();
+    for (int i = 0; i < dates.size(); i++) {
+      if (cached == null || !(cached.get(i) instanceof ThemeAvailability)) {
+        missingDates.add(dates.get(i));
+      }
+    }
+
+    Map<LocalDate, ThemeAvailability> loaded = missingDates.isEmpty() ? Map.of()
+        : loadRange(themeId, missingDates);
+
+    List<ThemeAvailability> result = new ArrayList<>(dates.size());
+    for (int i = 0; i < dates.size(); i++) {
+      Object availability = cached == null ? null : cached.get(i);
+      result.add(availability instanceof ThemeAvailability hit ? hit : loaded.get(dates.get(i)));
+    }
+    return result;
+  }
+
+  /**
+   * 테마 시간대가 바뀐 날짜의 스냅샷 무효화 (트랜잭션 안이면 커밋 후)
+   *
+   * @param themeTime 변경된 테마 시간대
+   */
+  public void evict(ThemeTime themeTime) {
+    evict(themeTime.getTheme().getId(), themeTime.getStartTime().toLocalDate());
+  }
+
+  /**
+   * 스냅샷 무효화 (트랜잭션 안이면 커밋 후, 다음 조회 때 DB 에서 다시 만듦)
+   *
+   * @param themeId 테마 id
+   * @param date    날짜
+   */
+  public void evict(Long themeId, LocalDate date) {
+    TransactionUtil.afterCommit(() -> redisTemplate.execute(EVICT_SCRIPT,
+        List.of(key(themeId, date), versionKey(themeId, date)), VERSION_TTL_MILLIS));
+  }
+
+  private ThemeAvailability load(Long themeId, LocalDate date) {
+    long version = toVersion(redisTemplate.opsForValue().get(versionKey(themeId, date)));
+    ThemeAvailability availability = ThemeAvailability.of(themeId, date,
+        themeTimeRepository.findThemeTimesByDate(themeId, date));
+    putIfVersion(themeId, date, version, availability);
+    return availability;
+  }
+
+  private Map<LocalDate, ThemeAvailability> loadRange(Long themeId, List<LocalDate> dates) {
+    List<Object> versions = redisTemplate.opsForValue()
+        .multiGet(dates.stream().map(date -> versionKey(themeId, date)).toList());
+
+    LocalDate from = dates.get(0);
+    LocalDate to = dates.get(dates.size() - 1);
+    Map<LocalDate, List<ThemeTime>> themeTimesByDate = themeTimeRepository
+        .findThemeTimesBetween(themeId, from, to).stream()
+        .collect(Collectors.groupingBy(themeTime -> themeTime.getStartTime().toLocalDate()));
+
+    Map<LocalDate, ThemeAvailability> loaded = new HashMap<>();
+    for (int i = 0; i < dates.size(); i++) {
+      LocalDate date = dates.get(i);
+      ThemeAvailability availability = ThemeAvailability.of(themeId, date,
+          themeTimesByDate.getOrDefault(date, List.of()));
+      putIfVersion(themeId, date, toVersion(versions == null ? null : versions.get(i)),
+          availability);
+      loaded.put(date, availability);
+    }
+    return loaded;
+  }
+
+  private void putIfVersion(Long themeId, LocalDate date, long version,
+      ThemeAvailability availability) {
+    redisTemplate.execute(PUT_IF_VERSION_SCRIPT,
+        List.of(key(themeId, date), versionKey(themeId, date)), version, availability,
+        AVAILABILITY_TTL_MILLIS);
+  }
+
+  private static long toVersion(Object version) {
+    return version instanceof Number number ? number.longValue() : 0L;
+  }
+
+  private String key(Long themeId, LocalDate date) {
+    return AVAILABILITY_PREFIX + themeId + ":" + date;
+  }
+
+  private String versionKey(Long themeId, LocalDate date) {
+    return VERSION_PREFIX + themeId + ":" + date;
+  }
+}
@@ -0,0 +1,38 @@
+package com.sparta.global.cache;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Redis(L2) 에 저장하는 캐시 값 (값과 함께 논리 만료 시각, 계산에 걸린 시간을 기록해 만료 전 미리 갱신할 때 사용)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CacheEntry {
+
+  private Object value;
+  private long storedAt;
+  // 이 시각이 지나면 갱신 대상 (Redis TTL 은 여기에 유예 시간을 더해 그동안은 이전 값으로 응답 가능)
+  private long expiresAt;
+  private long computeMillis;
+
+  boolean expired(long now) {
+    return now >= expiresAt;
+  }
+
+  /**
+   * 만료 전 미리 갱신할지 여부
+   * <p>
+   * 저장 후 refreshAheadRatio 만큼 지났거나, XFetch 확률 조건(now - 계산 시간 * beta * ln(rand) >= 만료 시각)을 만족하면 갱신.
+   * 계산이 오래 걸리는 값일수록, 만료가 가까울수록 일찍 갱신될 확률이 커짐
+   */
+  boolean shouldRefresh(long now, double refreshAheadRatio, double beta, double random) {
+    if (now >= storedAt + (long) ((expiresAt - storedAt) * refreshAheadRatio)) {
+      return true;
+    }
+    return now - computeMillis * beta * Math.log(random) >= expiresAt;
+  }
+}
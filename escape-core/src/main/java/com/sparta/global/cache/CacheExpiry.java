@@ -0,0 +1,47 @@
+package com.sparta.global.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redis(L2) 캐시 만료 설정
+ * <p>
+ * 캐시마다 TTL 을 두고, 같은 시각에 채운 값이 한꺼번에 만료되지 않도록 저장할 때마다 TTL 을 jitterRatio 만큼 무작위로 줄임. 논리
+ * 만료 후에도 staleGrace 동안은 Redis 에 남겨 한 인스턴스가 다시 계산하는 동안 나머지는 이전 값으로 응답
+ */
+@Getter
+@RequiredArgsConstructor
+public class CacheExpiry {
+
+  private final Duration defaultTtl;
+  private final Map<String, Duration> ttls;
+  private final double jitterRatio;
+  private final double refreshAheadRatio;
+  // XFetch 가중치 (클수록 일찍 갱신)
+  private final double beta;
+  private final Duration staleGrace;
+  private final Duration lockTtl;
+
+  public Duration ttl(String cacheName) {
+    return ttls.getOrDefault(cacheName, defaultTtl);
+  }
+
+  /**
+   * Redis 에 설정할 실제 TTL
+   */
+  public Duration redisTtl(String cacheName) {
+    return ttl(cacheName).plus(staleGrace);
+  }
+
+  /**
+   * 이번에 저장할 값의 논리 TTL (ms, jitter 적용)
+   */
+  long jitteredTtlMillis(String cacheName) {
+    long ttlMillis = ttl(cacheName).toMillis();
+    double jitter = jitterRatio * ThreadLocalRandom.current().nextDouble();
+    return Math.max(1, (long) (ttlMillis * (1 - jitter)));
+  }
+}
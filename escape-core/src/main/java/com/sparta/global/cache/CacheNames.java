@@ -0,0 +1,25 @@
+package com.sparta.global.cache;
+
+/**
+ * 검색 응답 캐시 이름 (L1 Caffeine + L2 Redis)
+ */
+public class CacheNames {
+
+  public static final String STORE_DETAIL = "storeDetail";
+  public static final String THEME_LIST = "themeList";
+  public static final String THEME_INFO = "themeInfo";
+
+  private CacheNames() {
+  }
+
+  /**
+   * 테마 단위 캐시 키 (테마 상세)
+   *
+   * @param storeId 스토어 id
+   * @param themeId 테마 id
+   * @return 캐시 키
+   */
+  public static String themeKey(Long storeId, Long themeId) {
+    return storeId + ":" + themeId;
+  }
+}
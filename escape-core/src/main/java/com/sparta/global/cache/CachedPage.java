@@ -0,0 +1,42 @@
+package com.sparta.global.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 캐시에 저장하는 페이지 (Page 는 역직렬화가 되지 않으므로 내용과 페이징 정보만 저장하고 꺼낼 때 다시 생성)
+ *
+ * @param <T> 내용 타입
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CachedPage<T> {
+
+  private ArrayList<T> content;
+  private int pageNumber;
+  private int pageSize;
+  private long totalElements;
+
+  public CachedPage(Page<T> page) {
+    this.content = new ArrayList<>(page.getContent());
+    this.pageNumber = page.getNumber();
+    this.pageSize = page.getSize();
+    this.totalElements = page.getTotalElements();
+  }
+
+  /**
+   * @param sort 원래 요청의 정렬 기준
+   * @return 페이지
+   */
+  public Page<T> toPage(Sort sort) {
+    return new PageImpl<>(List.copyOf(content), PageRequest.of(pageNumber, Math.max(pageSize, 1), sort),
+        totalElements);
+  }
+}
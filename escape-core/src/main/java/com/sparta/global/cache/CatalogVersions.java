@@ -0,0 +1,127 @@
+package com.sparta.global.cache;
+
+import java.util.Arrays;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 응답 버전 (마지막 변경 시각, epoch millis)
+ * <p>
+ * 변경 작업은 SearchCacheInvalidator 를 통해 커밋 후 버전을 올리고, 검색 서버는 이 값으로 ETag / Last-Modified 를 만들어
+ * 클라이언트 사본이 최신이면 DB, kafka 를 거치지 않고 304 로 응답
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogVersions {
+
+  private static final String PREFIX = "catalog:version:";
+  private static final String STORES_KEY = PREFIX + "stores";
+  private static final String THEMES_KEY = PREFIX + "themes";
+
+  // 서버 간 시계가 어긋나도 버전이 되돌아가지 않도록 max(현재 시각, 이전 값 + 1) 로 올림
+  private static final DefaultRedisScript<Long> TOUCH_SCRIPT = new DefaultRedisScript<>(
+      "for i, key in ipairs(KEYS) do "
+          + "local current = tonumber(redis.call('GET', key) or '0') "
+          + "redis.call('SET', key, math.max(tonumber(ARGV[1]), current + 1)) end "
+          + "return 1", Long.class);
+
+  private final StringRedisTemplate stringRedisTemplate;
+
+  public void touchStore(Long storeId) {
+    touch(storeKey(storeId), STORES_KEY);
+  }
+
+  public void touchTheme(Long storeId, Long themeId) {
+    touch(themeKey(themeId), themesKey(storeId), THEMES_KEY);
+  }
+
+  public void touchReviews(Long storeId, Long themeId) {
+    touch(reviewsKey(themeId), storeReviewsKey(storeId));
+  }
+
+  /**
+   * 스토어 목록 버전 (어느 스토어든 바뀌면 올라감)
+   */
+  public long storeListVersion() {
+    return read(STORES_KEY);
+  }
+
+  /**
+   * 전체 테마 목록 버전 (어느 스토어나 테마든 바뀌면 올라감)
+   */
+  public long allThemesVersion() {
+    return read(STORES_KEY, THEMES_KEY);
+  }
+
+  public long storeVersion(Long storeId) {
+    return read(storeKey(storeId));
+  }
+
+  /**
+   * 스토어의 테마 목록 버전 (스토어 자체 또는 하위 테마가 바뀌면 올라감)
+   */
+  public long themeListVersion(Long storeId) {
+    return read(storeKey(storeId), themesKey(storeId));
+  }
+
+  /**
+   * 테마 리뷰 버전 (스토어, 테마, 리뷰 중 하나라도 바뀌면 올라감)
+   */
+  public long reviewsVersion(Long storeId, Long themeId) {
+    return read(storeKey(storeId), themeKey(themeId), reviewsKey(themeId));
+  }
+
+  /**
+   * 스토어 리뷰 버전 (스토어, 하위 테마, 스토어의 어느 리뷰든 바뀌면 올라감)
+   */
+  public long storeReviewsVersion(Long storeId) {
+    return read(storeKey(storeId), themesKey(storeId), storeReviewsKey(storeId));
+  }
+
+  private void touch(String... keys) {
+    stringRedisTemplate.execute(TOUCH_SCRIPT, Arrays.asList(keys),
+        String.valueOf(System.currentTimeMillis()));
+  }
+
+  /**
+   * 여러 버전 중 가장 최근 값, 아직 없는 키는 지금 시각으로 채움 (배포 직후 첫 요청은 한 번 새로 받음)
+   */
+  private long read(String... keys) {
+    List<String> values = stringRedisTemplate.opsForValue().multiGet(Arrays.asList(keys));
+    long now = System.currentTimeMillis();
+    long version = 0;
+    for (int i = 0; i < keys.length; i++) {
+      String value = values == null ? null : values.get(i);
+      if (value == null) {
+        stringRedisTemplate.opsForValue().setIfAbsent(keys[i], String.valueOf(now));
+        version = Math.max(version, now);
+      } else {
+        version = Math.max(version, Long.parseLong(value));
+      }
+    }
+    return version;
+  }
+
+  private static String storeKey(Long storeId) {
+    return PREFIX + "store:" + storeId;
+  }
+
+  private static String themesKey(Long storeId) {
+    return PREFIX + "themes:" + storeId;
+  }
+
+  private static String themeKey(Long themeId) {
+    return PREFIX + "theme:" + themeId;
+  }
+
+  private static String reviewsKey(Long themeId) {
+    return PREFIX + "reviews:" + themeId;
+  }
+
+  private static String storeReviewsKey(Long storeId) {
+    return PREFIX + "store-reviews:" + storeId;
+  }
+}
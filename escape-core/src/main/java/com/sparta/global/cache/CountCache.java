@@ -0,0 +1,77 @@
+package com.sparta.global.cache;
+
+import com.sparta.global.util.TransactionUtil;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 결과 전체 개수 캐시 (Redis)
+ * <p>
+ * 네임스페이스마다 버전 키를 두고 캐시 키에 버전을 포함시켜, 무효화는 버전 증가 한 번으로 처리 (이전 버전 키는 TTL 로 만료)
+ */
+@Component
+@RequiredArgsConstructor
+public class CountCache {
+
+  public static final String STORE_NAMESPACE = "store";
+
+  private static final String COUNT_PREFIX = "count:";
+
+  private final RedisTemplate<String, Object> redisTemplate;
+
+  @Value("${search.count-cache.ttl-seconds:30}")
+  private long ttlSeconds;
+
+  /**
+   * 캐시된 개수 조회, 없으면 계산 후 저장
+   *
+   * @param namespace 무효화 단위 (ex. store, theme:1)
+   * @param key       검색 조건
+   * @param loader    개수 계산
+   * @return 전체 개수
+   */
+  public long get(String namespace, String key, LongSupplier loader) {
+    String cacheKey = COUNT_PREFIX + namespace + ":v" + currentVersion(namespace) + ":" + key;
+
+    Object cached = redisTemplate.opsForValue().get(cacheKey);
+    if (cached instanceof Number count) {
+      return count.longValue();
+    }
+
+    long count = loader.getAsLong();
+    redisTemplate.opsForValue().set(cacheKey, count, ttlSeconds, TimeUnit.SECONDS);
+    return count;
+  }
+
+  /**
+   * 네임스페이스의 캐시 무효화 (트랜잭션 안이면 커밋 후)
+   *
+   * @param namespace 무효화 단위
+   */
+  public void evict(String namespace) {
+    TransactionUtil.afterCommit(() -> redisTemplate.opsForValue().increment(versionKey(namespace)));
+  }
+
+  /**
+   * 스토어별 테마 개수 네임스페이스
+   *
+   * @param storeId 스토어 id
+   * @return 네임스페이스
+   */
+  public static String themeNamespace(Long storeId) {
+    return "theme:" + storeId;
+  }
+
+  private long currentVersion(String namespace) {
+    Object version = redisTemplate.opsForValue().get(versionKey(namespace));
+    return version instanceof Number number ? number.longValue() : 0L;
+  }
+
+  private String versionKey(String namespace) {
+    return COUNT_PREFIX + namespace + ":version";
+  }
+}
@@ -0,0 +1,57 @@
+package com.sparta.global.cache;
+
+import com.sparta.global.util.TransactionUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 응답 캐시 무효화 (트랜잭션 안이면 커밋 후)
+ * <p>
+ * 매니저/어드민/사용자 서버의 변경 작업에서 호출하며, L2 삭제 후 pub/sub 으로 모든 검색 서버의 L1 도 지우고 응답 버전(ETag)을 올림
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchCacheInvalidator {
+
+  private final CacheManager cacheManager;
+  private final CatalogVersions catalogVersions;
+
+  /**
+   * 스토어 변경 (스토어 상태가 바뀌면 하위 테마 응답도 달라지므로 테마 캐시 전체 삭제)
+   *
+   * @param storeId 스토어 id
+   */
+  public void evictStore(Long storeId) {
+    TransactionUtil.afterCommit(() -> {
+      cacheManager.getCache(CacheNames.STORE_DETAIL).evict(storeId);
+      cacheManager.getCache(CacheNames.THEME_LIST).clear();
+      cacheManager.getCache(CacheNames.THEME_INFO).clear();
+      catalogVersions.touchStore(storeId);
+    });
+  }
+
+  /**
+   * 테마 변경 (목록 캐시는 페이지 조건별 키라 전체 삭제)
+   *
+   * @param storeId 스토어 id
+   * @param themeId 테마 id
+   */
+  public void evictTheme(Long storeId, Long themeId) {
+    TransactionUtil.afterCommit(() -> {
+      cacheManager.getCache(CacheNames.THEME_INFO).evict(CacheNames.themeKey(storeId, themeId));
+      cacheManager.getCache(CacheNames.THEME_LIST).clear();
+      catalogVersions.touchTheme(storeId, themeId);
+    });
+  }
+
+  /**
+   * 리뷰 변경
+   *
+   * @param storeId 스토어 id
+   * @param themeId 테마 id
+   */
+  public void evictReviews(Long storeId, Long themeId) {
+    TransactionUtil.afterCommit(() -> catalogVersions.touchReviews(storeId, themeId));
+  }
+}
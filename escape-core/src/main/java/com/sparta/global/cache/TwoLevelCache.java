@@ -0,0 +1,307 @@
+package com.sparta.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 인스턴스 안의 Caffeine(L1) 과 Redis(L2) 를 묶은 캐시
+ * <p>
+ * 조회는 L1 → L2 순서로 하고 L2 에서 찾은 값은 L1 에 채움. 삭제는 L2 를 지운 뒤 pub/sub 으로 모든 인스턴스에 알려 각자의 L1 을
+ * 지우도록 함 (L1 키는 L2 와 같이 문자열로 통일)
+ * <p>
+ * L2 값은 {@link CacheEntry} 로 감싸 논리 만료 시각을 함께 저장. 만료가 가까워지면(refresh-ahead, XFetch) Redis 락을 잡은
+ * 인스턴스 하나만 백그라운드에서 다시 계산하고, 논리 만료가 지난 값은 락을 잡은 요청만 다시 계산하는 동안 나머지 요청은 이전 값으로 응답해
+ * 모든 인스턴스가 한꺼번에 DB 를 조회하지 않도록 함
+ */
+@Slf4j
+public class TwoLevelCache implements org.springframework.cache.Cache {
+
+  static final String CLEAR_ALL = "";
+  static final String MESSAGE_DELIMITER = "\t";
+
+  private static final String LOCK_PREFIX = "cache:lock:";
+  // 자신이 잡은 락만 해제
+  private static final RedisScript<Long> UNLOCK_SCRIPT = RedisScript.of(
+      "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) "
+          + "else return 0 end", Long.class);
+
+  private final String name;
+  private final Cache<String, ValueWrapper> localCache;
+  private final org.springframework.cache.Cache redisCache;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final String invalidationChannel;
+  private final CacheExpiry expiry;
+  private final Executor refreshExecutor;
+  private final TransactionTemplate refreshTransaction;
+
+  private final LongAdder localHits = new LongAdder();
+  private final LongAdder remoteHits = new LongAdder();
+  private final LongAdder staleHits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder refreshes = new LongAdder();
+  private final LongAdder refreshFailures = new LongAdder();
+
+  public TwoLevelCache(String name, Cache<String, ValueWrapper> localCache,
+      org.springframework.cache.Cache redisCache, StringRedisTemplate stringRedisTemplate,
+      String invalidationChannel, CacheExpiry expiry, Executor refreshExecutor,
+      TransactionTemplate refreshTransaction) {
+    this.name = name;
+    this.localCache = localCache;
+    this.redisCache = redisCache;
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.invalidationChannel = invalidationChannel;
+    this.expiry = expiry;
+    this.refreshExecutor = refreshExecutor;
+    this.refreshTransaction = refreshTransaction;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public Object getNativeCache() {
+    return this;
+  }
+
+  /**
+   * 조회 (다시 계산할 방법이 없으므로 논리 만료가 지난 값은 없는 것으로 처리)
+   */
+  @Override
+  public ValueWrapper get(Object key) {
+    String localKey = String.valueOf(key);
+    ValueWrapper local = localCache.getIfPresent(localKey);
+    if (local != null) {
+      localHits.increment();
+      return local;
+    }
+
+    CacheEntry entry = getRemote(key);
+    if (entry == null || entry.expired(System.currentTimeMillis())) {
+      misses.increment();
+      return null;
+    }
+    remoteHits.increment();
+    ValueWrapper remote = new SimpleValueWrapper(entry.getValue());
+    localCache.put(localKey, remote);
+    return remote;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key, Class<T> type) {
+    ValueWrapper wrapper = get(key);
+    Object value = wrapper == null ? null : wrapper.get();
+    if (value != null && type != null && !type.isInstance(value)) {
+      throw new IllegalStateException(
+          "캐시 값의 타입이 다릅니다. [" + type.getName() + "] : " + value);
+    }
+    return (T) value;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key, Callable<T> valueLoader) {
+    ValueWrapper local = localCache.getIfPresent(String.valueOf(key));
+    if (local != null) {
+      localHits.increment();
+      return (T) local.get();
+    }
+
+    CacheEntry entry = getRemote(key);
+    if (entry == null) {
+      misses.increment();
+      return load(key, valueLoader);
+    }
+
+    long now = System.currentTimeMillis();
+    if (entry.expired(now)) {
+      // 락을 잡은 요청 하나만 다시 계산하고 나머지는 이전 값으로 응답
+      String token = tryLock(key);
+      if (token == null) {
+        staleHits.increment();
+        return (T) entry.getValue();
+      }
+      misses.increment();
+      try {
+        return load(key, valueLoader);
+      } finally {
+        unlock(key, token);
+      }
+    }
+
+    remoteHits.increment();
+    if (entry.shouldRefresh(now, expiry.getRefreshAheadRatio(), expiry.getBeta(),
+        1 - ThreadLocalRandom.current().nextDouble())) {
+      refreshInBackground(key, valueLoader);
+    }
+    localCache.put(String.valueOf(key), new SimpleValueWrapper(entry.getValue()));
+    return (T) entry.getValue();
+  }
+
+  @Override
+  public void put(Object key, Object value) {
+    putRemote(key, value, 0);
+    localCache.put(String.valueOf(key), new SimpleValueWrapper(value));
+  }
+
+  @Override
+  public void evict(Object key) {
+    redisCache.evict(key);
+    localCache.invalidate(String.valueOf(key));
+    publish(String.valueOf(key));
+  }
+
+  @Override
+  public void clear() {
+    redisCache.clear();
+    localCache.invalidateAll();
+    publish(CLEAR_ALL);
+  }
+
+  /**
+   * 다른 인스턴스에서 받은 무효화 메시지를 L1 에만 반영
+   *
+   * @param key 삭제할 키, 빈 문자열이면 전체
+   */
+  void evictLocal(String key) {
+    if (CLEAR_ALL.equals(key)) {
+      localCache.invalidateAll();
+    } else {
+      localCache.invalidate(key);
+    }
+  }
+
+  public long getLocalHitCount() {
+    return localHits.sum();
+  }
+
+  public long getRemoteHitCount() {
+    return remoteHits.sum();
+  }
+
+  public long getStaleHitCount() {
+    return staleHits.sum();
+  }
+
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  public long getRefreshCount() {
+    return refreshes.sum();
+  }
+
+  public long getRefreshFailureCount() {
+    return refreshFailures.sum();
+  }
+
+  private <T> T load(Object key, Callable<T> valueLoader) {
+    long startedAt = System.currentTimeMillis();
+    T value;
+    try {
+      value = valueLoader.call();
+    } catch (RuntimeException e) {
+      // 조회 중 발생한 예외(ex. 없는 스토어)는 그대로 전달
+      throw e;
+    } catch (Exception e) {
+      throw new ValueRetrievalException(key, valueLoader, e);
+    }
+    putRemote(key, value, System.currentTimeMillis() - startedAt);
+    localCache.put(String.valueOf(key), new SimpleValueWrapper(value));
+    return value;
+  }
+
+  /**
+   * 만료 전 미리 갱신 (락을 잡은 인스턴스 하나만, 요청 스레드를 기다리게 하지 않도록 백그라운드에서)
+   */
+  private void refreshInBackground(Object key, Callable<?> valueLoader) {
+    String token = tryLock(key);
+    if (token == null) {
+      return;
+    }
+
+    try {
+      refreshExecutor.execute(() -> {
+        try {
+          // 조회 서비스의 읽기 전용 트랜잭션 밖에서 실행되므로 같은 조건의 트랜잭션으로 감쌈
+          refreshTransaction.executeWithoutResult(status -> load(key, valueLoader));
+          refreshes.increment();
+        } catch (RuntimeException e) {
+          refreshFailures.increment();
+          log.warn("캐시 미리 갱신 실패 : {} {}", name, key, e);
+        } finally {
+          unlock(key, token);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      // 갱신 작업이 밀려 있으면 이번에는 건너뜀 (다음 조회에서 다시 시도)
+      unlock(key, token);
+    }
+  }
+
+  private CacheEntry getRemote(Object key) {
+    ValueWrapper remote = redisCache.get(key);
+    if (remote == null) {
+      return null;
+    }
+    if (remote.get() instanceof CacheEntry entry) {
+      return entry;
+    }
+    // 만료 정보 없이 저장된 이전 형식 값은 바로 갱신 대상
+    long now = System.currentTimeMillis();
+    return new CacheEntry(remote.get(), now, now, 0);
+  }
+
+  private void putRemote(Object key, Object value, long computeMillis) {
+    long now = System.currentTimeMillis();
+    redisCache.put(key,
+        new CacheEntry(value, now, now + expiry.jitteredTtlMillis(name), computeMillis));
+  }
+
+  private String tryLock(Object key) {
+    String token = UUID.randomUUID().toString();
+    try {
+      Boolean locked = stringRedisTemplate.opsForValue()
+          .setIfAbsent(lockKey(key), token, expiry.getLockTtl());
+      return Boolean.TRUE.equals(locked) ? token : null;
+    } catch (RuntimeException e) {
+      log.warn("캐시 갱신 락 획득 실패 : {} {}", name, key, e);
+      return null;
+    }
+  }
+
+  private void unlock(Object key, String token) {
+    try {
+      stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey(key)), token);
+    } catch (RuntimeException e) {
+      // 풀지 못한 락은 lockTtl 뒤 만료
+      log.warn("캐시 갱신 락 해제 실패 : {} {}", name, key, e);
+    }
+  }
+
+  private String lockKey(Object key) {
+    return LOCK_PREFIX + name + "::" + key;
+  }
+
+  private void publish(String key) {
+    try {
+      stringRedisTemplate.convertAndSend(invalidationChannel, name + MESSAGE_DELIMITER + key);
+    } catch (RuntimeException e) {
+      // 메시지를 못 보내도 다른 인스턴스의 L1 은 TTL 안에 만료됨
+      log.warn("캐시 무효화 메시지 전송 실패 : {} {}", name, key, e);
+    }
+  }
+}
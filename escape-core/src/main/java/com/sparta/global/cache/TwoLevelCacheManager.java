@@ -0,0 +1,102 @@
+package com.sparta.global.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * {@link TwoLevelCache} 를 만들어 주는 캐시 매니저
+ * <p>
+ * 무효화 채널의 메시지를 받아 해당 캐시의 L1 을 지우는 리스너 역할도 함. 만료 전 미리 갱신은 모든 캐시가 공유하는 작은 스레드 풀에서
+ * 실행하고, 풀이 가득 차면 갱신을 건너뜀
+ */
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+  private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+  private final RedisCacheManager redisCacheManager;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final String invalidationChannel;
+  private final long localMaximumSize;
+  private final Duration localTtl;
+  private final CacheExpiry expiry;
+  private final TransactionTemplate refreshTransaction;
+  private final ThreadPoolExecutor refreshExecutor;
+
+  public TwoLevelCacheManager(RedisCacheManager redisCacheManager,
+      StringRedisTemplate stringRedisTemplate, String invalidationChannel, long localMaximumSize,
+      Duration localTtl, CacheExpiry expiry, TransactionTemplate refreshTransaction,
+      int refreshThreads) {
+    this.redisCacheManager = redisCacheManager;
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.invalidationChannel = invalidationChannel;
+    this.localMaximumSize = localMaximumSize;
+    this.localTtl = localTtl;
+    this.expiry = expiry;
+    this.refreshTransaction = refreshTransaction;
+    AtomicInteger threadNumber = new AtomicInteger();
+    this.refreshExecutor = new ThreadPoolExecutor(refreshThreads, refreshThreads, 60,
+        TimeUnit.SECONDS, new ArrayBlockingQueue<>(100), runnable -> {
+      Thread thread = new Thread(runnable, "cache-refresh-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.refreshExecutor.allowCoreThreadTimeOut(true);
+  }
+
+  @Override
+  public Cache getCache(String name) {
+    return caches.computeIfAbsent(name, this::createCache);
+  }
+
+  @Override
+  public Collection<String> getCacheNames() {
+    return Collections.unmodifiableSet(caches.keySet());
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    int delimiter = body.indexOf(TwoLevelCache.MESSAGE_DELIMITER);
+    if (delimiter < 0) {
+      return;
+    }
+
+    TwoLevelCache cache = caches.get(body.substring(0, delimiter));
+    if (cache != null) {
+      cache.evictLocal(body.substring(delimiter + 1));
+    }
+  }
+
+  public void shutdown() {
+    refreshExecutor.shutdown();
+  }
+
+  private TwoLevelCache createCache(String name) {
+    return new TwoLevelCache(name,
+        Caffeine.newBuilder()
+            .maximumSize(localMaximumSize)
+            .expireAfterWrite(localTtl)
+            .build(),
+        redisCacheManager.getCache(name),
+        stringRedisTemplate,
+        invalidationChannel,
+        expiry,
+        refreshExecutor,
+        refreshTransaction);
+  }
+}
@@ -0,0 +1,19 @@
+package com.sparta.global.event;
+
+import java.util.function.Supplier;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * kafka 로 내보낼 카탈로그(스토어, 테마, 시간대) 변경 이벤트
+ * <p>
+ * payload 가 null 이면 삭제 (compacted 토픽의 tombstone). payload 는 커밋 후에 만들어 flush 때 찍힌 updatedAt 을 담음
+ */
+@Getter
+@RequiredArgsConstructor
+public class CatalogEventMessage {
+
+  private final String topic;
+  private final String key;
+  private final Supplier<Object> payload;
+}
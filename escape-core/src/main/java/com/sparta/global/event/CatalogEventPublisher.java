@@ -0,0 +1,56 @@
+package com.sparta.global.event;
+
+import com.sparta.domain.store.entity.Store;
+import com.sparta.domain.store.event.StoreChangedEvent;
+import com.sparta.domain.theme.entity.Theme;
+import com.sparta.domain.theme.entity.ThemeTime;
+import com.sparta.domain.theme.event.SlotStatusChangedEvent;
+import com.sparta.domain.theme.event.ThemeChangedEvent;
+import com.sparta.global.kafka.KafkaTopic;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카탈로그 변경 이벤트 발행
+ * <p>
+ * 쓰기 서비스는 변경한 엔티티를 넘기기만 하고, kafka 가 있는 서버의 CatalogEventRelay 가 커밋 후 토픽으로 전송 (kafka 가 없는
+ * 서버에서는 무시됨)
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogEventPublisher {
+
+  private final ApplicationEventPublisher applicationEventPublisher;
+
+  public void storeChanged(Store store) {
+    publish(KafkaTopic.STORE_CHANGED_TOPIC, store.getId(), () -> new StoreChangedEvent(store));
+  }
+
+  public void storeDeleted(Long storeId) {
+    publish(KafkaTopic.STORE_CHANGED_TOPIC, storeId, () -> null);
+  }
+
+  public void themeChanged(Theme theme) {
+    publish(KafkaTopic.THEME_CHANGED_TOPIC, theme.getId(), () -> new ThemeChangedEvent(theme));
+  }
+
+  public void themeDeleted(Long themeId) {
+    publish(KafkaTopic.THEME_CHANGED_TOPIC, themeId, () -> null);
+  }
+
+  public void slotChanged(ThemeTime themeTime) {
+    publish(KafkaTopic.SLOT_STATUS_CHANGED_TOPIC, themeTime.getId(),
+        () -> new SlotStatusChangedEvent(themeTime));
+  }
+
+  public void slotDeleted(Long themeTimeId) {
+    publish(KafkaTopic.SLOT_STATUS_CHANGED_TOPIC, themeTimeId, () -> null);
+  }
+
+  private void publish(String topic, Long id, Supplier<Object> payload) {
+    applicationEventPublisher.publishEvent(
+        new CatalogEventMessage(topic, String.valueOf(id), payload));
+  }
+}
@@ -0,0 +1,32 @@
+package com.sparta.global.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 카탈로그 변경 이벤트를 커밋 후 kafka 토픽으로 전송 (키는 엔티티 id, 삭제는 null 값)
+ * <p>
+ * spring-kafka 의존성이 있는 서버에서만 등록되고, 없는 서버에서 발행한 이벤트는 무시됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnClass(KafkaTemplate.class)
+public class CatalogEventRelay {
+
+  private final KafkaTemplate<String, Object> kafkaTemplate;
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void relay(CatalogEventMessage message) {
+    kafkaTemplate.send(message.getTopic(), message.getKey(), message.getPayload().get())
+        .whenComplete((result, e) -> {
+          if (e != null) {
+            log.error("카탈로그 이벤트 전송 실패 : {} {}", message.getTopic(), message.getKey(), e);
+          }
+        });
+  }
+}
@@ -9,6 +9,9 @@ import org.springframework.http.HttpStatus;
 public enum KafkaErrorCode implements ErrorCode{
     KAFKA_SERVER_ERROR(HttpStatus.BAD_REQUEST.value(), "서버에 문제가 있습니다."),
     KAFKA_RESPONSE_ERROR(HttpStatus.BAD_REQUEST.value(), "서버에 문제가 있거나. 요청 데이터가 잘못되었습니다."),
+    KAFKA_TOO_MANY_REQUESTS(HttpStatus.SERVICE_UNAVAILABLE.value(), "처리 중인 요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    SEARCH_BACKEND_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE.value(), "조회 서버가 응답하지 않습니다. 잠시 후 다시 시도해주세요."),
+    SEARCH_OVERLOADED(HttpStatus.SERVICE_UNAVAILABLE.value(), "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     ;
 
@@ -9,7 +9,8 @@ import org.springframework.http.HttpStatus;
 public enum LocalDateTimeErrorCode implements ErrorCode{
     DATETIME_PARSE_ERROR(HttpStatus.BAD_REQUEST.value(), "잘못된 날짜 형식입니다."),
     INVALID_PAST_TIME(HttpStatus.BAD_REQUEST.value(), "이미 지난 시간대는 등록할 수 없습니다."),
-    INVALID_START_AND_END_TIME(HttpStatus.BAD_REQUEST.value(), "종료 시간이 시작 시간보다 빠를 수 없습니다.");
+    INVALID_START_AND_END_TIME(HttpStatus.BAD_REQUEST.value(), "종료 시간이 시작 시간보다 빠를 수 없습니다."),
+    INVALID_DATE_RANGE(HttpStatus.BAD_REQUEST.value(), "조회 기간은 시작일부터 최대 62일까지 가능합니다.");
 
     private final int httpStatusCode;
     private final String errorDescription;
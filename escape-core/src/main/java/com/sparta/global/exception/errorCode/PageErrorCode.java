@@ -7,7 +7,10 @@ import org.springframework.http.HttpStatus;
 @Getter
 @RequiredArgsConstructor
 public enum PageErrorCode implements ErrorCode{
-    PAGE_NOT_FOUND(HttpStatus.NOT_FOUND.value(), "페이지를 찾을 수 없습니다.");
+    PAGE_NOT_FOUND(HttpStatus.NOT_FOUND.value(), "페이지를 찾을 수 없습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST.value(), "유효하지 않은 커서입니다."),
+    INVALID_SORT_KEY(HttpStatus.BAD_REQUEST.value(), "지원하지 않는 정렬 기준입니다."),
+    INVALID_PAGE_SIZE(HttpStatus.BAD_REQUEST.value(), "페이지 크기는 1 이상 100 이하여야 합니다.");
 
     private final int httpStatusCode;
     private final String errorDescription;
@@ -0,0 +1,145 @@
+package com.sparta.global.kafka;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 해시 타이밍 휠
+ * <p>
+ * 요청마다 스케줄러 작업을 만들지 않고, 하나의 스레드가 tick 마다 해당 칸의 만료 작업만 처리
+ * 만료 시각의 정밀도는 tick 간격 만큼이며, 취소는 표시만 하고 해당 칸을 처리할 때 제거
+ */
+@Slf4j
+public class HashedWheelTimer {
+
+  private final long tickNanos;
+  private final List<Timeout>[] wheel;
+  private final int mask;
+  private final Queue<Timeout> newTimeouts = new ConcurrentLinkedQueue<>();
+  private final long startTime;
+  private final Thread workerThread;
+  private volatile boolean running = true;
+  private long tick;
+
+  /**
+   * @param name          타이머 스레드 이름
+   * @param tickMillis    tick 간격 (ms)
+   * @param ticksPerWheel 휠의 칸 수 (2의 거듭제곱으로 올림)
+   */
+  @SuppressWarnings("unchecked")
+  public HashedWheelTimer(String name, long tickMillis, int ticksPerWheel) {
+    this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+
+    int wheelSize = Integer.highestOneBit(Math.max(ticksPerWheel - 1, 1)) << 1;
+    this.wheel = new List[wheelSize];
+    for (int i = 0; i < wheelSize; i++) {
+      wheel[i] = new ArrayList<>();
+    }
+    this.mask = wheelSize - 1;
+
+    this.startTime = System.nanoTime();
+    this.workerThread = new Thread(this::run, name);
+    this.workerThread.setDaemon(true);
+    this.workerThread.start();
+  }
+
+  /**
+   * 만료 작업 등록
+   *
+   * @param task        만료 시 실행할 작업 (타이머 스레드에서 실행되므로 가벼워야 함)
+   * @param delayMillis 만료까지 남은 시간 (ms)
+   * @return 취소에 사용할 Timeout
+   */
+  public Timeout newTimeout(Runnable task, long delayMillis) {
+    long deadline = System.nanoTime() - startTime + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+    Timeout timeout = new Timeout(task, deadline);
+    newTimeouts.add(timeout);
+    return timeout;
+  }
+
+  public void stop() {
+    running = false;
+    workerThread.interrupt();
+  }
+
+  private void run() {
+    while (running) {
+      long sleepNanos = tickNanos * (tick + 1) - (System.nanoTime() - startTime);
+      if (sleepNanos > 0) {
+        try {
+          TimeUnit.NANOSECONDS.sleep(sleepNanos);
+        } catch (InterruptedException e) {
+          continue;
+        }
+      }
+
+      transferNewTimeouts();
+      expire(wheel[(int) (tick & mask)]);
+      tick++;
+    }
+  }
+
+  private void transferNewTimeouts() {
+    Timeout timeout;
+    while ((timeout = newTimeouts.poll()) != null) {
+      if (timeout.isCancelled()) {
+        continue;
+      }
+      long calculatedTick = timeout.deadline / tickNanos;
+      timeout.remainingRounds = (calculatedTick - tick) / wheel.length;
+
+      // 이미 지난 만료 시각은 현재 칸에서 바로 처리
+      long targetTick = Math.max(calculatedTick, tick);
+      wheel[(int) (targetTick & mask)].add(timeout);
+    }
+  }
+
+  private void expire(List<Timeout> bucket) {
+    Iterator<Timeout> iterator = bucket.iterator();
+    while (iterator.hasNext()) {
+      Timeout timeout = iterator.next();
+      if (timeout.isCancelled()) {
+        iterator.remove();
+      } else if (timeout.remainingRounds <= 0) {
+        iterator.remove();
+        timeout.expire();
+      } else {
+        timeout.remainingRounds--;
+      }
+    }
+  }
+
+  public static final class Timeout {
+
+    private final Runnable task;
+    private final long deadline;
+    private volatile boolean cancelled;
+    private long remainingRounds;
+
+    private Timeout(Runnable task, long deadline) {
+      this.task = task;
+      this.deadline = deadline;
+    }
+
+    public void cancel() {
+      cancelled = true;
+    }
+
+    public boolean isCancelled() {
+      return cancelled;
+    }
+
+    private void expire() {
+      try {
+        task.run();
+      } catch (RuntimeException e) {
+        log.error("만료 작업 실행 중 예외 발생", e);
+      }
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package com.sparta.global.kafka;
+
+import com.sparta.global.exception.customException.GlobalCustomException;
+import com.sparta.global.exception.customException.KafkaException;
+import com.sparta.global.exception.errorCode.ErrorCode;
+import com.sparta.global.exception.errorCode.KafkaErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 조회 중 요청 오류(존재하지 않는 카페, 테마 등)가 났을 때 보내는 응답
+ * <p>
+ * 응답이 없으면 요청한 쪽은 시간 초과로 처리해 백엔드 장애로 세므로, 오류 코드를 담아 보내 같은 예외로 바로 실패시킴
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class KafkaErrorResponseDto {
+
+  private static final String ERROR_CODE_PACKAGE = ErrorCode.class.getPackageName() + ".";
+
+  private String requestId;
+  // 오류 코드 enum 클래스 이름
+  private String errorCodeType;
+  private String errorCode;
+
+  public static KafkaErrorResponseDto of(String requestId, GlobalCustomException e) {
+    ErrorCode errorCode = e.getErrorCode();
+    return new KafkaErrorResponseDto(requestId, errorCode.getClass().getName(),
+        errorCode instanceof Enum<?> constant ? constant.name() : null);
+  }
+
+  /**
+   * 보낸 쪽과 같은 오류 코드의 예외 (알 수 없는 코드면 서버 오류)
+   */
+  public GlobalCustomException toException() {
+    ErrorCode resolved = resolveErrorCode();
+    return resolved == null ? new KafkaException(KafkaErrorCode.KAFKA_SERVER_ERROR)
+        : new GlobalCustomException(resolved);
+  }
+
+  private ErrorCode resolveErrorCode() {
+    if (errorCodeType == null || errorCode == null
+        || !errorCodeType.startsWith(ERROR_CODE_PACKAGE)) {
+      return null;
+    }
+    try {
+      Class<?> type = Class.forName(errorCodeType);
+      if (!type.isEnum() || !ErrorCode.class.isAssignableFrom(type)) {
+        return null;
+      }
+      for (Object constant : type.getEnumConstants()) {
+        if (((Enum<?>) constant).name().equals(errorCode)) {
+          return (ErrorCode) constant;
+        }
+      }
+      return null;
+    } catch (ClassNotFoundException e) {
+      return null;
+    }
+  }
+}
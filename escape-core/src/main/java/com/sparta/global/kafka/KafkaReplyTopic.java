@@ -0,0 +1,20 @@
+package com.sparta.global.kafka;
+
+import lombok.Getter;
+
+/**
+ * 인스턴스별 kafka 응답 토픽
+ * <p>
+ * 요청을 보낸 인스턴스만 응답을 받을 수 있도록 "{기본 응답 토픽}.{인스턴스 id}" 형태의 토픽을 사용
+ * <p>
+ * 인스턴스 id 는 재시작해도 유지되는 값이어야 같은 토픽, group 을 다시 사용함 (임의 값이면 재시작마다 토픽이 쌓임)
+ */
+@Getter
+public class KafkaReplyTopic {
+
+  private final String name;
+
+  public KafkaReplyTopic(String baseTopic, String instanceId) {
+    this.name = baseTopic + "." + instanceId.replaceAll("[^a-zA-Z0-9._-]", "-");
+  }
+}
@@ -14,4 +14,9 @@ public class KafkaTopic {
   public static final String RESERVATION_DELETE_REQUEST_TOPIC = "reservation_delete_request_topic";
   public static final String RESERVATION_GET_REQUEST_TOPIC = "reservation_get_request_topic";
   public static final String STORE_INFO_REQUEST_TOPIC = "store_info_request_topic";
+  public static final String SEARCH_REPLY_TOPIC = "search_reply_topic";
+  public static final String RESERVATION_REPLY_TOPIC = "reservation_reply_topic";
+  public static final String STORE_CHANGED_TOPIC = "store_changed_topic";
+  public static final String THEME_CHANGED_TOPIC = "theme_changed_topic";
+  public static final String SLOT_STATUS_CHANGED_TOPIC = "slot_status_changed_topic";
 }
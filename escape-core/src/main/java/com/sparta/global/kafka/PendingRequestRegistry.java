@@ -0,0 +1,148 @@
+package com.sparta.global.kafka;
+
+import com.sparta.global.exception.customException.KafkaException;
+import com.sparta.global.exception.errorCode.KafkaErrorCode;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+
+/**
+ * kafka 응답을 기다리는 요청 목록
+ * <p>
+ * 최대 대기 요청 수를 넘으면 바로 거절하고, 응답이 오지 않은 요청은 타이밍 휠로 만료 시각에 제거
+ * 만료 후에 도착한 응답은 버리고 개수만 기록
+ *
+ * @param <T> 응답 타입
+ */
+public class PendingRequestRegistry<T> {
+
+  @Getter
+  private final String name;
+  private final int capacity;
+  private final long timeoutMillis;
+  private final HashedWheelTimer timer;
+
+  private final Map<String, PendingRequest<T>> pendingRequests = new ConcurrentHashMap<>();
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final LongAdder timedOut = new LongAdder();
+  private final LongAdder lateReplies = new LongAdder();
+  private final LongAdder rejected = new LongAdder();
+
+  public PendingRequestRegistry(String name, int capacity, long timeoutMillis,
+      HashedWheelTimer timer) {
+    this.name = name;
+    this.capacity = capacity;
+    this.timeoutMillis = timeoutMillis;
+    this.timer = timer;
+  }
+
+  /**
+   * 기본 제한 시간으로 응답 대기 등록
+   *
+   * @param requestId 요청 id
+   * @return 응답이 오면 완료되고, 제한 시간이 지나면 KafkaException 으로 완료되는 future
+   * @throws KafkaException 대기 중인 요청이 최대치인 경우
+   */
+  public CompletableFuture<T> register(String requestId) {
+    return register(requestId, timeoutMillis);
+  }
+
+  /**
+   * 응답 대기 등록
+   *
+   * @param requestId     요청 id
+   * @param timeoutMillis 제한 시간 (ms)
+   * @return 응답이 오면 완료되고, 제한 시간이 지나면 KafkaException 으로 완료되는 future
+   * @throws KafkaException 대기 중인 요청이 최대치인 경우
+   */
+  public CompletableFuture<T> register(String requestId, long timeoutMillis) {
+    if (inFlight.incrementAndGet() > capacity) {
+      inFlight.decrementAndGet();
+      rejected.increment();
+      throw new KafkaException(KafkaErrorCode.KAFKA_TOO_MANY_REQUESTS);
+    }
+
+    PendingRequest<T> pendingRequest = new PendingRequest<>();
+    pendingRequests.put(requestId, pendingRequest);
+    pendingRequest.timeout = timer.newTimeout(() -> expire(requestId), timeoutMillis);
+    return pendingRequest.future;
+  }
+
+  /**
+   * 응답으로 요청 완료
+   *
+   * @param requestId 요청 id
+   * @param value     응답 값
+   * @return 대기 중인 요청이 없어 응답을 버린 경우 false
+   */
+  public boolean complete(String requestId, T value) {
+    PendingRequest<T> pendingRequest = release(requestId);
+    if (pendingRequest == null) {
+      lateReplies.increment();
+      return false;
+    }
+    return pendingRequest.future.complete(value);
+  }
+
+  /**
+   * 요청 실패 처리 (전송 실패 등)
+   *
+   * @param requestId 요청 id
+   * @param e         실패 원인
+   */
+  public void fail(String requestId, Throwable e) {
+    PendingRequest<T> pendingRequest = release(requestId);
+    if (pendingRequest != null) {
+      pendingRequest.future.completeExceptionally(e);
+    }
+  }
+
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  public long getTimedOutCount() {
+    return timedOut.sum();
+  }
+
+  public long getLateReplyCount() {
+    return lateReplies.sum();
+  }
+
+  public long getRejectedCount() {
+    return rejected.sum();
+  }
+
+  private void expire(String requestId) {
+    PendingRequest<T> pendingRequest = pendingRequests.remove(requestId);
+    if (pendingRequest == null) {
+      return;
+    }
+    inFlight.decrementAndGet();
+    timedOut.increment();
+    pendingRequest.future.completeExceptionally(
+        new KafkaException(KafkaErrorCode.KAFKA_RESPONSE_ERROR));
+  }
+
+  private PendingRequest<T> release(String requestId) {
+    PendingRequest<T> pendingRequest = pendingRequests.remove(requestId);
+    if (pendingRequest == null) {
+      return null;
+    }
+    inFlight.decrementAndGet();
+    HashedWheelTimer.Timeout timeout = pendingRequest.timeout;
+    if (timeout != null) {
+      timeout.cancel();
+    }
+    return pendingRequest;
+  }
+
+  private static class PendingRequest<T> {
+
+    private final CompletableFuture<T> future = new CompletableFuture<>();
+    private volatile HashedWheelTimer.Timeout timeout;
+  }
+}
@@ -0,0 +1,47 @@
+package com.sparta.global.response;
+
+import com.sparta.global.util.Cursor;
+import java.util.List;
+import java.util.function.Function;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 커서 기반 페이지 응답
+ *
+ * @param <T> 응답 데이터 타입
+ */
+@Getter
+@NoArgsConstructor
+public class CursorPage<T> {
+
+  private List<T> content;
+  private int size;
+  private boolean hasNext;
+  private String nextCursor;
+
+  public CursorPage(List<T> content, boolean hasNext, String nextCursor) {
+    this.content = content;
+    this.size = content.size();
+    this.hasNext = hasNext;
+    this.nextCursor = nextCursor;
+  }
+
+  /**
+   * pageSize + 1 개까지 조회한 결과로 페이지 생성
+   *
+   * @param rows     조회 결과 (최대 pageSize + 1 개)
+   * @param pageSize 페이지 크기
+   * @param cursorOf 행으로 다음 커서를 만드는 함수
+   * @param mapper   응답 변환 함수
+   * @return 커서 페이지
+   */
+  public static <E, T> CursorPage<T> of(List<E> rows, int pageSize, Function<E, Cursor> cursorOf,
+      Function<E, T> mapper) {
+    boolean hasNext = rows.size() > pageSize;
+    List<E> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+    String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+    return new CursorPage<>(page.stream().map(mapper).toList(), hasNext, nextCursor);
+  }
+}
@@ -0,0 +1,34 @@
+package com.sparta.global.response;
+
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+/**
+ * 패싯 개수를 함께 담은 페이지 응답
+ *
+ * @param <T> 응답 데이터 타입
+ */
+@Getter
+@NoArgsConstructor
+public class FacetedPage<T> {
+
+  private List<T> content;
+  private int pageNum;
+  private int pageSize;
+  private long totalElements;
+  private int totalPages;
+  // 패싯 이름 -> (값 -> 개수), 값 순서는 화면에 보여줄 순서
+  private Map<String, Map<String, Long>> facets;
+
+  public FacetedPage(Page<T> page, Map<String, Map<String, Long>> facets) {
+    this.content = page.getContent();
+    this.pageNum = page.getNumber() + 1;
+    this.pageSize = page.getSize();
+    this.totalElements = page.getTotalElements();
+    this.totalPages = page.getTotalPages();
+    this.facets = facets;
+  }
+}
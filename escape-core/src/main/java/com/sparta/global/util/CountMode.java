@@ -0,0 +1,23 @@
+package com.sparta.global.util;
+
+/**
+ * 페이지 조회 시 전체 개수 계산 방식
+ */
+public enum CountMode {
+  /**
+   * 매번 count 쿼리 실행
+   */
+  EXACT,
+  /**
+   * 검색 조건별 count 결과를 짧게 캐시 (데이터 변경 시 무효화)
+   */
+  CACHED,
+  /**
+   * count 쿼리 없이 다음 페이지 존재 여부만 확인 (totalElements 는 현재까지 확인된 최소 개수)
+   */
+  NONE,
+  /**
+   * 조건 없는 전체 목록만 테이블 통계의 추정치(활성화되지 않은 스토어 수를 뺀 값) 사용, 검색어나 지역 조건이 있으면 CACHED 와 동일
+   */
+  APPROXIMATE
+}
@@ -0,0 +1,67 @@
+package com.sparta.global.util;
+
+import com.sparta.global.exception.customException.PageException;
+import com.sparta.global.exception.errorCode.PageErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import lombok.Getter;
+
+/**
+ * 커서 기반 페이지네이션의 이어보기 위치
+ * <p>
+ * 마지막으로 내려준 행의 정렬 값과 id 를 담고, 클라이언트에는 base64url 문자열(토큰)로만 노출한다. 토큰에 정렬 기준과 방향이
+ * 함께 들어가므로 다른 정렬로 만든 토큰은 거절된다.
+ */
+@Getter
+public class Cursor {
+
+  private static final String DELIMITER = ":";
+
+  private final String sortKey;
+  private final boolean desc;
+  private final Long lastId;
+  private final String lastValue;
+
+  public Cursor(String sortKey, boolean desc, Long lastId, String lastValue) {
+    this.sortKey = sortKey;
+    this.desc = desc;
+    this.lastId = lastId;
+    this.lastValue = lastValue;
+  }
+
+  /**
+   * 토큰 해석
+   *
+   * @param token   클라이언트가 보낸 커서 토큰 (첫 페이지는 null)
+   * @param sortKey 요청한 정렬 기준
+   * @param desc    요청한 정렬 방향
+   * @return 커서, 첫 페이지인 경우 null
+   * @throws PageException 토큰이 잘못되었거나 요청한 정렬과 다른 경우
+   */
+  public static Cursor decode(String token, String sortKey, boolean desc) {
+    if (token == null || token.isBlank()) {
+      return null;
+    }
+
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      String[] parts = decoded.split(DELIMITER, 4);
+      Cursor cursor = new Cursor(parts[0], "D".equals(parts[1]), Long.parseLong(parts[2]),
+          parts[3]);
+
+      if (!cursor.sortKey.equals(sortKey) || cursor.desc != desc) {
+        throw new PageException(PageErrorCode.INVALID_CURSOR);
+      }
+      return cursor;
+    } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+      throw new PageException(PageErrorCode.INVALID_CURSOR);
+    }
+  }
+
+  public String encode() {
+    String raw = sortKey + DELIMITER + (desc ? "D" : "A") + DELIMITER + lastId + DELIMITER
+        + lastValue;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}
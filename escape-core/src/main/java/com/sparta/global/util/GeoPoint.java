@@ -0,0 +1,38 @@
+package com.sparta.global.util;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 위도, 경도 좌표 (WGS84)
+ */
+@Getter
+@RequiredArgsConstructor
+public class GeoPoint {
+
+  public static final double EARTH_RADIUS_KM = 6371.0088;
+  // 위도 1도의 거리 (경도는 cos(위도) 를 곱함)
+  public static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180.0;
+
+  private final double latitude;
+  private final double longitude;
+
+  public static boolean isValid(double latitude, double longitude) {
+    return latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180;
+  }
+
+  /**
+   * 두 좌표 사이의 대원 거리 (haversine)
+   *
+   * @param other 다른 좌표
+   * @return 거리 (km)
+   */
+  public double distanceKm(GeoPoint other) {
+    double dLat = Math.toRadians(other.latitude - latitude);
+    double dLng = Math.toRadians(other.longitude - longitude);
+    double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+        + Math.cos(Math.toRadians(latitude)) * Math.cos(Math.toRadians(other.latitude))
+        * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+    return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+  }
+}
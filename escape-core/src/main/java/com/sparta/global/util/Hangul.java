@@ -0,0 +1,62 @@
+package com.sparta.global.util;
+
+/**
+ * 한글 음절 분해 (유니코드 완성형 가-힣, 호환 자모 ㄱ-ㅎ 기준)
+ * <p>
+ * 완성형 음절 = 0xAC00 + (초성 * 21 + 중성) * 28 + 종성
+ */
+public class Hangul {
+
+  private static final char SYLLABLE_FIRST = '가';
+  private static final char SYLLABLE_LAST = '힣';
+  private static final int JUNGSEONG_COUNT = 21;
+  private static final int JONGSEONG_COUNT = 28;
+
+  // 초성 순서대로의 호환 자모
+  private static final char[] CHOSEONG = {
+      'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+      'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'};
+
+  private Hangul() {
+  }
+
+  public static boolean isSyllable(char c) {
+    return c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST;
+  }
+
+  /**
+   * 초성으로 쓰이는 호환 자모 여부 (ㄳ 같은 겹받침 자모는 제외)
+   */
+  public static boolean isChoseong(char c) {
+    for (char choseong : CHOSEONG) {
+      if (choseong == c) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 음절의 초성 (음절이 아니면 그대로)
+   */
+  public static char choseong(char c) {
+    if (!isSyllable(c)) {
+      return c;
+    }
+    return CHOSEONG[(c - SYLLABLE_FIRST) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)];
+  }
+
+  public static boolean hasJongseong(char c) {
+    return isSyllable(c) && (c - SYLLABLE_FIRST) % JONGSEONG_COUNT != 0;
+  }
+
+  /**
+   * 종성을 뗀 음절 ("방" -> "바", 음절이 아니면 그대로)
+   */
+  public static char withoutJongseong(char c) {
+    if (!isSyllable(c)) {
+      return c;
+    }
+    return (char) (c - (c - SYLLABLE_FIRST) % JONGSEONG_COUNT);
+  }
+}
@@ -2,12 +2,19 @@ package com.sparta.global.util;
 
 import com.sparta.global.exception.customException.PageException;
 import com.sparta.global.exception.errorCode.PageErrorCode;
+import java.util.List;
+import java.util.function.LongSupplier;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 
 public class PageUtil {
 
+  public static final int CURSOR_PAGE_SIZE_LIMIT = 100;
+
 //    public static final int PAGE_SIZE_LIMIT = 5;
 //    public static final int SEARCH_SIZE_LIMIT = 50;
 
@@ -25,6 +32,47 @@ public class PageUtil {
     return PageRequest.of(pageNum - 1, pageSize, sort);
   }
 
+  /**
+   * 전체 개수를 포함한 페이지 생성 (마지막 페이지처럼 개수를 알 수 있으면 totalSupplier 를 호출하지 않음)
+   *
+   * @param content       페이지 내용
+   * @param pageable      페이지 정보
+   * @param totalSupplier 전체 개수
+   * @return 페이지
+   */
+  public static <T> Page<T> createPage(List<T> content, Pageable pageable,
+      LongSupplier totalSupplier) {
+    return PageableExecutionUtils.getPage(content, pageable, totalSupplier);
+  }
+
+  /**
+   * 전체 개수 없이 페이지 생성
+   * <p>
+   * pageSize + 1 개까지 조회한 결과로 다음 페이지 존재 여부만 판단하고, totalElements 는 지금까지 확인된 최소 개수로 채움
+   *
+   * @param rows     조회 결과 (최대 pageSize + 1 개)
+   * @param pageable 페이지 정보
+   * @return 페이지
+   */
+  public static <T> Page<T> createSlicePage(List<T> rows, Pageable pageable) {
+    boolean hasNext = rows.size() > pageable.getPageSize();
+    List<T> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+    long knownTotal = pageable.getOffset() + content.size() + (hasNext ? 1 : 0);
+    return new PageImpl<>(content, pageable, knownTotal);
+  }
+
+  /**
+   * 커서 조회 페이지 크기 검증
+   *
+   * @param pageSize 페이지 크기
+   * @throws PageException 1 미만이거나 최대 크기를 넘는 경우
+   */
+  public static void validateCursorPageSize(int pageSize) {
+    if (pageSize < 1 || pageSize > CURSOR_PAGE_SIZE_LIMIT) {
+      throw new PageException(PageErrorCode.INVALID_PAGE_SIZE);
+    }
+  }
+
 //    public static long getOffset(int pageNumber) {
 //        if (pageNumber < PageUtil.PAGE_SIZE_LIMIT) {
 //            return 0;
@@ -0,0 +1,31 @@
+package com.sparta.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionUtil {
+
+  private TransactionUtil() {
+  }
+
+  /**
+   * 현재 트랜잭션이 커밋된 뒤 실행 (트랜잭션 밖이면 바로 실행)
+   * <p>
+   * 캐시 무효화처럼 커밋 전에 실행하면 다른 요청이 커밋 전 데이터를 다시 캐시할 수 있는 작업에 사용
+   *
+   * @param task 실행할 작업
+   */
+  public static void afterCommit(Runnable task) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      task.run();
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        task.run();
+      }
+    });
+  }
+}
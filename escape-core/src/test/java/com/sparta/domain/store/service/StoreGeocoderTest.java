@@ -0,0 +1,53 @@
+package com.sparta.domain.store.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sparta.domain.store.entity.StoreRegion;
+import com.sparta.global.util.GeoPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StoreGeocoderTest {
+
+  private final StoreGeocoder storeGeocoder = new StoreGeocoder();
+
+  @Test
+  @DisplayName("시도 정식 명칭과 구 단위 주소로 좌표 조회")
+  void geocodeDistrict() {
+    GeoPoint point = storeGeocoder.geocode("서울특별시 강남구 테헤란로 123", StoreRegion.SEOUL)
+        .orElseThrow();
+
+    assertEquals(37.5172, point.getLatitude(), 1e-6);
+    assertEquals(127.0473, point.getLongitude(), 1e-6);
+  }
+
+  @Test
+  @DisplayName("같은 이름의 구는 시도로 구분")
+  void sameDistrictName() {
+    GeoPoint seoul = storeGeocoder.geocode("서울 중구 명동길 1", StoreRegion.ALL).orElseThrow();
+    GeoPoint busan = storeGeocoder.geocode("부산광역시 중구 중앙대로 1", StoreRegion.ALL).orElseThrow();
+
+    assertTrue(seoul.distanceKm(busan) > 300);
+  }
+
+  @Test
+  @DisplayName("시 아래 구까지 있으면 더 구체적인 좌표 사용")
+  void cityDistrict() {
+    GeoPoint bundang = storeGeocoder.geocode("경기도 성남시 분당구 판교역로 1", StoreRegion.GYEONGGI)
+        .orElseThrow();
+
+    assertEquals(37.3827, bundang.getLatitude(), 1e-6);
+  }
+
+  @Test
+  @DisplayName("주소에 시도가 없으면 지역으로, 모르는 시군구는 시도 대표 좌표로")
+  void fallback() {
+    GeoPoint mapo = storeGeocoder.geocode("마포구 양화로 1", StoreRegion.SEOUL).orElseThrow();
+    GeoPoint ulsan = storeGeocoder.geocode("울산광역시 남구 삼산로 1", StoreRegion.ULSAN).orElseThrow();
+
+    assertEquals(37.5663, mapo.getLatitude(), 1e-6);
+    assertEquals(35.5384, ulsan.getLatitude(), 1e-6);
+    assertTrue(storeGeocoder.geocode("어딘가 1", StoreRegion.ALL).isEmpty());
+  }
+}
@@ -0,0 +1,39 @@
+package com.sparta.global.cache;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CacheEntryTest {
+
+  // 0 ~ 10000ms 유효, 계산에 100ms 걸린 값
+  private final CacheEntry entry = new CacheEntry("value", 0, 10000, 100);
+
+  @Test
+  @DisplayName("refresh-ahead 시점이 지나면 항상 갱신")
+  void refreshAhead() {
+    assertFalse(entry.shouldRefresh(7999, 0.8, 1.0, 1.0));
+    assertTrue(entry.shouldRefresh(8000, 0.8, 1.0, 1.0));
+  }
+
+  @Test
+  @DisplayName("XFetch : 만료가 가깝고 난수가 작을수록 일찍 갱신")
+  void xfetch() {
+    // 만료 500ms 전 : -100 * ln(0.001) ≒ 690ms 이므로 갱신, ln(0.5) ≒ -0.69 이면 69ms 라 갱신하지 않음
+    assertTrue(entry.shouldRefresh(9500, 1.0, 1.0, 0.001));
+    assertFalse(entry.shouldRefresh(9500, 1.0, 1.0, 0.5));
+    // 만료 50ms 전이면 같은 난수로도 갱신
+    assertTrue(entry.shouldRefresh(9950, 1.0, 1.0, 0.5));
+    // beta 가 크면 더 일찍
+    assertTrue(entry.shouldRefresh(9500, 1.0, 10.0, 0.5));
+  }
+
+  @Test
+  @DisplayName("논리 만료 시각부터 만료")
+  void expired() {
+    assertFalse(entry.expired(9999));
+    assertTrue(entry.expired(10000));
+  }
+}
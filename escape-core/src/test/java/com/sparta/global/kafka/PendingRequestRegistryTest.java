@@ -0,0 +1,73 @@
+package com.sparta.global.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sparta.global.exception.customException.KafkaException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PendingRequestRegistryTest {
+
+  private HashedWheelTimer timer;
+  private PendingRequestRegistry<String> registry;
+
+  @BeforeEach
+  void setUp() {
+    timer = new HashedWheelTimer("test-timer", 10, 8);
+    registry = new PendingRequestRegistry<>("test", 2, 5000, timer);
+  }
+
+  @AfterEach
+  void tearDown() {
+    timer.stop();
+  }
+
+  @Test
+  @DisplayName("응답이 오면 future 완료")
+  void complete() throws Exception {
+    CompletableFuture<String> future = registry.register("id");
+
+    assertTrue(registry.complete("id", "response"));
+    assertEquals("response", future.get(1, TimeUnit.SECONDS));
+    assertEquals(0, registry.getInFlight());
+  }
+
+  @Test
+  @DisplayName("대기 중이 아닌 요청의 응답은 버림")
+  void lateReply() {
+    assertFalse(registry.complete("unknown", "response"));
+    assertEquals(1, registry.getLateReplyCount());
+  }
+
+  @Test
+  @DisplayName("최대 대기 요청 수를 넘으면 거절")
+  void rejectOverCapacity() {
+    registry.register("id1");
+    registry.register("id2");
+
+    assertThrows(KafkaException.class, () -> registry.register("id3"));
+    assertEquals(1, registry.getRejectedCount());
+    assertEquals(2, registry.getInFlight());
+  }
+
+  @Test
+  @DisplayName("제한 시간이 지나면 KafkaException 으로 완료")
+  void expire() {
+    CompletableFuture<String> future = registry.register("id", 30);
+
+    ExecutionException e = assertThrows(ExecutionException.class,
+        () -> future.get(1, TimeUnit.SECONDS));
+    assertInstanceOf(KafkaException.class, e.getCause());
+    assertEquals(1, registry.getTimedOutCount());
+    assertEquals(0, registry.getInFlight());
+  }
+}
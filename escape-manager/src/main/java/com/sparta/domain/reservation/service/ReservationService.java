@@ -3,9 +3,12 @@ package com.sparta.domain.reservation.service;
 import com.sparta.domain.reservation.dto.ReservationListResponseDto;
 import com.sparta.domain.reservation.entity.Reservation;
 import com.sparta.domain.reservation.repository.ReservationRepository;
+import com.sparta.domain.store.service.TopStoreRanking;
 import com.sparta.domain.theme.entity.Theme;
 import com.sparta.domain.theme.repository.ThemeRepository;
+import com.sparta.domain.theme.service.ThemeAvailabilityCache;
 import com.sparta.domain.user.entity.User;
+import com.sparta.global.event.CatalogEventPublisher;
 import jakarta.transaction.Transactional;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +20,9 @@ public class ReservationService {
 
   private final ReservationRepository reservationRepository;
   private final ThemeRepository themeRepository;
+  private final TopStoreRanking topStoreRanking;
+  private final ThemeAvailabilityCache themeAvailabilityCache;
+  private final CatalogEventPublisher catalogEventPublisher;
 
   /**
    * 해당 테마의 예약 내역 조회
@@ -44,5 +50,8 @@ public class ReservationService {
     Reservation reservation = reservationRepository.findActiveReservation(reservationId);
     reservation.getTheme().getStore().checkManager(user);
     reservation.cancelReservation();
+    topStoreRanking.decrement(reservation.getTheme().getStore().getId());
+    themeAvailabilityCache.evict(reservation.getThemeTime());
+    catalogEventPublisher.slotChanged(reservation.getThemeTime());
   }
 }
\ No newline at end of file
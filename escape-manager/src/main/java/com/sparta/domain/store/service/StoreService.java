@@ -10,6 +10,8 @@ import com.sparta.domain.store.entity.Store;
 import com.sparta.domain.store.entity.StoreStatus;
 import com.sparta.domain.store.repository.StoreRepository;
 import com.sparta.domain.user.entity.User;
+import com.sparta.global.cache.SearchCacheInvalidator;
+import com.sparta.global.event.CatalogEventPublisher;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +27,10 @@ public class StoreService {
 
   private final StoreRepository storeRepository;
   private final S3Uploader s3Uploader;
+  private final StoreNameIndexer storeNameIndexer;
+  private final SearchCacheInvalidator searchCacheInvalidator;
+  private final CatalogEventPublisher catalogEventPublisher;
+  private final StoreGeocoder storeGeocoder;
 
   /**
    * 방탈출 카페 등록 요청
@@ -46,11 +52,16 @@ public class StoreService {
         .storeRegion(requestDto.getStoreRegion())
         .storeStatus(StoreStatus.PENDING)
         .build();
+    storeGeocoder.locate(store);
 
     storeRepository.save(store);
 
     String storeImage = s3Uploader.uploadStoreImage(file, store.getId());
     store.updateStoreImage(storeImage);
+    // 대기 상태라 색인은 비어 있지만 비활성 스토어 수가 바뀌므로 개수 캐시도 무효화
+    storeNameIndexer.index(store);
+    searchCacheInvalidator.evictStore(store.getId());
+    catalogEventPublisher.storeChanged(store);
 
     return new StoreRegisterResponseDto(store);
   }
@@ -87,8 +98,12 @@ public class StoreService {
         requestDto.getWorkHours(),
         requestDto.getStoreRegion()
     );
+    storeGeocoder.locate(store);
 
     storeRepository.save(store);
+    storeNameIndexer.index(store);
+    searchCacheInvalidator.evictStore(store.getId());
+    catalogEventPublisher.storeChanged(store);
     return new StoreDetailResponseDto(store);
   }
 
@@ -108,6 +123,8 @@ public class StoreService {
     s3Uploader.deleteFileFromS3(store.getStoreImage());
     String storeImage = s3Uploader.uploadStoreImage(file, store.getId());
     store.updateStoreImage(storeImage);
+    searchCacheInvalidator.evictStore(storeId);
+    catalogEventPublisher.storeChanged(store);
 
     return storeImage;
   }
@@ -125,6 +142,8 @@ public class StoreService {
 
     s3Uploader.deleteFileFromS3(store.getStoreImage());
     store.deleteStoreImage();
+    searchCacheInvalidator.evictStore(storeId);
+    catalogEventPublisher.storeChanged(store);
   }
 
   /**
@@ -138,5 +157,8 @@ public class StoreService {
     Store store = storeRepository.findByActiveStore(storeId);
     store.checkManager(user);
     store.deactivateStore();
+    storeNameIndexer.remove(storeId);
+    searchCacheInvalidator.evictStore(storeId);
+    catalogEventPublisher.storeChanged(store);
   }
 }
\ No newline at end of file
@@ -11,6 +11,9 @@ import com.sparta.domain.theme.entity.Theme;
 import com.sparta.domain.theme.entity.ThemeStatus;
 import com.sparta.domain.theme.repository.ThemeRepository;
 import com.sparta.domain.user.entity.User;
+import com.sparta.global.cache.CountCache;
+import com.sparta.global.cache.SearchCacheInvalidator;
+import com.sparta.global.event.CatalogEventPublisher;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -25,6 +28,9 @@ public class ThemeService {
   private final ThemeRepository themeRepository;
   private final StoreRepository storeRepository;
   private final S3Uploader s3Uploader;
+  private final CountCache countCache;
+  private final SearchCacheInvalidator searchCacheInvalidator;
+  private final CatalogEventPublisher catalogEventPublisher;
 
   /**
    * 방탈출 테마 등록
@@ -54,9 +60,12 @@ public class ThemeService {
         .build();
 
     themeRepository.save(theme);
+    countCache.evict(CountCache.themeNamespace(store.getId()));
+    searchCacheInvalidator.evictTheme(store.getId(), theme.getId());
 
     String themeImage = s3Uploader.uploadThemeImage(file, store.getId(), theme.getId());
     theme.updateThemeImage(themeImage);
+    catalogEventPublisher.themeChanged(theme);
 
     return new ThemeDetailResponseDto(theme);
   }
@@ -102,6 +111,8 @@ public class ThemeService {
     );
 
     themeRepository.save(theme);
+    searchCacheInvalidator.evictTheme(theme.getStore().getId(), themeId);
+    catalogEventPublisher.themeChanged(theme);
     return new ThemeDetailResponseDto(theme);
   }
 
@@ -121,6 +132,8 @@ public class ThemeService {
     s3Uploader.deleteFileFromS3(theme.getThemeImage());
     String themeImage = s3Uploader.uploadThemeImage(file, theme.getStore().getId(), themeId);
     theme.updateThemeImage(themeImage);
+    searchCacheInvalidator.evictTheme(theme.getStore().getId(), themeId);
+    catalogEventPublisher.themeChanged(theme);
 
     return themeImage;
   }
@@ -138,6 +151,8 @@ public class ThemeService {
 
     s3Uploader.deleteFileFromS3(theme.getThemeImage());
     theme.deleteThemeImage();
+    searchCacheInvalidator.evictTheme(theme.getStore().getId(), themeId);
+    catalogEventPublisher.themeChanged(theme);
   }
 
   /**
@@ -152,6 +167,9 @@ public class ThemeService {
     theme.getStore().checkManager(user);
 
     theme.toggleThemeStatus();
+    countCache.evict(CountCache.themeNamespace(theme.getStore().getId()));
+    searchCacheInvalidator.evictTheme(theme.getStore().getId(), themeId);
+    catalogEventPublisher.themeChanged(theme);
   }
 
   /**
@@ -166,6 +184,9 @@ public class ThemeService {
     theme.getStore().checkManager(user);
 
     themeRepository.delete(theme);
+    countCache.evict(CountCache.themeNamespace(theme.getStore().getId()));
+    searchCacheInvalidator.evictTheme(theme.getStore().getId(), themeId);
+    catalogEventPublisher.themeDeleted(themeId);
   }
 }
 
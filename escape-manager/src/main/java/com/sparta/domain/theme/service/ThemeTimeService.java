@@ -8,6 +8,7 @@ import com.sparta.domain.theme.entity.ThemeTime;
 import com.sparta.domain.theme.repository.ThemeRepository;
 import com.sparta.domain.theme.repository.ThemeTimeRepository;
 import com.sparta.domain.user.entity.User;
+import com.sparta.global.event.CatalogEventPublisher;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -24,6 +25,8 @@ public class ThemeTimeService {
 
   private final ThemeTimeRepository themeTimeRepository;
   private final ThemeRepository themeRepository;
+  private final ThemeAvailabilityCache themeAvailabilityCache;
+  private final CatalogEventPublisher catalogEventPublisher;
 
   /**
    * 테마 예약 시간대 등록
@@ -49,6 +52,8 @@ public class ThemeTimeService {
         .build();
 
     themeTimeRepository.save(themeTime);
+    themeAvailabilityCache.evict(themeTime);
+    catalogEventPublisher.slotChanged(themeTime);
     return new ThemeTimeDetailResponseDto(themeTime);
   }
 
@@ -92,9 +97,13 @@ public class ThemeTimeService {
 
     LocalDateTime startTime = parseDateTimeStringToLocalDateTime(requestDto.getStartTime());
     LocalDateTime endTime = calculateEndTime(startTime, themeTime.getTheme().getDuration());
+    LocalDate previousDate = themeTime.getStartTime().toLocalDate();
 
     themeTime.updateThemeTime(startTime, endTime);
     themeTimeRepository.save(themeTime);
+    themeAvailabilityCache.evict(themeTime.getTheme().getId(), previousDate);
+    themeAvailabilityCache.evict(themeTime);
+    catalogEventPublisher.slotChanged(themeTime);
 
     return new ThemeTimeDetailResponseDto(themeTime);
   }
@@ -111,6 +120,8 @@ public class ThemeTimeService {
     themeTime.getTheme().getStore().checkManager(user);
 
     themeTimeRepository.delete(themeTime);
+    themeAvailabilityCache.evict(themeTime);
+    catalogEventPublisher.slotDeleted(themeTimeId);
   }
 
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.sparta.config;
+
+import com.sparta.global.kafka.KafkaReplyTopic;
+import com.sparta.global.kafka.KafkaTopic;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.config.TopicConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+@Configuration
+public class KafkaReplyConfig {
+
+  @Value("${reservation.instance-id}")
+  private String instanceId;
+
+  @Bean
+  public KafkaReplyTopic kafkaReplyTopic() {
+    return new KafkaReplyTopic(KafkaTopic.RESERVATION_REPLY_TOPIC, instanceId);
+  }
+
+  /**
+   * 응답 토픽은 요청 타임아웃 이후에는 의미가 없으므로 보관 기간을 짧게 설정
+   */
+  @Bean
+  public NewTopic reservationReplyTopic(KafkaReplyTopic kafkaReplyTopic) {
+    return TopicBuilder.name(kafkaReplyTopic.getName())
+        .partitions(1)
+        .replicas(1)
+        .config(TopicConfig.RETENTION_MS_CONFIG, "60000")
+        .build();
+  }
+}
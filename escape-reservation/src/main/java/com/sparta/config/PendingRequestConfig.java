@@ -0,0 +1,70 @@
+package com.sparta.config;
+
+import com.sparta.domain.reservation.dto.ReservationCreateResponseDto;
+import com.sparta.domain.reservation.dto.ReservationResponseDto;
+import com.sparta.global.kafka.HashedWheelTimer;
+import com.sparta.global.kafka.PendingRequestRegistry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+public class PendingRequestConfig {
+
+    @Value("${reservation.pending-request.capacity:10000}")
+    private int capacity;
+
+    @Value("${reservation.pending-request.timeout-ms:3000}")
+    private long timeoutMillis;
+
+    @Bean(destroyMethod = "stop")
+    public HashedWheelTimer pendingRequestTimer() {
+        return new HashedWheelTimer("reservation-pending-request-timer", 100, 128);
+    }
+
+    @Bean
+    public PendingRequestRegistry<ReservationCreateResponseDto> createPendingRequests(
+            HashedWheelTimer pendingRequestTimer) {
+        return new PendingRequestRegistry<>("reservation-create", capacity, timeoutMillis,
+                pendingRequestTimer);
+    }
+
+    @Bean
+    public PendingRequestRegistry<Void> deletePendingRequests(HashedWheelTimer pendingRequestTimer) {
+        return new PendingRequestRegistry<>("reservation-delete", capacity, timeoutMillis,
+                pendingRequestTimer);
+    }
+
+    @Bean
+    public PendingRequestRegistry<List<ReservationResponseDto>> getPendingRequests(
+            HashedWheelTimer pendingRequestTimer) {
+        return new PendingRequestRegistry<>("reservation-get", capacity, timeoutMillis,
+                pendingRequestTimer);
+    }
+
+    @Bean
+    public MeterBinder pendingRequestMetrics(List<PendingRequestRegistry<?>> registries) {
+        return meterRegistry -> registries.forEach(registry -> {
+            Gauge.builder("kafka.pending-requests.in-flight", registry, PendingRequestRegistry::getInFlight)
+                    .tag("name", registry.getName())
+                    .register(meterRegistry);
+            FunctionCounter.builder("kafka.pending-requests.timed-out", registry,
+                            PendingRequestRegistry::getTimedOutCount)
+                    .tag("name", registry.getName())
+                    .register(meterRegistry);
+            FunctionCounter.builder("kafka.pending-requests.late-replies", registry,
+                            PendingRequestRegistry::getLateReplyCount)
+                    .tag("name", registry.getName())
+                    .register(meterRegistry);
+            FunctionCounter.builder("kafka.pending-requests.rejected", registry,
+                            PendingRequestRegistry::getRejectedCount)
+                    .tag("name", registry.getName())
+                    .register(meterRegistry);
+        });
+    }
+}
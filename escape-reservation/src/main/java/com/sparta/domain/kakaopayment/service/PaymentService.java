@@ -10,8 +10,11 @@ import com.sparta.domain.reservation.entity.PaymentStatus;
 import com.sparta.domain.reservation.entity.Reservation;
 import com.sparta.domain.reservation.entity.ReservationStatus;
 import com.sparta.domain.reservation.repository.ReservationRepository;
+import com.sparta.domain.store.service.TopStoreRanking;
 import com.sparta.domain.theme.entity.ThemeTime;
 import com.sparta.domain.theme.entity.ThemeTimeStatus;
+import com.sparta.domain.theme.service.ThemeAvailabilityCache;
+import com.sparta.global.event.CatalogEventPublisher;
 import com.sparta.global.exception.customException.PaymentException;
 import com.sparta.global.exception.customException.ReservationException;
 import com.sparta.global.exception.errorCode.PaymentErrorCode;
@@ -38,6 +41,9 @@ public class PaymentService {
 
     private final ReservationRepository reservationRepository;
     private final PaymentRepository paymentRepository;
+    private final TopStoreRanking topStoreRanking;
+    private final ThemeAvailabilityCache themeAvailabilityCache;
+    private final CatalogEventPublisher catalogEventPublisher;
 
     public Long reservationId;
     @Value("${kakao-payment.admin-key}")
@@ -128,6 +134,9 @@ public class PaymentService {
         reservation.updateReservationStatus(); // change Reservation COMPLETE
         reservation.getThemeTime().updateThemeTimeStatus(ThemeTimeStatus.DISABLE);
         paymentRepository.save(payment);
+        topStoreRanking.increment(reservation.getTheme().getStore().getId());
+        themeAvailabilityCache.evict(reservation.getThemeTime());
+        catalogEventPublisher.slotChanged(reservation.getThemeTime());
 
         return new PaymentResponseDto(payment);
     }
@@ -165,6 +174,9 @@ public class PaymentService {
 
     reservation.cancelReservation();
     payment.refundPayment();
+    topStoreRanking.decrement(reservation.getTheme().getStore().getId());
+    themeAvailabilityCache.evict(reservation.getThemeTime());
+    catalogEventPublisher.slotChanged(reservation.getThemeTime());
   }
 
 }
\ No newline at end of file
@@ -15,6 +15,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequiredArgsConstructor
@@ -32,20 +33,20 @@ public class ReservationController {
      * @return status.code, message, ReservationCreateResponseDto 예약정보
      */
     @PostMapping("/reservations")
-    public ResponseEntity<ResponseMessage<ReservationCreateResponseDto>> createReservation(
+    public CompletableFuture<ResponseEntity<ResponseMessage<ReservationCreateResponseDto>>> createReservation(
             @RequestBody ReservationCreateRequestDto requestDto,
             @AuthenticationPrincipal UserDetailsImpl userDetails) {
 
-        ReservationCreateResponseDto responseDto =
-                reservationService.createReservation(requestDto, userDetails.getUser());
+        return reservationService.createReservation(requestDto, userDetails.getUser())
+                .thenApply(responseDto -> {
+                    ResponseMessage<ReservationCreateResponseDto> responseMessage = ResponseMessage.<ReservationCreateResponseDto>builder()
+                            .statusCode(HttpStatus.CREATED.value())
+                            .message("예약에 성공했습니다.")
+                            .data(responseDto)
+                            .build();
 
-        ResponseMessage<ReservationCreateResponseDto> responseMessage = ResponseMessage.<ReservationCreateResponseDto>builder()
-                .statusCode(HttpStatus.CREATED.value())
-                .message("예약에 성공했습니다.")
-                .data(responseDto)
-                .build();
-
-        return ResponseEntity.status(HttpStatus.CREATED).body(responseMessage);
+                    return ResponseEntity.status(HttpStatus.CREATED).body(responseMessage);
+                });
     }
 
 
@@ -57,19 +58,20 @@ public class ReservationController {
      * @return status.code, message
      */
     @DeleteMapping("/reservations/{reservationId}")
-    public ResponseEntity<ResponseMessage<Void>> deleteReservation(
+    public CompletableFuture<ResponseEntity<ResponseMessage<Void>>> deleteReservation(
             @PathVariable Long reservationId,
             @AuthenticationPrincipal UserDetailsImpl userDetails) {
 
-        reservationService.deleteReservation(reservationId, userDetails.getUser());
-
-        ResponseMessage<Void> responseMessage = ResponseMessage.<Void>builder()
-                .statusCode(HttpStatus.OK.value())
-                .message("예약을 취소했습니다.")
-                .data(null)
-                .build();
+        return reservationService.deleteReservation(reservationId, userDetails.getUser())
+                .thenApply(unused -> {
+                    ResponseMessage<Void> responseMessage = ResponseMessage.<Void>builder()
+                            .statusCode(HttpStatus.OK.value())
+                            .message("예약을 취소했습니다.")
+                            .data(null)
+                            .build();
 
-        return ResponseEntity.status(HttpStatus.OK).body(responseMessage);
+                    return ResponseEntity.status(HttpStatus.OK).body(responseMessage);
+                });
     }
 
     /**
@@ -79,19 +81,19 @@ public class ReservationController {
      * @return List<ReservationResponseDto> 예약 내역
      */
     @GetMapping("/reservations")
-    public ResponseEntity<ResponseMessage<List<ReservationResponseDto>>> getReservations(
+    public CompletableFuture<ResponseEntity<ResponseMessage<List<ReservationResponseDto>>>> getReservations(
             @AuthenticationPrincipal UserDetailsImpl userDetails) {
 
-        List<ReservationResponseDto> responseDtoList = reservationService.getReservations(
-                userDetails.getUser());
-
-        ResponseMessage<List<ReservationResponseDto>> responseMessage = ResponseMessage.<List<ReservationResponseDto>>builder()
-                .statusCode(HttpStatus.OK.value())
-                .message("예약을 조회했습니다.")
-                .data(responseDtoList)
-                .build();
+        return reservationService.getReservations(userDetails.getUser())
+                .thenApply(responseDtoList -> {
+                    ResponseMessage<List<ReservationResponseDto>> responseMessage = ResponseMessage.<List<ReservationResponseDto>>builder()
+                            .statusCode(HttpStatus.OK.value())
+                            .message("예약을 조회했습니다.")
+                            .data(responseDtoList)
+                            .build();
 
-        return ResponseEntity.status(HttpStatus.OK).body(responseMessage);
+                    return ResponseEntity.status(HttpStatus.OK).body(responseMessage);
+                });
     }
 
 }
@@ -9,6 +9,7 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class KafkaReservationCreateRequestDto {
     private String requestId;
+    private String replyTopic;
     private ReservationCreateRequestDto requestDto;
     private Long userId;
 }
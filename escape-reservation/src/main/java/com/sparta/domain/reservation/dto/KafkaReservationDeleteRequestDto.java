@@ -9,6 +9,7 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class KafkaReservationDeleteRequestDto {
     private String requestId;
+    private String replyTopic;
     private Long reservationId;
     private Long userId;
 }
@@ -9,5 +9,6 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class KafkaReservationGetRequestDto {
     private String requestId;
+    private String replyTopic;
     private Long userId;
 }
@@ -31,4 +31,16 @@ public class ReservationResponseDto {
     this.price = reservation.getPrice();
     this.reservationStatus = reservation.getReservationStatus();
   }
+
+  public ReservationResponseDto(ReservationProjection reservation) {
+    this.reservationId = reservation.getReservationId();
+    this.themeImage = reservation.getThemeImage();
+    this.themeTitle = reservation.getThemeTitle();
+    this.createAt = reservation.getCreatedAt();
+    this.startTime = reservation.getStartTime();
+    this.storeName = reservation.getStoreName();
+    this.player = reservation.getPlayer();
+    this.price = reservation.getPrice();
+    this.reservationStatus = reservation.getReservationStatus();
+  }
 }
@@ -14,32 +14,31 @@ import com.sparta.domain.user.repository.UserRepository;
 import com.sparta.global.exception.customException.GlobalCustomException;
 import com.sparta.global.exception.customException.ReservationException;
 import com.sparta.global.exception.errorCode.ReservationErrorCode;
+import com.sparta.global.kafka.KafkaErrorResponseDto;
 import com.sparta.global.kafka.KafkaTopic;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ReservationRequestService {
 
-    public final ConcurrentHashMap<String, CompletableFuture<ReservationCreateResponseDto>> responseCreateFutures;
-    public final ConcurrentHashMap<String, CompletableFuture<Void>> responseDeleteFutures;
-    public final ConcurrentHashMap<String, CompletableFuture<List<ReservationResponseDto>>> responseGetFutures;
-
     private final ReservationRepository reservationRepository;
     private final ThemeTimeRepository themeTimeRepository;
     private final UserRepository userRepository;
     private final PaymentService paymentService;
     private final KafkaEmailProducer kafkaEmailProducer;
+    private final KafkaTemplate<String, KafkaReservationCreateResponseDto> kafkaReservationCreateResponseTemplate;
+    private final KafkaTemplate<String, KafkaReservationDeleteResponseDto> kafkaReservationDeleteResponseTemplate;
+    private final KafkaTemplate<String, KafkaReservationGetResponseDto> kafkaReservationGetResponseTemplate;
+    private final KafkaTemplate<String, KafkaErrorResponseDto> kafkaErrorResponseTemplate;
 
     @Transactional
     @KafkaListener(topics = KafkaTopic.RESERVATION_CREATE_REQUEST_TOPIC, groupId = "${spring.kafka.consumer.group-id}")
@@ -69,18 +68,12 @@ public class ReservationRequestService {
                     , new ReservationCreateResponseDto(reservationRepository.save(reservation)),
                     user.getEmail());
 
-            handleReservationCreateResponse(responseDto);
+            kafkaEmailProducer.sendCreateReservationEmail(KafkaTopic.PAYMENT_TOPIC, user.getEmail());
+            kafkaReservationCreateResponseTemplate.send(requestDto.getReplyTopic(),
+                    requestDto.getRequestId(), responseDto);
         } catch (GlobalCustomException e) {
             log.error(e.getMessage());
-        }
-    }
-
-    private void handleReservationCreateResponse(KafkaReservationCreateResponseDto response) {
-        CompletableFuture<ReservationCreateResponseDto> future = responseCreateFutures.remove(
-                Objects.requireNonNull(response).getRequestId());
-        if (future != null) {
-            kafkaEmailProducer.sendCreateReservationEmail(KafkaTopic.PAYMENT_TOPIC, response.getEmail());
-            future.complete(response.getResponseDto());
+            sendError(requestDto.getReplyTopic(), requestDto.getRequestId(), e);
         }
     }
 
@@ -96,8 +89,12 @@ public class ReservationRequestService {
 
             kafkaEmailProducer.sendDeleteReservationEmail(KafkaTopic.PAYMENT_DELETE_TOPIC,
                     user.getEmail());
+            kafkaReservationDeleteResponseTemplate.send(requestDto.getReplyTopic(),
+                    requestDto.getRequestId(),
+                    new KafkaReservationDeleteResponseDto(requestDto.getRequestId()));
         } catch (GlobalCustomException e) {
             log.error(e.getMessage());
+            sendError(requestDto.getReplyTopic(), requestDto.getRequestId(), e);
         }
     }
 
@@ -106,23 +103,23 @@ public class ReservationRequestService {
     public void handleGetReservationRequest(KafkaReservationGetRequestDto requestDto) {
         try {
             User user = userRepository.findByIdOrElseThrow(requestDto.getUserId());
-            List<Reservation> reservationList = reservationRepository.findByUser(user);
+            List<ReservationProjection> reservationList = reservationRepository.findProjectionsByUser(user);
             List<ReservationResponseDto> responseDtoList = reservationList.stream()
                     .map(ReservationResponseDto::new).toList();
             KafkaReservationGetResponseDto responseDto = new KafkaReservationGetResponseDto(
                     requestDto.getRequestId(), responseDtoList);
-            handleReservationGetResponse(responseDto);
+            kafkaReservationGetResponseTemplate.send(requestDto.getReplyTopic(),
+                    requestDto.getRequestId(), responseDto);
         } catch (GlobalCustomException e) {
             log.error(e.getMessage());
+            sendError(requestDto.getReplyTopic(), requestDto.getRequestId(), e);
         }
     }
 
-    private void handleReservationGetResponse(KafkaReservationGetResponseDto response) {
-        CompletableFuture<List<ReservationResponseDto>> future = responseGetFutures.remove(
-                Objects.requireNonNull(response).getRequestId());
-        if (future != null) {
-            future.complete(response.getResponseDtoList());
-        }
+    /**
+     * 예약 요청 오류를 오류 코드와 함께 요청한 인스턴스에 응답
+     */
+    private void sendError(String replyTopic, String requestId, GlobalCustomException e) {
+        kafkaErrorResponseTemplate.send(replyTopic, requestId, KafkaErrorResponseDto.of(requestId, e));
     }
-
 }
@@ -4,7 +4,9 @@ import com.sparta.domain.reservation.dto.*;
 import com.sparta.domain.user.entity.User;
 import com.sparta.global.exception.customException.KafkaException;
 import com.sparta.global.exception.errorCode.KafkaErrorCode;
+import com.sparta.global.kafka.KafkaReplyTopic;
 import com.sparta.global.kafka.KafkaTopic;
+import com.sparta.global.kafka.PendingRequestRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -20,13 +22,14 @@ import java.util.concurrent.*;
 @Slf4j
 public class ReservationService {
 
-    public final ConcurrentHashMap<String, CompletableFuture<ReservationCreateResponseDto>> responseCreateFutures;
-    public final ConcurrentHashMap<String, CompletableFuture<Void>> responseDeleteFutures;
-    public final ConcurrentHashMap<String, CompletableFuture<List<ReservationResponseDto>>> responseGetFutures;
+    public final PendingRequestRegistry<ReservationCreateResponseDto> createPendingRequests;
+    public final PendingRequestRegistry<Void> deletePendingRequests;
+    public final PendingRequestRegistry<List<ReservationResponseDto>> getPendingRequests;
 
     private final KafkaTemplate<String, KafkaReservationCreateRequestDto> kafkaReservationCreateTemplate;
     private final KafkaTemplate<String, KafkaReservationDeleteRequestDto> kafkaReservationDeleteTemplate;
     private final KafkaTemplate<String, KafkaReservationGetRequestDto> kafkaReservationGetTemplate;
+    private final KafkaReplyTopic kafkaReplyTopic;
 
     /**
      * 예약 생성
@@ -36,30 +39,28 @@ public class ReservationService {
      * @return ReservationCreateResponseDto 예약정보
      */
     @Transactional
-    public ReservationCreateResponseDto createReservation(ReservationCreateRequestDto requestDto,
-                                                          User user) {
+    public CompletableFuture<ReservationCreateResponseDto> createReservation(
+            ReservationCreateRequestDto requestDto, User user) {
         String requestId = UUID.randomUUID().toString();
 
-        CompletableFuture<ReservationCreateResponseDto> future = new CompletableFuture<>();
-        responseCreateFutures.put(requestId, future);
+        CompletableFuture<ReservationCreateResponseDto> future = createPendingRequests.register(requestId);
 
         sendReservationCreateRequest(requestId, requestDto, user.getId());
 
         // Kafka로 요청을 전송하고 응답을 비동기적으로 기다림
-        try {
-            return future.get(3, TimeUnit.SECONDS); // 응답을 기다림
-        } catch (InterruptedException | ExecutionException e) {
-            throw new KafkaException(KafkaErrorCode.KAFKA_SERVER_ERROR);
-        } catch (TimeoutException e) {
-            throw new KafkaException(KafkaErrorCode.KAFKA_RESPONSE_ERROR);
-        }
+        return future;
     }
 
     private void sendReservationCreateRequest(String requestId,
                                               ReservationCreateRequestDto requestDto, Long userId) {
         KafkaReservationCreateRequestDto createRequest = new KafkaReservationCreateRequestDto(requestId,
-                requestDto, userId);
-        kafkaReservationCreateTemplate.send(KafkaTopic.RESERVATION_CREATE_REQUEST_TOPIC, createRequest);
+                kafkaReplyTopic.getName(), requestDto, userId);
+        kafkaReservationCreateTemplate.send(KafkaTopic.RESERVATION_CREATE_REQUEST_TOPIC, createRequest)
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        createPendingRequests.fail(requestId, new KafkaException(KafkaErrorCode.KAFKA_SERVER_ERROR));
+                    }
+                });
     }
 
     /**
@@ -67,21 +68,28 @@ public class ReservationService {
      *
      * @param reservationId 취소할 에약 id
      * @param user          로그인 유저
+     * @return 취소 처리가 끝나면 완료되는 future
      */
     @Transactional
-    public void deleteReservation(Long reservationId, User user) {
+    public CompletableFuture<Void> deleteReservation(Long reservationId, User user) {
         String requestId = UUID.randomUUID().toString();
 
-        CompletableFuture<Void> future = new CompletableFuture<>();
-        responseDeleteFutures.put(requestId, future);
+        CompletableFuture<Void> future = deletePendingRequests.register(requestId);
 
         sendReservationDeleteRequest(requestId, reservationId, user.getId());
+
+        return future;
     }
 
     private void sendReservationDeleteRequest(String requestId, Long reservationId, Long userId) {
         KafkaReservationDeleteRequestDto createRequest = new KafkaReservationDeleteRequestDto(requestId,
-                reservationId, userId);
-        kafkaReservationDeleteTemplate.send(KafkaTopic.RESERVATION_DELETE_REQUEST_TOPIC, createRequest);
+                kafkaReplyTopic.getName(), reservationId, userId);
+        kafkaReservationDeleteTemplate.send(KafkaTopic.RESERVATION_DELETE_REQUEST_TOPIC, createRequest)
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        deletePendingRequests.fail(requestId, new KafkaException(KafkaErrorCode.KAFKA_SERVER_ERROR));
+                    }
+                });
     }
 
     /**
@@ -90,29 +98,27 @@ public class ReservationService {
      * @param user 로그인 유저
      * @return List<ReservationResponseDto> 예약 내역
      */
-    public List<ReservationResponseDto> getReservations(User user) {
+    public CompletableFuture<List<ReservationResponseDto>> getReservations(User user) {
 
         String requestId = UUID.randomUUID().toString();
 
-        CompletableFuture<List<ReservationResponseDto>> future = new CompletableFuture<>();
-        responseGetFutures.put(requestId, future);
+        CompletableFuture<List<ReservationResponseDto>> future = getPendingRequests.register(requestId);
 
         sendReservationGetRequest(requestId, user.getId());
 
         // Kafka로 요청을 전송하고 응답을 비동기적으로 기다림
-        try {
-            return future.get(3, TimeUnit.SECONDS); // 응답을 기다림
-        } catch (InterruptedException | ExecutionException e) {
-            throw new KafkaException(KafkaErrorCode.KAFKA_SERVER_ERROR);
-        } catch (TimeoutException e) {
-            throw new KafkaException(KafkaErrorCode.KAFKA_RESPONSE_ERROR);
-        }
+        return future;
     }
 
 
     private void sendReservationGetRequest(String requestId, Long userId) {
         KafkaReservationGetRequestDto createRequest = new KafkaReservationGetRequestDto(requestId,
-                userId);
-        kafkaReservationGetTemplate.send(KafkaTopic.RESERVATION_GET_REQUEST_TOPIC, createRequest);
+                kafkaReplyTopic.getName(), userId);
+        kafkaReservationGetTemplate.send(KafkaTopic.RESERVATION_GET_REQUEST_TOPIC, createRequest)
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        getPendingRequests.fail(requestId, new KafkaException(KafkaErrorCode.KAFKA_SERVER_ERROR));
+                    }
+                });
     }
 }
@@ -0,0 +1,63 @@
+package com.sparta.kafkaReply;
+
+import com.sparta.domain.reservation.dto.KafkaReservationCreateResponseDto;
+import com.sparta.domain.reservation.dto.KafkaReservationDeleteResponseDto;
+import com.sparta.domain.reservation.dto.KafkaReservationGetResponseDto;
+import com.sparta.domain.reservation.dto.ReservationCreateResponseDto;
+import com.sparta.domain.reservation.dto.ReservationResponseDto;
+import com.sparta.global.exception.customException.GlobalCustomException;
+import com.sparta.global.kafka.KafkaErrorResponseDto;
+import com.sparta.global.kafka.PendingRequestRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaHandler;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 이 인스턴스의 응답 토픽을 구독하여 requestId 에 해당하는 대기 요청을 완료
+ * <p>
+ * 응답 토픽은 인스턴스마다 다르고 group id 도 응답 토픽 이름을 사용하므로 요청을 보낸 인스턴스만 응답을 받음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@KafkaListener(topics = "#{kafkaReplyTopic.name}", groupId = "#{kafkaReplyTopic.name}")
+public class KafkaReplyListener {
+
+    private final PendingRequestRegistry<ReservationCreateResponseDto> createPendingRequests;
+    private final PendingRequestRegistry<Void> deletePendingRequests;
+    private final PendingRequestRegistry<List<ReservationResponseDto>> getPendingRequests;
+
+    @KafkaHandler
+    public void handleCreateResponse(KafkaReservationCreateResponseDto response) {
+        createPendingRequests.complete(response.getRequestId(), response.getResponseDto());
+    }
+
+    @KafkaHandler
+    public void handleDeleteResponse(KafkaReservationDeleteResponseDto response) {
+        deletePendingRequests.complete(response.getRequestId(), null);
+    }
+
+    @KafkaHandler
+    public void handleGetResponse(KafkaReservationGetResponseDto response) {
+        getPendingRequests.complete(response.getRequestId(), response.getResponseDtoList());
+    }
+
+    /**
+     * 요청 오류 응답 (requestId 는 모든 요청에서 유일하므로 어느 목록에 있든 그 요청만 실패)
+     */
+    @KafkaHandler
+    public void handleErrorResponse(KafkaErrorResponseDto response) {
+        GlobalCustomException e = response.toException();
+        List.of(createPendingRequests, deletePendingRequests, getPendingRequests)
+                .forEach(registry -> registry.fail(response.getRequestId(), e));
+    }
+
+    @KafkaHandler(isDefault = true)
+    public void handleUnknownResponse(Object response) {
+        log.warn("알 수 없는 응답 타입 : {}", response.getClass().getName());
+    }
+}
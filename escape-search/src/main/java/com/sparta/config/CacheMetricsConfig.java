@@ -0,0 +1,43 @@
+package com.sparta.config;
+
+import com.sparta.global.cache.CacheNames;
+import com.sparta.global.cache.TwoLevelCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CacheMetricsConfig {
+
+  private static final List<String> CACHE_NAMES = List.of(CacheNames.STORE_DETAIL,
+      CacheNames.THEME_LIST, CacheNames.THEME_INFO);
+
+  @Bean
+  public MeterBinder cacheMetrics(CacheManager cacheManager) {
+    // TwoLevelCacheManager 타입을 직접 쓰면 core 의 redis 의존성까지 컴파일 경로에 필요해 Cache 만 변환
+    return meterRegistry -> CACHE_NAMES.forEach(name -> {
+      TwoLevelCache cache = (TwoLevelCache) cacheManager.getCache(name);
+      register(meterRegistry, "cache.requests", cache, "local-hit", TwoLevelCache::getLocalHitCount);
+      register(meterRegistry, "cache.requests", cache, "remote-hit",
+          TwoLevelCache::getRemoteHitCount);
+      register(meterRegistry, "cache.requests", cache, "stale-hit", TwoLevelCache::getStaleHitCount);
+      register(meterRegistry, "cache.requests", cache, "miss", TwoLevelCache::getMissCount);
+      register(meterRegistry, "cache.refreshes", cache, "success", TwoLevelCache::getRefreshCount);
+      register(meterRegistry, "cache.refreshes", cache, "failure",
+          TwoLevelCache::getRefreshFailureCount);
+    });
+  }
+
+  private static void register(MeterRegistry meterRegistry, String meterName,
+      TwoLevelCache cache, String result, ToDoubleFunction<TwoLevelCache> count) {
+    FunctionCounter.builder(meterName, cache, count)
+        .tag("cache", cache.getName())
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,87 @@
+package com.sparta.config;
+
+import com.sparta.global.kafka.KafkaTopic;
+import com.sparta.kafkaError.KafkaErrorHandler;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties.AckMode;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 카탈로그 변경 이벤트(스토어, 테마, 시간대) 구독 설정
+ * <p>
+ * 인스턴스마다 자기 읽기 모델을 메모리에 가지므로 컨슈머 그룹 없이 파티션을 직접 할당받아 compacted 토픽을 처음부터 다시 읽음
+ * <p>
+ * 그룹이 없으니 오프셋도 커밋하지 않음 (재시작, 스케일 아웃 때 브로커에 그룹이 남지 않음)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class CatalogEventConsumerConfig {
+
+  private static final long IDLE_EVENT_INTERVAL_MS = 3000L;
+
+  private final KafkaErrorHandler kafkaErrorHandler;
+
+  @Value("${spring.kafka.bootstrap-servers}")
+  private String bootstrapServers;
+
+  @Value("${search.read-model.enabled:false}")
+  private boolean readModelEnabled;
+
+  @Bean
+  public ConcurrentKafkaListenerContainerFactory<String, Object> catalogEventKafkaListenerContainerFactory() {
+    Map<String, Object> configProps = new HashMap<>();
+    configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+    configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+    configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+    configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class.getName());
+    configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class.getName());
+    configProps.put(ErrorHandlingDeserializer.KEY_DESERIALIZER_CLASS, StringDeserializer.class.getName());
+    configProps.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName());
+    // 이벤트 타입은 프로듀서가 붙인 타입 헤더로 결정
+    configProps.put(JsonDeserializer.TRUSTED_PACKAGES, "com.sparta.domain.*");
+
+    ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+    factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(configProps));
+    factory.setCommonErrorHandler(kafkaErrorHandler.customErrorHandler());
+    // ack 를 호출하지 않으므로 커밋하지 않음
+    factory.getContainerProperties().setAckMode(AckMode.MANUAL);
+    // 밀린 이벤트를 다 읽고 나면 idle 이벤트가 발생 -> 읽기 모델 준비 완료 판단에 사용
+    factory.getContainerProperties().setIdleEventInterval(IDLE_EVENT_INTERVAL_MS);
+    factory.setAutoStartup(readModelEnabled);
+    return factory;
+  }
+
+  /**
+   * 카탈로그 토픽은 키(id)별 마지막 상태만 있으면 되므로 compaction 으로 보관
+   */
+  @Bean
+  public NewTopic storeChangedTopic() {
+    return TopicBuilder.name(KafkaTopic.STORE_CHANGED_TOPIC).partitions(1).replicas(1).compact()
+        .build();
+  }
+
+  @Bean
+  public NewTopic themeChangedTopic() {
+    return TopicBuilder.name(KafkaTopic.THEME_CHANGED_TOPIC).partitions(1).replicas(1).compact()
+        .build();
+  }
+
+  @Bean
+  public NewTopic slotStatusChangedTopic() {
+    return TopicBuilder.name(KafkaTopic.SLOT_STATUS_CHANGED_TOPIC).partitions(1).replicas(1)
+        .compact().build();
+  }
+}
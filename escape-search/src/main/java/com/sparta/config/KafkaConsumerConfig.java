@@ -96,7 +96,7 @@ public class KafkaConsumerConfig {
         configProps.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName());
         configProps.put(ErrorHandlingDeserializer.KEY_DESERIALIZER_CLASS, StringDeserializer.class.getName());
         configProps.put(JsonDeserializer.VALUE_DEFAULT_TYPE, targetType.getName());
-        configProps.put(JsonDeserializer.TRUSTED_PACKAGES, "com.sparta.domain.*");
+        configProps.put(JsonDeserializer.TRUSTED_PACKAGES, "com.sparta.domain.*,com.sparta.global.kafka");
 
         return new DefaultKafkaConsumerFactory<>(configProps);
     }
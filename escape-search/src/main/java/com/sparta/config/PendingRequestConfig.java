@@ -0,0 +1,91 @@
+package com.sparta.config;
+
+import com.sparta.domain.review.dto.ReviewResponseDto;
+import com.sparta.domain.store.dto.StoreResponseDto;
+import com.sparta.domain.store.dto.TopStoreResponseDto;
+import com.sparta.domain.theme.dto.ThemeInfoResponseDto;
+import com.sparta.domain.theme.dto.ThemeResponseDto;
+import com.sparta.domain.theme.dto.ThemeTimeResponseDto;
+import com.sparta.global.kafka.HashedWheelTimer;
+import com.sparta.global.kafka.PendingRequestRegistry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+@Configuration
+public class PendingRequestConfig {
+
+  @Value("${search.pending-request.capacity:10000}")
+  private int capacity;
+
+  @Value("${search.pending-request.timeout-ms:3000}")
+  private long timeoutMillis;
+
+  @Bean(destroyMethod = "stop")
+  public HashedWheelTimer pendingRequestTimer() {
+    return new HashedWheelTimer("search-pending-request-timer", 100, 128);
+  }
+
+  @Bean
+  public PendingRequestRegistry<List<ReviewResponseDto>> reviewPendingRequests(
+      HashedWheelTimer pendingRequestTimer) {
+    return new PendingRequestRegistry<>("review", capacity, timeoutMillis, pendingRequestTimer);
+  }
+
+  @Bean
+  public PendingRequestRegistry<Page<StoreResponseDto>> storePendingRequests(
+      HashedWheelTimer pendingRequestTimer) {
+    return new PendingRequestRegistry<>("store", capacity, timeoutMillis, pendingRequestTimer);
+  }
+
+  @Bean
+  public PendingRequestRegistry<TopStoreResponseDto> topStorePendingRequests(
+      HashedWheelTimer pendingRequestTimer) {
+    return new PendingRequestRegistry<>("top-store", capacity, timeoutMillis, pendingRequestTimer);
+  }
+
+  @Bean
+  public PendingRequestRegistry<Page<ThemeResponseDto>> themePendingRequests(
+      HashedWheelTimer pendingRequestTimer) {
+    return new PendingRequestRegistry<>("theme", capacity, timeoutMillis, pendingRequestTimer);
+  }
+
+  @Bean
+  public PendingRequestRegistry<ThemeInfoResponseDto> themeInfoPendingRequests(
+      HashedWheelTimer pendingRequestTimer) {
+    return new PendingRequestRegistry<>("theme-info", capacity, timeoutMillis, pendingRequestTimer);
+  }
+
+  @Bean
+  public PendingRequestRegistry<List<ThemeTimeResponseDto>> themeTimePendingRequests(
+      HashedWheelTimer pendingRequestTimer) {
+    return new PendingRequestRegistry<>("theme-time", capacity, timeoutMillis, pendingRequestTimer);
+  }
+
+  @Bean
+  public MeterBinder pendingRequestMetrics(List<PendingRequestRegistry<?>> registries) {
+    return meterRegistry -> registries.forEach(registry -> {
+      Gauge.builder("kafka.pending-requests.in-flight", registry, PendingRequestRegistry::getInFlight)
+          .tag("name", registry.getName())
+          .register(meterRegistry);
+      FunctionCounter.builder("kafka.pending-requests.timed-out", registry,
+              PendingRequestRegistry::getTimedOutCount)
+          .tag("name", registry.getName())
+          .register(meterRegistry);
+      FunctionCounter.builder("kafka.pending-requests.late-replies", registry,
+              PendingRequestRegistry::getLateReplyCount)
+          .tag("name", registry.getName())
+          .register(meterRegistry);
+      FunctionCounter.builder("kafka.pending-requests.rejected", registry,
+              PendingRequestRegistry::getRejectedCount)
+          .tag("name", registry.getName())
+          .register(meterRegistry);
+    });
+  }
+}
@@ -0,0 +1,12 @@
+package com.sparta.config;
+
+/**
+ * 검색 조회 실행 방식
+ * <p>
+ * LOCAL : 같은 JVM 안에서 조회 로직을 바로 호출
+ * KAFKA : kafka 요청 토픽으로 조회를 위임하고 응답을 기다림
+ */
+public enum QueryMode {
+  LOCAL,
+  KAFKA
+}
@@ -1,25 +1,43 @@
 package com.sparta.controller;
 
+import com.sparta.domain.autocomplete.dto.AutocompleteResponseDto;
+import com.sparta.domain.autocomplete.service.AutocompleteService;
+import com.sparta.domain.review.dto.ReviewRatingSummaryResponseDto;
 import com.sparta.domain.review.dto.ReviewResponseDto;
 import com.sparta.domain.review.service.ReviewService;
+import com.sparta.domain.store.dto.NearbyStoreResponseDto;
 import com.sparta.domain.store.dto.StoreDetailResponseDto;
 import com.sparta.domain.store.dto.StoreResponseDto;
 import com.sparta.domain.store.dto.TopStoreResponseDto;
 import com.sparta.domain.store.entity.StoreRegion;
 import com.sparta.domain.store.service.StoreService;
+import com.sparta.domain.theme.dto.ThemeDayAvailabilityResponseDto;
+import com.sparta.domain.theme.dto.ThemeDiscoveryFilter;
+import com.sparta.domain.theme.dto.ThemeDiscoveryResponseDto;
+import com.sparta.domain.theme.dto.ThemeFilter;
 import com.sparta.domain.theme.dto.ThemeInfoResponseDto;
 import com.sparta.domain.theme.dto.ThemeResponseDto;
 import com.sparta.domain.theme.dto.ThemeTimeResponseDto;
+import com.sparta.domain.theme.entity.ThemeType;
 import com.sparta.domain.theme.service.ThemeService;
+import com.sparta.fallback.FallbackResult;
+import com.sparta.global.cache.CatalogVersions;
+import com.sparta.global.response.CursorPage;
+import com.sparta.global.response.FacetedPage;
 import com.sparta.global.response.ResponseMessage;
+import com.sparta.global.util.CountMode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongSupplier;
 
 @RestController
 @RequiredArgsConstructor
@@ -30,6 +48,8 @@ public class SearchController {
   private final StoreService storeService;
   private final ThemeService themeService;
   private final ReviewService reviewService;
+  private final AutocompleteService autocompleteService;
+  private final CatalogVersions catalogVersions;
 
   /**
    * 방탈출 카페 조회
@@ -40,21 +60,106 @@ public class SearchController {
    * @param keyWord     검색 키워드
    * @param storeRegion 카페 지역
    * @param sort        속성별 정렬 기준
+   * @param countMode   전체 개수 계산 방식 (EXACT, CACHED, NONE, APPROXIMATE)
    * @return status.code, message, Store 리스트
    */
   @GetMapping("/stores")
-  public ResponseEntity<ResponseMessage<Page<StoreResponseDto>>> getStores(
+  public CompletableFuture<ResponseEntity<ResponseMessage<Page<StoreResponseDto>>>> getStores(
       @RequestParam(value = "pageNum", required = false, defaultValue = "1") int pageNum,
       @RequestParam(value = "pageSize", required = false, defaultValue = "10") int pageSize,
       @RequestParam(value = "isDesc", required = false, defaultValue = "false") boolean isDesc,
       @RequestParam(value = "keyWord", required = false) String keyWord,
       @RequestParam(value = "storeRegion", required = false, defaultValue = "ALL") StoreRegion storeRegion,
-      @RequestParam(value = "sort", required = false, defaultValue = "name") String sort) {
+      @RequestParam(value = "sort", required = false, defaultValue = "name") String sort,
+      @RequestParam(value = "countMode", required = false, defaultValue = "CACHED") CountMode countMode,
+      WebRequest webRequest) {
+
+    long version = versionOf(() -> catalogVersions.storeListVersion());
+    if (version >= 0 && webRequest.checkNotModified(eTag(version), version)) {
+      return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+    }
+
+    return storeService.getStores(pageNum, pageSize, isDesc, keyWord,
+        storeRegion, sort, countMode).thenApply(stores -> {
+      ResponseMessage<Page<StoreResponseDto>> responseMessage = ResponseMessage.<Page<StoreResponseDto>>builder()
+          .statusCode(HttpStatus.OK.value())
+          .message("방탈출 카페 조회에 성공했습니다.")
+          .data(stores.getValue())
+          .build();
+
+      return ResponseEntity.status(HttpStatus.OK).headers(fallbackHeaders(stores))
+          .body(responseMessage);
+    });
+  }
+
+  /**
+   * 방탈출 카페 커서 조회
+   *
+   * @param cursor      이전 응답의 nextCursor, 첫 페이지는 생략
+   * @param pageSize    페이지에 담는 데이터 수
+   * @param isDesc      오름차순, 내림차순 정렬 기준
+   * @param keyWord     검색 키워드
+   * @param storeRegion 카페 지역
+   * @param sort        정렬 기준 (id, name)
+   * @return status.code, message, Store 커서 페이지
+   */
+  @GetMapping("/stores/cursor")
+  public ResponseEntity<ResponseMessage<CursorPage<StoreResponseDto>>> getStoresByCursor(
+      @RequestParam(value = "cursor", required = false) String cursor,
+      @RequestParam(value = "pageSize", required = false, defaultValue = "10") int pageSize,
+      @RequestParam(value = "isDesc", required = false, defaultValue = "false") boolean isDesc,
+      @RequestParam(value = "keyWord", required = false) String keyWord,
+      @RequestParam(value = "storeRegion", required = false, defaultValue = "ALL") StoreRegion storeRegion,
+      @RequestParam(value = "sort", required = false, defaultValue = "name") String sort,
+      WebRequest webRequest) {
+
+    long version = versionOf(() -> catalogVersions.storeListVersion());
+    if (version >= 0 && webRequest.checkNotModified(eTag(version), version)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+    }
+
+    CursorPage<StoreResponseDto> stores = storeService.getStoresByCursor(cursor, pageSize, isDesc,
+        keyWord, storeRegion, sort);
+
+    ResponseMessage<CursorPage<StoreResponseDto>> responseMessage = ResponseMessage.<CursorPage<StoreResponseDto>>builder()
+        .statusCode(HttpStatus.OK.value())
+        .message("방탈출 카페 조회에 성공했습니다.")
+        .data(stores)
+        .build();
+
+    return ResponseEntity.status(HttpStatus.OK).body(responseMessage);
+  }
+
+  /**
+   * 방탈출 카페 조회 + 지역별 개수
+   *
+   * @param pageNum     페이지 번호
+   * @param pageSize    페이지에 담는 데이터 수
+   * @param isDesc      오름차순, 내림차순 정렬 기준
+   * @param keyWord     검색 키워드
+   * @param storeRegion 카페 지역
+   * @param sort        속성별 정렬 기준
+   * @return status.code, message, Store 페이지와 storeRegion 패싯
+   */
+  @GetMapping("/stores/facets")
+  public ResponseEntity<ResponseMessage<FacetedPage<StoreResponseDto>>> getStoresWithFacets(
+      @RequestParam(value = "pageNum", required = false, defaultValue = "1") int pageNum,
+      @RequestParam(value = "pageSize", required = false, defaultValue = "10") int pageSize,
+      @RequestParam(value = "isDesc", required = false, defaultValue = "false") boolean isDesc,
+      @RequestParam(value = "keyWord", required = false) String keyWord,
+      @RequestParam(value = "storeRegion", required = false, defaultValue = "ALL") StoreRegion storeRegion,
+      @RequestParam(value = "sort", required = false, defaultValue = "name") String sort,
+      WebRequest webRequest) {
+
+    long version = versionOf(() -> catalogVersions.storeListVersion());
+    if (version >= 0 && webRequest.checkNotModified(eTag(version), version)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+    }
 
-    Page<StoreResponseDto> stores = storeService.getStores(pageNum, pageSize, isDesc, keyWord,
-        storeRegion, sort);
+    FacetedPage<StoreResponseDto> stores = storeService.getStoresWithFacets(pageNum, pageSize,
+        isDesc, keyWord, storeRegion, sort);
 
-    ResponseMessage<Page<StoreResponseDto>> responseMessage = ResponseMessage.<Page<StoreResponseDto>>builder()
+    ResponseMessage<FacetedPage<StoreResponseDto>> responseMessage = ResponseMessage.<FacetedPage<StoreResponseDto>>builder()
         .statusCode(HttpStatus.OK.value())
         .message("방탈출 카페 조회에 성공했습니다.")
         .data(stores)
@@ -63,27 +168,214 @@ public class SearchController {
     return ResponseEntity.status(HttpStatus.OK).body(responseMessage);
   }
 
+  /**
+   * 위치 기반 방탈출 카페 조회
+   *
+   * @param latitude  위도
+   * @param longitude 경도
+   * @param radiusKm  반경 (km, 최소 5), 생략하면 가까운 순 limit 개
+   * @param limit     최대 개수
+   * @return status.code, message, 가까운 순 Store 리스트 (시군구 단위 정밀도라 거리는 제외)
+   */
+  @GetMapping("/stores/nearby")
+  public ResponseEntity<ResponseMessage<List<NearbyStoreResponseDto>>> getNearbyStores(
+      @RequestParam(value = "latitude") double latitude,
+      @RequestParam(value = "longitude") double longitude,
+      @RequestParam(value = "radiusKm", required = false) Double radiusKm,
+      @RequestParam(value = "limit", required = false, defaultValue = "10") int limit) {
+
+    List<NearbyStoreResponseDto> stores = storeService.getNearbyStores(latitude, longitude,
+        radiusKm, limit);
+
+    ResponseMessage<List<NearbyStoreResponseDto>> responseMessage = ResponseMessage.<List<NearbyStoreResponseDto>>builder()
+        .statusCode(HttpStatus.OK.value())
+        .message("방탈출 카페 조회에 성공했습니다.")
+        .data(stores)
+        .build();
+
+    return ResponseEntity.status(HttpStatus.OK).body(responseMessage);
+  }
+
+  /**
+   * 방탈출 카페 이름, 테마 제목 자동완성
+   *
+   * @param query 입력 중인 검색어 (초성 가능)
+   * @param limit 최대 개수
+   * @return status.code, message, 인기 순 자동완성 후보 리스트
+   */
+  @GetMapping("/autocomplete")
+  public ResponseEntity<ResponseMessage<List<AutocompleteResponseDto>>> autocomplete(
+      @RequestParam(value = "query") String query,
+      @RequestParam(value = "limit", required = false, defaultValue = "10") int limit) {
+
+    List<AutocompleteResponseDto> suggestions = autocompleteService.suggest(query, limit);
+
+    ResponseMessage<List<AutocompleteResponseDto>> responseMessage = ResponseMessage.<List<AutocompleteResponseDto>>builder()
+        .statusCode(HttpStatus.OK.value())
+        .message("자동완성 조회에 성공했습니다.")
+        .data(suggestions)
+        .build();
+
+    return ResponseEntity.status(HttpStatus.OK).body(responseMessage);
+  }
+
   /**
    * 방탈출 카페 테마 조회
    *
+   * @param storeId   방탈출 카페 id
+   * @param pageNum   페이지 번호
+   * @param pageSize  페이지에 담는 데이터 수
+   * @param isDesc    오름차순, 내림차순 정렬 기준
+   * @param sort      속성별 정렬 기준
+   * @param countMode 전체 개수 계산 방식 (EXACT, CACHED, NONE)
+   * @return status.code, message, EscapeRoom 리스트
+   */
+  @GetMapping("/stores/{storeId}/theme")
+  public CompletableFuture<ResponseEntity<ResponseMessage<Page<ThemeResponseDto>>>> getTheme(
+      @PathVariable Long storeId,
+      @RequestParam(value = "pageNum", required = false, defaultValue = "1") int pageNum,
+      @RequestParam(value = "pageSize", required = false, defaultValue = "10") int pageSize,
+      @RequestParam(value = "isDesc", required = false, defaultValue = "false") boolean isDesc,
+      @RequestParam(value = "sort", required = false, defaultValue = "title") String sort,
+      @RequestParam(value = "countMode", required = false, defaultValue = "CACHED") CountMode countMode,
+      WebRequest webRequest) {
+
+    long version = versionOf(() -> catalogVersions.themeListVersion(storeId));
+    if (version >= 0 && webRequest.checkNotModified(eTag(version), version)) {
+      return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+    }
+
+    return themeService.getTheme(storeId, pageNum, pageSize, isDesc, sort, countMode).thenApply(themes -> {
+      ResponseMessage<Page<ThemeResponseDto>> responseMessage = ResponseMessage.<Page<ThemeResponseDto>>builder()
+          .statusCode(HttpStatus.OK.value())
+          .message("방탈출 카페 테마 조회에 성공했습니다.")
+          .data(themes.getValue())
+          .build();
+
+      return ResponseEntity.status(HttpStatus.OK).headers(fallbackHeaders(themes))
+          .body(responseMessage);
+    });
+  }
+
+  /**
+   * 방탈출 카페 테마 커서 조회
+   *
    * @param storeId  방탈출 카페 id
-   * @param pageNum  페이지 번호
+   * @param cursor   이전 응답의 nextCursor, 첫 페이지는 생략
    * @param pageSize 페이지에 담는 데이터 수
    * @param isDesc   오름차순, 내림차순 정렬 기준
-   * @param sort     속성별 정렬 기준
-   * @return status.code, message, EscapeRoom 리스트
+   * @param sort     정렬 기준 (id, title)
+   * @return status.code, message, 테마 커서 페이지
    */
-  @GetMapping("/stores/{storeId}/theme")
-  public ResponseEntity<ResponseMessage<Page<ThemeResponseDto>>> getTheme(
+  @GetMapping("/stores/{storeId}/theme/cursor")
+  public ResponseEntity<ResponseMessage<CursorPage<ThemeResponseDto>>> getThemeByCursor(
+      @PathVariable Long storeId,
+      @RequestParam(value = "cursor", required = false) String cursor,
+      @RequestParam(value = "pageSize", required = false, defaultValue = "10") int pageSize,
+      @RequestParam(value = "isDesc", required = false, defaultValue = "false") boolean isDesc,
+      @RequestParam(value = "sort", required = false, defaultValue = "title") String sort,
+      WebRequest webRequest) {
+
+    long version = versionOf(() -> catalogVersions.themeListVersion(storeId));
+    if (version >= 0 && webRequest.checkNotModified(eTag(version), version)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+    }
+
+    CursorPage<ThemeResponseDto> themes = themeService.getThemeByCursor(storeId, cursor, pageSize,
+        isDesc, sort);
+
+    ResponseMessage<CursorPage<ThemeResponseDto>> responseMessage = ResponseMessage.<CursorPage<ThemeResponseDto>>builder()
+        .statusCode(HttpStatus.OK.value())
+        .message("방탈출 카페 테마 조회에 성공했습니다.")
+        .data(themes)
+        .build();
+
+    return ResponseEntity.status(HttpStatus.OK).body(responseMessage);
+  }
+
+  /**
+   * 방탈출 카페 테마 조회 + 테마 종류, 난이도, 가격대별 개수
+   *
+   * @param storeId   방탈출 카페 id
+   * @param pageNum   페이지 번호
+   * @param pageSize  페이지에 담는 데이터 수
+   * @param isDesc    오름차순, 내림차순 정렬 기준
+   * @param sort      속성별 정렬 기준
+   * @param themeType 테마 종류
+   * @param level     난이도
+   * @param minPrice  최소 가격
+   * @param maxPrice  최대 가격
+   * @return status.code, message, 테마 페이지와 themeType, level, price 패싯
+   */
+  @GetMapping("/stores/{storeId}/theme/facets")
+  public ResponseEntity<ResponseMessage<FacetedPage<ThemeResponseDto>>> getThemeWithFacets(
       @PathVariable Long storeId,
       @RequestParam(value = "pageNum", required = false, defaultValue = "1") int pageNum,
       @RequestParam(value = "pageSize", required = false, defaultValue = "10") int pageSize,
       @RequestParam(value = "isDesc", required = false, defaultValue = "false") boolean isDesc,
-      @RequestParam(value = "sort", required = false, defaultValue = "title") String sort) {
+      @RequestParam(value = "sort", required = false, defaultValue = "title") String sort,
+      @RequestParam(value = "themeType", required = false) ThemeType themeType,
+      @RequestParam(value = "level", required = false) Integer level,
+      @RequestParam(value = "minPrice", required = false) Long minPrice,
+      @RequestParam(value = "maxPrice", required = false) Long maxPrice,
+      WebRequest webRequest) {
+
+    long version = versionOf(() -> catalogVersions.themeListVersion(storeId));
+    if (version >= 0 && webRequest.checkNotModified(eTag(version), version)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+    }
+
+    FacetedPage<ThemeResponseDto> themes = themeService.getThemesWithFacets(storeId, pageNum,
+        pageSize, isDesc, sort, new ThemeFilter(themeType, level, minPrice, maxPrice));
+
+    ResponseMessage<FacetedPage<ThemeResponseDto>> responseMessage = ResponseMessage.<FacetedPage<ThemeResponseDto>>builder()
+        .statusCode(HttpStatus.OK.value())
+        .message("방탈출 카페 테마 조회에 성공했습니다.")
+        .data(themes)
+        .build();
 
-    Page<ThemeResponseDto> themes = themeService.getTheme(storeId, pageNum, pageSize, isDesc, sort);
+    return ResponseEntity.status(HttpStatus.OK).body(responseMessage);
+  }
 
-    ResponseMessage<Page<ThemeResponseDto>> responseMessage = ResponseMessage.<Page<ThemeResponseDto>>builder()
+  /**
+   * 전체 방탈출 카페 테마 조건 탐색 (가격 순)
+   *
+   * @param pageNum     페이지 번호
+   * @param pageSize    페이지에 담는 데이터 수
+   * @param isDesc      가격 내림차순 여부
+   * @param themeType   테마 종류 (여러 개면 그중 하나)
+   * @param storeRegion 카페 지역 (여러 개면 그중 하나)
+   * @param minLevel    최소 난이도
+   * @param maxLevel    최대 난이도
+   * @param players     플레이 인원
+   * @param minPrice    최소 가격
+   * @param maxPrice    최대 가격
+   * @return status.code, message, 테마 페이지
+   */
+  @GetMapping("/themes/discover")
+  public ResponseEntity<ResponseMessage<Page<ThemeDiscoveryResponseDto>>> discoverThemes(
+      @RequestParam(value = "pageNum", required = false, defaultValue = "1") int pageNum,
+      @RequestParam(value = "pageSize", required = false, defaultValue = "10") int pageSize,
+      @RequestParam(value = "isDesc", required = false, defaultValue = "false") boolean isDesc,
+      @RequestParam(value = "themeType", required = false) List<ThemeType> themeType,
+      @RequestParam(value = "storeRegion", required = false) List<StoreRegion> storeRegion,
+      @RequestParam(value = "minLevel", required = false) Integer minLevel,
+      @RequestParam(value = "maxLevel", required = false) Integer maxLevel,
+      @RequestParam(value = "players", required = false) Integer players,
+      @RequestParam(value = "minPrice", required = false) Long minPrice,
+      @RequestParam(value = "maxPrice", required = false) Long maxPrice,
+      WebRequest webRequest) {
+
+    long version = themeService.getDiscoveryVersion();
+    if (version >= 0 && webRequest.checkNotModified(eTag(version), version)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+    }
+
+    Page<ThemeDiscoveryResponseDto> themes = themeService.discoverThemes(
+        new ThemeDiscoveryFilter(themeType, storeRegion, minLevel, maxLevel, players, minPrice,
+            maxPrice), pageNum, pageSize, isDesc);
+
+    ResponseMessage<Page<ThemeDiscoveryResponseDto>> responseMessage = ResponseMessage.<Page<ThemeDiscoveryResponseDto>>builder()
         .statusCode(HttpStatus.OK.value())
         .message("방탈출 카페 테마 조회에 성공했습니다.")
         .data(themes)
@@ -100,19 +392,20 @@ public class SearchController {
    * @return status.code, message, theme 반환
    */
   @GetMapping("/stores/theme/{themeId}/info")
-  public ResponseEntity<ResponseMessage<ThemeInfoResponseDto>> getThemeInfo(
+  public CompletableFuture<ResponseEntity<ResponseMessage<ThemeInfoResponseDto>>> getThemeInfo(
       @RequestParam(value = "storeId") Long storeId,
       @PathVariable Long themeId) {
 
-    ThemeInfoResponseDto responseDto = themeService.getThemeInfo(storeId, themeId);
-
-    ResponseMessage<ThemeInfoResponseDto> responseMessage = ResponseMessage.<ThemeInfoResponseDto>builder()
-        .statusCode(HttpStatus.OK.value())
-        .message("방탈출 카페 테마 조회에 성공했습니다")
-        .data(responseDto)
-        .build();
+    return themeService.getThemeInfo(storeId, themeId).thenApply(responseDto -> {
+      ResponseMessage<ThemeInfoResponseDto> responseMessage = ResponseMessage.<ThemeInfoResponseDto>builder()
+          .statusCode(HttpStatus.OK.value())
+          .message("방탈출 카페 테마 조회에 성공했습니다")
+          .data(responseDto.getValue())
+          .build();
 
-    return ResponseEntity.status(HttpStatus.OK).body(responseMessage);
+      return ResponseEntity.status(HttpStatus.OK).headers(fallbackHeaders(responseDto))
+          .body(responseMessage);
+    });
   }
 
   /**
@@ -123,65 +416,193 @@ public class SearchController {
    * @return status.code, message, theme 시간 반환
    */
   @GetMapping("/stores/theme/{themeId}/time")
-  public ResponseEntity<ResponseMessage<List<ThemeTimeResponseDto>>> getThemeTime(
+  public CompletableFuture<ResponseEntity<ResponseMessage<List<ThemeTimeResponseDto>>>> getThemeTime(
       @RequestParam(value = "storeId") Long storeId,
       @RequestParam(value = "day") String day,
       @PathVariable Long themeId) {
 
-    List<ThemeTimeResponseDto> responseDtoList = themeService.getThemeTime(storeId, themeId, day);
+    return themeService.getThemeTime(storeId, themeId, day).thenApply(responseDtoList -> {
+      ResponseMessage<List<ThemeTimeResponseDto>> responseMessage = ResponseMessage.<List<ThemeTimeResponseDto>>builder()
+          .statusCode(HttpStatus.OK.value())
+          .message("방탈출 카페 테마 시간 조회에 성공했습니다.")
+          .data(responseDtoList.getValue())
+          .build();
+
+      return ResponseEntity.status(HttpStatus.OK).headers(fallbackHeaders(responseDtoList))
+          .body(responseMessage);
+    });
+  }
+
+  /**
+   * 방탈출 카페 테마 기간별 예약 가능 요약 조회
+   *
+   * @param storeId 검색할 테마의 스토어 id
+   * @param from    조회 시작 날짜 (yyyy-MM-dd)
+   * @param to      조회 종료 날짜 (yyyy-MM-dd, 포함, 최대 62일)
+   * @param themeId 해당 카페의 테마 id
+   * @return status.code, message, 날짜별 예약 가능 요약 반환
+   */
+  @GetMapping("/stores/theme/{themeId}/availability")
+  public ResponseEntity<ResponseMessage<List<ThemeDayAvailabilityResponseDto>>> getThemeAvailability(
+      @RequestParam(value = "storeId") Long storeId,
+      @RequestParam(value = "from") String from,
+      @RequestParam(value = "to") String to,
+      @PathVariable Long themeId) {
+
+    List<ThemeDayAvailabilityResponseDto> availabilities = themeService.getThemeAvailability(
+        storeId, themeId, from, to);
 
-    ResponseMessage<List<ThemeTimeResponseDto>> responseMessage = ResponseMessage.<List<ThemeTimeResponseDto>>builder()
+    ResponseMessage<List<ThemeDayAvailabilityResponseDto>> responseMessage = ResponseMessage.<List<ThemeDayAvailabilityResponseDto>>builder()
         .statusCode(HttpStatus.OK.value())
-        .message("방탈출 카페 테마 시간 조회에 성공했습니다.")
-        .data(responseDtoList)
+        .message("방탈출 카페 테마 예약 가능 기간 조회에 성공했습니다.")
+        .data(availabilities)
         .build();
 
     return ResponseEntity.status(HttpStatus.OK).body(responseMessage);
   }
 
   /**
-   * 방탈출 카페 테마 리뷰 조회
+   * 방탈출 카페 테마 리뷰 조회 (최신순 최대 100개)
    *
    * @param storeId 방탈출 카페 id
    * @param themeId , 테마 id가 들어있는 dto
    * @return status.code, message, 리뷰 반환
+   * @deprecated 전체 리뷰는 /reviews/cursor 로 조회
    */
+  @Deprecated
   @GetMapping("/reviews")
-  public ResponseEntity<ResponseMessage<List<ReviewResponseDto>>> getReview(
+  public CompletableFuture<ResponseEntity<ResponseMessage<List<ReviewResponseDto>>>> getReview(
       @RequestParam(value = "storeId") Long storeId,
-      @RequestParam(value = "themeId") Long themeId) {
+      @RequestParam(value = "themeId") Long themeId,
+      WebRequest webRequest) {
+
+    long version = versionOf(() -> catalogVersions.reviewsVersion(storeId, themeId));
+    if (version >= 0 && webRequest.checkNotModified(eTag(version), version)) {
+      return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+    }
+
+    return reviewService.getReview(storeId, themeId).thenApply(reviewResponseDtoList -> {
+      ResponseMessage<List<ReviewResponseDto>> responseMessage = ResponseMessage.<List<ReviewResponseDto>>builder()
+          .statusCode(HttpStatus.OK.value())
+          .message("리뷰 조회에 성공했습니다.")
+          .data(reviewResponseDtoList.getValue())
+          .build();
+
+      return ResponseEntity.status(HttpStatus.OK).headers(fallbackHeaders(reviewResponseDtoList))
+          .body(responseMessage);
+    });
+  }
+
+  /**
+   * 방탈출 카페 테마 리뷰 커서 조회 (최신순)
+   *
+   * @param storeId  방탈출 카페 id
+   * @param themeId  테마 id
+   * @param cursor   이전 응답의 nextCursor, 첫 페이지는 생략
+   * @param pageSize 페이지에 담는 데이터 수
+   * @return status.code, message, 리뷰 커서 페이지
+   */
+  @GetMapping("/reviews/cursor")
+  public ResponseEntity<ResponseMessage<CursorPage<ReviewResponseDto>>> getReviewsByCursor(
+      @RequestParam(value = "storeId") Long storeId,
+      @RequestParam(value = "themeId") Long themeId,
+      @RequestParam(value = "cursor", required = false) String cursor,
+      @RequestParam(value = "pageSize", required = false, defaultValue = "10") int pageSize,
+      WebRequest webRequest) {
 
-    List<ReviewResponseDto> reviewResponseDtoList = reviewService.getReview(storeId, themeId);
+    long version = versionOf(() -> catalogVersions.reviewsVersion(storeId, themeId));
+    if (version >= 0 && webRequest.checkNotModified(eTag(version), version)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+    }
 
-    ResponseMessage<List<ReviewResponseDto>> responseMessage = ResponseMessage.<List<ReviewResponseDto>>builder()
+    CursorPage<ReviewResponseDto> reviews = reviewService.getReviewsByCursor(storeId, themeId,
+        cursor, pageSize);
+
+    ResponseMessage<CursorPage<ReviewResponseDto>> responseMessage = ResponseMessage.<CursorPage<ReviewResponseDto>>builder()
         .statusCode(HttpStatus.OK.value())
         .message("리뷰 조회에 성공했습니다.")
-        .data(reviewResponseDtoList)
+        .data(reviews)
         .build();
 
     return ResponseEntity.status(HttpStatus.OK).body(responseMessage);
   }
 
+  /**
+   * 방탈출 카페 테마 별점 요약 조회
+   *
+   * @param storeId 방탈출 카페 id
+   * @param themeId 테마 id
+   * @return status.code, message, 리뷰 수, 평균 별점, 1~5점 분포
+   */
+  @GetMapping("/reviews/summary")
+  public ResponseEntity<ResponseMessage<ReviewRatingSummaryResponseDto>> getThemeRatingSummary(
+      @RequestParam(value = "storeId") Long storeId,
+      @RequestParam(value = "themeId") Long themeId,
+      WebRequest webRequest) {
+
+    long version = versionOf(() -> catalogVersions.reviewsVersion(storeId, themeId));
+    if (version >= 0 && webRequest.checkNotModified(eTag(version), version)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+    }
+
+    ReviewRatingSummaryResponseDto summary = reviewService.getThemeRatingSummary(storeId, themeId);
+
+    ResponseMessage<ReviewRatingSummaryResponseDto> responseMessage = ResponseMessage.<ReviewRatingSummaryResponseDto>builder()
+        .statusCode(HttpStatus.OK.value())
+        .message("테마 별점 요약 조회에 성공했습니다.")
+        .data(summary)
+        .build();
+
+    return ResponseEntity.status(HttpStatus.OK).body(responseMessage);
+  }
 
   /**
-   * 인기 방탈출 카페 조회
+   * 방탈출 카페 별점 요약 조회
    *
-   * @return status.code, message, store 반환
+   * @param storeId 방탈출 카페 id
+   * @return status.code, message, 리뷰 수, 평균 별점, 1~5점 분포
    */
-  @GetMapping("/top-stores")
-  public ResponseEntity<ResponseMessage<TopStoreResponseDto>> getTopStores() {
+  @GetMapping("/stores/{storeId}/reviews/summary")
+  public ResponseEntity<ResponseMessage<ReviewRatingSummaryResponseDto>> getStoreRatingSummary(
+      @PathVariable Long storeId,
+      WebRequest webRequest) {
+
+    long version = versionOf(() -> catalogVersions.storeReviewsVersion(storeId));
+    if (version >= 0 && webRequest.checkNotModified(eTag(version), version)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+    }
 
-    TopStoreResponseDto responseDto = storeService.getTopStores();
+    ReviewRatingSummaryResponseDto summary = reviewService.getStoreRatingSummary(storeId);
 
-    ResponseMessage<TopStoreResponseDto> responseMessage = ResponseMessage.<TopStoreResponseDto>builder()
+    ResponseMessage<ReviewRatingSummaryResponseDto> responseMessage = ResponseMessage.<ReviewRatingSummaryResponseDto>builder()
         .statusCode(HttpStatus.OK.value())
-        .message("인기 방탈출 카페 조회에 성공했습니다.")
-        .data(responseDto)
+        .message("방탈출 카페 별점 요약 조회에 성공했습니다.")
+        .data(summary)
         .build();
 
     return ResponseEntity.status(HttpStatus.OK).body(responseMessage);
   }
 
+  /**
+   * 인기 방탈출 카페 조회
+   *
+   * @return status.code, message, store 반환
+   */
+  @GetMapping("/top-stores")
+  public CompletableFuture<ResponseEntity<ResponseMessage<TopStoreResponseDto>>> getTopStores() {
+
+    return storeService.getTopStores().thenApply(responseDto -> {
+      ResponseMessage<TopStoreResponseDto> responseMessage = ResponseMessage.<TopStoreResponseDto>builder()
+          .statusCode(HttpStatus.OK.value())
+          .message("인기 방탈출 카페 조회에 성공했습니다.")
+          .data(responseDto.getValue())
+          .build();
+
+      return ResponseEntity.status(HttpStatus.OK).headers(fallbackHeaders(responseDto))
+          .body(responseMessage);
+    });
+  }
+
   /**
    * 방탈출 카페 상세 조회
    *
@@ -190,7 +611,13 @@ public class SearchController {
    */
   @GetMapping("/stores/{storeId}/info")
   public ResponseEntity<ResponseMessage<StoreDetailResponseDto>> getStoreInfo(
-      @PathVariable Long storeId) {
+      @PathVariable Long storeId,
+      WebRequest webRequest) {
+
+    long version = versionOf(() -> catalogVersions.storeVersion(storeId));
+    if (version >= 0 && webRequest.checkNotModified(eTag(version), version)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+    }
 
     StoreDetailResponseDto responseDto = storeService.getStoreInfo(storeId);
 
@@ -202,8 +629,36 @@ public class SearchController {
 
     return ResponseEntity.status(HttpStatus.OK).body(responseMessage);
   }
-}
-
 
+  /**
+   * 응답 버전 (redis 장애로 읽지 못하면 -1 을 반환해 ETag 없이 응답)
+   */
+  private static long versionOf(LongSupplier version) {
+    try {
+      return version.getAsLong();
+    } catch (RuntimeException e) {
+      log.warn("응답 버전 조회 실패, ETag 없이 응답 : {}", e.getMessage());
+      return -1;
+    }
+  }
 
+  /**
+   * 응답 버전으로 만든 ETag (조건부 조회 시 DB, kafka 를 거치지 않고 304 응답)
+   */
+  private static String eTag(long version) {
+    return "\"" + version + "\"";
+  }
 
+  /**
+   * 마지막 정상 응답으로 대신 응답했으면 stale 경고와 경과 시간을 알리고 저장하지 않도록 함
+   */
+  private static HttpHeaders fallbackHeaders(FallbackResult<?> result) {
+    HttpHeaders headers = new HttpHeaders();
+    if (result.isStale()) {
+      headers.set(HttpHeaders.WARNING, "110 - \"Response is Stale\"");
+      headers.set(HttpHeaders.AGE, String.valueOf(result.getAgeMillis() / 1000));
+      headers.setCacheControl("no-store");
+    }
+    return headers;
+  }
+}
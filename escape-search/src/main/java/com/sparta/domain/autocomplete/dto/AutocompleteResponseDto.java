@@ -0,0 +1,21 @@
+package com.sparta.domain.autocomplete.dto;
+
+import com.sparta.domain.autocomplete.service.Suggestion;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class AutocompleteResponseDto {
+    private SuggestionType type;
+    private Long id;
+    private Long storeId;
+    private String name;
+
+    public AutocompleteResponseDto(Suggestion suggestion){
+        this.type = suggestion.getType();
+        this.id = suggestion.getId();
+        this.storeId = suggestion.getStoreId();
+        this.name = suggestion.getName();
+    }
+}
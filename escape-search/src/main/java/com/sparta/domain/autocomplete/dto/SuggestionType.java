@@ -0,0 +1,13 @@
+package com.sparta.domain.autocomplete.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum SuggestionType {
+    STORE("방탈출 카페"),
+    THEME("테마");
+
+    private final String name;
+}
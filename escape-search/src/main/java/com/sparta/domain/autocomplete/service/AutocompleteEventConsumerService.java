@@ -0,0 +1,45 @@
+package com.sparta.domain.autocomplete.service;
+
+import com.sparta.domain.store.event.StoreChangedEvent;
+import com.sparta.domain.theme.event.ThemeChangedEvent;
+import com.sparta.global.kafka.KafkaTopic;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.TopicPartition;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AutocompleteEventConsumerService {
+
+  private final AutocompleteIndex autocompleteIndex;
+
+  /**
+   * kafka consumer 스토어, 테마 변경 이벤트를 자동완성 색인에 반영 (값이 null 이면 삭제된 항목)
+   * <p>
+   * 처음 상태는 DB 에서 읽으므로 기동 이후의 변경만 읽음 (그룹 없이 파티션 직접 할당, latest). 읽기 모델 사용 여부와 관계없이 동작
+   *
+   * @param record 키는 변경된 항목의 id
+   */
+  @KafkaListener(id = "autocompleteEventListener", idIsGroup = false,
+      topicPartitions = {
+          @TopicPartition(topic = KafkaTopic.STORE_CHANGED_TOPIC, partitions = "0"),
+          @TopicPartition(topic = KafkaTopic.THEME_CHANGED_TOPIC, partitions = "0")},
+      properties = "auto.offset.reset=latest",
+      autoStartup = "${search.autocomplete.incremental:true}",
+      containerFactory = "catalogEventKafkaListenerContainerFactory")
+  public void handleCatalogEvent(ConsumerRecord<String, Object> record) {
+    Long id = Long.valueOf(record.key());
+
+    switch (record.topic()) {
+      case KafkaTopic.STORE_CHANGED_TOPIC -> autocompleteIndex.applyStore(id,
+          record.value() instanceof StoreChangedEvent store ? store : null);
+      case KafkaTopic.THEME_CHANGED_TOPIC -> autocompleteIndex.applyTheme(id,
+          record.value() instanceof ThemeChangedEvent theme ? theme : null);
+      default -> log.warn("알 수 없는 카탈로그 토픽 : {}", record.topic());
+    }
+  }
+}
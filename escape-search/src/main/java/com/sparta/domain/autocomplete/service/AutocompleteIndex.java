@@ -0,0 +1,174 @@
+package com.sparta.domain.autocomplete.service;
+
+import com.sparta.domain.autocomplete.dto.SuggestionType;
+import com.sparta.domain.store.entity.Store;
+import com.sparta.domain.store.entity.StoreStatus;
+import com.sparta.domain.store.event.StoreChangedEvent;
+import com.sparta.domain.store.repository.StoreRepository;
+import com.sparta.domain.theme.dto.ThemeNameProjection;
+import com.sparta.domain.theme.entity.ThemeStatus;
+import com.sparta.domain.theme.event.ThemeChangedEvent;
+import com.sparta.domain.theme.repository.ThemeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 스토어 이름, 테마 제목 자동완성 색인 (인스턴스별 메모리)
+ * <p>
+ * 기동 시와 rebuild-interval-ms 마다 DB 에서 통째로 다시 만들고 (인기도 갱신), 그 사이에는 카탈로그 변경 이벤트로 후보를 하나씩 추가, 교체,
+ * 삭제. 다시 만드는 도중 들어온 변경은 모아 두었다가 새 색인에 한 번 더 반영한 뒤 교체하므로 빠지지 않음. 인기도는 테마는 좋아요 수, 스토어는
+ * 테마 좋아요 수 합이고 이벤트로 바뀐 후보는 이전 인기도를 유지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AutocompleteIndex {
+
+  private final StoreRepository storeRepository;
+  private final ThemeRepository themeRepository;
+
+  private final Object rebuildLock = new Object();
+  private final Object writeLock = new Object();
+  private volatile SuggestionTrie trie = new SuggestionTrie();
+  // 다시 만드는 중에 들어온 변경 (다시 만드는 중이 아니면 null)
+  private List<Consumer<SuggestionTrie>> pendingChanges;
+  private volatile boolean rebuildRequested;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void init() {
+    rebuild();
+  }
+
+  @Scheduled(initialDelayString = "${search.autocomplete.rebuild-interval-ms:600000}",
+      fixedDelayString = "${search.autocomplete.rebuild-interval-ms:600000}")
+  public void rebuild() {
+    synchronized (rebuildLock) {
+      synchronized (writeLock) {
+        pendingChanges = new ArrayList<>();
+        rebuildRequested = false;
+      }
+      try {
+        SuggestionTrie rebuilt = SuggestionTrie.of(load());
+        synchronized (writeLock) {
+          pendingChanges.forEach(change -> change.accept(rebuilt));
+          trie = rebuilt;
+        }
+      } catch (RuntimeException e) {
+        // 실패하면 이전 색인으로 계속 응답
+        log.error("자동완성 색인 갱신 실패", e);
+      } finally {
+        synchronized (writeLock) {
+          pendingChanges = null;
+        }
+      }
+    }
+  }
+
+  /**
+   * 이벤트만으로 채울 수 없는 변경(다시 활성화된 스토어의 테마)이 있으면 다음 주기를 기다리지 않고 다시 만듦
+   */
+  @Scheduled(fixedDelayString = "${search.autocomplete.request-check-interval-ms:5000}")
+  public void rebuildIfRequested() {
+    if (rebuildRequested) {
+      rebuild();
+    }
+  }
+
+  /**
+   * 검색어로 시작하는 스토어, 테마 (인기 순)
+   */
+  public List<Suggestion> suggest(String query, int limit) {
+    return trie.suggest(query, limit);
+  }
+
+  /**
+   * 스토어 변경 반영 (비활성화, 삭제되면 스토어와 그 테마를 함께 제거)
+   *
+   * @param storeId 스토어 id
+   * @param event   변경 후 상태, 삭제되었으면 null
+   */
+  public void applyStore(Long storeId, StoreChangedEvent event) {
+    if (event == null || event.getStoreStatus() != StoreStatus.ACTIVE) {
+      change(target -> {
+        target.remove(SuggestionType.STORE, storeId);
+        target.removeIf(suggestion -> suggestion.getType() == SuggestionType.THEME
+            && storeId.equals(suggestion.getStoreId()));
+      });
+      return;
+    }
+
+    change(target -> {
+      Optional<Suggestion> previous = target.get(SuggestionType.STORE, storeId);
+      target.put(new Suggestion(SuggestionType.STORE, storeId, storeId, event.getName(),
+          previous.map(Suggestion::getPopularity).orElse(0L)));
+      if (previous.isEmpty()) {
+        // 새 스토어면 테마가 없지만, 다시 활성화된 스토어면 빠져 있던 테마를 DB 에서 다시 읽어야 함
+        rebuildRequested = true;
+      }
+    });
+  }
+
+  /**
+   * 테마 변경 반영 (비활성화, 삭제되면 제거)
+   *
+   * @param themeId 테마 id
+   * @param event   변경 후 상태, 삭제되었으면 null
+   */
+  public void applyTheme(Long themeId, ThemeChangedEvent event) {
+    if (event == null || event.getThemeStatus() != ThemeStatus.ACTIVE) {
+      change(target -> target.remove(SuggestionType.THEME, themeId));
+      return;
+    }
+
+    change(target -> {
+      // 비활성화된 스토어의 테마는 넣지 않음
+      if (target.get(SuggestionType.STORE, event.getStoreId()).isEmpty()) {
+        return;
+      }
+      long popularity = target.get(SuggestionType.THEME, themeId)
+          .map(Suggestion::getPopularity).orElse(0L);
+      target.put(new Suggestion(SuggestionType.THEME, themeId, event.getStoreId(),
+          event.getTitle(), popularity));
+    });
+  }
+
+  private void change(Consumer<SuggestionTrie> change) {
+    // 지금 색인에 바로 반영하고, 다시 만드는 중이면 새 색인에도 반영하도록 보관
+    synchronized (writeLock) {
+      change.accept(trie);
+      if (pendingChanges != null) {
+        pendingChanges.add(change);
+      }
+    }
+  }
+
+  private List<Suggestion> load() {
+    List<ThemeNameProjection> themes = themeRepository.findAllActiveNames();
+    Map<Long, Long> storePopularity = new HashMap<>();
+    for (ThemeNameProjection theme : themes) {
+      storePopularity.merge(theme.getStoreId(), theme.getRecommendationCount(), Long::sum);
+    }
+
+    List<Suggestion> suggestions = new ArrayList<>();
+    for (Store store : storeRepository.findAllByStoreStatus(StoreStatus.ACTIVE)) {
+      suggestions.add(new Suggestion(SuggestionType.STORE, store.getId(), store.getId(),
+          store.getName(), storePopularity.getOrDefault(store.getId(), 0L)));
+    }
+    for (ThemeNameProjection theme : themes) {
+      suggestions.add(new Suggestion(SuggestionType.THEME, theme.getThemeId(),
+          theme.getStoreId(), theme.getTitle(), theme.getRecommendationCount()));
+    }
+    return suggestions;
+  }
+}
@@ -0,0 +1,35 @@
+package com.sparta.domain.autocomplete.service;
+
+import com.sparta.domain.autocomplete.dto.AutocompleteResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class AutocompleteService {
+
+  // 이보다 긴 검색어는 이름이 아니라고 보고 바로 빈 결과
+  private static final int QUERY_LENGTH_MAX = 50;
+
+  private final AutocompleteIndex autocompleteIndex;
+
+  /**
+   * 스토어 이름, 테마 제목 자동완성 (메모리 색인으로 직접 조회, 인기 순)
+   *
+   * @param query 입력 중인 검색어 (초성 가능)
+   * @param limit 최대 개수 (1 ~ 20 으로 맞춤)
+   * @return 자동완성 후보 리스트
+   */
+  public List<AutocompleteResponseDto> suggest(String query, int limit) {
+    if (query == null || query.isBlank() || query.length() > QUERY_LENGTH_MAX) {
+      return List.of();
+    }
+
+    int size = Math.max(1, Math.min(limit, SuggestionTrie.MAX_SUGGESTIONS));
+    return autocompleteIndex.suggest(query, size).stream()
+        .map(AutocompleteResponseDto::new)
+        .toList();
+  }
+}
@@ -0,0 +1,28 @@
+package com.sparta.domain.autocomplete.service;
+
+import com.sparta.domain.autocomplete.dto.SuggestionType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 자동완성 후보 (불변, 이름이나 인기도가 바뀌면 새 인스턴스로 교체)
+ */
+@Getter
+@RequiredArgsConstructor
+public class Suggestion {
+
+  private final SuggestionType type;
+  private final Long id;
+  // 테마의 스토어 id (스토어는 자기 id)
+  private final Long storeId;
+  private final String name;
+  private final long popularity;
+
+  public String key() {
+    return key(type, id);
+  }
+
+  public static String key(SuggestionType type, Long id) {
+    return type.name() + ":" + id;
+  }
+}
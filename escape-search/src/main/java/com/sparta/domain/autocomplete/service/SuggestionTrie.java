@@ -0,0 +1,297 @@
+package com.sparta.domain.autocomplete.service;
+
+import com.sparta.domain.autocomplete.dto.SuggestionType;
+import com.sparta.global.util.Hangul;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * 이름 접두어 자동완성 trie (초성 검색 지원)
+ * <p>
+ * 이름을 소문자로 바꾸고 공백을 뺀 키로 색인하고, 두 번째 단어부터 시작하는 키도 함께 넣어 "강남점" 처럼 중간 단어로도 찾을 수 있음. 노드마다
+ * 하위 후보 중 인기 순 상위 MAX_SUGGESTIONS 개를 미리 들고 있어 조회는 접두어 길이만큼 내려간 뒤 그 목록만 합치면 끝남.
+ * <p>
+ * 검색어의 초성 자모(ㅂ)는 그 초성으로 시작하는 모든 음절, 마지막 글자가 받침 없는 음절(바)이면 받침만 다른 음절(방, 밝 ...)과도 맞춰
+ * 입력 중인 글자도 찾음. 변경은 쓰기 락, 조회는 읽기 락
+ */
+public class SuggestionTrie {
+
+  public static final int MAX_SUGGESTIONS = 20;
+
+  // 인기 많은 순, 같으면 짧은 이름, 종류, id 순
+  static final Comparator<Suggestion> RANK = Comparator
+      .comparingLong(Suggestion::getPopularity).reversed()
+      .thenComparingInt(suggestion -> suggestion.getName().length())
+      .thenComparing(Suggestion::getType)
+      .thenComparing(Suggestion::getId);
+
+  private final Node root = new Node();
+  private final Map<String, Suggestion> suggestions = new HashMap<>();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  public static SuggestionTrie of(Collection<Suggestion> suggestions) {
+    SuggestionTrie trie = new SuggestionTrie();
+    suggestions.forEach(trie::put);
+    return trie;
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return suggestions.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public Optional<Suggestion> get(SuggestionType type, Long id) {
+    lock.readLock().lock();
+    try {
+      return Optional.ofNullable(suggestions.get(Suggestion.key(type, id)));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 후보 추가 (같은 종류, id 의 후보가 있으면 교체)
+   */
+  public void put(Suggestion suggestion) {
+    lock.writeLock().lock();
+    try {
+      Suggestion previous = suggestions.put(suggestion.key(), suggestion);
+      if (previous != null) {
+        unlink(previous);
+      }
+      for (String key : keys(suggestion.getName())) {
+        Node node = root;
+        offer(node, suggestion);
+        for (int i = 0; i < key.length(); i++) {
+          node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+          offer(node, suggestion);
+        }
+        node.terminals.add(suggestion);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(SuggestionType type, Long id) {
+    lock.writeLock().lock();
+    try {
+      Suggestion previous = suggestions.remove(Suggestion.key(type, id));
+      if (previous != null) {
+        unlink(previous);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 조건에 맞는 후보 모두 제거 (스토어가 비활성화되면 그 스토어의 테마까지 제거할 때 사용)
+   */
+  public void removeIf(Predicate<Suggestion> filter) {
+    lock.writeLock().lock();
+    try {
+      List<Suggestion> removed = suggestions.values().stream().filter(filter).toList();
+      for (Suggestion suggestion : removed) {
+        suggestions.remove(suggestion.key());
+        unlink(suggestion);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 검색어로 시작하는 후보 (인기 순)
+   *
+   * @param query 검색어 (대소문자, 공백 무시, 초성 가능)
+   * @param limit 최대 개수 (MAX_SUGGESTIONS 이하)
+   */
+  public List<Suggestion> suggest(String query, int limit) {
+    String normalized = normalize(query);
+    if (normalized.isEmpty() || limit <= 0) {
+      return List.of();
+    }
+
+    lock.readLock().lock();
+    try {
+      List<Node> nodes = List.of(root);
+      for (int i = 0; i < normalized.length() && !nodes.isEmpty(); i++) {
+        nodes = descend(nodes, normalized.charAt(i), i == normalized.length() - 1);
+      }
+      return merge(nodes, Math.min(limit, MAX_SUGGESTIONS));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private static List<Node> descend(List<Node> nodes, char c, boolean last) {
+    boolean choseong = Hangul.isChoseong(c);
+    boolean composing = last && Hangul.isSyllable(c) && !Hangul.hasJongseong(c);
+
+    List<Node> next = new ArrayList<>();
+    for (Node node : nodes) {
+      if (!choseong && !composing) {
+        Node child = node.children.get(c);
+        if (child != null) {
+          next.add(child);
+        }
+        continue;
+      }
+      for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+        char key = child.getKey();
+        if (key == c
+            || (choseong && Hangul.isSyllable(key) && Hangul.choseong(key) == c)
+            || (composing && Hangul.withoutJongseong(key) == c)) {
+          next.add(child.getValue());
+        }
+      }
+    }
+    return next;
+  }
+
+  /**
+   * 노드별 상위 목록(각각 정렬됨)을 k-way 병합해 중복 없이 limit 개
+   */
+  private static List<Suggestion> merge(List<Node> nodes, int limit) {
+    if (nodes.size() == 1) {
+      List<Suggestion> top = nodes.get(0).top;
+      return new ArrayList<>(top.subList(0, Math.min(limit, top.size())));
+    }
+
+    PriorityQueue<Cursor> queue = new PriorityQueue<>(
+        Comparator.comparing(Cursor::current, RANK));
+    for (Node node : nodes) {
+      if (!node.top.isEmpty()) {
+        queue.add(new Cursor(node.top));
+      }
+    }
+
+    List<Suggestion> merged = new ArrayList<>(limit);
+    Set<String> seen = new HashSet<>();
+    while (!queue.isEmpty() && merged.size() < limit) {
+      Cursor cursor = queue.poll();
+      Suggestion suggestion = cursor.current();
+      if (seen.add(suggestion.key())) {
+        merged.add(suggestion);
+      }
+      if (++cursor.position < cursor.top.size()) {
+        queue.add(cursor);
+      }
+    }
+    return merged;
+  }
+
+  private void unlink(Suggestion suggestion) {
+    for (String key : keys(suggestion.getName())) {
+      List<Node> path = new ArrayList<>(key.length() + 1);
+      Node node = root;
+      path.add(node);
+      for (int i = 0; i < key.length() && node != null; i++) {
+        node = node.children.get(key.charAt(i));
+        path.add(node);
+      }
+      if (node == null) {
+        continue;
+      }
+      node.terminals.remove(suggestion);
+
+      // 아래부터 올라가며 상위 목록을 다시 계산하고 빈 노드는 떼어냄
+      for (int depth = key.length(); depth >= 0; depth--) {
+        Node current = path.get(depth);
+        if (current.top.contains(suggestion)) {
+          recompute(current);
+        }
+        if (depth > 0 && current.terminals.isEmpty() && current.children.isEmpty()) {
+          path.get(depth - 1).children.remove(key.charAt(depth - 1));
+        }
+      }
+    }
+  }
+
+  private static void offer(Node node, Suggestion suggestion) {
+    if (node.top.contains(suggestion)) {
+      return;
+    }
+    int position = Collections.binarySearch(node.top, suggestion, RANK);
+    position = position < 0 ? -position - 1 : position;
+    if (position >= MAX_SUGGESTIONS) {
+      return;
+    }
+    node.top.add(position, suggestion);
+    if (node.top.size() > MAX_SUGGESTIONS) {
+      node.top.remove(node.top.size() - 1);
+    }
+  }
+
+  private static void recompute(Node node) {
+    // 하위 노드의 상위 목록 합집합에 전체 상위 MAX_SUGGESTIONS 개가 모두 들어 있음
+    List<Suggestion> candidates = new ArrayList<>(node.terminals);
+    for (Node child : node.children.values()) {
+      candidates.addAll(child.top);
+    }
+    node.top = new ArrayList<>(candidates.stream()
+        .distinct()
+        .sorted(RANK)
+        .limit(MAX_SUGGESTIONS)
+        .toList());
+  }
+
+  /**
+   * 색인 키 (전체 이름 + 두 번째 단어부터 시작하는 뒷부분)
+   */
+  static Set<String> keys(String name) {
+    String[] words = name.trim().toLowerCase(Locale.ROOT).split("\\s+");
+    Set<String> keys = new LinkedHashSet<>();
+    for (int i = 0; i < words.length; i++) {
+      String key = String.join("", List.of(words).subList(i, words.length));
+      if (!key.isEmpty()) {
+        keys.add(key);
+      }
+    }
+    return keys;
+  }
+
+  static String normalize(String query) {
+    return query == null ? "" : query.toLowerCase(Locale.ROOT).replaceAll("\\s+", "");
+  }
+
+  private static class Node {
+
+    private final Map<Character, Node> children = new HashMap<>(4);
+    private final List<Suggestion> terminals = new ArrayList<>(1);
+    // 하위 후보 중 인기 순 상위 MAX_SUGGESTIONS 개
+    private List<Suggestion> top = new ArrayList<>(1);
+  }
+
+  @RequiredArgsConstructor
+  private static class Cursor {
+
+    private final List<Suggestion> top;
+    private int position;
+
+    private Suggestion current() {
+      return top.get(position);
+    }
+  }
+}
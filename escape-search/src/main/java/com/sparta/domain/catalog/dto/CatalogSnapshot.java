@@ -0,0 +1,28 @@
+package com.sparta.domain.catalog.dto;
+
+import com.sparta.domain.store.event.StoreChangedEvent;
+import com.sparta.domain.theme.event.SlotStatusChangedEvent;
+import com.sparta.domain.theme.event.ThemeChangedEvent;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 카탈로그 스냅샷 (활성화된 스토어, 테마와 slotsFrom ~ slotsTo 기간의 시간대)
+ * <p>
+ * version 은 담긴 행들의 최대 updatedAt, 재기동 시 이 시점 이후 변경분만 DB 에서 다시 읽음
+ */
+@Getter
+@RequiredArgsConstructor
+public class CatalogSnapshot {
+
+  private final LocalDateTime version;
+  private final LocalDate slotsFrom;
+  private final LocalDate slotsTo;
+  private final List<StoreChangedEvent> stores;
+  private final List<ThemeChangedEvent> themes;
+  private final List<SlotStatusChangedEvent> slots;
+}
@@ -0,0 +1,80 @@
+package com.sparta.domain.catalog.service;
+
+import com.sparta.domain.store.event.StoreChangedEvent;
+import com.sparta.domain.theme.event.SlotStatusChangedEvent;
+import com.sparta.domain.theme.event.ThemeChangedEvent;
+import com.sparta.global.kafka.KafkaTopic;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.TopicPartition;
+import org.springframework.kafka.event.ListenerContainerIdleEvent;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogEventConsumerService {
+
+  private static final String LISTENER_ID = "catalogEventListener";
+
+  private final CatalogReadModel catalogReadModel;
+  private final CatalogReadModelLoader catalogReadModelLoader;
+
+  /**
+   * kafka consumer 카탈로그 변경 이벤트 반영 (값이 null 이면 삭제된 항목)
+   * <p>
+   * 카탈로그 토픽은 파티션이 하나뿐이라 그룹 없이 0번 파티션을 직접 할당
+   *
+   * @param record 키는 변경된 항목의 id
+   */
+  @KafkaListener(id = LISTENER_ID, idIsGroup = false,
+      topicPartitions = {
+          @TopicPartition(topic = KafkaTopic.STORE_CHANGED_TOPIC, partitions = "0"),
+          @TopicPartition(topic = KafkaTopic.THEME_CHANGED_TOPIC, partitions = "0"),
+          @TopicPartition(topic = KafkaTopic.SLOT_STATUS_CHANGED_TOPIC, partitions = "0")},
+      containerFactory = "catalogEventKafkaListenerContainerFactory")
+  public void handleCatalogEvent(ConsumerRecord<String, Object> record) {
+    Long id = Long.valueOf(record.key());
+
+    switch (record.topic()) {
+      case KafkaTopic.STORE_CHANGED_TOPIC -> {
+        if (record.value() instanceof StoreChangedEvent store) {
+          catalogReadModel.applyStore(store);
+        } else {
+          catalogReadModel.removeStore(id);
+        }
+      }
+      case KafkaTopic.THEME_CHANGED_TOPIC -> {
+        if (record.value() instanceof ThemeChangedEvent theme) {
+          catalogReadModel.applyTheme(theme);
+        } else {
+          catalogReadModel.removeTheme(id);
+        }
+      }
+      case KafkaTopic.SLOT_STATUS_CHANGED_TOPIC -> {
+        if (record.value() instanceof SlotStatusChangedEvent slot) {
+          catalogReadModel.applySlot(slot);
+        } else {
+          catalogReadModel.removeSlot(id);
+        }
+      }
+      default -> log.warn("알 수 없는 카탈로그 토픽 : {}", record.topic());
+    }
+  }
+
+  /**
+   * 밀린 이벤트를 모두 읽은 뒤 처음 idle 상태가 되면 초기 적재 후 읽기 모델 사용 시작
+   */
+  @EventListener
+  public void handleIdle(ListenerContainerIdleEvent event) {
+    if (catalogReadModel.isReady() || event.getListenerId() == null
+        || !event.getListenerId().startsWith(LISTENER_ID)) {
+      return;
+    }
+    catalogReadModelLoader.seed();
+    catalogReadModel.markReady();
+  }
+}
@@ -0,0 +1,233 @@
+package com.sparta.domain.catalog.service;
+
+import com.sparta.domain.store.entity.StoreStatus;
+import com.sparta.domain.store.event.StoreChangedEvent;
+import com.sparta.domain.theme.entity.ThemeStatus;
+import com.sparta.domain.theme.event.SlotStatusChangedEvent;
+import com.sparta.domain.theme.event.ThemeChangedEvent;
+import com.sparta.global.exception.customException.StoreException;
+import com.sparta.global.exception.customException.ThemeException;
+import com.sparta.global.exception.errorCode.StoreErrorCode;
+import com.sparta.global.exception.errorCode.ThemeErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검색 서버 인스턴스별 카탈로그 읽기 모델 (스토어, 테마, 예약 시간대)
+ * <p>
+ * 카탈로그 변경 이벤트로만 갱신되고, 모델에 있는 항목은 그 상태를 그대로 응답에 사용 (없는 항목만 DB 로 조회)
+ * <p>
+ * 이벤트는 updatedAt 으로 순서를 비교해 더 새로운 상태만 반영 (기동 때마다 compacted 토픽을 처음부터 다시 읽으므로)
+ */
+@Component
+public class CatalogReadModel {
+
+  private final Map<Long, StoreChangedEvent> stores = new ConcurrentHashMap<>();
+  private final Map<Long, ThemeChangedEvent> themes = new ConcurrentHashMap<>();
+  private final Map<Long, SlotStatusChangedEvent> slots = new ConcurrentHashMap<>();
+  private final Map<Long, Map<Long, SlotStatusChangedEvent>> slotsByTheme = new ConcurrentHashMap<>();
+
+  // tombstone 으로 지워진 id (초기 적재 중 이미 지워진 행을 다시 넣지 않기 위함)
+  private final Set<Long> deletedStoreIds = ConcurrentHashMap.newKeySet();
+  private final Set<Long> deletedThemeIds = ConcurrentHashMap.newKeySet();
+  private final Set<Long> deletedSlotIds = ConcurrentHashMap.newKeySet();
+
+  private final boolean enabled;
+  private volatile boolean ready;
+  // 스냅샷으로 복원한 경우 이 시각 이전에 찍힌 변경은 이미 모델에 반영됨 (kafka 가 처음부터 다시 읽어도 무시)
+  private volatile LocalDateTime restoredSince;
+  // 이 기간의 시간대는 모델에 빠짐없이 있음 (초기 적재 또는 스냅샷 범위)
+  private volatile LocalDate slotsCompleteFrom = LocalDate.MAX;
+  private volatile LocalDate slotsCompleteTo = LocalDate.MIN;
+
+  public CatalogReadModel(@Value("${search.read-model.enabled:false}") boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * 읽기 모델 사용 가능 여부 (기능이 켜져 있고 밀린 이벤트와 초기 적재가 끝난 경우)
+   */
+  public boolean isAvailable() {
+    return enabled && ready;
+  }
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  public void markReady() {
+    this.ready = true;
+  }
+
+  /**
+   * 스냅샷과 그 이후 DB 변경분으로 복원했음을 기록
+   *
+   * @param since 복원 때 DB 에서 다시 읽은 변경 기준 시점
+   */
+  public void markRestored(LocalDateTime since) {
+    this.restoredSince = since;
+  }
+
+  public void markSlotsComplete(LocalDate from, LocalDate to) {
+    this.slotsCompleteFrom = from;
+    this.slotsCompleteTo = to;
+  }
+
+  /**
+   * 변경 반영 (모델에 있는 상태보다 오래된 변경이면 무시)
+   */
+  public void applyStore(StoreChangedEvent store) {
+    StoreChangedEvent current = stores.get(store.getStoreId());
+    if (isOutdated(store.getUpdatedAt(), current == null ? null : current.getUpdatedAt())) {
+      return;
+    }
+    stores.put(store.getStoreId(), store);
+    deletedStoreIds.remove(store.getStoreId());
+  }
+
+  public void removeStore(Long storeId) {
+    deletedStoreIds.add(storeId);
+    stores.remove(storeId);
+  }
+
+  public void applyTheme(ThemeChangedEvent theme) {
+    ThemeChangedEvent current = themes.get(theme.getThemeId());
+    if (isOutdated(theme.getUpdatedAt(), current == null ? null : current.getUpdatedAt())) {
+      return;
+    }
+    themes.put(theme.getThemeId(), theme);
+    deletedThemeIds.remove(theme.getThemeId());
+  }
+
+  public void removeTheme(Long themeId) {
+    deletedThemeIds.add(themeId);
+    themes.remove(themeId);
+  }
+
+  public void applySlot(SlotStatusChangedEvent slot) {
+    SlotStatusChangedEvent current = slots.get(slot.getThemeTimeId());
+    if (isOutdated(slot.getUpdatedAt(), current == null ? null : current.getUpdatedAt())) {
+      return;
+    }
+    deletedSlotIds.remove(slot.getThemeTimeId());
+    putSlot(slot);
+  }
+
+  public void removeSlot(Long themeTimeId) {
+    deletedSlotIds.add(themeTimeId);
+    SlotStatusChangedEvent removed = slots.remove(themeTimeId);
+    if (removed != null) {
+      Map<Long, SlotStatusChangedEvent> themeSlots = slotsByTheme.get(removed.getThemeId());
+      if (themeSlots != null) {
+        themeSlots.remove(themeTimeId);
+      }
+    }
+  }
+
+  /**
+   * 이벤트가 한 번도 발행되지 않은 항목을 DB 에서 채움 (이미 이벤트로 들어온 항목과 지워진 항목은 건드리지 않음)
+   */
+  public void seedStore(StoreChangedEvent store) {
+    if (!deletedStoreIds.contains(store.getStoreId())) {
+      stores.putIfAbsent(store.getStoreId(), store);
+    }
+  }
+
+  public void seedTheme(ThemeChangedEvent theme) {
+    if (!deletedThemeIds.contains(theme.getThemeId())) {
+      themes.putIfAbsent(theme.getThemeId(), theme);
+    }
+  }
+
+  public void seedSlot(SlotStatusChangedEvent slot) {
+    if (!deletedSlotIds.contains(slot.getThemeTimeId()) && !slots.containsKey(slot.getThemeTimeId())) {
+      putSlot(slot);
+    }
+  }
+
+  /**
+   * 활성화된 스토어 조회
+   *
+   * @param storeId 조회할 스토어 id
+   * @return 모델을 쓸 수 없거나 모델에 없으면 empty (DB 로 조회)
+   * @throws StoreException 모델에 있지만 활성화 상태가 아닌 경우
+   */
+  public Optional<StoreChangedEvent> findActiveStore(Long storeId) {
+    if (!isAvailable()) {
+      return Optional.empty();
+    }
+    StoreChangedEvent store = stores.get(storeId);
+    if (store != null && store.getStoreStatus() != StoreStatus.ACTIVE) {
+      throw new StoreException(StoreErrorCode.STORE_NOT_FOUND);
+    }
+    return Optional.ofNullable(store);
+  }
+
+  /**
+   * 활성화된 테마 조회
+   *
+   * @param themeId 조회할 테마 id
+   * @return 모델을 쓸 수 없거나 모델에 없으면 empty (DB 로 조회)
+   * @throws ThemeException 모델에 있지만 활성화 상태가 아닌 경우
+   */
+  public Optional<ThemeChangedEvent> findActiveTheme(Long themeId) {
+    if (!isAvailable()) {
+      return Optional.empty();
+    }
+    ThemeChangedEvent theme = themes.get(themeId);
+    if (theme != null && theme.getThemeStatus() != ThemeStatus.ACTIVE) {
+      throw new ThemeException(ThemeErrorCode.THEME_NOT_FOUND);
+    }
+    return Optional.ofNullable(theme);
+  }
+
+  /**
+   * 테마의 해당 날짜 시간대 목록 (시작 시각 순)
+   *
+   * @param themeId 조회할 테마 id
+   * @param date    조회할 날짜
+   * @return 모델을 쓸 수 없거나 초기 적재 범위 밖이라 모델에 다 있다고 보장할 수 없으면 empty
+   */
+  public Optional<List<SlotStatusChangedEvent>> findSlots(Long themeId, LocalDate date) {
+    if (!isAvailable() || date.isBefore(slotsCompleteFrom) || date.isAfter(slotsCompleteTo)) {
+      return Optional.empty();
+    }
+    Map<Long, SlotStatusChangedEvent> themeSlots = slotsByTheme.getOrDefault(themeId, Map.of());
+    return Optional.of(themeSlots.values().stream()
+        .filter(slot -> slot.getStartTime().toLocalDate().equals(date))
+        .sorted(Comparator.comparing(SlotStatusChangedEvent::getStartTime))
+        .toList());
+  }
+
+  /**
+   * 재생된 이전 이벤트인지 (복원 기준 시점 이전이거나 모델의 상태보다 먼저 찍힌 변경, 시각이 없는 이전 형식 이벤트는 더 오래된 것으로 봄)
+   */
+  private boolean isOutdated(LocalDateTime updatedAt, LocalDateTime currentUpdatedAt) {
+    LocalDateTime since = restoredSince;
+    if (since != null && (updatedAt == null || updatedAt.isBefore(since))) {
+      return true;
+    }
+    return currentUpdatedAt != null && (updatedAt == null || updatedAt.isBefore(currentUpdatedAt));
+  }
+
+  private void putSlot(SlotStatusChangedEvent slot) {
+    SlotStatusChangedEvent previous = slots.put(slot.getThemeTimeId(), slot);
+    if (previous != null && !previous.getThemeId().equals(slot.getThemeId())) {
+      Map<Long, SlotStatusChangedEvent> previousSlots = slotsByTheme.get(previous.getThemeId());
+      if (previousSlots != null) {
+        previousSlots.remove(slot.getThemeTimeId());
+      }
+    }
+    slotsByTheme.computeIfAbsent(slot.getThemeId(), id -> new ConcurrentHashMap<>())
+        .put(slot.getThemeTimeId(), slot);
+  }
+}
@@ -0,0 +1,98 @@
+package com.sparta.domain.catalog.service;
+
+import com.sparta.domain.catalog.dto.CatalogSnapshot;
+import com.sparta.domain.store.entity.Store;
+import com.sparta.domain.store.entity.StoreStatus;
+import com.sparta.domain.store.event.StoreChangedEvent;
+import com.sparta.domain.store.repository.StoreRepository;
+import com.sparta.domain.theme.entity.Theme;
+import com.sparta.domain.theme.entity.ThemeStatus;
+import com.sparta.domain.theme.entity.ThemeTime;
+import com.sparta.domain.theme.event.SlotStatusChangedEvent;
+import com.sparta.domain.theme.event.ThemeChangedEvent;
+import com.sparta.domain.theme.repository.ThemeRepository;
+import com.sparta.domain.theme.repository.ThemeTimeRepository;
+import com.sparta.global.entity.TimeStamped;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * 카탈로그 읽기 모델 초기 적재
+ * <p>
+ * 이벤트 발행 이전부터 있던 스토어, 테마와 오늘 이후 시간대를 DB 에서 한 번 채움
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogReadModelLoader {
+
+  private final StoreRepository storeRepository;
+  private final ThemeRepository themeRepository;
+  private final ThemeTimeRepository themeTimeRepository;
+  private final CatalogReadModel catalogReadModel;
+
+  @Transactional(readOnly = true)
+  public void seed() {
+    LocalDate today = LocalDate.now();
+
+    storeRepository.findAll()
+        .forEach(store -> catalogReadModel.seedStore(new StoreChangedEvent(store)));
+    themeRepository.findAll()
+        .forEach(theme -> catalogReadModel.seedTheme(new ThemeChangedEvent(theme)));
+    themeTimeRepository.findThemeTimesFrom(today)
+        .forEach(themeTime -> catalogReadModel.seedSlot(new SlotStatusChangedEvent(themeTime)));
+    catalogReadModel.markSlotsComplete(today, LocalDate.MAX);
+
+    log.info("카탈로그 읽기 모델 초기 적재 완료");
+  }
+
+  /**
+   * 스냅샷에 담을 활성화된 스토어, 테마와 기간 안의 시간대 조회
+   *
+   * @param slotsFrom 시간대 조회 시작 날짜
+   * @param slotsTo   시간대 조회 종료 날짜 (포함)
+   * @return 담긴 행들의 최대 updatedAt 을 버전으로 갖는 스냅샷
+   */
+  @Transactional(readOnly = true)
+  public CatalogSnapshot loadSnapshot(LocalDate slotsFrom, LocalDate slotsTo) {
+    List<Store> stores = storeRepository.findAllByStoreStatus(StoreStatus.ACTIVE);
+    List<Theme> themes = themeRepository.findAllByThemeStatus(ThemeStatus.ACTIVE);
+    List<ThemeTime> themeTimes = themeTimeRepository.findAllThemeTimesBetween(slotsFrom, slotsTo);
+
+    LocalDateTime version = Stream.<List<? extends TimeStamped>>of(stores, themes, themeTimes)
+        .flatMap(List::stream)
+        .map(TimeStamped::getUpdatedAt)
+        .filter(Objects::nonNull)
+        .max(Comparator.naturalOrder())
+        .orElse(null);
+
+    return new CatalogSnapshot(version, slotsFrom, slotsTo,
+        stores.stream().map(StoreChangedEvent::new).toList(),
+        themes.stream().map(ThemeChangedEvent::new).toList(),
+        themeTimes.stream().map(SlotStatusChangedEvent::new).toList());
+  }
+
+  /**
+   * 해당 시점 이후 변경된 스토어, 테마, 시간대를 읽기 모델에 반영 (비활성화된 항목도 상태 그대로 반영)
+   *
+   * @param since 변경 기준 시점
+   */
+  @Transactional(readOnly = true)
+  public void applyChangesSince(LocalDateTime since) {
+    storeRepository.findAllByUpdatedAtGreaterThanEqual(since)
+        .forEach(store -> catalogReadModel.applyStore(new StoreChangedEvent(store)));
+    themeRepository.findAllByUpdatedAtGreaterThanEqual(since)
+        .forEach(theme -> catalogReadModel.applyTheme(new ThemeChangedEvent(theme)));
+    themeTimeRepository.findAllByUpdatedAtGreaterThanEqual(since)
+        .forEach(themeTime -> catalogReadModel.applySlot(new SlotStatusChangedEvent(themeTime)));
+  }
+}
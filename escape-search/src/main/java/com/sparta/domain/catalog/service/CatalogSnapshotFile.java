@@ -0,0 +1,233 @@
+package com.sparta.domain.catalog.service;
+
+import com.sparta.domain.catalog.dto.CatalogSnapshot;
+import com.sparta.domain.store.entity.StoreRegion;
+import com.sparta.domain.store.entity.StoreStatus;
+import com.sparta.domain.store.event.StoreChangedEvent;
+import com.sparta.domain.theme.entity.ThemeStatus;
+import com.sparta.domain.theme.entity.ThemeTimeStatus;
+import com.sparta.domain.theme.entity.ThemeType;
+import com.sparta.domain.theme.event.SlotStatusChangedEvent;
+import com.sparta.domain.theme.event.ThemeChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 카탈로그 스냅샷 파일 (길이 접두 바이너리 포맷, 메모리 맵으로 읽고 씀)
+ * <p>
+ * 헤더(매직, 포맷 버전, 스냅샷 버전, 시간대 기간, 항목 수) 뒤에 스토어, 테마, 시간대 순으로 기록. 쓰는 중에 죽어도 이전 파일이 남도록
+ * 임시 파일에 쓴 뒤 교체
+ */
+@Component
+public class CatalogSnapshotFile {
+
+  private static final int MAGIC = 0x45534353; // "ESCS"
+  private static final int FORMAT_VERSION = 2;
+  private static final long NULL_LONG = Long.MIN_VALUE;
+  private static final int NULL_INT = Integer.MIN_VALUE;
+  private static final int NULL_STRING = -1;
+
+  private final Path path;
+
+  public CatalogSnapshotFile(@Value("${search.read-model.snapshot.path:}") String path) {
+    this.path = path.isBlank() ? null : Path.of(path);
+  }
+
+  public boolean isEnabled() {
+    return path != null;
+  }
+
+  public void write(CatalogSnapshot snapshot) throws IOException {
+    byte[] bytes = encode(snapshot);
+
+    Path parent = path.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+    try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+        StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes.length);
+      buffer.put(bytes);
+      buffer.force();
+    }
+    Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /**
+   * 스냅샷 파일 읽기
+   *
+   * @return 파일이 없거나 다른 포맷이면 empty
+   */
+  public Optional<CatalogSnapshot> read() throws IOException {
+    if (!Files.exists(path)) {
+      return Optional.empty();
+    }
+
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      if (buffer.remaining() < Integer.BYTES * 2 || buffer.getInt() != MAGIC
+          || buffer.getInt() != FORMAT_VERSION) {
+        return Optional.empty();
+      }
+      return Optional.of(decode(buffer));
+    }
+  }
+
+  private static byte[] encode(CatalogSnapshot snapshot) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+
+    out.writeInt(MAGIC);
+    out.writeInt(FORMAT_VERSION);
+    writeDateTime(out, snapshot.getVersion());
+    out.writeLong(snapshot.getSlotsFrom().toEpochDay());
+    out.writeLong(snapshot.getSlotsTo().toEpochDay());
+    out.writeInt(snapshot.getStores().size());
+    out.writeInt(snapshot.getThemes().size());
+    out.writeInt(snapshot.getSlots().size());
+
+    for (StoreChangedEvent store : snapshot.getStores()) {
+      out.writeLong(store.getStoreId());
+      writeString(out, store.getName());
+      writeString(out, store.getAddress());
+      writeString(out, store.getPhoneNumber());
+      writeString(out, store.getWorkHours());
+      writeString(out, store.getStoreImage());
+      writeEnum(out, store.getStoreRegion());
+      writeEnum(out, store.getStoreStatus());
+      writeDateTime(out, store.getUpdatedAt());
+    }
+    for (ThemeChangedEvent theme : snapshot.getThemes()) {
+      out.writeLong(theme.getThemeId());
+      out.writeLong(theme.getStoreId());
+      writeString(out, theme.getTitle());
+      writeString(out, theme.getContents());
+      writeInteger(out, theme.getLevel());
+      writeInteger(out, theme.getDuration());
+      writeInteger(out, theme.getMinPlayer());
+      writeInteger(out, theme.getMaxPlayer());
+      writeEnum(out, theme.getThemeType());
+      writeString(out, theme.getThemeImage());
+      out.writeLong(theme.getPrice() == null ? NULL_LONG : theme.getPrice());
+      writeEnum(out, theme.getThemeStatus());
+      writeDateTime(out, theme.getUpdatedAt());
+    }
+    for (SlotStatusChangedEvent slot : snapshot.getSlots()) {
+      out.writeLong(slot.getThemeTimeId());
+      out.writeLong(slot.getThemeId());
+      writeDateTime(out, slot.getStartTime());
+      writeDateTime(out, slot.getEndTime());
+      writeEnum(out, slot.getThemeTimeStatus());
+      writeDateTime(out, slot.getUpdatedAt());
+    }
+
+    out.flush();
+    return bytes.toByteArray();
+  }
+
+  private static CatalogSnapshot decode(ByteBuffer in) {
+    LocalDateTime version = readDateTime(in);
+    LocalDate slotsFrom = LocalDate.ofEpochDay(in.getLong());
+    LocalDate slotsTo = LocalDate.ofEpochDay(in.getLong());
+    int storeCount = in.getInt();
+    int themeCount = in.getInt();
+    int slotCount = in.getInt();
+
+    List<StoreChangedEvent> stores = new ArrayList<>(storeCount);
+    for (int i = 0; i < storeCount; i++) {
+      stores.add(new StoreChangedEvent(in.getLong(), readString(in), readString(in),
+          readString(in), readString(in), readString(in), readEnum(in, StoreRegion.class),
+          readEnum(in, StoreStatus.class), readDateTime(in)));
+    }
+    List<ThemeChangedEvent> themes = new ArrayList<>(themeCount);
+    for (int i = 0; i < themeCount; i++) {
+      themes.add(new ThemeChangedEvent(in.getLong(), in.getLong(), readString(in),
+          readString(in), readInteger(in), readInteger(in), readInteger(in), readInteger(in),
+          readEnum(in, ThemeType.class), readString(in), readLong(in),
+          readEnum(in, ThemeStatus.class), readDateTime(in)));
+    }
+    List<SlotStatusChangedEvent> slots = new ArrayList<>(slotCount);
+    for (int i = 0; i < slotCount; i++) {
+      slots.add(new SlotStatusChangedEvent(in.getLong(), in.getLong(), readDateTime(in),
+          readDateTime(in), readEnum(in, ThemeTimeStatus.class), readDateTime(in)));
+    }
+
+    return new CatalogSnapshot(version, slotsFrom, slotsTo, stores, themes, slots);
+  }
+
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    if (value == null) {
+      out.writeInt(NULL_STRING);
+      return;
+    }
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(ByteBuffer in) {
+    int length = in.getInt();
+    if (length == NULL_STRING) {
+      return null;
+    }
+    byte[] bytes = new byte[length];
+    in.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static void writeInteger(DataOutputStream out, Integer value) throws IOException {
+    out.writeInt(value == null ? NULL_INT : value);
+  }
+
+  private static Integer readInteger(ByteBuffer in) {
+    int value = in.getInt();
+    return value == NULL_INT ? null : value;
+  }
+
+  private static Long readLong(ByteBuffer in) {
+    long value = in.getLong();
+    return value == NULL_LONG ? null : value;
+  }
+
+  // updatedAt 비교가 같은 초 안에서도 맞도록 나노초까지 기록
+  private static void writeDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+    out.writeLong(value == null ? NULL_LONG : value.toEpochSecond(ZoneOffset.UTC));
+    out.writeInt(value == null ? 0 : value.getNano());
+  }
+
+  private static LocalDateTime readDateTime(ByteBuffer in) {
+    long epochSecond = in.getLong();
+    int nano = in.getInt();
+    return epochSecond == NULL_LONG ? null
+        : LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+  }
+
+  // enum 은 순서가 바뀌어도 깨지지 않도록 이름으로 기록
+  private static void writeEnum(DataOutputStream out, Enum<?> value) throws IOException {
+    writeString(out, value == null ? null : value.name());
+  }
+
+  private static <E extends Enum<E>> E readEnum(ByteBuffer in, Class<E> type) {
+    String name = readString(in);
+    return name == null ? null : Enum.valueOf(type, name);
+  }
+}
@@ -0,0 +1,100 @@
+package com.sparta.domain.catalog.service;
+
+import com.sparta.domain.catalog.dto.CatalogSnapshot;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 카탈로그 스냅샷 저장, 복원
+ * <p>
+ * 주기적으로 DB 에서 스냅샷을 만들어 파일로 남기고, 재기동 시 파일을 읽기 모델에 올린 뒤 그 이후 변경분만 DB 에서 읽어 바로 사용 시작
+ * (kafka 재생이나 전체 적재를 기다리지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogSnapshotService {
+
+  // 스냅샷 버전보다 먼저 updatedAt 이 찍혔지만 늦게 커밋된 변경도 다시 읽도록 여유를 둠
+  private static final long CATCH_UP_MARGIN_MINUTES = 1;
+
+  private final CatalogReadModel catalogReadModel;
+  private final CatalogReadModelLoader catalogReadModelLoader;
+  private final CatalogSnapshotFile catalogSnapshotFile;
+
+  @Value("${search.read-model.enabled:false}")
+  private boolean readModelEnabled;
+
+  @Value("${search.read-model.snapshot.slot-days:30}")
+  private int slotDays;
+
+  /**
+   * 기동 시 스냅샷 복원 (kafka 리스너가 시작되기 전에 실행)
+   */
+  @PostConstruct
+  public void restore() {
+    if (!isEnabled()) {
+      return;
+    }
+
+    long startedAt = System.currentTimeMillis();
+    Optional<CatalogSnapshot> read;
+    try {
+      read = catalogSnapshotFile.read();
+    } catch (IOException | RuntimeException e) {
+      log.warn("카탈로그 스냅샷을 읽지 못해 초기 적재로 시작", e);
+      return;
+    }
+    if (read.isEmpty() || read.get().getVersion() == null) {
+      return;
+    }
+
+    CatalogSnapshot snapshot = read.get();
+    snapshot.getStores().forEach(catalogReadModel::seedStore);
+    snapshot.getThemes().forEach(catalogReadModel::seedTheme);
+    snapshot.getSlots().forEach(catalogReadModel::seedSlot);
+    catalogReadModel.markSlotsComplete(snapshot.getSlotsFrom(), snapshot.getSlotsTo());
+
+    LocalDateTime since = snapshot.getVersion().minusMinutes(CATCH_UP_MARGIN_MINUTES);
+    catalogReadModelLoader.applyChangesSince(since);
+    // kafka 가 토픽을 처음부터 다시 읽는 동안 이 시점 이전 이벤트가 복원한 상태를 덮어쓰지 않도록 기록
+    catalogReadModel.markRestored(since);
+    catalogReadModel.markReady();
+
+    log.info("카탈로그 스냅샷 복원 완료 : 버전 {}, 스토어 {}, 테마 {}, 시간대 {} ({}ms)",
+        snapshot.getVersion(), snapshot.getStores().size(), snapshot.getThemes().size(),
+        snapshot.getSlots().size(), System.currentTimeMillis() - startedAt);
+  }
+
+  /**
+   * 활성화된 스토어, 테마와 오늘부터 slot-days 일 뒤까지의 시간대 스냅샷 저장
+   */
+  @Scheduled(initialDelayString = "${search.read-model.snapshot.interval-ms:600000}",
+      fixedDelayString = "${search.read-model.snapshot.interval-ms:600000}")
+  public void write() {
+    if (!isEnabled()) {
+      return;
+    }
+
+    LocalDate today = LocalDate.now();
+    CatalogSnapshot snapshot = catalogReadModelLoader.loadSnapshot(today, today.plusDays(slotDays));
+    try {
+      catalogSnapshotFile.write(snapshot);
+    } catch (IOException e) {
+      log.error("카탈로그 스냅샷 저장 실패", e);
+    }
+  }
+
+  private boolean isEnabled() {
+    return readModelEnabled && catalogSnapshotFile.isEnabled();
+  }
+}
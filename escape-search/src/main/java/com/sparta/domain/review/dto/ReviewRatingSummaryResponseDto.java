@@ -0,0 +1,28 @@
+package com.sparta.domain.review.dto;
+
+import com.sparta.domain.review.entity.ReviewRatingSummary;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class ReviewRatingSummaryResponseDto {
+    private long reviewCount;
+    private double averageRating;
+    private List<Long> ratingHistogram;
+
+    public ReviewRatingSummaryResponseDto(ReviewRatingSummary summary) {
+        this.reviewCount = summary.getReviewCount();
+        this.averageRating = summary.averageRating();
+        this.ratingHistogram = Arrays.stream(summary.histogram()).boxed().toList();
+    }
+
+    public static ReviewRatingSummaryResponseDto empty() {
+        ReviewRatingSummaryResponseDto responseDto = new ReviewRatingSummaryResponseDto();
+        responseDto.ratingHistogram = List.of(0L, 0L, 0L, 0L, 0L);
+        return responseDto;
+    }
+}
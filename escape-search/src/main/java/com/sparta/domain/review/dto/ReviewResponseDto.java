@@ -31,4 +31,16 @@ public class ReviewResponseDto {
         this.title = review.getTitle();
         this.themeName = review.getTheme().getTitle();
     }
+
+    public ReviewResponseDto(ReviewProjection review){
+        this.reviewId = review.getReviewId();
+        this.rating = review.getRating();
+        this.contents = review.getContents();
+        this.email = review.getEmail();
+        this.createAt = review.getCreatedAt();
+        this.updateAt = review.getUpdatedAt();
+        this.author = review.getAuthor();
+        this.title = review.getTitle();
+        this.themeName = review.getThemeName();
+    }
 }
@@ -0,0 +1,107 @@
+package com.sparta.domain.review.service;
+
+import com.sparta.domain.review.dto.ReviewProjection;
+import com.sparta.domain.review.dto.ReviewRatingSummaryResponseDto;
+import com.sparta.domain.review.dto.ReviewResponseDto;
+import com.sparta.domain.review.entity.RatingSummaryType;
+import com.sparta.domain.review.repository.ReviewRatingSummaryRepository;
+import com.sparta.domain.review.repository.ReviewRepository;
+import com.sparta.domain.store.repository.StoreRepository;
+import com.sparta.domain.theme.entity.Theme;
+import com.sparta.domain.theme.repository.ThemeRepository;
+import com.sparta.global.response.CursorPage;
+import com.sparta.global.util.Cursor;
+import com.sparta.global.util.PageUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReviewQueryService {
+
+  private final ReviewRepository reviewRepository;
+  private final ThemeRepository themeRepository;
+  private final StoreRepository storeRepository;
+  private final ReviewRatingSummaryRepository reviewRatingSummaryRepository;
+
+  private static final String REVIEW_SORT_KEY = "id";
+  // 전체 목록 조회는 최신순 이만큼만 (그 이상은 커서 조회)
+  private static final int REVIEW_LIST_LIMIT = PageUtil.CURSOR_PAGE_SIZE_LIMIT;
+
+  /**
+   * 방탈출 카페 테마 리뷰 조회 (local 조회와 kafka consumer 가 함께 사용)
+   * <p>
+   * 리뷰 수만큼 커지지 않도록 최신순 REVIEW_LIST_LIMIT 개까지만 조회하고 캐시하지 않음 (전체는 커서 조회)
+   *
+   * @param storeId 방탈출 카페 id
+   * @param themeId 테마 id
+   * @return 최신순 리뷰 리스트
+   */
+  public List<ReviewResponseDto> getReviews(Long storeId, Long themeId) {
+    storeRepository.findByActiveStore(storeId);
+    Theme theme = themeRepository.findByActiveTheme(themeId);
+    return reviewRepository.findProjectionsByThemeAfterCursor(theme, null, REVIEW_LIST_LIMIT)
+        .stream()
+        .map(ReviewResponseDto::new)
+        .toList();
+  }
+
+  /**
+   * 방탈출 카페 테마 리뷰 커서 조회 (최신순)
+   *
+   * @param storeId  방탈출 카페 id
+   * @param themeId  테마 id
+   * @param cursor   이전 응답의 nextCursor, 첫 페이지는 null
+   * @param pageSize 페이지에 담는 데이터 수
+   * @return 리뷰 커서 페이지
+   */
+  public CursorPage<ReviewResponseDto> getReviewsByCursor(Long storeId, Long themeId,
+      String cursor, int pageSize) {
+    PageUtil.validateCursorPageSize(pageSize);
+    Cursor after = Cursor.decode(cursor, REVIEW_SORT_KEY, true);
+    storeRepository.findByActiveStore(storeId);
+    Theme theme = themeRepository.findByActiveTheme(themeId);
+
+    List<ReviewProjection> reviewList = reviewRepository.findProjectionsByThemeAfterCursor(theme,
+        after == null ? null : after.getLastId(), pageSize + 1);
+    return CursorPage.of(reviewList, pageSize,
+        review -> new Cursor(REVIEW_SORT_KEY, true, review.getReviewId(),
+            String.valueOf(review.getReviewId())),
+        ReviewResponseDto::new);
+  }
+
+  /**
+   * 방탈출 카페 테마 별점 요약 조회 (리뷰 작성/수정/삭제 시 갱신된 요약을 그대로 반환)
+   *
+   * @param storeId 방탈출 카페 id
+   * @param themeId 테마 id
+   * @return 리뷰 수, 평균 별점, 1~5점 분포
+   */
+  public ReviewRatingSummaryResponseDto getThemeRatingSummary(Long storeId, Long themeId) {
+    storeRepository.findByActiveStore(storeId);
+    Theme theme = themeRepository.findByActiveTheme(themeId);
+    return getRatingSummary(RatingSummaryType.THEME, theme.getId());
+  }
+
+  /**
+   * 방탈출 카페 별점 요약 조회
+   *
+   * @param storeId 방탈출 카페 id
+   * @return 리뷰 수, 평균 별점, 1~5점 분포
+   */
+  public ReviewRatingSummaryResponseDto getStoreRatingSummary(Long storeId) {
+    storeRepository.findByActiveStore(storeId);
+    return getRatingSummary(RatingSummaryType.STORE, storeId);
+  }
+
+  private ReviewRatingSummaryResponseDto getRatingSummary(RatingSummaryType summaryType,
+      Long targetId) {
+    return reviewRatingSummaryRepository.findBySummaryTypeAndTargetId(summaryType, targetId)
+        .map(ReviewRatingSummaryResponseDto::new)
+        .orElseGet(ReviewRatingSummaryResponseDto::empty);
+  }
+}
@@ -1,12 +1,22 @@
 package com.sparta.domain.review.service;
 
+import com.sparta.config.QueryMode;
 import com.sparta.domain.review.dto.KafkaReviewRequestDto;
+import com.sparta.domain.review.dto.ReviewRatingSummaryResponseDto;
 import com.sparta.domain.review.dto.ReviewResponseDto;
+import com.sparta.fallback.DegradedModeExecutor;
+import com.sparta.fallback.FallbackResult;
 import com.sparta.global.exception.customException.KafkaException;
 import com.sparta.global.exception.errorCode.KafkaErrorCode;
+import com.sparta.global.kafka.KafkaReplyTopic;
 import com.sparta.global.kafka.KafkaTopic;
+import com.sparta.global.kafka.PendingRequestRegistry;
+import com.sparta.global.response.CursorPage;
+import com.sparta.loadShedding.AdaptiveTimeouts;
+import com.sparta.requestCoalescing.RequestCoalescer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
@@ -20,36 +30,87 @@ import java.util.concurrent.*;
 public class ReviewService {
 
   private final KafkaTemplate<String, KafkaReviewRequestDto> kafkaTemplate;
-  private final ConcurrentHashMap<String, CompletableFuture<List<ReviewResponseDto>>> responseFutures;
+  private final PendingRequestRegistry<List<ReviewResponseDto>> reviewPendingRequests;
+  private final ReviewQueryService reviewQueryService;
+  private final KafkaReplyTopic kafkaReplyTopic;
+  private final DegradedModeExecutor degradedModeExecutor;
+  private final AdaptiveTimeouts adaptiveTimeouts;
+
+  @Value("${search.query-mode:LOCAL}")
+  private QueryMode queryMode;
 
   /**
    * 방탈출 카페 테마 리뷰 조회
    *
    * @param storeId 방탈출 카페 id
    * @param themeId 테마 id가 들어있는 dto
-   * @return 리뷰 반환
+   * @return 리뷰 반환 (조회 실패 시 마지막 정상 응답일 수 있음)
    */
-  public List<ReviewResponseDto> getReview(Long storeId, Long themeId) {
+  public CompletableFuture<FallbackResult<List<ReviewResponseDto>>> getReview(Long storeId,
+      Long themeId) {
+    return degradedModeExecutor.execute("reviews",
+        RequestCoalescer.key("reviews", storeId, themeId), () -> fetchReview(storeId, themeId));
+  }
+
+  private CompletableFuture<List<ReviewResponseDto>> fetchReview(Long storeId, Long themeId) {
+    if (queryMode == QueryMode.LOCAL) {
+      return CompletableFuture.completedFuture(reviewQueryService.getReviews(storeId, themeId));
+    }
+
     String requestId = UUID.randomUUID().toString();
 
-    CompletableFuture<List<ReviewResponseDto>> future = new CompletableFuture<>();
-    responseFutures.put(requestId, future);
+    CompletableFuture<List<ReviewResponseDto>> future =
+        adaptiveTimeouts.register(reviewPendingRequests, requestId);
 
     sendReviewRequest(requestId, storeId, themeId);
 
     // Kafka로 요청을 전송하고 응답을 비동기적으로 기다림
-    try {
-      return future.get(3, TimeUnit.SECONDS); // 응답을 기다림
-    } catch (InterruptedException | ExecutionException e) {
-      throw new KafkaException(KafkaErrorCode.KAFKA_SERVER_ERROR);
-    } catch (TimeoutException e) {
-      throw new KafkaException(KafkaErrorCode.KAFKA_RESPONSE_ERROR);
-    }
+    return future;
   }
 
   private void sendReviewRequest(String requestId, Long storeId, Long themeId) {
-    KafkaReviewRequestDto reviewRequest = new KafkaReviewRequestDto(requestId, storeId, themeId);
-    kafkaTemplate.send(KafkaTopic.REVIEW_REQUEST_TOPIC, reviewRequest);
+    KafkaReviewRequestDto reviewRequest = new KafkaReviewRequestDto(requestId,
+        kafkaReplyTopic.getName(), storeId, themeId);
+    kafkaTemplate.send(KafkaTopic.REVIEW_REQUEST_TOPIC, reviewRequest)
+        .whenComplete((result, e) -> {
+          if (e != null) {
+            reviewPendingRequests.fail(requestId, new KafkaException(KafkaErrorCode.KAFKA_SERVER_ERROR));
+          }
+        });
+  }
+
+  /**
+   * 방탈출 카페 테마 리뷰 커서 조회 (페이지 크기가 제한되므로 항상 직접 조회)
+   *
+   * @param storeId  방탈출 카페 id
+   * @param themeId  테마 id
+   * @param cursor   이전 응답의 nextCursor, 첫 페이지는 null
+   * @param pageSize 페이지에 담는 데이터 수
+   * @return 리뷰 커서 페이지
+   */
+  public CursorPage<ReviewResponseDto> getReviewsByCursor(Long storeId, Long themeId,
+      String cursor, int pageSize) {
+    return reviewQueryService.getReviewsByCursor(storeId, themeId, cursor, pageSize);
   }
-}
 
+  /**
+   * 방탈출 카페 테마 별점 요약 조회
+   *
+   * @param storeId 방탈출 카페 id
+   * @param themeId 테마 id
+   * @return 별점 요약
+   */
+  public ReviewRatingSummaryResponseDto getThemeRatingSummary(Long storeId, Long themeId) {
+    return reviewQueryService.getThemeRatingSummary(storeId, themeId);
+  }
+
+  /**
+   * 방탈출 카페 별점 요약 조회
+   *
+   * @param storeId 방탈출 카페 id
+   * @return 별점 요약
+   */
+  public ReviewRatingSummaryResponseDto getStoreRatingSummary(Long storeId) {
+    return reviewQueryService.getStoreRatingSummary(storeId);
+  }
+}
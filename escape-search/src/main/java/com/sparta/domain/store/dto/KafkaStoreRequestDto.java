@@ -1,6 +1,7 @@
 package com.sparta.domain.store.dto;
 
 import com.sparta.domain.store.entity.StoreRegion;
+import com.sparta.global.util.CountMode;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -10,10 +11,12 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class KafkaStoreRequestDto {
     private String requestId;
+    private String replyTopic;
     private int pageNum;
     private int pageSize;
     private boolean isDesc;
     private String keyWord;
     private StoreRegion storeRegion;
     private String sort;
+    private CountMode countMode;
 }
@@ -1,14 +1,36 @@
 package com.sparta.domain.store.dto;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
 
 @Getter
 @NoArgsConstructor
-@AllArgsConstructor
 public class KafkaStoreResponseDto {
     private String requestId;
-    private Page<StoreResponseDto> responseDtos;
+    private List<StoreResponseDto> responseDtos;
+    private int pageNumber;
+    private int pageSize;
+    private long totalElements;
+
+    public KafkaStoreResponseDto(String requestId, Page<StoreResponseDto> page) {
+        this.requestId = requestId;
+        this.responseDtos = page.getContent();
+        this.pageNumber = page.getNumber();
+        this.pageSize = page.getSize();
+        this.totalElements = page.getTotalElements();
+    }
+
+    /**
+     * Page 는 역직렬화가 되지 않으므로 페이징 정보만 주고받고 응답을 받은 쪽에서 다시 생성
+     *
+     * @return 카페 페이지
+     */
+    public Page<StoreResponseDto> toPage() {
+        return new PageImpl<>(responseDtos, PageRequest.of(pageNumber, Math.max(pageSize, 1)), totalElements);
+    }
 }
@@ -9,4 +9,5 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class KafkaTopStoreRequestDto {
     private String requestId;
+    private String replyTopic;
 }
@@ -0,0 +1,28 @@
+package com.sparta.domain.store.dto;
+
+import com.sparta.domain.store.entity.Store;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 위치 기반 조회 결과 (좌표는 주소의 시군구 대표 좌표라 실제 위치와 수 km 차이가 날 수 있어 거리는 응답하지 않음)
+ */
+@Getter
+@NoArgsConstructor
+public class NearbyStoreResponseDto {
+    private Long storeId;
+    private String storeImage;
+    private String title;
+    private String address;
+    private Double latitude;
+    private Double longitude;
+
+    public NearbyStoreResponseDto(Store store){
+        this.storeId = store.getId();
+        this.storeImage = store.getStoreImage();
+        this.title = store.getName();
+        this.address = store.getAddress();
+        this.latitude = store.getLatitude();
+        this.longitude = store.getLongitude();
+    }
+}
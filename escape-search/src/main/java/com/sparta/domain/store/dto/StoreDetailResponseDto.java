@@ -1,6 +1,7 @@
 package com.sparta.domain.store.dto;
 
 import com.sparta.domain.store.entity.Store;
+import com.sparta.domain.store.event.StoreChangedEvent;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -23,4 +24,13 @@ public class StoreDetailResponseDto {
     this.workHours = store.getWorkHours();
     this.storeImage = store.getStoreImage();
   }
+
+  public StoreDetailResponseDto(StoreChangedEvent store) {
+    this.storeId = store.getStoreId();
+    this.storeName = store.getName();
+    this.address = store.getAddress();
+    this.phoneNumber = store.getPhoneNumber();
+    this.workHours = store.getWorkHours();
+    this.storeImage = store.getStoreImage();
+  }
 }
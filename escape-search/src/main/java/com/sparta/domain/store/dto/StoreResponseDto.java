@@ -20,4 +20,11 @@ public class StoreResponseDto {
         this.title = store.getName();
         this.address = store.getAddress();
     }
+
+    public StoreResponseDto(StoreProjection store){
+        this.storeId = store.getStoreId();
+        this.storeImage = store.getStoreImage();
+        this.title = store.getName();
+        this.address = store.getAddress();
+    }
 }
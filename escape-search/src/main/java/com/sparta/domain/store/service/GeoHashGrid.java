@@ -0,0 +1,257 @@
+package com.sparta.domain.store.service;
+
+import com.sparta.global.util.GeoPoint;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+/**
+ * geohash 격자 색인 (불변, 다시 만들 때는 새 인스턴스로 교체)
+ * <p>
+ * 위도, 경도를 각각 15비트로 나눈 격자(geohash 6자리, 약 0.6km x 1.2km)에 항목을 담고, 셀 키는 경도/위도 비트를 번갈아 놓은
+ * geohash 값. 반경 조회는 범위에 걸친 셀만, 최근접 조회는 가운데 셀부터 고리 모양으로 넓혀가며 셀만 확인
+ */
+public class GeoHashGrid<T> {
+
+  static final int BITS = 15;
+  private static final int CELLS = 1 << BITS;
+  private static final double CELL_LAT_DEGREES = 180.0 / CELLS;
+  private static final double CELL_LNG_DEGREES = 360.0 / CELLS;
+
+  private final Map<Long, Cell<T>> cells;
+  private final int size;
+  private final int minLatIndex;
+  private final int maxLatIndex;
+  private final int minLngIndex;
+  private final int maxLngIndex;
+
+  private GeoHashGrid(Map<Long, Cell<T>> cells, int size) {
+    this.cells = cells;
+    this.size = size;
+    this.minLatIndex = cells.values().stream().mapToInt(cell -> cell.latIndex).min().orElse(0);
+    this.maxLatIndex = cells.values().stream().mapToInt(cell -> cell.latIndex).max().orElse(-1);
+    this.minLngIndex = cells.values().stream().mapToInt(cell -> cell.lngIndex).min().orElse(0);
+    this.maxLngIndex = cells.values().stream().mapToInt(cell -> cell.lngIndex).max().orElse(-1);
+  }
+
+  public static <T> GeoHashGrid<T> empty() {
+    return new GeoHashGrid<>(Map.of(), 0);
+  }
+
+  /**
+   * 격자 색인 생성
+   *
+   * @param items   색인할 항목
+   * @param locator 항목의 좌표
+   */
+  public static <T> GeoHashGrid<T> of(Collection<T> items, Function<T, GeoPoint> locator) {
+    Map<Long, Cell<T>> cells = new HashMap<>();
+    for (T item : items) {
+      GeoPoint point = locator.apply(item);
+      int latIndex = latIndex(point.getLatitude());
+      int lngIndex = lngIndex(point.getLongitude());
+      cells.computeIfAbsent(cellKey(latIndex, lngIndex), key -> new Cell<>(latIndex, lngIndex))
+          .entries.add(new Entry<>(item, point));
+    }
+    return new GeoHashGrid<>(cells, items.size());
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * 반경 안의 항목 (가까운 순)
+   *
+   * @param center   중심 좌표
+   * @param radiusKm 반경 (km)
+   * @param limit    최대 개수
+   */
+  public List<Hit<T>> withinRadius(GeoPoint center, double radiusKm, int limit) {
+    double latDelta = radiusKm / GeoPoint.KM_PER_DEGREE;
+    double lngDelta = radiusKm / (GeoPoint.KM_PER_DEGREE * cosLatitude(center.getLatitude()));
+
+    int fromLat = Math.max(latIndex(center.getLatitude() - latDelta), minLatIndex);
+    int toLat = Math.min(latIndex(center.getLatitude() + latDelta), maxLatIndex);
+    int fromLng = Math.max(lngIndex(center.getLongitude() - lngDelta), minLngIndex);
+    int toLng = Math.min(lngIndex(center.getLongitude() + lngDelta), maxLngIndex);
+    if (fromLat > toLat || fromLng > toLng) {
+      return List.of();
+    }
+
+    List<Hit<T>> hits = new ArrayList<>();
+    long rangeCells = (long) (toLat - fromLat + 1) * (toLng - fromLng + 1);
+    if (rangeCells > cells.size()) {
+      // 범위가 채워진 셀 수보다 넓으면 채워진 셀만 훑음
+      for (Cell<T> cell : cells.values()) {
+        if (cell.latIndex >= fromLat && cell.latIndex <= toLat
+            && cell.lngIndex >= fromLng && cell.lngIndex <= toLng) {
+          collect(cell, center, radiusKm, hits);
+        }
+      }
+    } else {
+      for (int lat = fromLat; lat <= toLat; lat++) {
+        for (int lng = fromLng; lng <= toLng; lng++) {
+          Cell<T> cell = cells.get(cellKey(lat, lng));
+          if (cell != null) {
+            collect(cell, center, radiusKm, hits);
+          }
+        }
+      }
+    }
+
+    hits.sort(Comparator.comparingDouble(Hit::getDistanceKm));
+    return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+  }
+
+  /**
+   * 가장 가까운 k 개 항목 (가까운 순)
+   *
+   * @param center      중심 좌표
+   * @param k           최대 개수
+   * @param maxRadiusKm 이보다 먼 항목은 제외
+   */
+  public List<Hit<T>> nearest(GeoPoint center, int k, double maxRadiusKm) {
+    if (size == 0 || k <= 0) {
+      return List.of();
+    }
+
+    int centerLat = latIndex(center.getLatitude());
+    int centerLng = lngIndex(center.getLongitude());
+    // 고리 r 밖의 셀은 중심에서 최소 r 칸 떨어져 있음 (작은 범위에서는 평면 근사)
+    double cellKm = Math.min(CELL_LAT_DEGREES,
+        CELL_LNG_DEGREES * cosLatitude(center.getLatitude())) * GeoPoint.KM_PER_DEGREE;
+    int lastRing = Math.max(
+        Math.max(Math.abs(centerLat - minLatIndex), Math.abs(centerLat - maxLatIndex)),
+        Math.max(Math.abs(centerLng - minLngIndex), Math.abs(centerLng - maxLngIndex)));
+
+    PriorityQueue<Hit<T>> best = new PriorityQueue<>(
+        Comparator.<Hit<T>>comparingDouble(Hit::getDistanceKm).reversed());
+    for (int ring = 0; ring <= lastRing; ring++) {
+      if (8L * ring > cells.size()) {
+        // 고리가 채워진 셀 수보다 커지면 남은 셀을 한 번에 훑고 끝냄
+        for (Cell<T> cell : cells.values()) {
+          int distance = Math.max(Math.abs(cell.latIndex - centerLat),
+              Math.abs(cell.lngIndex - centerLng));
+          if (distance >= ring) {
+            offer(cell, center, k, maxRadiusKm, best);
+          }
+        }
+        break;
+      }
+
+      for (int dLat = -ring; dLat <= ring; dLat++) {
+        // 고리의 위, 아래 줄은 전부, 가운데 줄은 양 끝 셀만
+        int step = Math.abs(dLat) == ring ? 1 : 2 * ring;
+        for (int dLng = -ring; dLng <= ring; dLng += step) {
+          Cell<T> cell = cell(centerLat + dLat, centerLng + dLng);
+          if (cell != null) {
+            offer(cell, center, k, maxRadiusKm, best);
+          }
+        }
+      }
+
+      double coveredKm = ring * cellKm;
+      if (coveredKm >= maxRadiusKm
+          || (best.size() == k && best.peek().getDistanceKm() <= coveredKm)) {
+        break;
+      }
+    }
+
+    List<Hit<T>> hits = new ArrayList<>(best);
+    hits.sort(Comparator.comparingDouble(Hit::getDistanceKm));
+    return hits;
+  }
+
+  private Cell<T> cell(int latIndex, int lngIndex) {
+    if (latIndex < 0 || latIndex >= CELLS || lngIndex < 0 || lngIndex >= CELLS) {
+      return null;
+    }
+    return cells.get(cellKey(latIndex, lngIndex));
+  }
+
+  private static <T> void collect(Cell<T> cell, GeoPoint center, double radiusKm,
+      List<Hit<T>> hits) {
+    for (Entry<T> entry : cell.entries) {
+      double distance = center.distanceKm(entry.point);
+      if (distance <= radiusKm) {
+        hits.add(new Hit<>(entry.item, distance));
+      }
+    }
+  }
+
+  private static <T> void offer(Cell<T> cell, GeoPoint center, int k, double maxRadiusKm,
+      PriorityQueue<Hit<T>> best) {
+    for (Entry<T> entry : cell.entries) {
+      double distance = center.distanceKm(entry.point);
+      if (distance > maxRadiusKm) {
+        continue;
+      }
+      if (best.size() < k) {
+        best.add(new Hit<>(entry.item, distance));
+      } else if (distance < best.peek().getDistanceKm()) {
+        best.poll();
+        best.add(new Hit<>(entry.item, distance));
+      }
+    }
+  }
+
+  private static int latIndex(double latitude) {
+    return clamp((int) Math.floor((latitude + 90) / CELL_LAT_DEGREES));
+  }
+
+  private static int lngIndex(double longitude) {
+    return clamp((int) Math.floor((longitude + 180) / CELL_LNG_DEGREES));
+  }
+
+  private static int clamp(int index) {
+    return Math.max(0, Math.min(CELLS - 1, index));
+  }
+
+  private static double cosLatitude(double latitude) {
+    return Math.max(Math.cos(Math.toRadians(latitude)), 0.01);
+  }
+
+  /**
+   * 경도, 위도 비트를 경도부터 번갈아 놓은 값 (geohash 6자리를 base32 로 바꾸기 전 30비트)
+   */
+  static long cellKey(int latIndex, int lngIndex) {
+    long key = 0;
+    for (int bit = BITS - 1; bit >= 0; bit--) {
+      key = (key << 1) | ((lngIndex >> bit) & 1);
+      key = (key << 1) | ((latIndex >> bit) & 1);
+    }
+    return key;
+  }
+
+  @RequiredArgsConstructor
+  private static class Cell<T> {
+
+    private final int latIndex;
+    private final int lngIndex;
+    private final List<Entry<T>> entries = new ArrayList<>();
+  }
+
+  @RequiredArgsConstructor
+  private static class Entry<T> {
+
+    private final T item;
+    private final GeoPoint point;
+  }
+
+  @Getter
+  @RequiredArgsConstructor
+  public static class Hit<T> {
+
+    private final T item;
+    private final double distanceKm;
+  }
+}
@@ -1,30 +1,25 @@
 package com.sparta.domain.store.service;
 
 import com.sparta.domain.store.dto.*;
-import com.sparta.domain.store.entity.Store;
-import com.sparta.domain.store.repository.StoreRepository;
 import com.sparta.global.exception.customException.GlobalCustomException;
+import com.sparta.global.kafka.KafkaErrorResponseDto;
 import com.sparta.global.kafka.KafkaTopic;
-import com.sparta.global.util.PageUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
-
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class StoreConsumerService {
 
-  private final StoreRepository storeRepository;
-  private final ConcurrentHashMap<String, CompletableFuture<Page<StoreResponseDto>>> responseStoreFutures;
-  private final ConcurrentHashMap<String, CompletableFuture<TopStoreResponseDto>> responseTopStoreFutures;
+  private final StoreQueryService storeQueryService;
+  private final KafkaTemplate<String, KafkaStoreResponseDto> kafkaStoreResponseTemplate;
+  private final KafkaTemplate<String, KafkaTopStoreResponseDto> kafkaTopStoreResponseTemplate;
+  private final KafkaTemplate<String, KafkaErrorResponseDto> kafkaErrorResponseTemplate;
 
 
   /**
@@ -35,25 +30,16 @@ public class StoreConsumerService {
   @KafkaListener(topics = KafkaTopic.STORE_REQUEST_TOPIC, groupId = "${spring.kafka.consumer.group-id}")
   public void handleStoreRequest(KafkaStoreRequestDto request) {
     try {
-      Pageable pageable = PageUtil.createPageable(request.getPageNum(), request.getPageSize(),
-          request.isDesc(), request.getSort());
-      Page<Store> stores = storeRepository.findByName(request.getKeyWord(),
-          request.getStoreRegion(), pageable);
-      Page<StoreResponseDto> storeResponseDtoPage = stores.map(StoreResponseDto::new);
+      Page<StoreResponseDto> storeResponseDtoPage = storeQueryService.getStores(
+          request.getPageNum(), request.getPageSize(), request.isDesc(), request.getKeyWord(),
+          request.getStoreRegion(), request.getSort(), request.getCountMode());
       KafkaStoreResponseDto response = new KafkaStoreResponseDto(request.getRequestId(),
           storeResponseDtoPage);
 
-      handleStoreResponse(response);
+      kafkaStoreResponseTemplate.send(request.getReplyTopic(), request.getRequestId(), response);
     } catch (GlobalCustomException e) {
       log.error(e.getMessage());
-    }
-  }
-
-  private void handleStoreResponse(KafkaStoreResponseDto response) {
-    CompletableFuture<Page<StoreResponseDto>> future = responseStoreFutures.remove(
-        response.getRequestId());
-    if (future != null) {
-      future.complete(response.getResponseDtos());
+      sendError(request.getReplyTopic(), request.getRequestId(), e);
     }
   }
 
@@ -65,25 +51,22 @@ public class StoreConsumerService {
   @KafkaListener(topics = KafkaTopic.TOP_STORE_REQUEST_TOPIC, groupId = "${spring.kafka.consumer.group-id}")
   public void handleTopStoreRequest(KafkaTopStoreRequestDto request) {
     try {
-      List<Store> stores = storeRepository.findTopStore();
-      TopStoreResponseDto responseDto = new TopStoreResponseDto(stores);
+      TopStoreResponseDto responseDto = storeQueryService.getTopStores();
 
-//            List<TopStoreResponseDto> storeResponseDtoPage = stores.stream().map(TopStoreResponseDto::new).toList();
       KafkaTopStoreResponseDto response = new KafkaTopStoreResponseDto(request.getRequestId(),
           responseDto);
 
-      handleTopStoreResponse(response);
+      kafkaTopStoreResponseTemplate.send(request.getReplyTopic(), request.getRequestId(), response);
     } catch (GlobalCustomException e) {
       log.error(e.getMessage());
+      sendError(request.getReplyTopic(), request.getRequestId(), e);
     }
   }
 
-  private void handleTopStoreResponse(KafkaTopStoreResponseDto response) {
-    CompletableFuture<TopStoreResponseDto> future = responseTopStoreFutures.remove(
-        response.getRequestId());
-    if (future != null) {
-      future.complete(response.getResponseDto());
-    }
+  /**
+   * 요청 오류를 요청한 쪽에 전달 (응답하지 않으면 시간 초과로 처리되어 백엔드 장애로 셈)
+   */
+  private void sendError(String replyTopic, String requestId, GlobalCustomException e) {
+    kafkaErrorResponseTemplate.send(replyTopic, requestId, KafkaErrorResponseDto.of(requestId, e));
   }
-
 }
@@ -0,0 +1,74 @@
+package com.sparta.domain.store.service;
+
+import com.sparta.domain.store.dto.NearbyStoreResponseDto;
+import com.sparta.domain.store.entity.StoreStatus;
+import com.sparta.domain.store.repository.StoreRepository;
+import com.sparta.global.util.GeoPoint;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 활성화된 스토어 위치 색인 (인스턴스별 메모리)
+ * <p>
+ * 좌표가 있는 활성화 스토어를 DB 에서 읽어 geohash 격자로 만들고 주기적으로 통째로 교체. 스토어 등록, 수정이 반영되기까지 최대
+ * refresh-interval-ms 만큼 늦을 수 있음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreGeoIndex {
+
+  private final StoreRepository storeRepository;
+
+  private volatile GeoHashGrid<NearbyStoreResponseDto> grid = GeoHashGrid.empty();
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void init() {
+    rebuild();
+  }
+
+  @Scheduled(initialDelayString = "${search.geo.refresh-interval-ms:60000}",
+      fixedDelayString = "${search.geo.refresh-interval-ms:60000}")
+  public void rebuild() {
+    try {
+      List<NearbyStoreResponseDto> stores = storeRepository
+          .findAllByStoreStatusAndLatitudeIsNotNull(StoreStatus.ACTIVE).stream()
+          .filter(store -> store.getLongitude() != null)
+          .map(NearbyStoreResponseDto::new)
+          .toList();
+      grid = GeoHashGrid.of(stores,
+          store -> new GeoPoint(store.getLatitude(), store.getLongitude()));
+    } catch (RuntimeException e) {
+      // 실패하면 이전 색인으로 계속 응답
+      log.error("스토어 위치 색인 갱신 실패", e);
+    }
+  }
+
+  /**
+   * 반경 안의 스토어 (가까운 순)
+   */
+  public List<NearbyStoreResponseDto> findWithinRadius(GeoPoint center, double radiusKm,
+      int limit) {
+    return toResponse(grid.withinRadius(center, radiusKm, limit));
+  }
+
+  /**
+   * 가장 가까운 스토어 k 개 (가까운 순)
+   */
+  public List<NearbyStoreResponseDto> findNearest(GeoPoint center, int k, double maxRadiusKm) {
+    return toResponse(grid.nearest(center, k, maxRadiusKm));
+  }
+
+  private static List<NearbyStoreResponseDto> toResponse(
+      List<GeoHashGrid.Hit<NearbyStoreResponseDto>> hits) {
+    return hits.stream()
+        .map(GeoHashGrid.Hit::getItem)
+        .toList();
+  }
+}
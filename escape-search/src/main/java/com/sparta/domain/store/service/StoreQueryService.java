@@ -0,0 +1,180 @@
+package com.sparta.domain.store.service;
+
+import com.sparta.domain.store.dto.StoreProjection;
+import com.sparta.domain.store.dto.StoreResponseDto;
+import com.sparta.domain.store.dto.TopStoreResponseDto;
+import com.sparta.domain.store.entity.Store;
+import com.sparta.domain.store.entity.StoreRegion;
+import com.sparta.domain.store.entity.StoreStatus;
+import com.sparta.domain.store.repository.StoreNameFilter;
+import com.sparta.domain.store.repository.StoreRepository;
+import com.sparta.domain.store.repository.StoreSortKey;
+import com.sparta.global.cache.CountCache;
+import com.sparta.global.response.CursorPage;
+import com.sparta.global.response.FacetedPage;
+import com.sparta.global.util.CountMode;
+import com.sparta.global.util.Cursor;
+import com.sparta.global.util.PageUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StoreQueryService {
+
+  private static final int TOP_STORE_LIMIT = 10;
+  private static final String STORE_REGION_FACET = "storeRegion";
+  // 활성화되지 않은 스토어 수 캐시 키 (검색 조건 키는 지역 이름으로 시작하므로 겹치지 않음)
+  private static final String NOT_ACTIVE_COUNT_KEY = "not-active";
+
+  private final StoreRepository storeRepository;
+  private final TopStoreRanking topStoreRanking;
+  private final CountCache countCache;
+
+  /**
+   * 방탈출 카페 조회 (local 조회와 kafka consumer 가 함께 사용)
+   *
+   * @param pageNum     페이지 번호
+   * @param pageSize    페이지에 담는 데이터 수
+   * @param isDesc      오름차순, 내림차순 정렬 기준
+   * @param keyWord     검색 키워드
+   * @param storeRegion 카페 지역
+   * @param sort        속성별 정렬 기준
+   * @param countMode   전체 개수 계산 방식
+   * @return Store 리스트
+   */
+  public Page<StoreResponseDto> getStores(int pageNum, int pageSize, boolean isDesc,
+      String keyWord, StoreRegion storeRegion, String sort, CountMode countMode) {
+    Pageable pageable = PageUtil.createPageable(pageNum, pageSize, isDesc, sort);
+    StoreNameFilter nameFilter = storeRepository.resolveNameFilter(keyWord);
+
+    if (countMode == CountMode.NONE) {
+      List<StoreProjection> stores = storeRepository.findProjectionsByName(nameFilter,
+          storeRegion, pageable, pageSize + 1L);
+      return PageUtil.createSlicePage(stores, pageable).map(StoreResponseDto::new);
+    }
+
+    List<StoreProjection> stores = storeRepository.findProjectionsByName(nameFilter, storeRegion,
+        pageable, pageSize);
+    return PageUtil.createPage(stores, pageable,
+        () -> countStores(keyWord, nameFilter, storeRegion, countMode))
+        .map(StoreResponseDto::new);
+  }
+
+  /**
+   * 방탈출 카페 커서 조회
+   *
+   * @param cursor      이전 응답의 nextCursor, 첫 페이지는 null
+   * @param pageSize    페이지에 담는 데이터 수
+   * @param isDesc      오름차순, 내림차순 정렬 기준
+   * @param keyWord     검색 키워드
+   * @param storeRegion 카페 지역
+   * @param sort        정렬 기준 (id, name)
+   * @return Store 커서 페이지
+   */
+  public CursorPage<StoreResponseDto> getStoresByCursor(String cursor, int pageSize,
+      boolean isDesc, String keyWord, StoreRegion storeRegion, String sort) {
+    PageUtil.validateCursorPageSize(pageSize);
+    StoreSortKey sortKey = StoreSortKey.from(sort);
+    Cursor after = Cursor.decode(cursor, sortKey.getProperty(), isDesc);
+
+    List<Store> stores = storeRepository.findByNameAfterCursor(keyWord, storeRegion, sortKey,
+        isDesc, after, pageSize + 1);
+    return CursorPage.of(stores, pageSize,
+        store -> new Cursor(sortKey.getProperty(), isDesc, store.getId(),
+            sortKey.getValueExtractor().apply(store)),
+        StoreResponseDto::new);
+  }
+
+  /**
+   * 방탈출 카페 조회 + 지역별 개수
+   * <p>
+   * 지역별 개수는 검색어 조건만 건 GROUP BY 한 번으로 구하고(선택한 지역 외의 개수도 보여주기 위함), 선택한 지역의 전체 개수도
+   * 여기서 계산하므로 지역 수와 관계없이 쿼리는 페이지 조회와 집계 두 번
+   *
+   * @param pageNum     페이지 번호
+   * @param pageSize    페이지에 담는 데이터 수
+   * @param isDesc      오름차순, 내림차순 정렬 기준
+   * @param keyWord     검색 키워드
+   * @param storeRegion 카페 지역
+   * @param sort        속성별 정렬 기준
+   * @return Store 페이지와 storeRegion 패싯
+   */
+  public FacetedPage<StoreResponseDto> getStoresWithFacets(int pageNum, int pageSize,
+      boolean isDesc, String keyWord, StoreRegion storeRegion, String sort) {
+    Pageable pageable = PageUtil.createPageable(pageNum, pageSize, isDesc, sort);
+    StoreNameFilter nameFilter = storeRepository.resolveNameFilter(keyWord);
+    List<StoreProjection> stores = storeRepository.findProjectionsByName(nameFilter, storeRegion,
+        pageable, pageSize);
+    Map<StoreRegion, Long> regionCounts = storeRepository.countActiveByRegion(nameFilter);
+
+    Map<String, Long> regionFacet = new LinkedHashMap<>();
+    for (StoreRegion region : StoreRegion.values()) {
+      if (region != StoreRegion.ALL) {
+        regionFacet.put(region.name(), regionCounts.getOrDefault(region, 0L));
+      }
+    }
+    long total = storeRegion == StoreRegion.ALL
+        ? regionCounts.values().stream().mapToLong(Long::longValue).sum()
+        : regionCounts.getOrDefault(storeRegion, 0L);
+
+    Page<StoreResponseDto> page = PageUtil.createPage(stores, pageable, () -> total)
+        .map(StoreResponseDto::new);
+    return new FacetedPage<>(page, Map.of(STORE_REGION_FACET, regionFacet));
+  }
+
+  private long countStores(String keyWord, StoreNameFilter nameFilter, StoreRegion storeRegion,
+      CountMode countMode) {
+    if (countMode == CountMode.EXACT) {
+      return storeRepository.countActiveByName(nameFilter, storeRegion);
+    }
+
+    boolean unfiltered = (keyWord == null || keyWord.isBlank()) && storeRegion == StoreRegion.ALL;
+    if (countMode == CountMode.APPROXIMATE && unfiltered) {
+      // 테이블 추정치는 활성화되지 않은 스토어까지 센 값이므로 그 수(캐시)를 빼서 보정
+      long notActive = countCache.get(CountCache.STORE_NAMESPACE, NOT_ACTIVE_COUNT_KEY,
+          storeRepository::countNotActive);
+      return Math.max(storeRepository.estimateStoreCount() - notActive, 0L);
+    }
+
+    // 검색어는 대소문자, 자모 분리 여부와 관계없이 같은 조건으로 캐시
+    String normalizedKeyWord = keyWord == null ? ""
+        : StoreNameTokenizer.normalize(keyWord).toLowerCase(Locale.ROOT);
+    return countCache.get(CountCache.STORE_NAMESPACE, storeRegion + ":" + normalizedKeyWord,
+        () -> storeRepository.countActiveByName(nameFilter, storeRegion));
+  }
+
+  /**
+   * 인기 방탈출 카페 조회
+   * <p>
+   * 완료 예약 수 랭킹에서 상위 스토어 id 를 읽고 스토어는 id 로만 조회 (비활성 스토어를 제외할 여유분까지 읽음)
+   *
+   * @return 인기 카페 목록
+   */
+  public TopStoreResponseDto getTopStores() {
+    List<Long> storeIds = topStoreRanking.getTopStoreIds(TOP_STORE_LIMIT * 2);
+
+    Map<Long, Store> activeStores = storeRepository.findAllById(storeIds).stream()
+        .filter(store -> store.getStoreStatus() == StoreStatus.ACTIVE)
+        .collect(Collectors.toMap(Store::getId, Function.identity()));
+
+    List<Store> stores = storeIds.stream()
+        .map(activeStores::get)
+        .filter(Objects::nonNull)
+        .limit(TOP_STORE_LIMIT)
+        .toList();
+    return new TopStoreResponseDto(stores);
+  }
+}
@@ -1,24 +1,41 @@
 package com.sparta.domain.store.service;
 
+import com.sparta.config.QueryMode;
+import com.sparta.domain.catalog.service.CatalogReadModel;
 import com.sparta.domain.store.dto.KafkaStoreRequestDto;
 import com.sparta.domain.store.dto.KafkaTopStoreRequestDto;
+import com.sparta.domain.store.dto.NearbyStoreResponseDto;
 import com.sparta.domain.store.dto.StoreDetailResponseDto;
 import com.sparta.domain.store.dto.StoreResponseDto;
 import com.sparta.domain.store.dto.TopStoreResponseDto;
-import com.sparta.domain.store.entity.Store;
 import com.sparta.domain.store.entity.StoreRegion;
 import com.sparta.domain.store.repository.StoreRepository;
+import com.sparta.fallback.DegradedModeExecutor;
+import com.sparta.fallback.FallbackResult;
+import com.sparta.global.cache.CacheNames;
 import com.sparta.global.exception.customException.KafkaException;
+import com.sparta.global.exception.customException.StoreException;
 import com.sparta.global.exception.errorCode.KafkaErrorCode;
+import com.sparta.global.exception.errorCode.StoreErrorCode;
+import com.sparta.global.kafka.KafkaReplyTopic;
 import com.sparta.global.kafka.KafkaTopic;
+import com.sparta.global.kafka.PendingRequestRegistry;
+import com.sparta.global.response.CursorPage;
+import com.sparta.global.response.FacetedPage;
+import com.sparta.global.util.CountMode;
+import com.sparta.global.util.GeoPoint;
+import com.sparta.loadShedding.AdaptiveTimeouts;
+import com.sparta.requestCoalescing.RequestCoalescer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 import java.util.concurrent.*;
 
@@ -27,12 +44,27 @@ import java.util.concurrent.*;
 @RequiredArgsConstructor
 public class StoreService {
 
+  // 스토어 좌표가 시군구 대표 좌표라 이보다 작은 반경은 같은 구의 스토어를 임의로 빠뜨림
+  private static final double NEARBY_RADIUS_MIN_KM = 5;
+  private static final double NEARBY_RADIUS_MAX_KM = 50;
+  private static final int NEARBY_LIMIT_MAX = 50;
+
   private final KafkaTemplate<String, KafkaStoreRequestDto> kafkaStoreTemplate;
   private final KafkaTemplate<String, KafkaTopStoreRequestDto> kafkaTopStoreTemplate;
-  private final ConcurrentHashMap<String, CompletableFuture<Page<StoreResponseDto>>> responseStoreFutures;
-  private final ConcurrentHashMap<String, CompletableFuture<TopStoreResponseDto>> responseTopStoreFutures;
+  private final PendingRequestRegistry<Page<StoreResponseDto>> storePendingRequests;
+  private final PendingRequestRegistry<TopStoreResponseDto> topStorePendingRequests;
 
   private final StoreRepository storeRepository;
+  private final StoreQueryService storeQueryService;
+  private final KafkaReplyTopic kafkaReplyTopic;
+  private final RequestCoalescer requestCoalescer;
+  private final CatalogReadModel catalogReadModel;
+  private final StoreGeoIndex storeGeoIndex;
+  private final DegradedModeExecutor degradedModeExecutor;
+  private final AdaptiveTimeouts adaptiveTimeouts;
+
+  @Value("${search.query-mode:LOCAL}")
+  private QueryMode queryMode;
 
   /**
    * 방탈출 카페 조회
@@ -43,70 +75,153 @@ public class StoreService {
    * @param keyWord     검색 키워드
    * @param storeRegion 카페 지역
    * @param sort        속성별 정렬 기준
-   * @return Store 리스트
+   * @param countMode   전체 개수 계산 방식
+   * @return Store 리스트 (조회 실패 시 마지막 정상 응답일 수 있음)
    */
-  public Page<StoreResponseDto> getStores(int pageNum, int pageSize, boolean isDesc,
-      String keyWord, StoreRegion storeRegion, String sort) {
+  public CompletableFuture<FallbackResult<Page<StoreResponseDto>>> getStores(int pageNum, int pageSize,
+      boolean isDesc, String keyWord, StoreRegion storeRegion, String sort, CountMode countMode) {
+    // 검색어는 대소문자를 구분하지 않고, null 과 빈 문자열은 같은 조건
+    String normalizedKeyWord = keyWord == null ? "" : keyWord.toLowerCase(Locale.ROOT);
+    String key = RequestCoalescer.key("stores", pageNum, pageSize, isDesc, normalizedKeyWord,
+        storeRegion, sort, countMode);
+
+    return requestCoalescer.execute(key, () -> degradedModeExecutor.execute("stores", key,
+        () -> fetchStores(pageNum, pageSize, isDesc, keyWord, storeRegion, sort, countMode)));
+  }
+
+  private CompletableFuture<Page<StoreResponseDto>> fetchStores(int pageNum, int pageSize,
+      boolean isDesc, String keyWord, StoreRegion storeRegion, String sort, CountMode countMode) {
+    if (queryMode == QueryMode.LOCAL) {
+      return CompletableFuture.completedFuture(
+          storeQueryService.getStores(pageNum, pageSize, isDesc, keyWord, storeRegion, sort,
+              countMode));
+    }
 
     String requestId = UUID.randomUUID().toString();
 
-    CompletableFuture<Page<StoreResponseDto>> future = new CompletableFuture<>();
-    responseStoreFutures.put(requestId, future);
+    CompletableFuture<Page<StoreResponseDto>> future =
+        adaptiveTimeouts.register(storePendingRequests, requestId);
 
-    sendStoreRequest(requestId, pageNum, pageSize, isDesc, keyWord, storeRegion, sort);
+    sendStoreRequest(requestId, pageNum, pageSize, isDesc, keyWord, storeRegion, sort, countMode);
 
-    try {
-      return future.get(3, TimeUnit.SECONDS); // 응답을 기다림
-    } catch (InterruptedException | ExecutionException e) {
-      throw new KafkaException(KafkaErrorCode.KAFKA_SERVER_ERROR);
-    } catch (TimeoutException e) {
-      throw new KafkaException(KafkaErrorCode.KAFKA_RESPONSE_ERROR);
-    }
+    return future;
   }
 
   private void sendStoreRequest(String requestId, int pageNum, int pageSize, boolean isDesc,
-      String keyWord, StoreRegion storeRegion, String sort) {
-    KafkaStoreRequestDto storeRequest = new KafkaStoreRequestDto(requestId, pageNum, pageSize,
-        isDesc, keyWord, storeRegion, sort);
-    kafkaStoreTemplate.send(KafkaTopic.STORE_REQUEST_TOPIC, storeRequest);
+      String keyWord, StoreRegion storeRegion, String sort, CountMode countMode) {
+    KafkaStoreRequestDto storeRequest = new KafkaStoreRequestDto(requestId,
+        kafkaReplyTopic.getName(), pageNum, pageSize, isDesc, keyWord, storeRegion, sort,
+        countMode);
+    kafkaStoreTemplate.send(KafkaTopic.STORE_REQUEST_TOPIC, storeRequest)
+        .whenComplete((result, e) -> {
+          if (e != null) {
+            storePendingRequests.fail(requestId, new KafkaException(KafkaErrorCode.KAFKA_SERVER_ERROR));
+          }
+        });
   }
 
   /**
    * 인기 방탈출 카페 상세 조회
    *
-   * @return store 반환
+   * @return store 반환 (조회 실패 시 마지막 정상 응답일 수 있음)
    */
-  @Cacheable(value = "top-stores", cacheManager = "redisCacheManager")
-  public TopStoreResponseDto getTopStores() {
+  public CompletableFuture<FallbackResult<TopStoreResponseDto>> getTopStores() {
+    return degradedModeExecutor.execute("top-stores", "top-stores", this::fetchTopStores);
+  }
+
+  private CompletableFuture<TopStoreResponseDto> fetchTopStores() {
+    if (queryMode == QueryMode.LOCAL) {
+      return CompletableFuture.completedFuture(storeQueryService.getTopStores());
+    }
+
     String requestId = UUID.randomUUID().toString();
 
-    CompletableFuture<TopStoreResponseDto> future = new CompletableFuture<>();
-    responseTopStoreFutures.put(requestId, future);
+    CompletableFuture<TopStoreResponseDto> future =
+        adaptiveTimeouts.register(topStorePendingRequests, requestId);
 
     sendTopStoreRequest(requestId);
 
-    try {
-      return future.get(3, TimeUnit.SECONDS); // 응답을 기다림
-    } catch (InterruptedException | ExecutionException e) {
-      throw new KafkaException(KafkaErrorCode.KAFKA_SERVER_ERROR);
-    } catch (TimeoutException e) {
-      throw new KafkaException(KafkaErrorCode.KAFKA_RESPONSE_ERROR);
-    }
+    return future;
   }
 
   private void sendTopStoreRequest(String requestId) {
-    KafkaTopStoreRequestDto topStoreRequest = new KafkaTopStoreRequestDto(requestId);
-    kafkaTopStoreTemplate.send(KafkaTopic.TOP_STORE_REQUEST_TOPIC, topStoreRequest);
+    KafkaTopStoreRequestDto topStoreRequest = new KafkaTopStoreRequestDto(requestId,
+        kafkaReplyTopic.getName());
+    kafkaTopStoreTemplate.send(KafkaTopic.TOP_STORE_REQUEST_TOPIC, topStoreRequest)
+        .whenComplete((result, e) -> {
+          if (e != null) {
+            topStorePendingRequests.fail(requestId, new KafkaException(KafkaErrorCode.KAFKA_SERVER_ERROR));
+          }
+        });
   }
 
   /**
-   * 방탈출 카페 상세 조회
+   * 방탈출 카페 상세 조회 (sync 로 조회해야 캐시가 만료 전 미리 갱신할 수 있음)
    *
    * @param storeId 조회할 카페 id
    * @return storeInfo 반환
    */
+  @Cacheable(cacheNames = CacheNames.STORE_DETAIL, key = "#storeId", sync = true)
   public StoreDetailResponseDto getStoreInfo(Long storeId) {
-    Store store = storeRepository.findByActiveStore(storeId);
-    return new StoreDetailResponseDto(store);
+    return catalogReadModel.findActiveStore(storeId)
+        .map(StoreDetailResponseDto::new)
+        .orElseGet(() -> new StoreDetailResponseDto(storeRepository.findByActiveStore(storeId)));
+  }
+
+  /**
+   * 방탈출 카페 커서 조회 (깊은 페이지도 offset 없이 조회하도록 항상 직접 조회)
+   *
+   * @param cursor      이전 응답의 nextCursor, 첫 페이지는 null
+   * @param pageSize    페이지에 담는 데이터 수
+   * @param isDesc      오름차순, 내림차순 정렬 기준
+   * @param keyWord     검색 키워드
+   * @param storeRegion 카페 지역
+   * @param sort        정렬 기준 (id, name)
+   * @return Store 커서 페이지
+   */
+  public CursorPage<StoreResponseDto> getStoresByCursor(String cursor, int pageSize,
+      boolean isDesc, String keyWord, StoreRegion storeRegion, String sort) {
+    return storeQueryService.getStoresByCursor(cursor, pageSize, isDesc, keyWord, storeRegion,
+        sort);
+  }
+
+  /**
+   * 방탈출 카페 조회 + 지역별 개수 (직접 조회)
+   *
+   * @param pageNum     페이지 번호
+   * @param pageSize    페이지에 담는 데이터 수
+   * @param isDesc      오름차순, 내림차순 정렬 기준
+   * @param keyWord     검색 키워드
+   * @param storeRegion 카페 지역
+   * @param sort        속성별 정렬 기준
+   * @return Store 페이지와 storeRegion 패싯
+   */
+  public FacetedPage<StoreResponseDto> getStoresWithFacets(int pageNum, int pageSize,
+      boolean isDesc, String keyWord, StoreRegion storeRegion, String sort) {
+    return storeQueryService.getStoresWithFacets(pageNum, pageSize, isDesc, keyWord, storeRegion,
+        sort);
+  }
+
+  /**
+   * 위치 기반 방탈출 카페 조회 (메모리 위치 색인 사용, DB 를 거치지 않음)
+   *
+   * @param latitude  위도
+   * @param longitude 경도
+   * @param radiusKm  반경 (km), 없으면 가까운 순 limit 개 (최대 반경 안에서), 최소 반경보다 작으면 최소 반경
+   * @param limit     최대 개수
+   * @return 가까운 순 카페 리스트
+   */
+  public List<NearbyStoreResponseDto> getNearbyStores(double latitude, double longitude,
+      Double radiusKm, int limit) {
+    if (!GeoPoint.isValid(latitude, longitude) || limit < 1 || limit > NEARBY_LIMIT_MAX
+        || (radiusKm != null && (radiusKm <= 0 || radiusKm > NEARBY_RADIUS_MAX_KM))) {
+      throw new StoreException(StoreErrorCode.INVALID_NEARBY_SEARCH);
+    }
+
+    GeoPoint center = new GeoPoint(latitude, longitude);
+    if (radiusKm == null) {
+      return storeGeoIndex.findNearest(center, limit, NEARBY_RADIUS_MAX_KM);
+    }
+    return storeGeoIndex.findWithinRadius(center, Math.max(radiusKm, NEARBY_RADIUS_MIN_KM), limit);
   }
 }
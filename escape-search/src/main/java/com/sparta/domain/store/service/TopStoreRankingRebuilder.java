@@ -0,0 +1,37 @@
+package com.sparta.domain.store.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인기 스토어 랭킹 재생성 작업
+ * <p>
+ * 시작 시점과 check-interval-ms 마다 재생성 시각 표시를 확인해 만료됐으면 재생성 (여러 인스턴스가 확인해도 락을 잡은 하나만 재생성)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TopStoreRankingRebuilder {
+
+  private final TopStoreRanking topStoreRanking;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void init() {
+    rebuildIfExpired();
+  }
+
+  @Scheduled(initialDelayString = "${ranking.top-store.check-interval-ms:60000}",
+      fixedDelayString = "${ranking.top-store.check-interval-ms:60000}")
+  public void rebuildIfExpired() {
+    try {
+      topStoreRanking.rebuildIfExpired();
+    } catch (RuntimeException e) {
+      // 실패하면 지금 랭킹으로 계속 응답하고 다음 주기에 다시 시도
+      log.error("인기 스토어 랭킹 재생성 실패", e);
+    }
+  }
+}
@@ -9,6 +9,7 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class KafkaThemeInfoRequestDto {
     private String requestId;
+    private String replyTopic;
     private Long storeId;
     private Long themeId;
 }
@@ -1,6 +1,6 @@
 package com.sparta.domain.theme.dto;
 
-
+import com.sparta.global.util.CountMode;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -10,9 +10,11 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class KafkaThemeRequestDto {
     private String requestId;
+    private String replyTopic;
     private Long storeId;
     private int pageNum;
     private int pageSize;
     private boolean isDesc;
     private String sort;
+    private CountMode countMode;
 }
@@ -1,14 +1,36 @@
 package com.sparta.domain.theme.dto;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
 
 @Getter
 @NoArgsConstructor
-@AllArgsConstructor
 public class KafkaThemeResponseDto {
     private String requestId;
-    private Page<ThemeResponseDto> responseDtos;
+    private List<ThemeResponseDto> responseDtos;
+    private int pageNumber;
+    private int pageSize;
+    private long totalElements;
+
+    public KafkaThemeResponseDto(String requestId, Page<ThemeResponseDto> page) {
+        this.requestId = requestId;
+        this.responseDtos = page.getContent();
+        this.pageNumber = page.getNumber();
+        this.pageSize = page.getSize();
+        this.totalElements = page.getTotalElements();
+    }
+
+    /**
+     * Page 는 역직렬화가 되지 않으므로 페이징 정보만 주고받고 응답을 받은 쪽에서 다시 생성
+     *
+     * @return 테마 페이지
+     */
+    public Page<ThemeResponseDto> toPage() {
+        return new PageImpl<>(responseDtos, PageRequest.of(pageNumber, Math.max(pageSize, 1)), totalElements);
+    }
 }
@@ -0,0 +1,27 @@
+package com.sparta.domain.theme.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+public class ThemeDayAvailabilityResponseDto {
+    private LocalDate date;
+    private int slotCount;
+    private int enabledCount;
+    private LocalDateTime firstEnabledStartTime;
+    private LocalDateTime lastEnabledStartTime;
+
+    public ThemeDayAvailabilityResponseDto(ThemeAvailability availability) {
+        int first = availability.firstEnabledIndex();
+        int last = availability.lastEnabledIndex();
+        this.date = LocalDate.parse(availability.getDate());
+        this.slotCount = availability.slotCount();
+        this.enabledCount = availability.enabledCount();
+        this.firstEnabledStartTime = first < 0 ? null : availability.startTimeAt(first);
+        this.lastEnabledStartTime = last < 0 ? null : availability.startTimeAt(last);
+    }
+}
@@ -0,0 +1,31 @@
+package com.sparta.domain.theme.dto;
+
+import com.sparta.domain.store.entity.StoreRegion;
+import com.sparta.domain.theme.entity.ThemeType;
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 테마 탐색 조건 (null, 빈 목록인 조건은 적용하지 않음)
+ * <p>
+ * 같은 조건 안의 여러 값은 OR, 조건끼리는 AND. 난이도, 가격은 이상/이하, 인원은 minPlayer ~ maxPlayer 에 포함되는 테마
+ */
+@Getter
+@RequiredArgsConstructor
+public class ThemeDiscoveryFilter {
+
+  private final List<ThemeType> themeTypes;
+  private final List<StoreRegion> storeRegions;
+  private final Integer minLevel;
+  private final Integer maxLevel;
+  private final Integer players;
+  private final Long minPrice;
+  private final Long maxPrice;
+
+  public boolean isValid() {
+    return (players == null || players >= 1)
+        && (minLevel == null || maxLevel == null || minLevel <= maxLevel)
+        && (minPrice == null || maxPrice == null || minPrice <= maxPrice);
+  }
+}
@@ -0,0 +1,36 @@
+package com.sparta.domain.theme.dto;
+
+import com.sparta.domain.store.entity.StoreRegion;
+import com.sparta.domain.theme.entity.ThemeType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ThemeDiscoveryResponseDto {
+    private Long themeId;
+    private Long storeId;
+    private String storeName;
+    private StoreRegion storeRegion;
+    private String title;
+    private String themeImage;
+    private ThemeType themeType;
+    private Integer level;
+    private Integer minPlayer;
+    private Integer maxPlayer;
+    private Long price;
+
+    public ThemeDiscoveryResponseDto(ThemeDiscoveryProjection theme){
+        this.themeId = theme.getThemeId();
+        this.storeId = theme.getStoreId();
+        this.storeName = theme.getStoreName();
+        this.storeRegion = theme.getStoreRegion();
+        this.title = theme.getTitle();
+        this.themeImage = theme.getThemeImage();
+        this.themeType = theme.getThemeType();
+        this.level = theme.getLevel();
+        this.minPlayer = theme.getMinPlayer();
+        this.maxPlayer = theme.getMaxPlayer();
+        this.price = theme.getPrice();
+    }
+}
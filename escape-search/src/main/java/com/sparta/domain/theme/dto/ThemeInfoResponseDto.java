@@ -1,6 +1,7 @@
 package com.sparta.domain.theme.dto;
 
 import com.sparta.domain.theme.entity.Theme;
+import com.sparta.domain.theme.event.ThemeChangedEvent;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -30,4 +31,30 @@ public class ThemeInfoResponseDto {
         this.price = theme.getPrice();
         this.recommendationCount = recommendationCount;
     }
+
+    public ThemeInfoResponseDto(ThemeChangedEvent theme, Long recommendationCount) {
+        this.themeId = theme.getThemeId();
+        this.title = theme.getTitle();
+        this.description = theme.getContents();
+        this.level = theme.getLevel();
+        this.minPlayer = theme.getMinPlayer();
+        this.maxPlayer = theme.getMaxPlayer();
+        this.duration = theme.getDuration();
+        this.themeImage = theme.getThemeImage();
+        this.price = theme.getPrice();
+        this.recommendationCount = recommendationCount;
+    }
+
+    public ThemeInfoResponseDto(ThemeInfoResponseDto themeInfo, Long recommendationCount) {
+        this.themeId = themeInfo.themeId;
+        this.title = themeInfo.title;
+        this.description = themeInfo.description;
+        this.level = themeInfo.level;
+        this.minPlayer = themeInfo.minPlayer;
+        this.maxPlayer = themeInfo.maxPlayer;
+        this.duration = themeInfo.duration;
+        this.themeImage = themeInfo.themeImage;
+        this.price = themeInfo.price;
+        this.recommendationCount = recommendationCount;
+    }
 }
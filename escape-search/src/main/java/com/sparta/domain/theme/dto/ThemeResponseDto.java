@@ -16,4 +16,10 @@ public class ThemeResponseDto {
         this.themeImage = theme.getThemeImage();
         this.title = theme.getTitle();
     }
+
+    public ThemeResponseDto(ThemeProjection theme){
+        this.themeId = theme.getThemeId();
+        this.themeImage = theme.getThemeImage();
+        this.title = theme.getTitle();
+    }
 }
@@ -2,6 +2,7 @@ package com.sparta.domain.theme.dto;
 
 import com.sparta.domain.theme.entity.ThemeTime;
 import com.sparta.domain.theme.entity.ThemeTimeStatus;
+import com.sparta.domain.theme.event.SlotStatusChangedEvent;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -21,4 +22,18 @@ public class ThemeTimeResponseDto {
         this.endTime = themeTime.getEndTime();
         this.themeTimeStatus = themeTime.getThemeTimeStatus();
     }
+
+    public ThemeTimeResponseDto(SlotStatusChangedEvent slot) {
+        this.themeTimeId = slot.getThemeTimeId();
+        this.startTime = slot.getStartTime();
+        this.endTime = slot.getEndTime();
+        this.themeTimeStatus = slot.getThemeTimeStatus();
+    }
+
+    public ThemeTimeResponseDto(ThemeAvailability availability, int index) {
+        this.themeTimeId = availability.getThemeTimeIds()[index];
+        this.startTime = availability.startTimeAt(index);
+        this.endTime = availability.endTimeAt(index);
+        this.themeTimeStatus = availability.enabledAt(index) ? ThemeTimeStatus.ENABLE : ThemeTimeStatus.DISABLE;
+    }
 }
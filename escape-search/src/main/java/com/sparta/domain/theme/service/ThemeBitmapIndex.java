@@ -0,0 +1,180 @@
+package com.sparta.domain.theme.service;
+
+import com.sparta.domain.store.entity.StoreRegion;
+import com.sparta.domain.theme.dto.ThemeDiscoveryFilter;
+import com.sparta.domain.theme.dto.ThemeDiscoveryProjection;
+import com.sparta.domain.theme.entity.ThemeType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 테마 조건별 비트맵 색인 (불변, 다시 만들 때는 새 인스턴스로 교체)
+ * <p>
+ * 테마를 가격, id 순으로 0 부터 번호를 매기고 조건 값마다 해당 번호의 비트를 켠 비트맵을 둠. 번호가 빈틈없이 이어져 있어 테마 하나당 값마다
+ * 1비트만 쓰고, 조회는 조건별 비트맵을 OR (같은 조건의 여러 값), AND (조건끼리) 한 뒤 켜진 비트를 순서대로 읽음. 가격은 번호 순서와 같으므로
+ * 범위 밖 비트를 지우는 것으로 끝나고, 결과도 따로 정렬할 필요 없이 가격 순
+ */
+public class ThemeBitmapIndex {
+
+  // 가격 오름차순, 같은 가격은 id 순 (가격이 없으면 맨 뒤)
+  private static final Comparator<ThemeDiscoveryProjection> ORDER = Comparator
+      .comparing(ThemeDiscoveryProjection::getPrice,
+          Comparator.nullsLast(Comparator.naturalOrder()))
+      .thenComparing(ThemeDiscoveryProjection::getThemeId);
+
+  private final ThemeDiscoveryProjection[] themes;
+  // 가격이 있는 테마의 가격 (번호 순, 가격이 없는 테마는 뒤에 있어 빠짐)
+  private final long[] prices;
+  private final Map<ThemeType, BitSet> byThemeType = new EnumMap<>(ThemeType.class);
+  private final Map<StoreRegion, BitSet> byStoreRegion = new EnumMap<>(StoreRegion.class);
+  private final NavigableMap<Integer, BitSet> byLevel = new TreeMap<>();
+  private final NavigableMap<Integer, BitSet> byMinPlayer = new TreeMap<>();
+  private final NavigableMap<Integer, BitSet> byMaxPlayer = new TreeMap<>();
+
+  private ThemeBitmapIndex(ThemeDiscoveryProjection[] themes) {
+    this.themes = themes;
+    this.prices = Arrays.stream(themes)
+        .map(ThemeDiscoveryProjection::getPrice)
+        .takeWhile(price -> price != null)
+        .mapToLong(Long::longValue)
+        .toArray();
+
+    for (int i = 0; i < themes.length; i++) {
+      ThemeDiscoveryProjection theme = themes[i];
+      set(byThemeType, theme.getThemeType(), i);
+      set(byStoreRegion, theme.getStoreRegion(), i);
+      set(byLevel, theme.getLevel(), i);
+      set(byMinPlayer, theme.getMinPlayer(), i);
+      set(byMaxPlayer, theme.getMaxPlayer(), i);
+    }
+  }
+
+  public static ThemeBitmapIndex empty() {
+    return new ThemeBitmapIndex(new ThemeDiscoveryProjection[0]);
+  }
+
+  /**
+   * 비트맵 색인 생성
+   *
+   * @param themes 색인할 테마
+   */
+  public static ThemeBitmapIndex of(Collection<ThemeDiscoveryProjection> themes) {
+    ThemeDiscoveryProjection[] sorted = themes.toArray(new ThemeDiscoveryProjection[0]);
+    Arrays.sort(sorted, ORDER);
+    return new ThemeBitmapIndex(sorted);
+  }
+
+  public int size() {
+    return themes.length;
+  }
+
+  /**
+   * 조건에 맞는 테마 (가격 순)
+   *
+   * @param filter 탐색 조건
+   * @param isDesc 가격 내림차순 여부
+   * @param offset 건너뛸 개수
+   * @param limit  최대 개수
+   * @return 페이지 내용과 조건에 맞는 전체 개수
+   */
+  public Result search(ThemeDiscoveryFilter filter, boolean isDesc, long offset, int limit) {
+    BitSet matched = match(filter);
+    long total = matched.cardinality();
+
+    List<ThemeDiscoveryProjection> content = new ArrayList<>(
+        (int) Math.max(0, Math.min(limit, total - offset)));
+    long skipped = 0;
+    int i = isDesc ? matched.previousSetBit(themes.length - 1) : matched.nextSetBit(0);
+    while (i >= 0 && content.size() < limit) {
+      if (skipped++ >= offset) {
+        content.add(themes[i]);
+      }
+      i = isDesc ? matched.previousSetBit(i - 1) : matched.nextSetBit(i + 1);
+    }
+    return new Result(content, total);
+  }
+
+  private BitSet match(ThemeDiscoveryFilter filter) {
+    BitSet matched = new BitSet(themes.length);
+    matched.set(0, themes.length);
+
+    if (filter.getThemeTypes() != null && !filter.getThemeTypes().isEmpty()) {
+      matched.and(union(filter.getThemeTypes().stream().map(byThemeType::get).toList()));
+    }
+    // ALL 은 지역 조건 없음
+    if (filter.getStoreRegions() != null && !filter.getStoreRegions().isEmpty()
+        && !filter.getStoreRegions().contains(StoreRegion.ALL)) {
+      matched.and(union(filter.getStoreRegions().stream().map(byStoreRegion::get).toList()));
+    }
+    if (filter.getMinLevel() != null || filter.getMaxLevel() != null) {
+      int minLevel = filter.getMinLevel() == null ? Integer.MIN_VALUE : filter.getMinLevel();
+      int maxLevel = filter.getMaxLevel() == null ? Integer.MAX_VALUE : filter.getMaxLevel();
+      matched.and(minLevel > maxLevel ? new BitSet()
+          : union(byLevel.subMap(minLevel, true, maxLevel, true).values()));
+    }
+    if (filter.getPlayers() != null) {
+      matched.and(union(byMinPlayer.headMap(filter.getPlayers(), true).values()));
+      matched.and(union(byMaxPlayer.tailMap(filter.getPlayers(), true).values()));
+    }
+    if (filter.getMinPrice() != null || filter.getMaxPrice() != null) {
+      int from = filter.getMinPrice() == null ? 0 : countPricesBelow(filter.getMinPrice(), false);
+      int to = filter.getMaxPrice() == null ? prices.length
+          : countPricesBelow(filter.getMaxPrice(), true);
+      matched.clear(0, from);
+      matched.clear(Math.max(from, to), themes.length);
+    }
+    return matched;
+  }
+
+  /**
+   * 가격이 price 보다 작은 (orEqual 이면 작거나 같은) 테마 수 (가격 순이므로 그 다음 번호부터 price 이상/초과)
+   */
+  private int countPricesBelow(long price, boolean orEqual) {
+    int low = 0;
+    int high = prices.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (prices[mid] < price || (orEqual && prices[mid] == price)) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  private static BitSet union(Collection<BitSet> bitmaps) {
+    BitSet union = new BitSet();
+    for (BitSet bitmap : bitmaps) {
+      if (bitmap != null) {
+        union.or(bitmap);
+      }
+    }
+    return union;
+  }
+
+  private static <K> void set(Map<K, BitSet> bitmaps, K value, int index) {
+    if (value != null) {
+      bitmaps.computeIfAbsent(value, key -> new BitSet()).set(index);
+    }
+  }
+
+  @Getter
+  @RequiredArgsConstructor
+  public static class Result {
+
+    private final List<ThemeDiscoveryProjection> content;
+    private final long total;
+  }
+}
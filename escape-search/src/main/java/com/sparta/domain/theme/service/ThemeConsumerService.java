@@ -1,42 +1,28 @@
 package com.sparta.domain.theme.service;
 
-import com.sparta.domain.recommendation.repository.RecommendationRepository;
-import com.sparta.domain.store.entity.Store;
-import com.sparta.domain.store.repository.StoreRepository;
 import com.sparta.domain.theme.dto.*;
-import com.sparta.domain.theme.entity.Theme;
-import com.sparta.domain.theme.entity.ThemeTime;
-import com.sparta.domain.theme.repository.ThemeRepository;
-import com.sparta.domain.theme.repository.ThemeTimeRepository;
 import com.sparta.global.exception.customException.GlobalCustomException;
+import com.sparta.global.kafka.KafkaErrorResponseDto;
 import com.sparta.global.kafka.KafkaTopic;
-import com.sparta.global.util.LocalDateTimeUtil;
-import com.sparta.global.util.PageUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDate;
 import java.util.List;
-import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ThemeConsumerService {
 
-    private final ThemeRepository themeRepository;
-    private final StoreRepository storeRepository;
-    private final ThemeTimeRepository themeTimeRepository;
-    private final RecommendationRepository recommendationRepository;
-    private final ConcurrentHashMap<String, CompletableFuture<Page<ThemeResponseDto>>> responseThemeFutures;
-    private final ConcurrentHashMap<String, CompletableFuture<ThemeInfoResponseDto>> responseThemeInfoFutures;
-    private final ConcurrentHashMap<String, CompletableFuture<List<ThemeTimeResponseDto>>> responseThemeTimeFutures;
+    private final ThemeQueryService themeQueryService;
+    private final KafkaTemplate<String, KafkaThemeResponseDto> kafkaThemeResponseTemplate;
+    private final KafkaTemplate<String, KafkaThemeInfoResponseDto> kafkaThemeInfoResponseTemplate;
+    private final KafkaTemplate<String, KafkaThemeTimeResponseDto> kafkaThemeTimeResponseTemplate;
+    private final KafkaTemplate<String, KafkaErrorResponseDto> kafkaErrorResponseTemplate;
 
     /**
      * kafka consumer 테마 조회
@@ -46,23 +32,15 @@ public class ThemeConsumerService {
     @KafkaListener(topics = KafkaTopic.THEME_REQUEST_TOPIC, groupId = "${spring.kafka.consumer.group-id}")
     public void handleThemeRequest(KafkaThemeRequestDto request) {
         try {
-            Store store = storeRepository.findByIdOrElseThrow(request.getStoreId());
-
-            Pageable pageable = PageUtil.createPageable(request.getPageNum(), request.getPageSize(), request.isDesc(), request.getSort());
-            Page<Theme> themes = themeRepository.findByStore(store, pageable);
-            Page<ThemeResponseDto> themeResponseDtoPage = themes.map(ThemeResponseDto::new);
+            Page<ThemeResponseDto> themeResponseDtoPage = themeQueryService.getThemes(request.getStoreId(),
+                    request.getPageNum(), request.getPageSize(), request.isDesc(), request.getSort(),
+                    request.getCountMode());
 
             KafkaThemeResponseDto responseDto = new KafkaThemeResponseDto(request.getRequestId(), themeResponseDtoPage);
-            handleThemeResponse(responseDto);
+            kafkaThemeResponseTemplate.send(request.getReplyTopic(), request.getRequestId(), responseDto);
         }catch (GlobalCustomException e){
             log.error(e.getMessage());
-        }
-    }
-
-    private void handleThemeResponse(KafkaThemeResponseDto response) {
-        CompletableFuture<Page<ThemeResponseDto>> future = responseThemeFutures.remove(response.getRequestId());
-        if (future != null) {
-            future.complete(response.getResponseDtos());
+            sendError(request.getReplyTopic(), request.getRequestId(), e);
         }
     }
 
@@ -74,21 +52,12 @@ public class ThemeConsumerService {
     @KafkaListener(topics = KafkaTopic.THEME_INFO_REQUEST_TOPIC, groupId = "${spring.kafka.consumer.group-id}")
     public void handleThemeInfoRequest(KafkaThemeInfoRequestDto request) {
         try {
-            storeRepository.findByActiveStore(request.getStoreId());
-            Theme theme = themeRepository.findByActiveTheme(request.getThemeId());
-            Long recommendationCount = recommendationRepository.findByThemeCount(theme);
-            ThemeInfoResponseDto themeInfoResponseDto = new ThemeInfoResponseDto(theme, recommendationCount);
+            ThemeInfoResponseDto themeInfoResponseDto = themeQueryService.getThemeInfo(request.getStoreId(), request.getThemeId());
             KafkaThemeInfoResponseDto responseDto = new KafkaThemeInfoResponseDto(request.getRequestId(), themeInfoResponseDto);
-            handleThemeInfoResponse(responseDto);
+            kafkaThemeInfoResponseTemplate.send(request.getReplyTopic(), request.getRequestId(), responseDto);
         }catch (GlobalCustomException e){
             log.error(e.getMessage());
-        }
-    }
-
-    private void handleThemeInfoResponse(KafkaThemeInfoResponseDto response) {
-        CompletableFuture<ThemeInfoResponseDto> future = responseThemeInfoFutures.remove(Objects.requireNonNull(response).getRequestId());
-        if (future != null) {
-            future.complete(response.getResponseDto());
+            sendError(request.getReplyTopic(), request.getRequestId(), e);
         }
     }
 
@@ -100,23 +69,21 @@ public class ThemeConsumerService {
     @KafkaListener(topics = KafkaTopic.THEME_TIME_REQUEST_TOPIC, groupId = "${spring.kafka.consumer.group-id}")
     public void handleThemeTimeRequest(KafkaThemeTimeRequestDto request) {
         try {
-            LocalDate day = LocalDateTimeUtil.parseDateStringToLocalDate(request.getDay());
-            storeRepository.findByActiveStore(request.getStoreId());
-            List<ThemeTime> themeTimeList = themeTimeRepository.findThemeTimesByDate(request.getThemeId(), day);
-            List<ThemeTimeResponseDto> themeTimeResponseDtoList = themeTimeList.stream().map(ThemeTimeResponseDto::new).toList();
+            List<ThemeTimeResponseDto> themeTimeResponseDtoList = themeQueryService.getThemeTimes(request.getStoreId(),
+                    request.getThemeId(), request.getDay());
 
             KafkaThemeTimeResponseDto responseDto = new KafkaThemeTimeResponseDto(request.getRequestId(), themeTimeResponseDtoList);
-            handleThemeTimeResponse(responseDto);
+            kafkaThemeTimeResponseTemplate.send(request.getReplyTopic(), request.getRequestId(), responseDto);
         }catch (GlobalCustomException e){
             log.error(e.getMessage());
+            sendError(request.getReplyTopic(), request.getRequestId(), e);
         }
     }
 
-    private void handleThemeTimeResponse(KafkaThemeTimeResponseDto response) {
-        CompletableFuture<List<ThemeTimeResponseDto>> future = responseThemeTimeFutures.remove(Objects.requireNonNull(response).getRequestId());
-        if (future != null) {
-            future.complete(response.getResponseDtoList());
-        }
+    /**
+     * 요청 오류를 요청한 쪽에 전달 (응답하지 않으면 시간 초과로 처리되어 백엔드 장애로 셈)
+     */
+    private void sendError(String replyTopic, String requestId, GlobalCustomException e) {
+        kafkaErrorResponseTemplate.send(replyTopic, requestId, KafkaErrorResponseDto.of(requestId, e));
     }
-
 }
@@ -0,0 +1,66 @@
+package com.sparta.domain.theme.service;
+
+import com.sparta.domain.theme.dto.ThemeDiscoveryFilter;
+import com.sparta.domain.theme.repository.ThemeRepository;
+import com.sparta.global.cache.CatalogVersions;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 활성화된 스토어의 테마 탐색 색인 (인스턴스별 메모리)
+ * <p>
+ * 전체 테마 목록 버전을 주기적으로 확인해 스토어, 테마가 바뀐 경우에만 DB 에서 다시 읽어 비트맵 색인을 통째로 교체. 조회는 DB, kafka 를
+ * 거치지 않고 메모리 색인으로만 응답하며, 변경이 반영되기까지 최대 check-interval-ms + 재생성 시간만큼 늦을 수 있음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ThemeDiscoveryIndex {
+
+  private final ThemeRepository themeRepository;
+  private final CatalogVersions catalogVersions;
+
+  private volatile ThemeBitmapIndex index = ThemeBitmapIndex.empty();
+  private volatile long indexedVersion = -1;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void init() {
+    refresh();
+  }
+
+  @Scheduled(initialDelayString = "${search.discovery.check-interval-ms:1000}",
+      fixedDelayString = "${search.discovery.check-interval-ms:1000}")
+  public void refresh() {
+    try {
+      // 읽기 전에 버전을 확인해 두면 읽는 도중 바뀐 내용은 다음 확인 때 다시 반영됨
+      long version = catalogVersions.allThemesVersion();
+      if (version == indexedVersion) {
+        return;
+      }
+      index = ThemeBitmapIndex.of(themeRepository.findAllActiveForDiscovery());
+      indexedVersion = version;
+    } catch (RuntimeException e) {
+      // 실패하면 이전 색인으로 계속 응답
+      log.error("테마 탐색 색인 갱신 실패", e);
+    }
+  }
+
+  /**
+   * 조건에 맞는 테마 (가격 순)
+   */
+  public ThemeBitmapIndex.Result search(ThemeDiscoveryFilter filter, boolean isDesc, long offset,
+      int limit) {
+    return index.search(filter, isDesc, offset, limit);
+  }
+
+  /**
+   * 색인에 반영된 전체 테마 목록 버전 (아직 만들지 못했으면 -1)
+   */
+  public long indexedVersion() {
+    return indexedVersion;
+  }
+}
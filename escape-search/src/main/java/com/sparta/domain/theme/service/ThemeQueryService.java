@@ -0,0 +1,290 @@
+package com.sparta.domain.theme.service;
+
+import com.sparta.domain.catalog.service.CatalogReadModel;
+import com.sparta.domain.recommendation.service.RecommendationCounter;
+import com.sparta.domain.store.entity.Store;
+import com.sparta.domain.store.repository.StoreRepository;
+import com.sparta.domain.theme.dto.ThemeAvailability;
+import com.sparta.domain.theme.dto.ThemeDayAvailabilityResponseDto;
+import com.sparta.domain.theme.dto.ThemeFacetProjection;
+import com.sparta.domain.theme.dto.ThemeFilter;
+import com.sparta.domain.theme.dto.ThemeInfoResponseDto;
+import com.sparta.domain.theme.dto.ThemeProjection;
+import com.sparta.domain.theme.dto.ThemeResponseDto;
+import com.sparta.domain.theme.dto.ThemeTimeResponseDto;
+import com.sparta.domain.theme.entity.Theme;
+import com.sparta.domain.theme.entity.ThemeType;
+import com.sparta.domain.theme.event.SlotStatusChangedEvent;
+import com.sparta.domain.theme.repository.ThemeRepository;
+import com.sparta.domain.theme.repository.ThemeSortKey;
+import com.sparta.global.cache.CacheNames;
+import com.sparta.global.cache.CachedPage;
+import com.sparta.global.cache.CountCache;
+import com.sparta.global.exception.customException.LocalDateTimeException;
+import com.sparta.global.exception.errorCode.LocalDateTimeErrorCode;
+import com.sparta.global.response.CursorPage;
+import com.sparta.global.response.FacetedPage;
+import com.sparta.global.util.CountMode;
+import com.sparta.global.util.Cursor;
+import com.sparta.global.util.LocalDateTimeUtil;
+import com.sparta.global.util.PageUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ThemeQueryService {
+
+  private final ThemeRepository themeRepository;
+  private final StoreRepository storeRepository;
+  private final RecommendationCounter recommendationCounter;
+  private final CountCache countCache;
+  private final ThemeAvailabilityCache themeAvailabilityCache;
+  private final CacheManager cacheManager;
+  private final CatalogReadModel catalogReadModel;
+
+  private static final int AVAILABILITY_RANGE_DAY_LIMIT = 62;
+  private static final String THEME_TYPE_FACET = "themeType";
+  private static final String LEVEL_FACET = "level";
+  private static final String PRICE_FACET = "price";
+  // 가격대 경계 (0-19999, 20000-29999, 30000-39999, 40000-)
+  private static final long[] PRICE_RANGE_BOUNDS = {20000L, 30000L, 40000L};
+
+  /**
+   * 방탈출 카페 테마 조회 (local 조회와 kafka consumer 가 함께 사용)
+   *
+   * @param storeId   방탈출 카페 id
+   * @param pageNum   페이지 번호
+   * @param pageSize  페이지에 담는 데이터 수
+   * @param isDesc    오름차순, 내림차순 정렬 기준
+   * @param sort      속성별 정렬 기준
+   * @param countMode 전체 개수 계산 방식 (테마는 항상 스토어로 걸러지므로 APPROXIMATE 는 CACHED 와 동일)
+   * @return 테마 리스트 (EXACT 가 아니면 응답 캐시 사용)
+   */
+  public Page<ThemeResponseDto> getThemes(Long storeId, int pageNum, int pageSize, boolean isDesc,
+      String sort, CountMode countMode) {
+    if (countMode == CountMode.EXACT) {
+      return loadThemes(storeId, pageNum, pageSize, isDesc, sort, countMode);
+    }
+
+    String key = storeId + ":" + pageNum + ":" + pageSize + ":" + isDesc + ":" + sort + ":"
+        + countMode;
+    CachedPage<ThemeResponseDto> themes = cacheManager.getCache(CacheNames.THEME_LIST).get(key,
+        () -> new CachedPage<>(loadThemes(storeId, pageNum, pageSize, isDesc, sort, countMode)));
+    return themes.toPage(PageUtil.createPageable(pageNum, pageSize, isDesc, sort).getSort());
+  }
+
+  private Page<ThemeResponseDto> loadThemes(Long storeId, int pageNum, int pageSize,
+      boolean isDesc, String sort, CountMode countMode) {
+    Store store = storeRepository.findByIdOrElseThrow(storeId);
+    Pageable pageable = PageUtil.createPageable(pageNum, pageSize, isDesc, sort);
+
+    if (countMode == CountMode.NONE) {
+      List<ThemeProjection> themes = themeRepository.findProjectionsByStore(store, pageable,
+          pageSize + 1L);
+      return PageUtil.createSlicePage(themes, pageable).map(ThemeResponseDto::new);
+    }
+
+    List<ThemeProjection> themes = themeRepository.findProjectionsByStore(store, pageable,
+        pageSize);
+    return PageUtil.createPage(themes, pageable, () -> countMode == CountMode.EXACT
+            ? themeRepository.countActiveByStore(store)
+            : countCache.get(CountCache.themeNamespace(storeId), "active",
+                () -> themeRepository.countActiveByStore(store)))
+        .map(ThemeResponseDto::new);
+  }
+
+  /**
+   * 방탈출 카페 테마 조회 + 테마 종류, 난이도, 가격대별 개수
+   * <p>
+   * 스토어 테마를 (종류, 난이도, 가격) 조합별로 한 번 GROUP BY 한 결과로 모든 패싯과 전체 개수를 메모리에서 계산. 각 패싯은 자기
+   * 조건을 뺀 나머지 필터만 적용한 개수라 다른 값을 골랐을 때의 결과 수를 보여줌
+   *
+   * @param storeId  방탈출 카페 id
+   * @param pageNum  페이지 번호
+   * @param pageSize 페이지에 담는 데이터 수
+   * @param isDesc   오름차순, 내림차순 정렬 기준
+   * @param sort     속성별 정렬 기준
+   * @param filter   테마 종류, 난이도, 가격 조건
+   * @return 테마 페이지와 themeType, level, price 패싯
+   */
+  public FacetedPage<ThemeResponseDto> getThemesWithFacets(Long storeId, int pageNum,
+      int pageSize, boolean isDesc, String sort, ThemeFilter filter) {
+    Store store = storeRepository.findByIdOrElseThrow(storeId);
+    Pageable pageable = PageUtil.createPageable(pageNum, pageSize, isDesc, sort);
+    List<ThemeProjection> themes = themeRepository.findProjectionsByStore(store, filter, pageable,
+        pageSize);
+    List<ThemeFacetProjection> rows = themeRepository.countActiveFacetsByStore(store);
+
+    Map<String, Long> typeFacet = new LinkedHashMap<>();
+    for (ThemeType themeType : ThemeType.values()) {
+      typeFacet.put(themeType.name(), 0L);
+    }
+    Map<Integer, Long> levelCounts = new TreeMap<>();
+    Map<String, Long> priceFacet = new LinkedHashMap<>();
+    for (int i = 0; i <= PRICE_RANGE_BOUNDS.length; i++) {
+      priceFacet.put(priceRangeLabel(i), 0L);
+    }
+
+    long total = 0;
+    for (ThemeFacetProjection row : rows) {
+      boolean typeMatches = filter.matchesThemeType(row.getThemeType());
+      boolean levelMatches = filter.matchesLevel(row.getLevel());
+      boolean priceMatches = filter.matchesPrice(row.getPrice());
+
+      if (levelMatches && priceMatches && row.getThemeType() != null) {
+        typeFacet.merge(row.getThemeType().name(), row.getCount(), Long::sum);
+      }
+      if (typeMatches && priceMatches && row.getLevel() != null) {
+        levelCounts.merge(row.getLevel(), row.getCount(), Long::sum);
+      }
+      if (typeMatches && levelMatches && row.getPrice() != null) {
+        priceFacet.merge(priceRangeLabel(priceRange(row.getPrice())), row.getCount(), Long::sum);
+      }
+      if (typeMatches && levelMatches && priceMatches) {
+        total += row.getCount();
+      }
+    }
+
+    Map<String, Long> levelFacet = new LinkedHashMap<>();
+    levelCounts.forEach((level, count) -> levelFacet.put(String.valueOf(level), count));
+    Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+    facets.put(THEME_TYPE_FACET, typeFacet);
+    facets.put(LEVEL_FACET, levelFacet);
+    facets.put(PRICE_FACET, priceFacet);
+
+    long themeTotal = total;
+    Page<ThemeResponseDto> page = PageUtil.createPage(themes, pageable, () -> themeTotal)
+        .map(ThemeResponseDto::new);
+    return new FacetedPage<>(page, facets);
+  }
+
+  /**
+   * 가격대 번호 (PRICE_RANGE_BOUNDS 기준, 마지막 번호는 가장 비싼 구간)
+   */
+  private static int priceRange(long price) {
+    int range = 0;
+    while (range < PRICE_RANGE_BOUNDS.length && price >= PRICE_RANGE_BOUNDS[range]) {
+      range++;
+    }
+    return range;
+  }
+
+  private static String priceRangeLabel(int range) {
+    long from = range == 0 ? 0 : PRICE_RANGE_BOUNDS[range - 1];
+    return range == PRICE_RANGE_BOUNDS.length ? from + "-"
+        : from + "-" + (PRICE_RANGE_BOUNDS[range] - 1);
+  }
+
+  /**
+   * 방탈출 카페 테마 커서 조회
+   *
+   * @param storeId  방탈출 카페 id
+   * @param cursor   이전 응답의 nextCursor, 첫 페이지는 null
+   * @param pageSize 페이지에 담는 데이터 수
+   * @param isDesc   오름차순, 내림차순 정렬 기준
+   * @param sort     정렬 기준 (id, title)
+   * @return 테마 커서 페이지
+   */
+  public CursorPage<ThemeResponseDto> getThemesByCursor(Long storeId, String cursor, int pageSize,
+      boolean isDesc, String sort) {
+    PageUtil.validateCursorPageSize(pageSize);
+    ThemeSortKey sortKey = ThemeSortKey.from(sort);
+    Cursor after = Cursor.decode(cursor, sortKey.getProperty(), isDesc);
+    Store store = storeRepository.findByIdOrElseThrow(storeId);
+
+    List<Theme> themes = themeRepository.findByStoreAfterCursor(store, sortKey, isDesc, after,
+        pageSize + 1);
+    return CursorPage.of(themes, pageSize,
+        theme -> new Cursor(sortKey.getProperty(), isDesc, theme.getId(),
+            sortKey.getValueExtractor().apply(theme)),
+        ThemeResponseDto::new);
+  }
+
+  /**
+   * 방탈출 카페 테마 상세 조회 (테마 정보는 응답 캐시, 좋아요 수는 항상 카운터에서 조회)
+   *
+   * @param storeId 해당 카페 id
+   * @param themeId 해당 카페의 테마 id
+   * @return theme 정보
+   */
+  public ThemeInfoResponseDto getThemeInfo(Long storeId, Long themeId) {
+    ThemeInfoResponseDto themeInfo = cacheManager.getCache(CacheNames.THEME_INFO)
+        .get(CacheNames.themeKey(storeId, themeId), () -> {
+          checkActiveStore(storeId);
+          return catalogReadModel.findActiveTheme(themeId)
+              .map(theme -> new ThemeInfoResponseDto(theme, null))
+              .orElseGet(() -> new ThemeInfoResponseDto(themeRepository.findByActiveTheme(themeId),
+                  null));
+        });
+    return new ThemeInfoResponseDto(themeInfo, recommendationCounter.getCount(themeId));
+  }
+
+  /**
+   * 방탈출 카페 테마 시간 조회 (읽기 모델이 있으면 모델에서, 없으면 예약 가능 여부 스냅샷에서 조회)
+   *
+   * @param storeId 검색할 테마의 스토어 id
+   * @param themeId 해당 카페의 테마 id
+   * @param day     조회할 날짜 (yyyy-MM-dd)
+   * @return theme 시간 리스트
+   */
+  public List<ThemeTimeResponseDto> getThemeTimes(Long storeId, Long themeId, String day) {
+    LocalDate date = LocalDateTimeUtil.parseDateStringToLocalDate(day);
+    checkActiveStore(storeId);
+    Optional<List<SlotStatusChangedEvent>> slots = catalogReadModel.findSlots(themeId, date);
+    if (slots.isPresent()) {
+      return slots.get().stream().map(ThemeTimeResponseDto::new).toList();
+    }
+
+    ThemeAvailability availability = themeAvailabilityCache.get(themeId, date);
+    return IntStream.range(0, availability.slotCount())
+        .mapToObj(index -> new ThemeTimeResponseDto(availability, index))
+        .toList();
+  }
+
+  /**
+   * 방탈출 카페 테마 기간별 예약 가능 요약 조회 (없는 날짜의 스냅샷은 범위 쿼리 한 번으로 채움)
+   *
+   * @param storeId 검색할 테마의 스토어 id
+   * @param themeId 해당 카페의 테마 id
+   * @param from    조회 시작 날짜 (yyyy-MM-dd)
+   * @param to      조회 종료 날짜 (yyyy-MM-dd, 포함)
+   * @return 날짜별 예약 가능 요약 리스트
+   */
+  public List<ThemeDayAvailabilityResponseDto> getThemeAvailability(Long storeId, Long themeId,
+      String from, String to) {
+    LocalDate fromDate = LocalDateTimeUtil.parseDateStringToLocalDate(from);
+    LocalDate toDate = LocalDateTimeUtil.parseDateStringToLocalDate(to);
+    if (toDate.isBefore(fromDate)) {
+      throw new LocalDateTimeException(LocalDateTimeErrorCode.INVALID_START_AND_END_TIME);
+    }
+    if (ChronoUnit.DAYS.between(fromDate, toDate) >= AVAILABILITY_RANGE_DAY_LIMIT) {
+      throw new LocalDateTimeException(LocalDateTimeErrorCode.INVALID_DATE_RANGE);
+    }
+
+    checkActiveStore(storeId);
+    return themeAvailabilityCache.getRange(themeId, fromDate, toDate).stream()
+        .map(ThemeDayAvailabilityResponseDto::new)
+        .toList();
+  }
+
+  private void checkActiveStore(Long storeId) {
+    if (catalogReadModel.findActiveStore(storeId).isEmpty()) {
+      storeRepository.findByActiveStore(storeId);
+    }
+  }
+}
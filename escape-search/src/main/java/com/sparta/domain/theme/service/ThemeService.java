@@ -1,12 +1,28 @@
 package com.sparta.domain.theme.service;
 
+import com.sparta.config.QueryMode;
 import com.sparta.domain.theme.dto.*;
+import com.sparta.fallback.DegradedModeExecutor;
+import com.sparta.fallback.FallbackResult;
 import com.sparta.global.exception.customException.KafkaException;
+import com.sparta.global.exception.customException.ThemeException;
 import com.sparta.global.exception.errorCode.KafkaErrorCode;
+import com.sparta.global.exception.errorCode.ThemeErrorCode;
+import com.sparta.global.kafka.KafkaReplyTopic;
 import com.sparta.global.kafka.KafkaTopic;
+import com.sparta.global.kafka.PendingRequestRegistry;
+import com.sparta.global.response.CursorPage;
+import com.sparta.global.response.FacetedPage;
+import com.sparta.global.util.CountMode;
+import com.sparta.global.util.PageUtil;
+import com.sparta.loadShedding.AdaptiveTimeouts;
+import com.sparta.requestCoalescing.RequestCoalescer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
@@ -22,43 +38,66 @@ public class ThemeService {
   private final KafkaTemplate<String, KafkaThemeRequestDto> kafkaThemeTemplate;
   private final KafkaTemplate<String, KafkaThemeInfoRequestDto> kafkaThemeInfoTemplate;
   private final KafkaTemplate<String, KafkaThemeTimeRequestDto> kafkaThemeTimeTemplate;
-  private final ConcurrentHashMap<String, CompletableFuture<Page<ThemeResponseDto>>> responseThemeFutures;
-  private final ConcurrentHashMap<String, CompletableFuture<ThemeInfoResponseDto>> responseThemeInfoFutures;
-  private final ConcurrentHashMap<String, CompletableFuture<List<ThemeTimeResponseDto>>> responseThemeTimeFutures;
+  private final PendingRequestRegistry<Page<ThemeResponseDto>> themePendingRequests;
+  private final PendingRequestRegistry<ThemeInfoResponseDto> themeInfoPendingRequests;
+  private final PendingRequestRegistry<List<ThemeTimeResponseDto>> themeTimePendingRequests;
+  private final ThemeQueryService themeQueryService;
+  private final ThemeDiscoveryIndex themeDiscoveryIndex;
+  private final KafkaReplyTopic kafkaReplyTopic;
+  private final RequestCoalescer requestCoalescer;
+  private final DegradedModeExecutor degradedModeExecutor;
+  private final AdaptiveTimeouts adaptiveTimeouts;
+
+  @Value("${search.query-mode:LOCAL}")
+  private QueryMode queryMode;
 
   /**
    * 방탈출 카페 테마 전체 조회
    *
-   * @param storeId  방탈출 카페 id
-   * @param pageNum  페이지 번호
-   * @param pageSize 페이지에 담는 데이터 수
-   * @param isDesc   오름차순, 내림차순 정렬 기준
-   * @param sort     속성별 정렬 기준
-   * @return EscapeRoom 리스트
+   * @param storeId   방탈출 카페 id
+   * @param pageNum   페이지 번호
+   * @param pageSize  페이지에 담는 데이터 수
+   * @param isDesc    오름차순, 내림차순 정렬 기준
+   * @param sort      속성별 정렬 기준
+   * @param countMode 전체 개수 계산 방식
+   * @return EscapeRoom 리스트 (조회 실패 시 마지막 정상 응답일 수 있음)
    */
-  public Page<ThemeResponseDto> getTheme(Long storeId, int pageNum, int pageSize, boolean isDesc,
-      String sort) {
+  public CompletableFuture<FallbackResult<Page<ThemeResponseDto>>> getTheme(Long storeId, int pageNum,
+      int pageSize, boolean isDesc, String sort, CountMode countMode) {
+    String key = RequestCoalescer.key("themes", storeId, pageNum, pageSize, isDesc, sort,
+        countMode);
+
+    return requestCoalescer.execute(key, () -> degradedModeExecutor.execute("themes", key,
+        () -> fetchTheme(storeId, pageNum, pageSize, isDesc, sort, countMode)));
+  }
+
+  private CompletableFuture<Page<ThemeResponseDto>> fetchTheme(Long storeId, int pageNum,
+      int pageSize, boolean isDesc, String sort, CountMode countMode) {
+    if (queryMode == QueryMode.LOCAL) {
+      return CompletableFuture.completedFuture(
+          themeQueryService.getThemes(storeId, pageNum, pageSize, isDesc, sort, countMode));
+    }
+
     String requestId = UUID.randomUUID().toString();
 
-    CompletableFuture<Page<ThemeResponseDto>> future = new CompletableFuture<>();
-    responseThemeFutures.put(requestId, future);
+    CompletableFuture<Page<ThemeResponseDto>> future =
+        adaptiveTimeouts.register(themePendingRequests, requestId);
 
-    sendThemeRequest(requestId, storeId, pageNum, pageSize, isDesc, sort);
+    sendThemeRequest(requestId, storeId, pageNum, pageSize, isDesc, sort, countMode);
 
-    try {
-      return future.get(3, TimeUnit.SECONDS); // 응답을 기다림
-    } catch (InterruptedException | ExecutionException e) {
-      throw new KafkaException(KafkaErrorCode.KAFKA_SERVER_ERROR);
-    } catch (TimeoutException e) {
-      throw new KafkaException(KafkaErrorCode.KAFKA_RESPONSE_ERROR);
-    }
+    return future;
   }
 
   private void sendThemeRequest(String requestId, Long storeId, int pageNum, int pageSize,
-      boolean isDesc, String sort) {
-    KafkaThemeRequestDto themeRequest = new KafkaThemeRequestDto(requestId, storeId, pageNum,
-        pageSize, isDesc, sort);
-    kafkaThemeTemplate.send(KafkaTopic.THEME_REQUEST_TOPIC, themeRequest);
+      boolean isDesc, String sort, CountMode countMode) {
+    KafkaThemeRequestDto themeRequest = new KafkaThemeRequestDto(requestId,
+        kafkaReplyTopic.getName(), storeId, pageNum, pageSize, isDesc, sort, countMode);
+    kafkaThemeTemplate.send(KafkaTopic.THEME_REQUEST_TOPIC, themeRequest)
+        .whenComplete((result, e) -> {
+          if (e != null) {
+            themePendingRequests.fail(requestId, new KafkaException(KafkaErrorCode.KAFKA_SERVER_ERROR));
+          }
+        });
   }
 
   /**
@@ -66,29 +105,39 @@ public class ThemeService {
    *
    * @param storeId 해당 카페 id
    * @param themeId 해당 카페의 테마 id
-   * @return theme 정보 반환
+   * @return theme 정보 반환 (조회 실패 시 마지막 정상 응답일 수 있음)
    */
-  public ThemeInfoResponseDto getThemeInfo(Long storeId, Long themeId) {
+  public CompletableFuture<FallbackResult<ThemeInfoResponseDto>> getThemeInfo(Long storeId,
+      Long themeId) {
+    return degradedModeExecutor.execute("theme-info",
+        RequestCoalescer.key("theme-info", storeId, themeId),
+        () -> fetchThemeInfo(storeId, themeId));
+  }
+
+  private CompletableFuture<ThemeInfoResponseDto> fetchThemeInfo(Long storeId, Long themeId) {
+    if (queryMode == QueryMode.LOCAL) {
+      return CompletableFuture.completedFuture(themeQueryService.getThemeInfo(storeId, themeId));
+    }
+
     String requestId = UUID.randomUUID().toString();
 
-    CompletableFuture<ThemeInfoResponseDto> future = new CompletableFuture<>();
-    responseThemeInfoFutures.put(requestId, future);
+    CompletableFuture<ThemeInfoResponseDto> future =
+        adaptiveTimeouts.register(themeInfoPendingRequests, requestId);
 
     sendThemeInfoRequest(requestId, storeId, themeId);
 
-    try {
-      return future.get(3, TimeUnit.SECONDS); // 응답을 기다림
-    } catch (InterruptedException | ExecutionException e) {
-      throw new KafkaException(KafkaErrorCode.KAFKA_SERVER_ERROR);
-    } catch (TimeoutException e) {
-      throw new KafkaException(KafkaErrorCode.KAFKA_RESPONSE_ERROR);
-    }
+    return future;
   }
 
   private void sendThemeInfoRequest(String requestId, Long storeId, Long themeId) {
-    KafkaThemeInfoRequestDto themeInfoRequest = new KafkaThemeInfoRequestDto(requestId, storeId,
-        themeId);
-    kafkaThemeInfoTemplate.send(KafkaTopic.THEME_INFO_REQUEST_TOPIC, themeInfoRequest);
+    KafkaThemeInfoRequestDto themeInfoRequest = new KafkaThemeInfoRequestDto(requestId,
+        kafkaReplyTopic.getName(), storeId, themeId);
+    kafkaThemeInfoTemplate.send(KafkaTopic.THEME_INFO_REQUEST_TOPIC, themeInfoRequest)
+        .whenComplete((result, e) -> {
+          if (e != null) {
+            themeInfoPendingRequests.fail(requestId, new KafkaException(KafkaErrorCode.KAFKA_SERVER_ERROR));
+          }
+        });
   }
 
   /**
@@ -96,28 +145,116 @@ public class ThemeService {
    *
    * @param storeId 검색할 테마의 스토어 id
    * @param themeId 해당 카페의 테마 id
-   * @return theme 시간 반환
+   * @return theme 시간 반환 (조회 실패 시 마지막 정상 응답일 수 있음)
    */
-  public List<ThemeTimeResponseDto> getThemeTime(Long storeId, Long themeId, String day) {
+  public CompletableFuture<FallbackResult<List<ThemeTimeResponseDto>>> getThemeTime(Long storeId,
+      Long themeId, String day) {
+    return degradedModeExecutor.execute("theme-time",
+        RequestCoalescer.key("theme-time", storeId, themeId, day),
+        () -> fetchThemeTime(storeId, themeId, day));
+  }
+
+  private CompletableFuture<List<ThemeTimeResponseDto>> fetchThemeTime(Long storeId,
+      Long themeId, String day) {
+    if (queryMode == QueryMode.LOCAL) {
+      return CompletableFuture.completedFuture(
+          themeQueryService.getThemeTimes(storeId, themeId, day));
+    }
+
     String requestId = UUID.randomUUID().toString();
 
-    CompletableFuture<List<ThemeTimeResponseDto>> future = new CompletableFuture<>();
-    responseThemeTimeFutures.put(requestId, future);
+    CompletableFuture<List<ThemeTimeResponseDto>> future =
+        adaptiveTimeouts.register(themeTimePendingRequests, requestId);
 
     sendThemeTimeRequest(requestId, storeId, themeId, day);
 
-    try {
-      return future.get(3, TimeUnit.SECONDS); // 응답을 기다림
-    } catch (InterruptedException | ExecutionException e) {
-      throw new KafkaException(KafkaErrorCode.KAFKA_SERVER_ERROR);
-    } catch (TimeoutException e) {
-      throw new KafkaException(KafkaErrorCode.KAFKA_RESPONSE_ERROR);
-    }
+    return future;
   }
 
   private void sendThemeTimeRequest(String requestId, Long storeId, Long themeId, String day) {
-    KafkaThemeTimeRequestDto Request = new KafkaThemeTimeRequestDto(requestId, storeId, themeId,
-        day);
-    kafkaThemeTimeTemplate.send(KafkaTopic.THEME_TIME_REQUEST_TOPIC, Request);
+    KafkaThemeTimeRequestDto Request = new KafkaThemeTimeRequestDto(requestId,
+        kafkaReplyTopic.getName(), storeId, themeId, day);
+    kafkaThemeTimeTemplate.send(KafkaTopic.THEME_TIME_REQUEST_TOPIC, Request)
+        .whenComplete((result, e) -> {
+          if (e != null) {
+            themeTimePendingRequests.fail(requestId, new KafkaException(KafkaErrorCode.KAFKA_SERVER_ERROR));
+          }
+        });
+  }
+
+  /**
+   * 방탈출 카페 테마 커서 조회 (깊은 페이지도 offset 없이 조회하도록 항상 직접 조회)
+   *
+   * @param storeId  방탈출 카페 id
+   * @param cursor   이전 응답의 nextCursor, 첫 페이지는 null
+   * @param pageSize 페이지에 담는 데이터 수
+   * @param isDesc   오름차순, 내림차순 정렬 기준
+   * @param sort     정렬 기준 (id, title)
+   * @return 테마 커서 페이지
+   */
+  public CursorPage<ThemeResponseDto> getThemeByCursor(Long storeId, String cursor, int pageSize,
+      boolean isDesc, String sort) {
+    return themeQueryService.getThemesByCursor(storeId, cursor, pageSize, isDesc, sort);
+  }
+
+  /**
+   * 방탈출 카페 테마 조회 + 테마 종류, 난이도, 가격대별 개수 (직접 조회)
+   *
+   * @param storeId  방탈출 카페 id
+   * @param pageNum  페이지 번호
+   * @param pageSize 페이지에 담는 데이터 수
+   * @param isDesc   오름차순, 내림차순 정렬 기준
+   * @param sort     속성별 정렬 기준
+   * @param filter   테마 종류, 난이도, 가격 조건
+   * @return 테마 페이지와 패싯
+   */
+  public FacetedPage<ThemeResponseDto> getThemesWithFacets(Long storeId, int pageNum,
+      int pageSize, boolean isDesc, String sort, ThemeFilter filter) {
+    return themeQueryService.getThemesWithFacets(storeId, pageNum, pageSize, isDesc, sort,
+        filter);
+  }
+
+  /**
+   * 전체 방탈출 카페 테마 조건 탐색 (메모리 비트맵 색인으로 직접 조회, 가격 순)
+   *
+   * @param filter   테마 종류, 지역, 난이도, 인원, 가격 조건
+   * @param pageNum  페이지 번호
+   * @param pageSize 페이지에 담는 데이터 수
+   * @param isDesc   가격 내림차순 여부
+   * @return 테마 페이지
+   */
+  public Page<ThemeDiscoveryResponseDto> discoverThemes(ThemeDiscoveryFilter filter, int pageNum,
+      int pageSize, boolean isDesc) {
+    if (!filter.isValid()) {
+      throw new ThemeException(ThemeErrorCode.INVALID_THEME_FILTER);
+    }
+    PageUtil.validateCursorPageSize(pageSize);
+    Pageable pageable = PageUtil.createPageable(pageNum, pageSize, isDesc, "price");
+
+    ThemeBitmapIndex.Result result = themeDiscoveryIndex.search(filter, isDesc,
+        pageable.getOffset(), pageSize);
+    return new PageImpl<>(result.getContent().stream().map(ThemeDiscoveryResponseDto::new).toList(),
+        pageable, result.getTotal());
+  }
+
+  /**
+   * 테마 탐색 색인에 반영된 전체 테마 목록 버전 (아직 만들지 못했으면 -1)
+   */
+  public long getDiscoveryVersion() {
+    return themeDiscoveryIndex.indexedVersion();
+  }
+
+  /**
+   * 방탈출 카페 테마 기간별 예약 가능 요약 조회 (날짜마다 요청하지 않도록 한 번에 직접 조회)
+   *
+   * @param storeId 검색할 테마의 스토어 id
+   * @param themeId 해당 카페의 테마 id
+   * @param from    조회 시작 날짜 (yyyy-MM-dd)
+   * @param to      조회 종료 날짜 (yyyy-MM-dd, 포함)
+   * @return 날짜별 예약 가능 요약 리스트
+   */
+  public List<ThemeDayAvailabilityResponseDto> getThemeAvailability(Long storeId, Long themeId,
+      String from, String to) {
+    return themeQueryService.getThemeAvailability(storeId, themeId, from, to);
   }
 }
@@ -0,0 +1,208 @@
+package com.sparta.fallback;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 조회 백엔드(kafka 왕복, DB) 차단기
+ * <p>
+ * 최근 window 동안의 호출 결과를 bucket 단위로 모아 시간 초과(느린 성공 포함) 비율이나 오류 비율이 기준 이상이면 OPEN 으로 바꿔 호출을
+ * 막고, open 시간이 지나면 HALF_OPEN 으로 일부 호출만 통과시켜 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ */
+public class CircuitBreaker {
+
+  public enum State {
+    CLOSED, OPEN, HALF_OPEN
+  }
+
+  public enum Outcome {
+    SUCCESS, SLOW, TIMEOUT, ERROR
+  }
+
+  @Getter
+  private final String name;
+  private final Settings settings;
+  private final LongSupplier clock;
+
+  private final long bucketMillis;
+  private final long[] bucketEpochs;
+  private final int[] calls;
+  private final int[] timeouts;
+  private final int[] errors;
+
+  @Getter
+  private State state = State.CLOSED;
+  private long openUntil;
+  private int halfOpenPermitted;
+  private int halfOpenSucceeded;
+
+  public CircuitBreaker(String name, Settings settings) {
+    this(name, settings, System::currentTimeMillis);
+  }
+
+  CircuitBreaker(String name, Settings settings, LongSupplier clock) {
+    this.name = name;
+    this.settings = settings;
+    this.clock = clock;
+    this.bucketMillis = Math.max(1, settings.getWindowMillis() / settings.getBuckets());
+    this.bucketEpochs = new long[settings.getBuckets()];
+    this.calls = new int[settings.getBuckets()];
+    this.timeouts = new int[settings.getBuckets()];
+    this.errors = new int[settings.getBuckets()];
+    Arrays.fill(bucketEpochs, -1);
+  }
+
+  /**
+   * 호출 허용 여부 (허용했으면 결과를 record 로 알려야 함)
+   */
+  public synchronized boolean tryAcquire() {
+    switch (state) {
+      case CLOSED -> {
+        return true;
+      }
+      case OPEN -> {
+        if (clock.getAsLong() < openUntil) {
+          return false;
+        }
+        state = State.HALF_OPEN;
+        halfOpenPermitted = 0;
+        halfOpenSucceeded = 0;
+        return acquireHalfOpen();
+      }
+      default -> {
+        return acquireHalfOpen();
+      }
+    }
+  }
+
+  /**
+   * 허용된 호출의 결과 기록
+   */
+  public synchronized void record(Outcome outcome) {
+    boolean failed = outcome != Outcome.SUCCESS;
+
+    if (state == State.HALF_OPEN) {
+      if (failed) {
+        open();
+      } else if (++halfOpenSucceeded >= settings.getHalfOpenCalls()) {
+        close();
+      }
+      return;
+    }
+    if (state == State.OPEN) {
+      // 열리기 전에 시작한 호출의 결과는 무시
+      return;
+    }
+
+    int bucket = currentBucket();
+    calls[bucket]++;
+    if (outcome == Outcome.SLOW || outcome == Outcome.TIMEOUT) {
+      timeouts[bucket]++;
+    } else if (outcome == Outcome.ERROR) {
+      errors[bucket]++;
+    }
+
+    if (failed && shouldOpen()) {
+      open();
+    }
+  }
+
+  /**
+   * 최근 window 의 시간 초과 비율 (0 ~ 1)
+   */
+  public synchronized double timeoutRate() {
+    return rate(timeouts);
+  }
+
+  /**
+   * 최근 window 의 오류 비율 (0 ~ 1)
+   */
+  public synchronized double errorRate() {
+    return rate(errors);
+  }
+
+  private boolean acquireHalfOpen() {
+    if (halfOpenPermitted >= settings.getHalfOpenCalls()) {
+      return false;
+    }
+    halfOpenPermitted++;
+    return true;
+  }
+
+  private boolean shouldOpen() {
+    long total = sum(calls);
+    if (total < settings.getMinimumCalls()) {
+      return false;
+    }
+    return (double) sum(timeouts) / total >= settings.getTimeoutRateThreshold()
+        || (double) sum(errors) / total >= settings.getErrorRateThreshold();
+  }
+
+  private void open() {
+    state = State.OPEN;
+    openUntil = clock.getAsLong() + settings.getOpenMillis();
+  }
+
+  private void close() {
+    state = State.CLOSED;
+    // 닫힐 때 이전 실패 기록은 버리고 새로 셈
+    Arrays.fill(bucketEpochs, -1);
+    Arrays.fill(calls, 0);
+    Arrays.fill(timeouts, 0);
+    Arrays.fill(errors, 0);
+  }
+
+  private double rate(int[] counts) {
+    long total = sum(calls);
+    return total == 0 ? 0 : (double) sum(counts) / total;
+  }
+
+  /**
+   * 지금 시각의 bucket (재사용하는 bucket 은 비움)
+   */
+  private int currentBucket() {
+    long epoch = clock.getAsLong() / bucketMillis;
+    int bucket = (int) (epoch % bucketEpochs.length);
+    if (bucketEpochs[bucket] != epoch) {
+      bucketEpochs[bucket] = epoch;
+      calls[bucket] = 0;
+      timeouts[bucket] = 0;
+      errors[bucket] = 0;
+    }
+    return bucket;
+  }
+
+  /**
+   * window 안의 bucket 합계
+   */
+  private long sum(int[] counts) {
+    long oldest = clock.getAsLong() / bucketMillis - bucketEpochs.length + 1;
+    long total = 0;
+    for (int i = 0; i < bucketEpochs.length; i++) {
+      if (bucketEpochs[i] >= oldest) {
+        total += counts[i];
+      }
+    }
+    return total;
+  }
+
+  /**
+   * 차단기 설정
+   */
+  @Getter
+  @RequiredArgsConstructor
+  public static class Settings {
+
+    private final long windowMillis;
+    private final int buckets;
+    // window 안의 호출이 이보다 적으면 비율과 관계없이 열지 않음
+    private final int minimumCalls;
+    private final double timeoutRateThreshold;
+    private final double errorRateThreshold;
+    private final long openMillis;
+    // HALF_OPEN 에서 통과시킬 시험 호출 수
+    private final int halfOpenCalls;
+  }
+}
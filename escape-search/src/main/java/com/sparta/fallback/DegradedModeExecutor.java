@@ -0,0 +1,186 @@
+package com.sparta.fallback;
+
+import com.sparta.global.exception.customException.GlobalCustomException;
+import com.sparta.global.exception.customException.KafkaException;
+import com.sparta.global.exception.errorCode.KafkaErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조회 백엔드가 느리거나 실패할 때 마지막 정상 응답으로 응답 (degraded mode)
+ * <p>
+ * 조회 종류(name)마다 차단기를 두고, 정상 응답은 조회 key 별로 저장해 둠. 조회가 시간 초과, 오류로 실패하거나 차단기가 열려 있으면 저장된
+ * 응답을 stale 로 표시해 돌려주고, 저장된 응답이 없으면 실패를 그대로 (차단기가 열려 있으면 기다리지 않고 바로 503) 전달. 존재하지 않는 카페
+ * 같은 요청 오류는 백엔드 장애가 아니므로 성공으로 셈
+ */
+@Slf4j
+@Component
+public class DegradedModeExecutor {
+
+  private final MeterRegistry meterRegistry;
+  private final boolean enabled;
+  private final long slowCallMillis;
+  private final CircuitBreaker.Settings settings;
+  private final StaleResponseStore staleResponses;
+  private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+  public DegradedModeExecutor(MeterRegistry meterRegistry,
+      @Value("${search.fallback.enabled:true}") boolean enabled,
+      @Value("${search.fallback.stale-max-entries:5000}") int staleMaxEntries,
+      @Value("${search.fallback.stale-max-age-ms:600000}") long staleMaxAgeMillis,
+      @Value("${search.fallback.slow-call-ms:2000}") long slowCallMillis,
+      @Value("${search.fallback.circuit.window-ms:10000}") long windowMillis,
+      @Value("${search.fallback.circuit.buckets:10}") int buckets,
+      @Value("${search.fallback.circuit.minimum-calls:20}") int minimumCalls,
+      @Value("${search.fallback.circuit.timeout-rate-threshold:0.5}") double timeoutRateThreshold,
+      @Value("${search.fallback.circuit.error-rate-threshold:0.5}") double errorRateThreshold,
+      @Value("${search.fallback.circuit.open-ms:5000}") long openMillis,
+      @Value("${search.fallback.circuit.half-open-calls:3}") int halfOpenCalls) {
+    this.meterRegistry = meterRegistry;
+    this.enabled = enabled;
+    this.slowCallMillis = slowCallMillis;
+    this.settings = new CircuitBreaker.Settings(windowMillis, buckets, minimumCalls,
+        timeoutRateThreshold, errorRateThreshold, openMillis, halfOpenCalls);
+    this.staleResponses = new StaleResponseStore(staleMaxEntries, staleMaxAgeMillis);
+    Gauge.builder("search.fallback.stale-entries", staleResponses, StaleResponseStore::size)
+        .description("저장된 마지막 정상 응답 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 차단기를 거쳐 조회하고, 실패하면 마지막 정상 응답으로 대신 응답
+   *
+   * @param name   조회 종류 (차단기 단위)
+   * @param key    정규화된 조회 조건 (RequestCoalescer.key)
+   * @param loader 실제 조회
+   * @return 조회 결과 또는 stale 결과 future
+   */
+  public <T> CompletableFuture<FallbackResult<T>> execute(String name, String key,
+      Supplier<CompletableFuture<T>> loader) {
+    if (!enabled) {
+      return loader.get().thenApply(FallbackResult::fresh);
+    }
+
+    CircuitBreaker circuitBreaker = circuitBreaker(name);
+    if (!circuitBreaker.tryAcquire()) {
+      // 열려 있으면 백엔드를 기다리지 않음
+      try {
+        return CompletableFuture.completedFuture(staleOrThrow(name, key,
+            new KafkaException(KafkaErrorCode.SEARCH_BACKEND_UNAVAILABLE), "rejected"));
+      } catch (CompletionException e) {
+        return CompletableFuture.failedFuture(e.getCause());
+      }
+    }
+
+    long startedAt = System.nanoTime();
+    CompletableFuture<T> future;
+    try {
+      future = loader.get();
+    } catch (RuntimeException e) {
+      // LOCAL 조회는 호출 스레드에서 바로 실패함
+      future = CompletableFuture.failedFuture(e);
+    }
+
+    return future.handle((value, e) -> {
+      if (e == null) {
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        circuitBreaker.record(elapsed > slowCallMillis
+            ? CircuitBreaker.Outcome.SLOW : CircuitBreaker.Outcome.SUCCESS);
+        staleResponses.put(staleKey(name, key), value);
+        count(name, "fresh");
+        return FallbackResult.fresh(value);
+      }
+
+      Throwable cause = unwrap(e);
+      CircuitBreaker.Outcome outcome = outcome(cause);
+      circuitBreaker.record(outcome);
+      if (outcome == CircuitBreaker.Outcome.SUCCESS) {
+        throw toCompletionException(cause);
+      }
+      log.warn("{} 조회 실패, 마지막 정상 응답으로 대체 시도 : {}", name, cause.toString());
+      return staleOrThrow(name, key, cause, "failed");
+    });
+  }
+
+  private <T> FallbackResult<T> staleOrThrow(String name, String key, Throwable cause,
+      String failure) {
+    return staleResponses.<T>get(staleKey(name, key))
+        .map(result -> {
+          count(name, "stale");
+          return result;
+        })
+        .orElseThrow(() -> {
+          count(name, failure);
+          return toCompletionException(cause);
+        });
+  }
+
+  private static CircuitBreaker.Outcome outcome(Throwable cause) {
+    if (cause instanceof KafkaException kafkaException) {
+      return kafkaException.getErrorCode() == KafkaErrorCode.KAFKA_RESPONSE_ERROR
+          ? CircuitBreaker.Outcome.TIMEOUT : CircuitBreaker.Outcome.ERROR;
+    }
+    if (cause instanceof GlobalCustomException) {
+      // 요청 오류 (존재하지 않는 카페, 잘못된 조건 등)
+      return CircuitBreaker.Outcome.SUCCESS;
+    }
+    return CircuitBreaker.Outcome.ERROR;
+  }
+
+  private CircuitBreaker circuitBreaker(String name) {
+    return circuitBreakers.computeIfAbsent(name, n -> {
+      CircuitBreaker circuitBreaker = new CircuitBreaker(n, settings);
+      Gauge.builder("search.fallback.circuit.state", circuitBreaker,
+              breaker -> breaker.getState().ordinal())
+          .tag("name", n)
+          .description("차단기 상태 (0 : CLOSED, 1 : OPEN, 2 : HALF_OPEN)")
+          .register(meterRegistry);
+      Gauge.builder("search.fallback.circuit.timeout-rate", circuitBreaker,
+              CircuitBreaker::timeoutRate)
+          .tag("name", n)
+          .register(meterRegistry);
+      Gauge.builder("search.fallback.circuit.error-rate", circuitBreaker,
+              CircuitBreaker::errorRate)
+          .tag("name", n)
+          .register(meterRegistry);
+      return circuitBreaker;
+    });
+  }
+
+  private void count(String name, String result) {
+    Counter.builder("search.fallback.requests")
+        .tag("name", name)
+        .tag("result", result)
+        .register(meterRegistry)
+        .increment();
+  }
+
+  private static String staleKey(String name, String key) {
+    return name + "#" + key;
+  }
+
+  private static Throwable unwrap(Throwable e) {
+    Throwable cause = e;
+    while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+        && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    return cause;
+  }
+
+  private static CompletionException toCompletionException(Throwable cause) {
+    return cause instanceof CompletionException completionException
+        ? completionException : new CompletionException(cause);
+  }
+}
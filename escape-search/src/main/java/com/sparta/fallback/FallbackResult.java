@@ -0,0 +1,26 @@
+package com.sparta.fallback;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 조회 결과와 그 결과가 마지막 정상 응답(stale)인지 여부
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class FallbackResult<T> {
+
+  private final T value;
+  private final boolean stale;
+  // stale 이면 정상 응답을 저장한 뒤 지난 시간, 아니면 0
+  private final long ageMillis;
+
+  public static <T> FallbackResult<T> fresh(T value) {
+    return new FallbackResult<>(value, false, 0);
+  }
+
+  public static <T> FallbackResult<T> stale(T value, long ageMillis) {
+    return new FallbackResult<>(value, true, ageMillis);
+  }
+}
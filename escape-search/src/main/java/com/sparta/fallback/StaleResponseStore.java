@@ -0,0 +1,70 @@
+package com.sparta.fallback;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 조회 key 별 마지막 정상 응답 저장소
+ * <p>
+ * 최대 개수를 넘으면 가장 오래 쓰이지 않은 응답부터 버리고(LRU), maxAgeMillis 보다 오래된 응답은 돌려주지 않음
+ */
+public class StaleResponseStore {
+
+  private final long maxAgeMillis;
+  private final LongSupplier clock;
+  private final LinkedHashMap<String, Entry> entries;
+
+  public StaleResponseStore(int maxEntries, long maxAgeMillis) {
+    this(maxEntries, maxAgeMillis, System::currentTimeMillis);
+  }
+
+  StaleResponseStore(int maxEntries, long maxAgeMillis, LongSupplier clock) {
+    this.maxAgeMillis = maxAgeMillis;
+    this.clock = clock;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        return size() > maxEntries;
+      }
+    };
+  }
+
+  public synchronized void put(String key, Object value) {
+    if (value != null) {
+      entries.put(key, new Entry(value, clock.getAsLong()));
+    }
+  }
+
+  /**
+   * 저장된 응답을 stale 결과로 (없거나 너무 오래되었으면 empty)
+   */
+  @SuppressWarnings("unchecked")
+  public synchronized <T> Optional<FallbackResult<T>> get(String key) {
+    Entry entry = entries.get(key);
+    if (entry == null) {
+      return Optional.empty();
+    }
+    long age = clock.getAsLong() - entry.getStoredAt();
+    if (age > maxAgeMillis) {
+      entries.remove(key);
+      return Optional.empty();
+    }
+    return Optional.of(FallbackResult.stale((T) entry.getValue(), age));
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  @Getter
+  @RequiredArgsConstructor
+  private static class Entry {
+
+    private final Object value;
+    private final long storedAt;
+  }
+}
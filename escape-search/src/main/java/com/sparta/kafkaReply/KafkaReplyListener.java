@@ -0,0 +1,85 @@
+package com.sparta.kafkaReply;
+
+import com.sparta.domain.review.dto.KafkaReviewResponseDto;
+import com.sparta.domain.review.dto.ReviewResponseDto;
+import com.sparta.domain.store.dto.KafkaStoreResponseDto;
+import com.sparta.domain.store.dto.KafkaTopStoreResponseDto;
+import com.sparta.domain.store.dto.StoreResponseDto;
+import com.sparta.domain.store.dto.TopStoreResponseDto;
+import com.sparta.domain.theme.dto.*;
+import com.sparta.global.exception.customException.GlobalCustomException;
+import com.sparta.global.kafka.KafkaErrorResponseDto;
+import com.sparta.global.kafka.PendingRequestRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.kafka.annotation.KafkaHandler;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 이 인스턴스의 응답 토픽을 구독하여 requestId 에 해당하는 대기 요청을 완료
+ * <p>
+ * 응답 토픽은 인스턴스마다 다르고 group id 도 응답 토픽 이름을 사용하므로 요청을 보낸 인스턴스만 응답을 받음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@KafkaListener(topics = "#{kafkaReplyTopic.name}", groupId = "#{kafkaReplyTopic.name}")
+public class KafkaReplyListener {
+
+  private final PendingRequestRegistry<Page<StoreResponseDto>> storePendingRequests;
+  private final PendingRequestRegistry<TopStoreResponseDto> topStorePendingRequests;
+  private final PendingRequestRegistry<Page<ThemeResponseDto>> themePendingRequests;
+  private final PendingRequestRegistry<ThemeInfoResponseDto> themeInfoPendingRequests;
+  private final PendingRequestRegistry<List<ThemeTimeResponseDto>> themeTimePendingRequests;
+  private final PendingRequestRegistry<List<ReviewResponseDto>> reviewPendingRequests;
+
+  @KafkaHandler
+  public void handleStoreResponse(KafkaStoreResponseDto response) {
+    storePendingRequests.complete(response.getRequestId(), response.toPage());
+  }
+
+  @KafkaHandler
+  public void handleTopStoreResponse(KafkaTopStoreResponseDto response) {
+    topStorePendingRequests.complete(response.getRequestId(), response.getResponseDto());
+  }
+
+  @KafkaHandler
+  public void handleThemeResponse(KafkaThemeResponseDto response) {
+    themePendingRequests.complete(response.getRequestId(), response.toPage());
+  }
+
+  @KafkaHandler
+  public void handleThemeInfoResponse(KafkaThemeInfoResponseDto response) {
+    themeInfoPendingRequests.complete(response.getRequestId(), response.getResponseDto());
+  }
+
+  @KafkaHandler
+  public void handleThemeTimeResponse(KafkaThemeTimeResponseDto response) {
+    themeTimePendingRequests.complete(response.getRequestId(), response.getResponseDtoList());
+  }
+
+  @KafkaHandler
+  public void handleReviewResponse(KafkaReviewResponseDto response) {
+    reviewPendingRequests.complete(response.getRequestId(), response.getReviewResponses());
+  }
+
+  /**
+   * 요청 오류 응답 (requestId 는 모든 요청에서 유일하므로 어느 목록에 있든 그 요청만 실패)
+   */
+  @KafkaHandler
+  public void handleErrorResponse(KafkaErrorResponseDto response) {
+    GlobalCustomException e = response.toException();
+    List.of(storePendingRequests, topStorePendingRequests, themePendingRequests,
+            themeInfoPendingRequests, themeTimePendingRequests, reviewPendingRequests)
+        .forEach(registry -> registry.fail(response.getRequestId(), e));
+  }
+
+  @KafkaHandler(isDefault = true)
+  public void handleUnknownResponse(Object response) {
+    log.warn("알 수 없는 응답 타입 : {}", response.getClass().getName());
+  }
+}
@@ -0,0 +1,102 @@
+package com.sparta.loadShedding;
+
+import com.sparta.global.kafka.PendingRequestRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * kafka 응답 대기 제한 시간 (조회 종류별로 최근 응답 시간에서 계산)
+ * <p>
+ * 최근 응답 시간의 percentile 값에 multiplier 를 곱해 min ~ max 사이로 제한. 표본이 min-samples 보다 적으면 max 를 사용하고,
+ * 시간 초과된 요청도 제한 시간만큼 걸린 것으로 기록해 느려지면 제한 시간이 다시 늘어남. 계산 결과는 recompute-interval-ms 동안 재사용
+ */
+@Component
+public class AdaptiveTimeouts {
+
+  private final MeterRegistry meterRegistry;
+  private final int windowSize;
+  private final int minSamples;
+  private final double percentile;
+  private final double multiplier;
+  private final long minTimeoutMillis;
+  private final long maxTimeoutMillis;
+  private final long recomputeIntervalMillis;
+  private final Map<String, Timeout> timeouts = new ConcurrentHashMap<>();
+
+  public AdaptiveTimeouts(MeterRegistry meterRegistry,
+      @Value("${search.adaptive-timeout.window-size:512}") int windowSize,
+      @Value("${search.adaptive-timeout.min-samples:50}") int minSamples,
+      @Value("${search.adaptive-timeout.percentile:99}") double percentile,
+      @Value("${search.adaptive-timeout.multiplier:1.5}") double multiplier,
+      @Value("${search.adaptive-timeout.min-ms:300}") long minTimeoutMillis,
+      @Value("${search.pending-request.timeout-ms:3000}") long maxTimeoutMillis,
+      @Value("${search.adaptive-timeout.recompute-interval-ms:1000}") long recomputeIntervalMillis) {
+    this.meterRegistry = meterRegistry;
+    this.windowSize = windowSize;
+    this.minSamples = minSamples;
+    this.percentile = percentile;
+    this.multiplier = multiplier;
+    this.minTimeoutMillis = minTimeoutMillis;
+    this.maxTimeoutMillis = maxTimeoutMillis;
+    this.recomputeIntervalMillis = recomputeIntervalMillis;
+  }
+
+  /**
+   * 지금 제한 시간으로 응답 대기 등록하고, 응답이 끝나면 걸린 시간을 기록
+   *
+   * @param registry  응답 대기 목록 (이름별로 제한 시간 계산)
+   * @param requestId 요청 id
+   * @return 응답 future
+   */
+  public <T> CompletableFuture<T> register(PendingRequestRegistry<T> registry, String requestId) {
+    Timeout timeout = timeout(registry.getName());
+    CompletableFuture<T> future = registry.register(requestId, timeout.current());
+    long startedAt = System.currentTimeMillis();
+    future.whenComplete((result, e) -> timeout.window.record(System.currentTimeMillis() - startedAt));
+    return future;
+  }
+
+  private Timeout timeout(String name) {
+    return timeouts.computeIfAbsent(name, n -> {
+      Timeout timeout = new Timeout(new LatencyWindow(windowSize));
+      Gauge.builder("search.adaptive-timeout", timeout, Timeout::current)
+          .tag("name", n)
+          .description("kafka 응답 대기 제한 시간 (ms)")
+          .register(meterRegistry);
+      return timeout;
+    });
+  }
+
+  private class Timeout {
+
+    private final LatencyWindow window;
+    private volatile long value = maxTimeoutMillis;
+    private volatile long computedAt;
+
+    private Timeout(LatencyWindow window) {
+      this.window = window;
+    }
+
+    private long current() {
+      long now = System.currentTimeMillis();
+      if (now - computedAt >= recomputeIntervalMillis) {
+        computedAt = now;
+        value = compute();
+      }
+      return value;
+    }
+
+    private long compute() {
+      if (window.size() < minSamples) {
+        return maxTimeoutMillis;
+      }
+      long timeout = (long) (window.percentile(percentile) * multiplier);
+      return Math.max(minTimeoutMillis, Math.min(maxTimeoutMillis, timeout));
+    }
+  }
+}
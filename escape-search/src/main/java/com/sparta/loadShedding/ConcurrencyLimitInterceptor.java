@@ -0,0 +1,103 @@
+package com.sparta.loadShedding;
+
+import com.sparta.global.exception.customException.KafkaException;
+import com.sparta.global.exception.errorCode.KafkaErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * 조회 API 별 동시 처리 한도 (한도를 넘으면 기다리게 하지 않고 바로 503)
+ * <p>
+ * 한도는 API 마다 {@link GradientConcurrencyLimit} 로 지연 시간에 따라 조절. 비동기(CompletableFuture) 응답은 응답이 끝나는
+ * async dispatch 의 afterCompletion 에서 반환하므로 kafka 응답을 기다리는 동안에도 한도를 차지함
+ */
+@Component
+public class ConcurrencyLimitInterceptor implements AsyncHandlerInterceptor {
+
+  private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName()
+      + ".permit";
+
+  private final MeterRegistry meterRegistry;
+  private final boolean enabled;
+  private final GradientConcurrencyLimit.Settings settings;
+  private final Map<String, GradientConcurrencyLimit> limits = new ConcurrentHashMap<>();
+
+  public ConcurrencyLimitInterceptor(MeterRegistry meterRegistry,
+      @Value("${search.concurrency-limit.enabled:true}") boolean enabled,
+      @Value("${search.concurrency-limit.initial:50}") int initialLimit,
+      @Value("${search.concurrency-limit.min:10}") int minLimit,
+      @Value("${search.concurrency-limit.max:500}") int maxLimit,
+      @Value("${search.concurrency-limit.rtt-tolerance:1.5}") double rttTolerance,
+      @Value("${search.concurrency-limit.smoothing:0.2}") double smoothing,
+      @Value("${search.concurrency-limit.backoff-ratio:0.9}") double backoffRatio) {
+    this.meterRegistry = meterRegistry;
+    this.enabled = enabled;
+    this.settings = new GradientConcurrencyLimit.Settings(initialLimit, minLimit, maxLimit,
+        rttTolerance, smoothing, backoffRatio);
+  }
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+      Object handler) {
+    // async dispatch 로 다시 들어온 요청은 이미 허용됨
+    if (!enabled || !(handler instanceof HandlerMethod handlerMethod)
+        || request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+      return true;
+    }
+
+    String endpoint = handlerMethod.getMethod().getName();
+    GradientConcurrencyLimit limit = limit(endpoint);
+    if (!limit.tryAcquire()) {
+      Counter.builder("search.concurrency-limit.rejected")
+          .tag("endpoint", endpoint)
+          .register(meterRegistry)
+          .increment();
+      throw new KafkaException(KafkaErrorCode.SEARCH_OVERLOADED);
+    }
+    request.setAttribute(PERMIT_ATTRIBUTE, new Permit(limit, System.nanoTime()));
+    return true;
+  }
+
+  @Override
+  public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+      Object handler, Exception ex) {
+    Object permit = request.getAttribute(PERMIT_ATTRIBUTE);
+    if (permit instanceof Permit acquired) {
+      request.removeAttribute(PERMIT_ATTRIBUTE);
+      acquired.limit.release(System.nanoTime() - acquired.startedAt,
+          response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value());
+    }
+  }
+
+  private GradientConcurrencyLimit limit(String endpoint) {
+    return limits.computeIfAbsent(endpoint, e -> {
+      GradientConcurrencyLimit limit = new GradientConcurrencyLimit(settings);
+      Gauge.builder("search.concurrency-limit.limit", limit, GradientConcurrencyLimit::getLimit)
+          .tag("endpoint", e)
+          .register(meterRegistry);
+      Gauge.builder("search.concurrency-limit.in-flight", limit,
+              GradientConcurrencyLimit::getInFlight)
+          .tag("endpoint", e)
+          .register(meterRegistry);
+      return limit;
+    });
+  }
+
+  @RequiredArgsConstructor
+  private static class Permit {
+
+    private final GradientConcurrencyLimit limit;
+    private final long startedAt;
+  }
+}
@@ -0,0 +1,108 @@
+package com.sparta.loadShedding;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 지연 시간 변화(gradient)로 조절하는 동시 처리 한도
+ * <p>
+ * 최근 지연 시간(짧은 평균)이 기준 지연 시간(긴 평균)보다 길어지면 대기열이 쌓이는 것으로 보고 한도를 줄이고, 비슷하면 한도를 조금씩 늘림.
+ * 한도의 절반도 쓰지 않을 때는 늘리지 않고, 뒤에서 거절(503)되면 바로 backoffRatio 만큼 줄임. 한도를 넘는 요청은 기다리게 하지 않고 거절
+ */
+public class GradientConcurrencyLimit {
+
+  private static final double SHORT_RTT_ALPHA = 2.0 / (10 + 1);
+  private static final double LONG_RTT_ALPHA = 2.0 / (600 + 1);
+
+  private final Settings settings;
+  private final AtomicInteger inFlight = new AtomicInteger();
+
+  private volatile double limit;
+  private double shortRtt;
+  private double longRtt;
+
+  public GradientConcurrencyLimit(Settings settings) {
+    this.settings = settings;
+    this.limit = settings.getInitialLimit();
+  }
+
+  /**
+   * 한도 안이면 처리 허용 (허용했으면 끝난 뒤 release 호출)
+   */
+  public boolean tryAcquire() {
+    while (true) {
+      int current = inFlight.get();
+      if (current >= (int) limit) {
+        return false;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * 처리 종료 후 지연 시간으로 한도 조절
+   *
+   * @param rttNanos 처리 시간
+   * @param dropped  뒤에서 과부하로 거절되었는지 여부
+   */
+  public void release(long rttNanos, boolean dropped) {
+    int current = inFlight.getAndDecrement();
+    update(rttNanos, current, dropped);
+  }
+
+  public int getLimit() {
+    return (int) limit;
+  }
+
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  private synchronized void update(long rttNanos, int inFlightAtRelease, boolean dropped) {
+    if (dropped) {
+      limit = Math.max(settings.getMinLimit(), limit * settings.getBackoffRatio());
+      return;
+    }
+
+    double rtt = rttNanos;
+    if (longRtt == 0) {
+      shortRtt = rtt;
+      longRtt = rtt;
+    } else {
+      shortRtt += SHORT_RTT_ALPHA * (rtt - shortRtt);
+      longRtt += LONG_RTT_ALPHA * (rtt - longRtt);
+    }
+    // 과부하가 풀리면 기준 지연 시간이 높게 남아 있지 않도록 빠르게 따라 내려감
+    if (longRtt / shortRtt > 2) {
+      longRtt *= 0.95;
+    }
+    if (inFlightAtRelease < limit / 2) {
+      return;
+    }
+
+    double gradient = Math.max(0.5,
+        Math.min(1.0, settings.getRttTolerance() * longRtt / shortRtt));
+    double newLimit = limit * gradient + Math.sqrt(limit);
+    newLimit = limit * (1 - settings.getSmoothing()) + newLimit * settings.getSmoothing();
+    limit = Math.max(settings.getMinLimit(), Math.min(settings.getMaxLimit(), newLimit));
+  }
+
+  /**
+   * 동시 처리 한도 설정
+   */
+  @Getter
+  @RequiredArgsConstructor
+  public static class Settings {
+
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    // 기준 지연 시간보다 이 배수까지 느려져도 한도를 줄이지 않음
+    private final double rttTolerance;
+    private final double smoothing;
+    private final double backoffRatio;
+  }
+}
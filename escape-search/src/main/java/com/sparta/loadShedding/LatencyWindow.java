@@ -0,0 +1,42 @@
+package com.sparta.loadShedding;
+
+import java.util.Arrays;
+
+/**
+ * 최근 지연 시간 표본 (고정 크기 원형 버퍼, 가장 오래된 표본부터 덮어씀)
+ */
+public class LatencyWindow {
+
+  private final long[] samples;
+  private int next;
+  private int size;
+
+  public LatencyWindow(int capacity) {
+    this.samples = new long[capacity];
+  }
+
+  public synchronized void record(long millis) {
+    samples[next] = millis;
+    next = (next + 1) % samples.length;
+    size = Math.min(size + 1, samples.length);
+  }
+
+  public synchronized int size() {
+    return size;
+  }
+
+  /**
+   * 최근 표본의 백분위 값 (nearest-rank, 표본이 없으면 -1)
+   *
+   * @param percentile 0 ~ 100
+   */
+  public synchronized long percentile(double percentile) {
+    if (size == 0) {
+      return -1;
+    }
+    long[] sorted = Arrays.copyOf(samples, size);
+    Arrays.sort(sorted);
+    int rank = (int) Math.ceil(percentile / 100 * size);
+    return sorted[Math.max(0, Math.min(size - 1, rank - 1))];
+  }
+}
@@ -0,0 +1,90 @@
+package com.sparta.requestCoalescing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 동일한 조회 요청 병합 (single-flight)
+ * <p>
+ * 같은 key 의 요청이 처리 중이면 새로 조회하지 않고 진행 중인 future 를 함께 기다림
+ * 조회가 끝나면 key 를 제거하므로 결과를 캐싱하지는 않음
+ */
+@Slf4j
+@Component
+public class RequestCoalescer {
+
+  private final Map<String, CompletableFuture<?>> inFlightRequests = new ConcurrentHashMap<>();
+  private final Counter executionCounter;
+  private final Counter mergeCounter;
+
+  public RequestCoalescer(MeterRegistry meterRegistry) {
+    this.executionCounter = Counter.builder("search.coalescing.requests")
+        .tag("result", "executed")
+        .description("실제로 조회를 실행한 요청 수")
+        .register(meterRegistry);
+    this.mergeCounter = Counter.builder("search.coalescing.requests")
+        .tag("result", "merged")
+        .description("진행 중인 동일 요청에 병합된 요청 수")
+        .register(meterRegistry);
+    Gauge.builder("search.coalescing.in-flight", inFlightRequests, Map::size)
+        .description("처리 중인 서로 다른 조회 요청 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 같은 key 로 처리 중인 요청이 있으면 그 결과를 공유하고, 없으면 loader 로 조회
+   *
+   * @param key    정규화된 조회 조건
+   * @param loader 실제 조회
+   * @return 조회 결과 future
+   */
+  @SuppressWarnings("unchecked")
+  public <T> CompletableFuture<T> execute(String key, Supplier<CompletableFuture<T>> loader) {
+    CompletableFuture<T> created = new CompletableFuture<>();
+    CompletableFuture<T> inFlight = (CompletableFuture<T>) inFlightRequests.putIfAbsent(key, created);
+    if (inFlight != null) {
+      mergeCounter.increment();
+      // 한 요청의 취소가 병합된 다른 요청에 전파되지 않도록 복사본을 반환
+      return inFlight.copy();
+    }
+
+    executionCounter.increment();
+    try {
+      loader.get().whenComplete((result, e) -> {
+        inFlightRequests.remove(key, created);
+        if (e != null) {
+          created.completeExceptionally(e);
+        } else {
+          created.complete(result);
+        }
+      });
+    } catch (RuntimeException e) {
+      inFlightRequests.remove(key, created);
+      created.completeExceptionally(e);
+    }
+    return created.copy();
+  }
+
+  /**
+   * 조회 조건으로 병합 key 생성
+   *
+   * @param type   조회 종류
+   * @param params 조회 조건
+   * @return 병합 key
+   */
+  public static String key(String type, Object... params) {
+    StringJoiner joiner = new StringJoiner("|", type + ":", "");
+    for (Object param : params) {
+      joiner.add(String.valueOf(param));
+    }
+    return joiner.toString();
+  }
+}
@@ -0,0 +1,158 @@
+package com.sparta.domain.autocomplete.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sparta.domain.autocomplete.dto.SuggestionType;
+import com.sparta.global.util.Hangul;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SuggestionTrieTest {
+
+  private static final String[] WORDS = {"비트포비아", "방탈출", "셜록홈즈", "키이스케이프", "강남점",
+      "홍대점", "미스터리", "Escape", "룸", "비밀의", "방", "탈출", "서울", "포레스트"};
+
+  @Test
+  @DisplayName("접두어, 초성, 입력 중인 글자, 중간 단어로 찾고 인기 순")
+  void suggest() {
+    SuggestionTrie trie = SuggestionTrie.of(List.of(
+        store(1L, "비트포비아 강남점", 10),
+        store(2L, "비밀의 방", 30),
+        theme(3L, "방탈출 카페", 20),
+        theme(4L, "Escape Room", 5)));
+
+    assertEquals(List.of(2L, 1L), ids(trie.suggest("비", 10)));
+    assertEquals(List.of(3L, 1L), ids(trie.suggest("ㅂㅌ", 10)));
+    assertEquals(List.of(2L, 3L, 1L), ids(trie.suggest("ㅂ", 10)));
+    assertEquals(List.of(2L, 3L), ids(trie.suggest("바", 10)));
+    assertEquals(List.of(3L), ids(trie.suggest("방ㅌ", 10)));
+    assertEquals(List.of(1L), ids(trie.suggest("강남", 10)));
+    assertEquals(List.of(4L), ids(trie.suggest("escape r", 10)));
+    assertEquals(List.of(2L), ids(trie.suggest("비밀의방", 1)));
+    assertTrue(trie.suggest("없는이름", 10).isEmpty());
+    assertTrue(trie.suggest(" ", 10).isEmpty());
+  }
+
+  @Test
+  @DisplayName("이름 교체, 삭제 후 이전 키로는 찾지 않음")
+  void putAndRemove() {
+    SuggestionTrie trie = SuggestionTrie.of(List.of(store(1L, "비트포비아", 10),
+        theme(2L, "비밀", 5)));
+
+    trie.put(store(1L, "셜록홈즈", 10));
+    assertEquals(List.of(2L), ids(trie.suggest("비", 10)));
+    assertEquals(List.of(1L), ids(trie.suggest("ㅅㄹ", 10)));
+
+    trie.removeIf(suggestion -> suggestion.getType() == SuggestionType.THEME);
+    assertTrue(trie.suggest("비", 10).isEmpty());
+    trie.remove(SuggestionType.STORE, 1L);
+    assertEquals(0, trie.size());
+    assertTrue(trie.suggest("셜", 10).isEmpty());
+  }
+
+  @Test
+  @DisplayName("추가, 교체, 삭제를 섞어도 결과가 전체 탐색과 같음")
+  void matchesBruteForce() {
+    Random random = new Random(42);
+    SuggestionTrie trie = new SuggestionTrie();
+    Map<Long, Suggestion> current = new HashMap<>();
+
+    for (int step = 0; step < 3000; step++) {
+      long id = random.nextInt(400);
+      if (random.nextInt(4) == 0) {
+        trie.remove(SuggestionType.THEME, id);
+        current.remove(id);
+      } else {
+        Suggestion suggestion = theme(id, randomName(random), random.nextInt(50));
+        trie.put(suggestion);
+        current.put(id, suggestion);
+      }
+
+      if (step % 10 == 0) {
+        String query = randomQuery(random, new ArrayList<>(current.values()));
+        assertEquals(bruteForce(current.values(), query, 10), trie.suggest(query, 10), query);
+      }
+    }
+    assertEquals(current.size(), trie.size());
+  }
+
+  private static List<Suggestion> bruteForce(Iterable<Suggestion> suggestions, String query,
+      int limit) {
+    String normalized = SuggestionTrie.normalize(query);
+    List<Suggestion> matched = new ArrayList<>();
+    for (Suggestion suggestion : suggestions) {
+      if (SuggestionTrie.keys(suggestion.getName()).stream()
+          .anyMatch(key -> matches(key, normalized))) {
+        matched.add(suggestion);
+      }
+    }
+    return matched.stream().sorted(SuggestionTrie.RANK).limit(limit).toList();
+  }
+
+  private static boolean matches(String key, String query) {
+    if (query.isEmpty() || key.length() < query.length()) {
+      return false;
+    }
+    for (int i = 0; i < query.length(); i++) {
+      char q = query.charAt(i);
+      char c = key.charAt(i);
+      boolean last = i == query.length() - 1;
+      boolean matched = q == c
+          || (Hangul.isChoseong(q) && Hangul.isSyllable(c) && Hangul.choseong(c) == q)
+          || (last && Hangul.isSyllable(q) && !Hangul.hasJongseong(q)
+          && Hangul.withoutJongseong(c) == q);
+      if (!matched) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static String randomName(Random random) {
+    int words = 1 + random.nextInt(3);
+    List<String> name = new ArrayList<>();
+    for (int i = 0; i < words; i++) {
+      name.add(WORDS[random.nextInt(WORDS.length)]);
+    }
+    return String.join(" ", name);
+  }
+
+  private static String randomQuery(Random random, List<Suggestion> suggestions) {
+    if (suggestions.isEmpty()) {
+      return "비";
+    }
+    String key = SuggestionTrie.normalize(
+        suggestions.get(random.nextInt(suggestions.size())).getName());
+    String prefix = key.substring(0, 1 + random.nextInt(Math.min(4, key.length())));
+    StringBuilder query = new StringBuilder();
+    for (int i = 0; i < prefix.length(); i++) {
+      char c = prefix.charAt(i);
+      int mode = random.nextInt(3);
+      if (mode == 1) {
+        c = Hangul.choseong(c);
+      } else if (mode == 2 && i == prefix.length() - 1) {
+        c = Hangul.withoutJongseong(c);
+      }
+      query.append(c);
+    }
+    return query.toString();
+  }
+
+  private static List<Long> ids(List<Suggestion> suggestions) {
+    return suggestions.stream().map(Suggestion::getId).toList();
+  }
+
+  private static Suggestion store(Long id, String name, long popularity) {
+    return new Suggestion(SuggestionType.STORE, id, id, name, popularity);
+  }
+
+  private static Suggestion theme(Long id, String name, long popularity) {
+    return new Suggestion(SuggestionType.THEME, id, 1L, name, popularity);
+  }
+}
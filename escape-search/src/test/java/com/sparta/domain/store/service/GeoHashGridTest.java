@@ -0,0 +1,107 @@
+package com.sparta.domain.store.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sparta.global.util.GeoPoint;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GeoHashGridTest {
+
+  private static final double CELL_LAT_DEGREES = 180.0 / (1 << GeoHashGrid.BITS);
+  private static final double CELL_LNG_DEGREES = 360.0 / (1 << GeoHashGrid.BITS);
+
+  // 서울 근처의 셀 경계 (위도 23211 번째, 경도 27944 번째 셀의 시작, 약 37.50, 127.00)
+  private static final double BOUNDARY_LAT = -90 + 23211 * CELL_LAT_DEGREES;
+  private static final double BOUNDARY_LNG = -180 + 27944 * CELL_LNG_DEGREES;
+
+  // 약 11m
+  private static final double STEP = 0.0001;
+
+  @Test
+  @DisplayName("셀 경계 양쪽의 항목을 모두 찾음")
+  void withinRadiusAcrossCellBoundary() {
+    GeoPoint center = new GeoPoint(BOUNDARY_LAT, BOUNDARY_LNG);
+    GeoHashGrid<String> grid = grid(Map.of(
+        "south-west", new GeoPoint(BOUNDARY_LAT - STEP, BOUNDARY_LNG - STEP),
+        "south-east", new GeoPoint(BOUNDARY_LAT - STEP, BOUNDARY_LNG + STEP),
+        "north-west", new GeoPoint(BOUNDARY_LAT + STEP, BOUNDARY_LNG - STEP),
+        "north-east", new GeoPoint(BOUNDARY_LAT + STEP, BOUNDARY_LNG + STEP)));
+
+    assertEquals(4, grid.withinRadius(center, 0.1, 10).size());
+  }
+
+  @Test
+  @DisplayName("반경과 같은 거리의 항목은 포함하고 조금이라도 멀면 제외")
+  void withinRadiusBoundary() {
+    GeoPoint center = new GeoPoint(BOUNDARY_LAT, BOUNDARY_LNG);
+    GeoPoint edge = new GeoPoint(BOUNDARY_LAT + 3 * CELL_LAT_DEGREES, BOUNDARY_LNG);
+    GeoHashGrid<String> grid = grid(Map.of("edge", edge));
+    double distance = center.distanceKm(edge);
+
+    assertEquals(List.of("edge"), items(grid.withinRadius(center, distance, 10)));
+    assertTrue(grid.withinRadius(center, distance - 1e-6, 10).isEmpty());
+  }
+
+  @Test
+  @DisplayName("반경 조회는 가까운 순으로 최대 개수만")
+  void withinRadiusLimit() {
+    GeoPoint center = new GeoPoint(BOUNDARY_LAT, BOUNDARY_LNG);
+    GeoHashGrid<String> grid = grid(Map.of(
+        "far", new GeoPoint(BOUNDARY_LAT + 30 * STEP, BOUNDARY_LNG),
+        "near", new GeoPoint(BOUNDARY_LAT + 10 * STEP, BOUNDARY_LNG),
+        "middle", new GeoPoint(BOUNDARY_LAT, BOUNDARY_LNG - 20 * STEP)));
+
+    assertEquals(List.of("near", "middle"), items(grid.withinRadius(center, 5, 2)));
+  }
+
+  @Test
+  @DisplayName("같은 셀의 먼 항목보다 옆 셀의 가까운 항목이 먼저")
+  void nearestPrefersCloserNeighborCell() {
+    // 중심은 셀의 동쪽 끝, 같은 셀의 서쪽 끝(약 1km)과 경계 너머(약 20m) 항목
+    GeoPoint center = new GeoPoint(BOUNDARY_LAT + CELL_LAT_DEGREES / 2, BOUNDARY_LNG - STEP);
+    GeoHashGrid<String> grid = grid(Map.of(
+        "same-cell", new GeoPoint(BOUNDARY_LAT + CELL_LAT_DEGREES / 2,
+            BOUNDARY_LNG - CELL_LNG_DEGREES + STEP),
+        "next-cell", new GeoPoint(BOUNDARY_LAT + CELL_LAT_DEGREES / 2, BOUNDARY_LNG + STEP)));
+
+    assertEquals(List.of("next-cell"), items(grid.nearest(center, 1, 10)));
+    assertEquals(List.of("next-cell", "same-cell"), items(grid.nearest(center, 2, 10)));
+  }
+
+  @Test
+  @DisplayName("최근접 조회는 멀리 있는 셀까지 넓혀 찾되 최대 반경 밖은 제외")
+  void nearestMaxRadius() {
+    GeoPoint center = new GeoPoint(BOUNDARY_LAT, BOUNDARY_LNG);
+    // 약 11km, 55km 떨어진 항목
+    GeoHashGrid<String> grid = grid(Map.of(
+        "11km", new GeoPoint(BOUNDARY_LAT + 0.1, BOUNDARY_LNG),
+        "55km", new GeoPoint(BOUNDARY_LAT - 0.5, BOUNDARY_LNG)));
+
+    assertEquals(List.of("11km"), items(grid.nearest(center, 5, 50)));
+    assertEquals(List.of("11km", "55km"), items(grid.nearest(center, 5, 60)));
+    assertTrue(grid.nearest(center, 5, 10).isEmpty());
+    assertTrue(grid.nearest(center, 0, 60).isEmpty());
+  }
+
+  @Test
+  @DisplayName("빈 색인은 빈 결과")
+  void empty() {
+    GeoHashGrid<GeoPoint> empty = GeoHashGrid.empty();
+    GeoPoint center = new GeoPoint(BOUNDARY_LAT, BOUNDARY_LNG);
+
+    assertTrue(empty.withinRadius(center, 10, 10).isEmpty());
+    assertTrue(empty.nearest(center, 10, 10).isEmpty());
+  }
+
+  private static GeoHashGrid<String> grid(Map<String, GeoPoint> points) {
+    return GeoHashGrid.of(points.keySet(), points::get);
+  }
+
+  private static List<String> items(List<GeoHashGrid.Hit<String>> hits) {
+    return hits.stream().map(GeoHashGrid.Hit::getItem).toList();
+  }
+}
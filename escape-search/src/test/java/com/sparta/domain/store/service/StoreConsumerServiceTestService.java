@@ -2,68 +2,113 @@ package com.sparta.domain.store.service;
 
 import com.sparta.domain.store.dto.KafkaStoreRequestDto;
 import com.sparta.domain.store.dto.KafkaStoreResponseDto;
+import com.sparta.domain.store.dto.KafkaTopStoreRequestDto;
+import com.sparta.domain.store.dto.KafkaTopStoreResponseDto;
 import com.sparta.domain.store.dto.StoreResponseDto;
-import com.sparta.domain.store.entity.Store;
+import com.sparta.domain.store.dto.TopStoreResponseDto;
 import com.sparta.domain.store.entity.StoreRegion;
-import com.sparta.domain.store.repository.StoreRepository;
+import com.sparta.global.exception.customException.StoreException;
+import com.sparta.global.exception.errorCode.StoreErrorCode;
+import com.sparta.global.kafka.KafkaErrorResponseDto;
+import com.sparta.global.util.CountMode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
-import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 
-import static org.mockito.Mockito.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class StoreConsumerServiceTestService {
+
+    private static final String REPLY_TOPIC = "search_reply_topic.test";
+
+    @Mock
+    private StoreQueryService storeQueryService;
+
     @Mock
-    private StoreRepository storeRepository;
+    private KafkaTemplate<String, KafkaStoreResponseDto> kafkaStoreResponseTemplate;
 
     @Mock
-    private ConcurrentHashMap<String, CompletableFuture<Page<StoreResponseDto>>> responseFutures;
+    private KafkaTemplate<String, KafkaTopStoreResponseDto> kafkaTopStoreResponseTemplate;
+
+    @Mock
+    private KafkaTemplate<String, KafkaErrorResponseDto> kafkaErrorResponseTemplate;
 
-    @InjectMocks
     private StoreConsumerService storeConsumerService;
 
     @BeforeEach
     public void setUp() {
-        MockitoAnnotations.openMocks(this);
+        // 같은 타입의 KafkaTemplate 이 여러 개라 직접 생성
+        storeConsumerService = new StoreConsumerService(storeQueryService,
+                kafkaStoreResponseTemplate, kafkaTopStoreResponseTemplate, kafkaErrorResponseTemplate);
     }
 
     @Test
-    public void testHandleStoreRequest() {
-        KafkaStoreRequestDto requestDto = new KafkaStoreRequestDto("requestId", 0, 10, true, "keyword", StoreRegion.ALL, "name");
-        List<Store> storeList = new ArrayList<>();
-        Page<Store> storePage = new PageImpl<>(storeList);
-
-        when(storeRepository.findByName(anyString(), any(StoreRegion.class), any(Pageable.class))).thenReturn(storePage);
-
+    public void 카페_조회_요청에_조회_결과로_응답() {
+        // given
+        KafkaStoreRequestDto requestDto = new KafkaStoreRequestDto("requestId", REPLY_TOPIC, 1, 10,
+                true, "keyword", StoreRegion.ALL, "name", CountMode.EXACT);
+        Page<StoreResponseDto> page = new PageImpl<>(List.of(), PageRequest.of(0, 10), 23);
+        when(storeQueryService.getStores(1, 10, true, "keyword", StoreRegion.ALL, "name",
+                CountMode.EXACT)).thenReturn(page);
+
+        // when
         storeConsumerService.handleStoreRequest(requestDto);
 
-        verify(storeRepository, times(1)).findByName(anyString(), any(StoreRegion.class), any(Pageable.class));
+        // then
+        ArgumentCaptor<KafkaStoreResponseDto> response = ArgumentCaptor.forClass(KafkaStoreResponseDto.class);
+        verify(kafkaStoreResponseTemplate).send(eq(REPLY_TOPIC), eq("requestId"), response.capture());
+        assertThat(response.getValue().getRequestId()).isEqualTo("requestId");
+        assertThat(response.getValue().toPage().getTotalElements()).isEqualTo(23);
+        verify(kafkaErrorResponseTemplate, never()).send(anyString(), anyString(), any());
     }
 
     @Test
-    public void testHandleStoreResponse() {
-        KafkaStoreResponseDto responseDto = new KafkaStoreResponseDto("requestId", new PageImpl<>(new ArrayList<>()));
-        CompletableFuture<Page<StoreResponseDto>> future = new CompletableFuture<>();
-        future.complete(new PageImpl<>(new ArrayList<>()));
-
-        when(responseFutures.remove(anyString())).thenReturn(future);
-
-//        storeConsumerService.handleStoreResponse(responseDto);
+    public void 카페_조회_실패시_오류_코드로_응답() {
+        // given
+        KafkaStoreRequestDto requestDto = new KafkaStoreRequestDto("requestId", REPLY_TOPIC, 1, 10,
+                true, null, StoreRegion.ALL, "name", CountMode.EXACT);
+        when(storeQueryService.getStores(1, 10, true, null, StoreRegion.ALL, "name",
+                CountMode.EXACT)).thenThrow(new StoreException(StoreErrorCode.STORE_NOT_FOUND));
+
+        // when
+        storeConsumerService.handleStoreRequest(requestDto);
 
-        verify(responseFutures, times(1)).remove(anyString());
+        // then
+        ArgumentCaptor<KafkaErrorResponseDto> response = ArgumentCaptor.forClass(KafkaErrorResponseDto.class);
+        verify(kafkaErrorResponseTemplate).send(eq(REPLY_TOPIC), eq("requestId"), response.capture());
+        assertThat(response.getValue().toException().getErrorCode())
+                .isEqualTo(StoreErrorCode.STORE_NOT_FOUND);
+        verify(kafkaStoreResponseTemplate, never()).send(anyString(), anyString(), any());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void 인기_카페_조회_요청에_조회_결과로_응답() {
+        // given
+        TopStoreResponseDto topStores = new TopStoreResponseDto(List.of());
+        when(storeQueryService.getTopStores()).thenReturn(topStores);
+
+        // when
+        storeConsumerService.handleTopStoreRequest(new KafkaTopStoreRequestDto("requestId", REPLY_TOPIC));
+
+        // then
+        ArgumentCaptor<KafkaTopStoreResponseDto> response = ArgumentCaptor.forClass(KafkaTopStoreResponseDto.class);
+        verify(kafkaTopStoreResponseTemplate).send(eq(REPLY_TOPIC), eq("requestId"), response.capture());
+        assertThat(response.getValue().getResponseDto()).isSameAs(topStores);
+    }
+}
@@ -1,117 +1,157 @@
 package com.sparta.domain.store.service;
 
+import com.sparta.config.QueryMode;
+import com.sparta.domain.catalog.service.CatalogReadModel;
 import com.sparta.domain.store.dto.KafkaStoreRequestDto;
+import com.sparta.domain.store.dto.KafkaTopStoreRequestDto;
 import com.sparta.domain.store.dto.StoreResponseDto;
+import com.sparta.domain.store.dto.TopStoreResponseDto;
 import com.sparta.domain.store.entity.StoreRegion;
+import com.sparta.domain.store.repository.StoreRepository;
+import com.sparta.fallback.DegradedModeExecutor;
+import com.sparta.fallback.FallbackResult;
+import com.sparta.global.exception.customException.StoreException;
+import com.sparta.global.exception.errorCode.StoreErrorCode;
+import com.sparta.global.kafka.KafkaReplyTopic;
+import com.sparta.global.kafka.PendingRequestRegistry;
+import com.sparta.global.util.CountMode;
+import com.sparta.loadShedding.AdaptiveTimeouts;
+import com.sparta.requestCoalescing.RequestCoalescer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
 
-import java.util.UUID;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.mock;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
-//@EmbeddedKafka
-//@SpringBootTest
+/**
+ * LOCAL 조회 모드의 카페 조회 (병합, 차단기를 거쳐 StoreQueryService 로 바로 조회)
+ */
 @ExtendWith(MockitoExtension.class)
 public class StoreServiceTest {
 
     @Mock
-    private KafkaTemplate<String, KafkaStoreRequestDto> kafkaTemplate;
+    private KafkaTemplate<String, KafkaStoreRequestDto> kafkaStoreTemplate;
 
     @Mock
-    private ConcurrentHashMap<String, CompletableFuture<Page<StoreResponseDto>>> responseFutures;
+    private KafkaTemplate<String, KafkaTopStoreRequestDto> kafkaTopStoreTemplate;
+
+    @Mock
+    private PendingRequestRegistry<Page<StoreResponseDto>> storePendingRequests;
+
+    @Mock
+    private PendingRequestRegistry<TopStoreResponseDto> topStorePendingRequests;
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private StoreQueryService storeQueryService;
+
+    @Mock
+    private RequestCoalescer requestCoalescer;
+
+    @Mock
+    private CatalogReadModel catalogReadModel;
+
+    @Mock
+    private StoreGeoIndex storeGeoIndex;
+
+    @Mock
+    private DegradedModeExecutor degradedModeExecutor;
+
+    @Mock
+    private AdaptiveTimeouts adaptiveTimeouts;
 
-    @InjectMocks
     private StoreService storeService;
 
     @BeforeEach
     void setUp() {
+        storeService = new StoreService(kafkaStoreTemplate, kafkaTopStoreTemplate,
+                storePendingRequests, topStorePendingRequests, storeRepository, storeQueryService,
+                new KafkaReplyTopic("search_reply_topic", "test"), requestCoalescer, catalogReadModel,
+                storeGeoIndex, degradedModeExecutor, adaptiveTimeouts);
+        ReflectionTestUtils.setField(storeService, "queryMode", QueryMode.LOCAL);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 카페_조회_성공() {
+        // given
+        when(requestCoalescer.execute(anyString(), any()))
+                .thenAnswer(invocation -> ((Supplier<CompletableFuture<?>>) invocation.getArgument(1)).get());
+        when(degradedModeExecutor.execute(eq("stores"), anyString(), any()))
+                .thenAnswer(invocation -> ((Supplier<CompletableFuture<?>>) invocation.getArgument(2)).get()
+                        .thenApply(FallbackResult::fresh));
+        Page<StoreResponseDto> page = new PageImpl<>(List.of());
+        when(storeQueryService.getStores(1, 10, true, "Keyword", StoreRegion.ALL, null,
+                CountMode.EXACT)).thenReturn(page);
+
+        // when
+        FallbackResult<Page<StoreResponseDto>> result = storeService.getStores(1, 10, true,
+                "Keyword", StoreRegion.ALL, null, CountMode.EXACT).join();
 
+        // then
+        assertThat(result.getValue()).isSameAs(page);
+        assertThat(result.isStale()).isFalse();
+        verifyNoInteractions(kafkaStoreTemplate);
     }
 
     @Test
-    void getStores_shouldSendKafkaMessageAndReturnResponse() throws ExecutionException, InterruptedException, TimeoutException {
+    void 검색어_대소문자가_달라도_같은_요청으로_병합() {
         // given
-        String requestId = UUID.randomUUID().toString();
-        CompletableFuture<Page<StoreResponseDto>> future = mock(CompletableFuture.class);
-        Page<StoreResponseDto> testPage = mock(Page.class);
-        future.complete(testPage);
-//        when(responseFutures.put(anyString(), any())).thenReturn(null);
-//        when(kafkaTemplate.send(anyString(), any())).thenReturn(null);
-//        CompletableFuture<Page<StoreResponseDto>> future = mock(CompletableFuture.class);
-//        when(future.get(3, TimeUnit.SECONDS)).thenReturn(testPage);
-//        CompletableFuture<Page<StoreResponseDto>> future = CompletableFuture.
-//        future.complete(testPage);
+        when(requestCoalescer.execute(anyString(), any())).thenReturn(new CompletableFuture<>());
+
         // when
-        Page<StoreResponseDto> result = storeService.getStores(1, 10, true, null, StoreRegion.ALL, null);
+        storeService.getStores(1, 10, true, "Keyword", StoreRegion.ALL, null, CountMode.EXACT);
+        storeService.getStores(1, 10, true, "KEYWORD", StoreRegion.ALL, null, CountMode.EXACT);
 
         // then
-        assertThat(result).isEqualTo(testPage);
+        ArgumentCaptor<String> keys = ArgumentCaptor.forClass(String.class);
+        verify(requestCoalescer, times(2)).execute(keys.capture(), any());
+        assertThat(keys.getAllValues().get(0)).isEqualTo(keys.getAllValues().get(1));
+        verify(degradedModeExecutor, never()).execute(anyString(), anyString(), any());
     }
-}
 
-//    @Mock
-//    private KafkaTemplate<String, KafkaStoreRequestDto> kafkaTemplate;
-//
-//    @Mock
-//    private ConcurrentHashMap<String, CompletableFuture<Page<StoreResponseDto>>> responseFutures;
-//
-//    @InjectMocks
-//    private StoreService storeService;
-//
-//    @BeforeEach
-//    public void setup() {
-//        storeService = new StoreService(kafkaTemplate, responseFutures);
-//    }
-
-//    @Test
-//    public void 카페_조회_성공() throws ExecutionException, InterruptedException {
-//        // given
-//        int pageNum = 1;
-//        int pageSize = 10;
-//        boolean isDesc = false;
-//        String keyWord = "";
-//        StoreRegion storeRegion = StoreRegion.ALL;
-//        String sort = "name";
-//
-//        CompletableFuture<Page<StoreResponseDto>> future = new CompletableFuture<>();
-//        Page<StoreResponseDto> testPage = new PageImpl<>(new ArrayList<>());
-//
-//        CompletableFuture<SendResult<String, KafkaStoreRequestDto>> kafkaResult= new CompletableFuture<>();
-////        when(responseFutures.put(anyString(), any())).thenReturn(future);
-////        when(kafkaTemplate.send(anyString(), any())).thenReturn(kafkaResult);
-////        when(future.get()).thenReturn(testPage);
-//
-//         Page<StoreResponseDto> result = storeService.getStores(pageNum, pageSize, isDesc, keyWord, storeRegion, sort);
-//
-//         assertThat(result).isEqualTo(testPage);
-//    }
-
-
-//
-//    @Test
-//    public void setValue() {
-//        값을 세팅하는 것만 테스트
-//    }
-//
-//    @Test
-//    public void sendKafka() {
-//        카프카에 보내는것만 테스트
-//    }
-//
-//    @Test
-//    public void getFromKafka() {
-//        카프카에서 값을 가져오는 것만 테스트
-//    }
-//}
+    @Test
+    @SuppressWarnings("unchecked")
+    void 조회_실패시_같은_예외로_실패() {
+        // given
+        when(requestCoalescer.execute(anyString(), any()))
+                .thenAnswer(invocation -> ((Supplier<CompletableFuture<?>>) invocation.getArgument(1)).get());
+        when(degradedModeExecutor.execute(eq("stores"), anyString(), any()))
+                .thenAnswer(invocation -> {
+                    try {
+                        return ((Supplier<CompletableFuture<?>>) invocation.getArgument(2)).get();
+                    } catch (RuntimeException e) {
+                        return CompletableFuture.failedFuture(e);
+                    }
+                });
+        when(storeQueryService.getStores(1, 10, true, null, StoreRegion.ALL, null, CountMode.EXACT))
+                .thenThrow(new StoreException(StoreErrorCode.STORE_NOT_FOUND));
+
+        // when, then
+        assertThatThrownBy(() -> storeService.getStores(1, 10, true, null, StoreRegion.ALL, null,
+                CountMode.EXACT).join())
+                .hasCauseInstanceOf(StoreException.class);
+    }
+}
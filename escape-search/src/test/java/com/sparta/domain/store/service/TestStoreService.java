@@ -1,91 +1,150 @@
 package com.sparta.domain.store.service;
 
+import com.sparta.config.QueryMode;
+import com.sparta.domain.catalog.service.CatalogReadModel;
 import com.sparta.domain.store.dto.KafkaStoreRequestDto;
+import com.sparta.domain.store.dto.KafkaTopStoreRequestDto;
 import com.sparta.domain.store.dto.StoreResponseDto;
+import com.sparta.domain.store.dto.TopStoreResponseDto;
 import com.sparta.domain.store.entity.StoreRegion;
+import com.sparta.domain.store.repository.StoreRepository;
+import com.sparta.fallback.DegradedModeExecutor;
+import com.sparta.fallback.FallbackResult;
+import com.sparta.global.exception.customException.KafkaException;
+import com.sparta.global.exception.errorCode.KafkaErrorCode;
+import com.sparta.global.kafka.HashedWheelTimer;
+import com.sparta.global.kafka.KafkaReplyTopic;
+import com.sparta.global.kafka.KafkaTopic;
+import com.sparta.global.kafka.PendingRequestRegistry;
+import com.sparta.global.util.CountMode;
+import com.sparta.loadShedding.AdaptiveTimeouts;
+import com.sparta.requestCoalescing.RequestCoalescer;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
 
-import java.util.ArrayList;
-import java.util.UUID;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+/**
+ * KAFKA 조회 모드의 카페 조회 (요청을 보내고 응답 토픽으로 온 결과로 완료)
+ */
 @ExtendWith(MockitoExtension.class)
 class TestStoreService {
 
     @Mock
-    private KafkaTemplate<String, KafkaStoreRequestDto> kafkaTemplate;
+    private KafkaTemplate<String, KafkaStoreRequestDto> kafkaStoreTemplate;
 
-    @InjectMocks
-    private StoreService storeService;
+    @Mock
+    private KafkaTemplate<String, KafkaTopStoreRequestDto> kafkaTopStoreTemplate;
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private StoreQueryService storeQueryService;
+
+    @Mock
+    private RequestCoalescer requestCoalescer;
+
+    @Mock
+    private CatalogReadModel catalogReadModel;
+
+    @Mock
+    private StoreGeoIndex storeGeoIndex;
 
     @Mock
-    private ConcurrentHashMap<String, CompletableFuture<Page<StoreResponseDto>>> responseFutures;
+    private DegradedModeExecutor degradedModeExecutor;
+
+    @Mock
+    private AdaptiveTimeouts adaptiveTimeouts;
+
+    private HashedWheelTimer timer;
+    private PendingRequestRegistry<Page<StoreResponseDto>> storePendingRequests;
+    private StoreService storeService;
 
     @BeforeEach
+    @SuppressWarnings("unchecked")
     public void setup() {
-        // @InjectMocks가 자동으로 주입하도록 하여 수동 초기화를 제거합니다.
+        timer = new HashedWheelTimer("test-timer", 10, 64);
+        storePendingRequests = new PendingRequestRegistry<>("store", 100, 60000, timer);
+        storeService = new StoreService(kafkaStoreTemplate, kafkaTopStoreTemplate,
+                storePendingRequests, new PendingRequestRegistry<TopStoreResponseDto>("top-store", 100, 60000, timer),
+                storeRepository, storeQueryService, new KafkaReplyTopic("search_reply_topic", "test"),
+                requestCoalescer, catalogReadModel, storeGeoIndex, degradedModeExecutor,
+                adaptiveTimeouts);
+        ReflectionTestUtils.setField(storeService, "queryMode", QueryMode.KAFKA);
+
+        when(requestCoalescer.execute(anyString(), any()))
+                .thenAnswer(invocation -> ((Supplier<CompletableFuture<?>>) invocation.getArgument(1)).get());
+        when(degradedModeExecutor.execute(eq("stores"), anyString(), any()))
+                .thenAnswer(invocation -> ((Supplier<CompletableFuture<?>>) invocation.getArgument(2)).get()
+                        .thenApply(FallbackResult::fresh));
+        when(adaptiveTimeouts.register(eq(storePendingRequests), anyString()))
+                .thenAnswer(invocation -> storePendingRequests.register(invocation.getArgument(1)));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        timer.stop();
     }
 
     @Test
-    public void 카페_조회_성공(){
+    public void 카페_조회_성공() {
         // given
-        int pageNum = 1;
-        int pageSize = 10;
-        boolean isDesc = false;
-        String keyWord = "";
-        StoreRegion storeRegion = StoreRegion.ALL;
-        String sort = "name";
-        String requestId = UUID.randomUUID().toString();
-
-        CompletableFuture<Page<StoreResponseDto>> future = new CompletableFuture<>();
-        responseFutures.put(requestId, future);
-        Page<StoreResponseDto> testPage = new PageImpl<>(new ArrayList<>());
-        future.complete(testPage);
-
-        when(responseFutures.get(requestId)).thenReturn(future);
-//        when(testService.getStores(pageNum, pageSize, isDesc, keyWord, storeRegion, sort)).thenReturn(testPage);
+        CompletableFuture<SendResult<String, KafkaStoreRequestDto>> sent = new CompletableFuture<>();
+        when(kafkaStoreTemplate.send(eq(KafkaTopic.STORE_REQUEST_TOPIC), any(KafkaStoreRequestDto.class)))
+                .thenReturn(sent);
 
         // when
-        Page<StoreResponseDto> result = storeService.getStores(pageNum, pageSize, isDesc, keyWord, storeRegion, sort);
+        CompletableFuture<FallbackResult<Page<StoreResponseDto>>> result = storeService.getStores(1, 10,
+                false, "", StoreRegion.ALL, "name", CountMode.EXACT);
 
         // then
-        assertThat(result).isEqualTo(future);
-
-//        KafkaStoreRequestDto requestDto = new KafkaStoreRequestDto(requestId, pageNum, pageSize, isDesc, keyWord, storeRegion, sort);
-//        CompletableFuture<SendResult<String, KafkaStoreRequestDto>> result2 = new CompletableFuture<>();
-//
-//        //when
-//        when(testService.sendKafka(anyString(), any())).thenReturn(result2);
-//        CompletableFuture<SendResult<String, KafkaStoreRequestDto>> result3 = testService.sendKafka(KafkaTopic.STORE_REQUEST_TOPIC, requestDto);
-//
-//        //then
-//        assertThat(result2).isEqualTo(result3);
+        ArgumentCaptor<KafkaStoreRequestDto> request = ArgumentCaptor.forClass(KafkaStoreRequestDto.class);
+        verify(kafkaStoreTemplate).send(eq(KafkaTopic.STORE_REQUEST_TOPIC), request.capture());
+        assertThat(request.getValue().getReplyTopic()).isEqualTo("search_reply_topic.test");
+        assertThat(request.getValue().getCountMode()).isEqualTo(CountMode.EXACT);
+        assertThat(result).isNotDone();
+
+        Page<StoreResponseDto> page = new PageImpl<>(List.of());
+        storePendingRequests.complete(request.getValue().getRequestId(), page);
+        assertThat(result.join().getValue()).isSameAs(page);
+        verifyNoInteractions(storeQueryService);
     }
 
-//    @Test
-//    public void setValue() {
-//        값을 세팅하는 것만 테스트
-//    }
-//
-//    @Test
-//    public void sendKafka() {
-//        카프카에 보내는것만 테스트
-//    }
-//
-//    @Test
-//    public void getFromKafka() {
-//        카프카에서 값을 가져오는 것만 테스트
-//    }
+    @Test
+    public void 요청_전송_실패시_서버_오류로_실패() {
+        // given
+        when(kafkaStoreTemplate.send(eq(KafkaTopic.STORE_REQUEST_TOPIC), any(KafkaStoreRequestDto.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        // when, then
+        assertThatThrownBy(() -> storeService.getStores(1, 10, false, "", StoreRegion.ALL, "name",
+                CountMode.EXACT).join())
+                .hasCauseInstanceOf(KafkaException.class)
+                .cause()
+                .extracting("errorCode")
+                .isEqualTo(KafkaErrorCode.KAFKA_SERVER_ERROR);
+        assertThat(storePendingRequests.getInFlight()).isZero();
+    }
 }
@@ -0,0 +1,143 @@
+package com.sparta.domain.theme.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sparta.domain.store.entity.StoreRegion;
+import com.sparta.domain.theme.dto.ThemeDiscoveryFilter;
+import com.sparta.domain.theme.dto.ThemeDiscoveryProjection;
+import com.sparta.domain.theme.entity.ThemeType;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ThemeBitmapIndexTest {
+
+  // 가격 순 : 2, 4 (같은 가격은 id 순), 1, 6, 3, 5 (가격 없음)
+  private final ThemeBitmapIndex index = ThemeBitmapIndex.of(List.of(
+      theme(1L, StoreRegion.SEOUL, ThemeType.HORROR, 3, 2, 4, 20000L),
+      theme(2L, StoreRegion.SEOUL, ThemeType.MYSTERY, 2, 2, 6, 18000L),
+      theme(3L, StoreRegion.BUSAN, ThemeType.HORROR, 5, 4, 6, 25000L),
+      theme(4L, StoreRegion.BUSAN, ThemeType.COMEDY, 1, 1, 3, 18000L),
+      theme(5L, StoreRegion.GYEONGGI, ThemeType.HORROR, 4, 3, 5, null),
+      theme(6L, StoreRegion.SEOUL, ThemeType.FANTASY, null, 2, 4, 22000L)));
+
+  @Test
+  @DisplayName("조건이 없으면 전체를 가격 순으로, 가격이 없는 테마는 맨 뒤")
+  void noFilter() {
+    assertEquals(List.of(2L, 4L, 1L, 6L, 3L, 5L), ids(search(filter(), false)));
+    assertEquals(List.of(5L, 3L, 6L, 1L, 4L, 2L), ids(search(filter(), true)));
+  }
+
+  @Test
+  @DisplayName("지역 ALL, 빈 목록은 조건 없음")
+  void allRegionAndEmptyLists() {
+    ThemeDiscoveryFilter filter = new ThemeDiscoveryFilter(List.of(),
+        List.of(StoreRegion.ALL, StoreRegion.JEJU), null, null, null, null, null);
+
+    assertEquals(6, search(filter, false).getTotal());
+  }
+
+  @Test
+  @DisplayName("같은 조건의 여러 값은 OR, 조건끼리는 AND")
+  void combinedFilters() {
+    ThemeDiscoveryFilter types = new ThemeDiscoveryFilter(
+        List.of(ThemeType.MYSTERY, ThemeType.COMEDY), null, null, null, null, null, null);
+    ThemeDiscoveryFilter horrorInSeoulOrBusanForFour = new ThemeDiscoveryFilter(
+        List.of(ThemeType.HORROR), List.of(StoreRegion.SEOUL, StoreRegion.BUSAN), null, null, 4,
+        null, null);
+    ThemeDiscoveryFilter withMaxPrice = new ThemeDiscoveryFilter(
+        List.of(ThemeType.HORROR), List.of(StoreRegion.SEOUL, StoreRegion.BUSAN), null, null, 4,
+        null, 20000L);
+
+    assertEquals(List.of(2L, 4L), ids(search(types, false)));
+    assertEquals(List.of(1L, 3L), ids(search(horrorInSeoulOrBusanForFour, false)));
+    assertEquals(List.of(1L), ids(search(withMaxPrice, false)));
+  }
+
+  @Test
+  @DisplayName("인원은 최소, 최대 인원을 포함")
+  void playersBoundary() {
+    assertEquals(List.of(4L), ids(search(players(1), false)));
+    assertEquals(List.of(2L, 4L, 1L, 6L), ids(search(players(2), false)));
+    assertEquals(List.of(2L, 3L), ids(search(players(6), false)));
+    assertTrue(search(players(7), false).getContent().isEmpty());
+  }
+
+  @Test
+  @DisplayName("난이도 범위는 양 끝을 포함하고 난이도가 없는 테마는 제외")
+  void levelBoundary() {
+    assertEquals(List.of(1L, 5L), ids(search(level(3, 4), false)));
+    assertEquals(List.of(2L, 4L, 1L, 3L, 5L), ids(search(level(1, null), false)));
+    assertEquals(List.of(3L), ids(search(level(5, 5), false)));
+    assertTrue(search(level(4, 3), false).getContent().isEmpty());
+  }
+
+  @Test
+  @DisplayName("가격 범위는 양 끝을 포함하고 가격이 없는 테마는 제외")
+  void priceBoundary() {
+    assertEquals(List.of(2L, 4L, 1L), ids(search(price(18000L, 20000L), false)));
+    assertEquals(List.of(6L, 3L), ids(search(price(22000L, null), false)));
+    assertEquals(List.of(2L, 4L), ids(search(price(null, 18000L), false)));
+    assertTrue(search(price(null, 17999L), false).getContent().isEmpty());
+    assertTrue(search(price(25001L, null), false).getContent().isEmpty());
+    assertTrue(search(price(21000L, 19000L), false).getContent().isEmpty());
+  }
+
+  @Test
+  @DisplayName("값에 해당하는 테마가 없는 조건은 빈 결과")
+  void emptyBitmap() {
+    ThemeDiscoveryFilter noTheme = new ThemeDiscoveryFilter(List.of(ThemeType.SF), null, null,
+        null, null, null, null);
+    ThemeDiscoveryFilter noStore = new ThemeDiscoveryFilter(null, List.of(StoreRegion.JEJU),
+        null, null, null, null, null);
+
+    assertEquals(0, search(noTheme, false).getTotal());
+    assertEquals(0, search(noStore, false).getTotal());
+    assertEquals(0, ThemeBitmapIndex.empty().search(filter(), false, 0, 10).getTotal());
+  }
+
+  @Test
+  @DisplayName("offset, limit 는 정렬 방향의 순서로 자르고 전체 개수는 그대로")
+  void paging() {
+    ThemeBitmapIndex.Result ascending = index.search(filter(), false, 2, 2);
+    ThemeBitmapIndex.Result descending = index.search(filter(), true, 4, 10);
+    ThemeBitmapIndex.Result beyond = index.search(filter(), false, 6, 10);
+
+    assertEquals(List.of(1L, 6L), ids(ascending));
+    assertEquals(6, ascending.getTotal());
+    assertEquals(List.of(4L, 2L), ids(descending));
+    assertTrue(beyond.getContent().isEmpty());
+    assertEquals(6, beyond.getTotal());
+  }
+
+  private ThemeBitmapIndex.Result search(ThemeDiscoveryFilter filter, boolean isDesc) {
+    return index.search(filter, isDesc, 0, Integer.MAX_VALUE);
+  }
+
+  private static ThemeDiscoveryFilter filter() {
+    return new ThemeDiscoveryFilter(null, null, null, null, null, null, null);
+  }
+
+  private static ThemeDiscoveryFilter players(int players) {
+    return new ThemeDiscoveryFilter(null, null, null, null, players, null, null);
+  }
+
+  private static ThemeDiscoveryFilter level(Integer minLevel, Integer maxLevel) {
+    return new ThemeDiscoveryFilter(null, null, minLevel, maxLevel, null, null, null);
+  }
+
+  private static ThemeDiscoveryFilter price(Long minPrice, Long maxPrice) {
+    return new ThemeDiscoveryFilter(null, null, null, null, null, minPrice, maxPrice);
+  }
+
+  private static ThemeDiscoveryProjection theme(Long id, StoreRegion storeRegion,
+      ThemeType themeType, Integer level, Integer minPlayer, Integer maxPlayer, Long price) {
+    return new ThemeDiscoveryProjection(id, id, "store" + id, storeRegion, "theme" + id, null,
+        themeType, level, minPlayer, maxPlayer, price);
+  }
+
+  private static List<Long> ids(ThemeBitmapIndex.Result result) {
+    return result.getContent().stream().map(ThemeDiscoveryProjection::getThemeId).toList();
+  }
+}
@@ -0,0 +1,85 @@
+package com.sparta.fallback;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sparta.fallback.CircuitBreaker.Outcome;
+import com.sparta.fallback.CircuitBreaker.State;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+  private final AtomicLong now = new AtomicLong(0);
+  private CircuitBreaker circuitBreaker;
+
+  @BeforeEach
+  void setUp() {
+    // 10초 window, 최소 10회, 비율 50%, 5초 open, 시험 호출 2회
+    circuitBreaker = new CircuitBreaker("test",
+        new CircuitBreaker.Settings(10000, 10, 10, 0.5, 0.5, 5000, 2), now::get);
+  }
+
+  @Test
+  @DisplayName("최소 호출 수 전에는 실패해도 닫혀 있고, 시간 초과 비율이 기준을 넘으면 열림")
+  void opensOnTimeoutRate() {
+    for (int i = 0; i < 4; i++) {
+      record(Outcome.SUCCESS);
+      record(Outcome.TIMEOUT);
+    }
+    assertEquals(State.CLOSED, circuitBreaker.getState());
+
+    record(Outcome.SUCCESS);
+    record(Outcome.SLOW);
+    assertEquals(State.OPEN, circuitBreaker.getState());
+    assertFalse(circuitBreaker.tryAcquire());
+  }
+
+  @Test
+  @DisplayName("window 를 벗어난 실패는 비율에 넣지 않음")
+  void forgetsOldBuckets() {
+    for (int i = 0; i < 9; i++) {
+      record(Outcome.ERROR);
+    }
+    now.addAndGet(10000);
+    for (int i = 0; i < 10; i++) {
+      record(i < 4 ? Outcome.ERROR : Outcome.SUCCESS);
+    }
+    assertEquals(State.CLOSED, circuitBreaker.getState());
+    assertEquals(0.4, circuitBreaker.errorRate(), 1e-9);
+  }
+
+  @Test
+  @DisplayName("open 시간이 지나면 시험 호출만 허용하고, 모두 성공하면 닫히고 실패하면 다시 열림")
+  void halfOpen() {
+    for (int i = 0; i < 10; i++) {
+      record(Outcome.ERROR);
+    }
+    assertEquals(State.OPEN, circuitBreaker.getState());
+
+    now.addAndGet(5000);
+    assertTrue(circuitBreaker.tryAcquire());
+    assertTrue(circuitBreaker.tryAcquire());
+    assertFalse(circuitBreaker.tryAcquire());
+    circuitBreaker.record(Outcome.SUCCESS);
+    circuitBreaker.record(Outcome.TIMEOUT);
+    assertEquals(State.OPEN, circuitBreaker.getState());
+
+    now.addAndGet(5000);
+    assertTrue(circuitBreaker.tryAcquire());
+    assertTrue(circuitBreaker.tryAcquire());
+    circuitBreaker.record(Outcome.SUCCESS);
+    circuitBreaker.record(Outcome.SUCCESS);
+    assertEquals(State.CLOSED, circuitBreaker.getState());
+    assertEquals(0.0, circuitBreaker.errorRate());
+  }
+
+  private void record(Outcome outcome) {
+    assertTrue(circuitBreaker.tryAcquire());
+    circuitBreaker.record(outcome);
+    now.addAndGet(100);
+  }
+}
@@ -0,0 +1,117 @@
+package com.sparta.kafkaReply;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.sparta.domain.review.dto.ReviewResponseDto;
+import com.sparta.domain.theme.dto.ThemeInfoResponseDto;
+import com.sparta.fallback.DegradedModeExecutor;
+import com.sparta.global.exception.customException.GlobalCustomException;
+import com.sparta.global.exception.customException.KafkaException;
+import com.sparta.global.exception.customException.ThemeException;
+import com.sparta.global.exception.errorCode.KafkaErrorCode;
+import com.sparta.global.exception.errorCode.ThemeErrorCode;
+import com.sparta.global.kafka.HashedWheelTimer;
+import com.sparta.global.kafka.KafkaErrorResponseDto;
+import com.sparta.global.kafka.PendingRequestRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KafkaReplyListenerTest {
+
+  private HashedWheelTimer timer;
+  private PendingRequestRegistry<ThemeInfoResponseDto> themeInfoPendingRequests;
+  private PendingRequestRegistry<List<ReviewResponseDto>> reviewPendingRequests;
+  private KafkaReplyListener listener;
+
+  @BeforeEach
+  void setUp() {
+    timer = new HashedWheelTimer("test-timer", 10, 64);
+    themeInfoPendingRequests = registry("theme-info");
+    reviewPendingRequests = registry("review");
+    listener = new KafkaReplyListener(registry("store"), registry("top-store"),
+        registry("theme"), themeInfoPendingRequests, registry("theme-time"),
+        reviewPendingRequests);
+  }
+
+  @AfterEach
+  void tearDown() {
+    timer.stop();
+  }
+
+  @Test
+  @DisplayName("오류 응답은 같은 오류 코드의 예외로 그 요청만 바로 실패시킴")
+  void failsWithSameErrorCode() {
+    CompletableFuture<ThemeInfoResponseDto> themeInfo = themeInfoPendingRequests.register("a");
+    CompletableFuture<List<ReviewResponseDto>> reviews = reviewPendingRequests.register("b");
+
+    listener.handleErrorResponse(KafkaErrorResponseDto.of("a",
+        new ThemeException(ThemeErrorCode.THEME_NOT_FOUND)));
+
+    CompletionException e = assertThrows(CompletionException.class, themeInfo::join);
+    GlobalCustomException cause = assertInstanceOf(GlobalCustomException.class, e.getCause());
+    assertFalse(cause instanceof KafkaException);
+    assertEquals(ThemeErrorCode.THEME_NOT_FOUND, cause.getErrorCode());
+    assertFalse(reviews.isDone());
+    assertEquals(0, themeInfoPendingRequests.getInFlight());
+    assertEquals(0, themeInfoPendingRequests.getTimedOutCount());
+  }
+
+  @Test
+  @DisplayName("알 수 없는 오류 코드는 서버 오류로 실패")
+  void unknownErrorCode() {
+    CompletableFuture<ThemeInfoResponseDto> themeInfo = themeInfoPendingRequests.register("a");
+
+    listener.handleErrorResponse(new KafkaErrorResponseDto("a", "java.lang.Thread$State",
+        "RUNNABLE"));
+
+    CompletionException e = assertThrows(CompletionException.class, themeInfo::join);
+    assertEquals(KafkaErrorCode.KAFKA_SERVER_ERROR,
+        assertInstanceOf(KafkaException.class, e.getCause()).getErrorCode());
+  }
+
+  @Test
+  @DisplayName("존재하지 않는 테마 요청이 몰려도 차단기가 열리지 않음")
+  void notFoundDoesNotOpenCircuit() {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // 최소 5회, 비율 50% 면 열리는 차단기
+    DegradedModeExecutor executor = new DegradedModeExecutor(meterRegistry, true, 100, 60000,
+        2000, 10000, 10, 5, 0.5, 0.5, 5000, 1);
+
+    for (int i = 0; i < 30; i++) {
+      String requestId = "missing-" + i;
+      CompletableFuture<?> result = executor.execute("theme-info", "theme:" + i, () -> {
+        CompletableFuture<ThemeInfoResponseDto> future =
+            themeInfoPendingRequests.register(requestId);
+        listener.handleErrorResponse(KafkaErrorResponseDto.of(requestId,
+            new ThemeException(ThemeErrorCode.THEME_NOT_FOUND)));
+        return future;
+      });
+      CompletionException e = assertThrows(CompletionException.class, result::join);
+      assertEquals(ThemeErrorCode.THEME_NOT_FOUND,
+          assertInstanceOf(GlobalCustomException.class, e.getCause()).getErrorCode());
+    }
+
+    assertEquals(0, meterRegistry.get("search.fallback.circuit.state")
+        .tag("name", "theme-info").gauge().value());
+    AtomicInteger calls = new AtomicInteger();
+    executor.execute("theme-info", "theme:ok", () -> {
+      calls.incrementAndGet();
+      return CompletableFuture.completedFuture(new ThemeInfoResponseDto());
+    }).join();
+    assertEquals(1, calls.get());
+  }
+
+  private <T> PendingRequestRegistry<T> registry(String name) {
+    return new PendingRequestRegistry<>(name, 100, 60000, timer);
+  }
+}
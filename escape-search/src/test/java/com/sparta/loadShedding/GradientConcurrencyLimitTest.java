@@ -0,0 +1,78 @@
+package com.sparta.loadShedding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GradientConcurrencyLimitTest {
+
+  private static final long FAST = TimeUnit.MILLISECONDS.toNanos(20);
+  private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(400);
+
+  private GradientConcurrencyLimit limit;
+
+  @BeforeEach
+  void setUp() {
+    limit = new GradientConcurrencyLimit(
+        new GradientConcurrencyLimit.Settings(20, 5, 100, 1.5, 0.2, 0.9));
+  }
+
+  @Test
+  @DisplayName("한도만큼만 허용하고 반환하면 다시 허용")
+  void rejectsOverLimit() {
+    for (int i = 0; i < 20; i++) {
+      assertTrue(limit.tryAcquire());
+    }
+    assertFalse(limit.tryAcquire());
+    assertEquals(20, limit.getInFlight());
+
+    limit.release(FAST, false);
+    assertTrue(limit.tryAcquire());
+  }
+
+  @Test
+  @DisplayName("지연 시간이 그대로면 한도를 늘리고, 지연 시간이 늘면 줄임")
+  void followsLatency() {
+    runFull(FAST, 200);
+    int grown = limit.getLimit();
+    assertTrue(grown > 20, "grown : " + grown);
+
+    runFull(SLOW, 3);
+    int shrunk = limit.getLimit();
+    assertTrue(shrunk < grown, "shrunk : " + shrunk);
+  }
+
+  @Test
+  @DisplayName("한도의 절반도 쓰지 않으면 늘리지 않고, 뒤에서 거절되면 바로 줄임")
+  void appLimitedAndDropped() {
+    for (int i = 0; i < 200; i++) {
+      assertTrue(limit.tryAcquire());
+      limit.release(FAST, false);
+    }
+    assertEquals(20, limit.getLimit());
+
+    assertTrue(limit.tryAcquire());
+    limit.release(FAST, true);
+    assertEquals(18, limit.getLimit());
+  }
+
+  /**
+   * 한도까지 채운 뒤 모두 반환하기를 rounds 번 반복
+   */
+  private void runFull(long rttNanos, int rounds) {
+    for (int round = 0; round < rounds; round++) {
+      int acquired = 0;
+      while (limit.tryAcquire()) {
+        acquired++;
+      }
+      for (int i = 0; i < acquired; i++) {
+        limit.release(rttNanos, false);
+      }
+    }
+  }
+}
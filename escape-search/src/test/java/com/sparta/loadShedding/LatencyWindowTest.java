@@ -0,0 +1,31 @@
+package com.sparta.loadShedding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LatencyWindowTest {
+
+  @Test
+  @DisplayName("최근 표본만으로 백분위 계산")
+  void percentile() {
+    LatencyWindow window = new LatencyWindow(100);
+    assertEquals(-1, window.percentile(99));
+
+    for (int i = 1; i <= 100; i++) {
+      window.record(i);
+    }
+    assertEquals(50, window.percentile(50));
+    assertEquals(99, window.percentile(99));
+    assertEquals(100, window.percentile(100));
+
+    // 가장 오래된 1 ~ 50 을 덮어씀
+    for (int i = 0; i < 50; i++) {
+      window.record(1000);
+    }
+    assertEquals(100, window.size());
+    assertEquals(100, window.percentile(50));
+    assertEquals(1000, window.percentile(51));
+  }
+}